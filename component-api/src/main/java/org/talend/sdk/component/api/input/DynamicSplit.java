@@ -0,0 +1,40 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.api.input;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Optional, decorates a method of a {@link Producer} class taking a double (the fraction of the partition,
+ * between 0 and 1, where the split is requested) and splitting the partition being read while it is read.
+ *
+ * The method returns a collection of two {@link PartitionMapper} instances: the primary one,
+ * describing what the producer now reads (including what it already read), and the residual one
+ * describing the rest of the partition the producer will not read anymore.
+ * It returns {@code null} or an empty collection when the split is refused
+ * (typically when the fraction was already read).
+ *
+ * The runtime never calls it concurrently to the {@link Producer} method (both are serialized on the producer
+ * instance) so it can safely update the state the producer reads.
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface DynamicSplit {
+}
@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.api.input;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Optional, decorates a method of a {@link Producer} class returning a double
+ * which is the fraction (between 0 and 1) of its partition already read.
+ * A negative value means the progress is unknown.
+ * Unlike {@link DynamicSplit}, it can be called concurrently to the {@link Producer} method.
+ *
+ * It lets the runner monitor the partitions and rebalance the slowest ones (see {@link DynamicSplit}).
+ */
+@Target(METHOD)
+@Retention(RUNTIME)
+public @interface Progress {
+}
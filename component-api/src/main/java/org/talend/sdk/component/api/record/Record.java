@@ -125,6 +125,56 @@ public interface Record {
         return get(Boolean.class, name);
     }
 
+    /**
+     * Primitive flavor of {@link Record#get(Class, Schema.Entry)}, implementations can avoid boxing there.
+     * 
+     * @param entry entry of the schema of this record.
+     * @return the value of the entry in this record.
+     */
+    default int getInt(final Schema.Entry entry) {
+        return getInt(entry.getName());
+    }
+
+    /**
+     * Primitive flavor of {@link Record#get(Class, Schema.Entry)}, implementations can avoid boxing there.
+     * 
+     * @param entry entry of the schema of this record.
+     * @return the value of the entry in this record.
+     */
+    default long getLong(final Schema.Entry entry) {
+        return getLong(entry.getName());
+    }
+
+    /**
+     * Primitive flavor of {@link Record#get(Class, Schema.Entry)}, implementations can avoid boxing there.
+     * 
+     * @param entry entry of the schema of this record.
+     * @return the value of the entry in this record.
+     */
+    default double getDouble(final Schema.Entry entry) {
+        return getDouble(entry.getName());
+    }
+
+    /**
+     * Primitive flavor of {@link Record#get(Class, Schema.Entry)}, implementations can avoid boxing there.
+     * 
+     * @param entry entry of the schema of this record.
+     * @return the value of the entry in this record.
+     */
+    default float getFloat(final Schema.Entry entry) {
+        return getFloat(entry.getName());
+    }
+
+    /**
+     * Primitive flavor of {@link Record#get(Class, Schema.Entry)}, implementations can avoid boxing there.
+     * 
+     * @param entry entry of the schema of this record.
+     * @return the value of the entry in this record.
+     */
+    default boolean getBoolean(final Schema.Entry entry) {
+        return getBoolean(entry.getName());
+    }
+
     /**
      * See {@link Record#get(Class, String)}.
      * 
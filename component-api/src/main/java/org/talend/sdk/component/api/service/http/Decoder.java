@@ -15,6 +15,9 @@
  */
 package org.talend.sdk.component.api.service.http;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.lang.reflect.Type;
 
 /**
@@ -28,4 +31,30 @@ public interface Decoder {
      * @return the instantiated payload respecting expectedType.
      */
     Object decode(byte[] value, Type expectedType);
+
+    /**
+     * Streaming flavor of {@link #decode(byte[], Type)}, default implementation reads the whole stream
+     * and delegates to the byte array flavor. Decoders can override it to avoid buffering the payload.
+     *
+     * If the expected type is a {@link java.util.Iterator} the decoder can return a lazy iterator,
+     * it then owns the stream and must close it once the iteration is done. Such an iterator should also
+     * implement {@link java.io.Closeable} to let callers stop the iteration early.
+     *
+     * @param value the payload stream.
+     * @param expectedType the user type.
+     * @return the instantiated payload respecting expectedType.
+     */
+    default Object decode(final InputStream value, final Type expectedType) {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (final InputStream stream = value) {
+            final byte[] bytes = new byte[8192];
+            int count;
+            while ((count = stream.read(bytes)) >= 0) {
+                buffer.write(bytes, 0, count);
+            }
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return decode(buffer.toByteArray(), expectedType);
+    }
 }
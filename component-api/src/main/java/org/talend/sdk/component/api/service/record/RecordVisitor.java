@@ -77,6 +77,61 @@ public interface RecordVisitor<T> extends Supplier<T>, BinaryOperator<T> {
         // no-op
     }
 
+    /**
+     * Primitive flavor of {@link RecordVisitor#onInt(Schema.Entry, OptionalInt)} called when the value is present,
+     * overriding it avoids the optional wrapping. By default it delegates to the optional flavor.
+     *
+     * @param entry the visited entry.
+     * @param value the entry value.
+     */
+    default void onInt(final Schema.Entry entry, final int value) {
+        onInt(entry, OptionalInt.of(value));
+    }
+
+    /**
+     * Primitive flavor of {@link RecordVisitor#onLong(Schema.Entry, OptionalLong)}, see
+     * {@link RecordVisitor#onInt(Schema.Entry, int)}.
+     *
+     * @param entry the visited entry.
+     * @param value the entry value.
+     */
+    default void onLong(final Schema.Entry entry, final long value) {
+        onLong(entry, OptionalLong.of(value));
+    }
+
+    /**
+     * Primitive flavor of {@link RecordVisitor#onFloat(Schema.Entry, OptionalDouble)}, see
+     * {@link RecordVisitor#onInt(Schema.Entry, int)}.
+     *
+     * @param entry the visited entry.
+     * @param value the entry value.
+     */
+    default void onFloat(final Schema.Entry entry, final float value) {
+        onFloat(entry, OptionalDouble.of(value));
+    }
+
+    /**
+     * Primitive flavor of {@link RecordVisitor#onDouble(Schema.Entry, OptionalDouble)}, see
+     * {@link RecordVisitor#onInt(Schema.Entry, int)}.
+     *
+     * @param entry the visited entry.
+     * @param value the entry value.
+     */
+    default void onDouble(final Schema.Entry entry, final double value) {
+        onDouble(entry, OptionalDouble.of(value));
+    }
+
+    /**
+     * Primitive flavor of {@link RecordVisitor#onBoolean(Schema.Entry, Optional)}, see
+     * {@link RecordVisitor#onInt(Schema.Entry, int)}.
+     *
+     * @param entry the visited entry.
+     * @param value the entry value.
+     */
+    default void onBoolean(final Schema.Entry entry, final boolean value) {
+        onBoolean(entry, Optional.of(value));
+    }
+
     default void onString(final Schema.Entry entry, final Optional<String> string) {
         // no-op
     }
@@ -33,6 +33,7 @@ import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
 import javax.json.bind.JsonbConfig;
 
+import org.talend.sdk.component.form.internal.cache.UiSpecCache;
 import org.talend.sdk.component.form.internal.converter.CustomPropertyConverter;
 import org.talend.sdk.component.form.internal.converter.PropertyContext;
 import org.talend.sdk.component.form.internal.converter.impl.JsonSchemaConverter;
@@ -63,6 +64,9 @@ public class UiSpecService<T> implements AutoCloseable {
     @Setter // optional config, false by default until it is on by default in the UI
     private PropertyContext.Configuration configuration = new PropertyContext.Configuration(false);
 
+    private final UiSpecCache cache =
+            new UiSpecCache(Integer.getInteger("talend.component.form.uispec.cache.maxSize", 256));
+
     public UiSpecService(final Client client) {
         this.client = client;
         this.jsonb = JsonbBuilder.create(new JsonbConfig().setProperty("johnzon.cdi.activated", false));
@@ -80,6 +84,27 @@ public class UiSpecService<T> implements AutoCloseable {
         return this;
     }
 
+    /**
+     * Converted forms are cached per model (family, id, version) and language,
+     * only the dynamic values are loaded for each conversion.
+     * Note that the cache is bypassed when custom converters are registered since they can depend on the context.
+     *
+     * @param maxSize the maximum number of cached forms, 0 disables the cache.
+     * @return this service.
+     */
+    public UiSpecService<T> withCacheSize(final int maxSize) {
+        cache.setMaxSize(maxSize);
+        return this;
+    }
+
+    /**
+     * Drops the cached forms, to call when components are redeployed or reloaded
+     * since a model can change without a new version.
+     */
+    public void invalidateCache() {
+        cache.clear();
+    }
+
     /**
      * Converts a configuration model to a uiSpec.
      *
@@ -120,8 +145,8 @@ public class UiSpecService<T> implements AutoCloseable {
             isRootProperty = p -> rootProperties.contains(p.getPath());
         }
 
-        return convert(node::getDisplayName, () -> family, () -> props, node::getActions, isRootProperty, context,
-                lang);
+        return convert("node#" + family + '#' + node.getId() + '#' + node.getVersion(), node::getDisplayName,
+                () -> family, () -> props, node::getActions, isRootProperty, context, lang);
     }
 
     /**
@@ -132,14 +157,30 @@ public class UiSpecService<T> implements AutoCloseable {
      * @return the uiSpec corresponding to the model.
      */
     public CompletionStage<Ui> convert(final ComponentDetail detail, final String lang, final T context) {
-        return convert(detail::getDisplayName, detail.getId()::getFamily, detail::getProperties, detail::getActions,
-                p -> p.getName().equals(p.getPath()), context, lang);
+        return convert("component#" + detail.getId().getFamily() + '#' + detail.getId().getId() + '#'
+                + detail.getVersion(), detail::getDisplayName, detail.getId()::getFamily, detail::getProperties,
+                detail::getActions, p -> p.getName().equals(p.getPath()), context, lang);
+    }
+
+    private CompletionStage<Ui> convert(final String id, final Supplier<String> displayName,
+            final Supplier<String> family, final Supplier<Collection<SimplePropertyDefinition>> properties,
+            final Supplier<Collection<ActionReference>> actions,
+            final Predicate<SimplePropertyDefinition> isRootProperty, final T context, final String lang) {
+        if (!cache.isActive() || !customPropertyConverters.isEmpty()) {
+            return convert(displayName, family, properties, actions, isRootProperty, context, lang, client);
+        }
+        // the id holds the model version, a model changing without a new version requires an invalidateCache()
+        final String key = id + '#' + lang + '#' + configuration.isIncludeDocumentationMetadata();
+        return cache
+                .get(key, client, context, compilationClient -> convert(displayName, family, properties, actions,
+                        isRootProperty, context, lang, compilationClient));
     }
 
     private CompletionStage<Ui> convert(final Supplier<String> displayName, final Supplier<String> family,
             final Supplier<Collection<SimplePropertyDefinition>> properties,
             final Supplier<Collection<ActionReference>> actions,
-            final Predicate<SimplePropertyDefinition> isRootProperty, final T context, final String lang) {
+            final Predicate<SimplePropertyDefinition> isRootProperty, final T context, final String lang,
+            final Client<T> actionClient) {
         final Collection<SimplePropertyDefinition> props = properties.get();
 
         final Ui ui = new Ui();
@@ -159,7 +200,7 @@ public class UiSpecService<T> implements AutoCloseable {
 
         final JsonSchemaConverter jsonSchemaConverter = new JsonSchemaConverter(jsonb, ui.getJsonSchema(), props);
         final UiSchemaConverter uiSchemaConverter =
-                new UiSchemaConverter(null, family.get(), ui.getUiSchema(), new ArrayList<>(), client,
+                new UiSchemaConverter(null, family.get(), ui.getUiSchema(), new ArrayList<>(), actionClient,
                         ui.getJsonSchema(), props, actions.get(), lang, customPropertyConverters, new AtomicInteger(1));
         final PropertiesConverter propertiesConverter =
                 new PropertiesConverter(jsonb, Map.class.cast(ui.getProperties()), props);
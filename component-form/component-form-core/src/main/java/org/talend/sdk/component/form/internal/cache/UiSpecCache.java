@@ -0,0 +1,382 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.form.internal.cache;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+import org.talend.sdk.component.form.api.Client;
+import org.talend.sdk.component.form.internal.converter.impl.widget.AbstractWidgetConverter;
+import org.talend.sdk.component.form.model.Ui;
+import org.talend.sdk.component.form.model.jsonschema.JsonSchema;
+import org.talend.sdk.component.form.model.uischema.UiSchema;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps the compiled uiSpec of a form, i.e. the conversion of its properties which only depends on the model.
+ * The context dependent part (dynamic values loaded through the {@link Client}) is recorded at compilation time
+ * and replayed on a deep copy of the template for each request so callers can freely mutate what they get.
+ */
+@Slf4j
+public class UiSpecCache {
+
+    private static final String MARKER = "\u0000tacokit::dynamic_values::";
+
+    private final Map<String, CompletableFuture<Template>> templates = new LinkedHashMap<>(16, .75f, true);
+
+    private volatile int maxSize;
+
+    public UiSpecCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public boolean isActive() {
+        return maxSize > 0;
+    }
+
+    public synchronized void setMaxSize(final int maxSize) {
+        this.maxSize = maxSize;
+        evict();
+    }
+
+    public synchronized void clear() {
+        templates.clear();
+    }
+
+    /**
+     * @param key the form key, it must identify the model and the conversion configuration.
+     * @param client the actual client or {@code null} if there is none.
+     * @param context the request context passed to the client.
+     * @param compiler converts the model with the provided client.
+     * @param <T> the context type.
+     * @return the uiSpec for this request.
+     */
+    public <T> CompletionStage<Ui> get(final String key, final Client<T> client, final T context,
+            final Function<Client<T>, CompletionStage<Ui>> compiler) {
+        final CompletableFuture<Template> template;
+        final boolean owner;
+        synchronized (this) {
+            final CompletableFuture<Template> existing = templates.get(key);
+            if (existing != null) {
+                template = existing;
+                owner = false;
+            } else {
+                template = new CompletableFuture<>();
+                templates.put(key, template);
+                evict();
+                owner = true;
+            }
+        }
+        if (owner) {
+            compile(client, compiler).whenComplete((result, error) -> {
+                if (error != null) {
+                    synchronized (this) {
+                        templates.remove(key, template);
+                    }
+                    template.completeExceptionally(error);
+                } else {
+                    template.complete(result);
+                }
+            });
+        }
+        return template.thenCompose(it -> it.apply(client, context));
+    }
+
+    private <T> CompletionStage<Template> compile(final Client<T> client,
+            final Function<Client<T>, CompletionStage<Ui>> compiler) {
+        try {
+            if (client == null) {
+                return compiler.apply(null).thenApply(ui -> new Template(ui, emptyMap()));
+            }
+            final RecordingClient<T> recorder = new RecordingClient<>();
+            return compiler.apply(recorder).thenApply(ui -> new Template(ui, recorder.calls));
+        } catch (final RuntimeException re) {
+            final CompletableFuture<Template> failed = new CompletableFuture<>();
+            failed.completeExceptionally(re);
+            return failed;
+        }
+    }
+
+    private void evict() {
+        while (templates.size() > maxSize && !templates.isEmpty()) {
+            templates.remove(templates.keySet().iterator().next());
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Call {
+
+        private final String family;
+
+        private final String type;
+
+        private final String action;
+
+        private final String lang;
+
+        private final Map<String, Object> params;
+    }
+
+    private static class RecordingClient<T> implements Client<T> {
+
+        private final Map<String, Call> calls = new LinkedHashMap<>();
+
+        @Override
+        public synchronized CompletionStage<Map<String, Object>> action(final String family, final String type,
+                final String action, final String lang, final Map<String, Object> params, final T context) {
+            final String marker = MARKER + calls.size();
+            calls.put(marker, new Call(family, type, action, lang, params));
+            return CompletableFuture.completedFuture(singletonMap("items", singletonList(singletonMap("id", marker))));
+        }
+
+        @Override
+        public void close() {
+            // no-op
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Template {
+
+        private final Ui ui;
+
+        private final Map<String, Call> calls;
+
+        private <T> CompletionStage<Ui> apply(final Client<T> client, final T context) {
+            final Ui copy = new Ui();
+            copy.setJsonSchema(copy(ui.getJsonSchema()));
+            copy
+                    .setUiSchema(ui.getUiSchema() == null ? null
+                            : ui.getUiSchema().stream().map(this::copy).collect(toList()));
+            copy.setProperties(copyValue(ui.getProperties()));
+            if (calls.isEmpty()) {
+                return CompletableFuture.completedFuture(copy);
+            }
+
+            // same action, same parameters and same context so load the values once per request
+            final Map<String, CompletableFuture<List<UiSchema.NameValue>>> loaded = new HashMap<>();
+            final Map<String, CompletableFuture<List<UiSchema.NameValue>>> values = new HashMap<>();
+            calls.forEach((marker, call) -> values.put(marker, loaded
+                    .computeIfAbsent(call.family + '#' + call.type + '#' + call.action + '#' + call.lang,
+                            k -> client
+                                    .action(call.family, call.type, call.action, call.lang, call.params, context)
+                                    .exceptionally(e -> {
+                                        log.warn(e.getMessage(), e);
+                                        return emptyMap();
+                                    })
+                                    .thenApply(AbstractWidgetConverter::toNameValues)
+                                    .toCompletableFuture())));
+            return CompletableFuture.allOf(loaded.values().toArray(new CompletableFuture[0])).thenApply(done -> {
+                final Function<String, List<UiSchema.NameValue>> resolver = marker -> values.get(marker).join();
+                if (copy.getUiSchema() != null) {
+                    copy.getUiSchema().forEach(it -> resolve(it, resolver));
+                }
+                resolve(copy.getJsonSchema(), resolver);
+                return copy;
+            });
+        }
+
+        private void resolve(final UiSchema schema, final Function<String, List<UiSchema.NameValue>> resolver) {
+            final String marker = findMarker(schema.getTitleMap());
+            if (marker != null) {
+                schema.setTitleMap(resolver.apply(marker));
+            }
+            if (schema.getItems() != null) {
+                schema.getItems().forEach(it -> resolve(it, resolver));
+            }
+        }
+
+        private void resolve(final JsonSchema schema, final Function<String, List<UiSchema.NameValue>> resolver) {
+            if (schema == null) {
+                return;
+            }
+            final Collection<String> enumValues = schema.getEnumValues();
+            if (enumValues != null && enumValues.size() == 1 && enumValues.iterator().next().startsWith(MARKER)) {
+                schema
+                        .setEnumValues(resolver
+                                .apply(enumValues.iterator().next())
+                                .stream()
+                                .map(UiSchema.NameValue::getValue)
+                                .collect(toList()));
+            }
+            if (schema.getProperties() != null) {
+                schema.getProperties().values().forEach(it -> resolve(it, resolver));
+            }
+            resolve(schema.getItems(), resolver);
+        }
+
+        private String findMarker(final Collection<? extends UiSchema.TitleMapContent> titleMap) {
+            if (titleMap == null || titleMap.size() != 1) {
+                return null;
+            }
+            final Object value = titleMap.iterator().next();
+            if (!UiSchema.NameValue.class.isInstance(value)) {
+                return null;
+            }
+            final String id = UiSchema.NameValue.class.cast(value).getValue();
+            return id != null && id.startsWith(MARKER) ? id : null;
+        }
+
+        // UiSchema#copy only copies the items, the mutable parts must not be shared with the template
+        private UiSchema copy(final UiSchema schema) {
+            final UiSchema copy = schema.copy(false);
+            deepCopy(copy);
+            return copy;
+        }
+
+        private void deepCopy(final UiSchema schema) {
+            if (schema.getOptions() != null) {
+                final Map<String, Object> options = copyMap(schema.getOptions());
+                options.replaceAll((k, v) -> copyValue(v));
+                schema.setOptions(options);
+            }
+            schema.setTriggers(copyCollection(schema.getTriggers(), this::copy));
+            if (schema.getTitleMap() != null) {
+                schema.setTitleMap(schema.getTitleMap().stream().map(this::copy).collect(toList()));
+            }
+            if (schema.getCondition() != null) {
+                final Map<String, Collection<Object>> condition = copyMap(schema.getCondition());
+                condition.replaceAll((k, v) -> copyCollection(v, this::copyValue));
+                schema.setCondition(condition);
+            }
+            if (schema.getItems() != null) {
+                schema.getItems().forEach(this::deepCopy);
+            }
+        }
+
+        private UiSchema.Trigger copy(final UiSchema.Trigger trigger) {
+            final UiSchema.Trigger copy = new UiSchema.Trigger();
+            copy.setAction(trigger.getAction());
+            copy.setFamily(trigger.getFamily());
+            copy.setType(trigger.getType());
+            copy.setOnEvent(trigger.getOnEvent());
+            copy.setRemote(trigger.getRemote());
+            copy.setOptions(copyCollection(trigger.getOptions(), option -> {
+                final UiSchema.Option optionCopy = new UiSchema.Option();
+                optionCopy.setPath(option.getPath());
+                optionCopy.setType(option.getType());
+                return optionCopy;
+            }));
+            copy.setParameters(copyCollection(trigger.getParameters(), parameter -> {
+                final UiSchema.Parameter parameterCopy = new UiSchema.Parameter();
+                parameterCopy.setKey(parameter.getKey());
+                parameterCopy.setPath(parameter.getPath());
+                return parameterCopy;
+            }));
+            return copy;
+        }
+
+        private UiSchema.TitleMapContent copy(final UiSchema.TitleMapContent content) {
+            if (UiSchema.NameValue.class.isInstance(content)) {
+                return copy(UiSchema.NameValue.class.cast(content));
+            }
+            if (UiSchema.TitledNameValue.class.isInstance(content)) {
+                final UiSchema.TitledNameValue source = UiSchema.TitledNameValue.class.cast(content);
+                final UiSchema.TitledNameValue copy = new UiSchema.TitledNameValue();
+                copy.setTitle(source.getTitle());
+                copy.setSuggestions(copyCollection(source.getSuggestions(), this::copy));
+                return copy;
+            }
+            return content;
+        }
+
+        private UiSchema.NameValue copy(final UiSchema.NameValue nameValue) {
+            final UiSchema.NameValue copy = new UiSchema.NameValue();
+            copy.setName(nameValue.getName());
+            copy.setValue(nameValue.getValue());
+            return copy;
+        }
+
+        private JsonSchema copy(final JsonSchema schema) {
+            if (schema == null) {
+                return null;
+            }
+            final JsonSchema copy = new JsonSchema();
+            copy.setId(schema.getId());
+            copy.setTitle(schema.getTitle());
+            copy.setDescription(schema.getDescription());
+            copy.setSchema(schema.getSchema());
+            copy.setRef(schema.getRef());
+            copy.setType(schema.getType());
+            copy.setMinItems(schema.getMinItems());
+            copy.setMaxItems(schema.getMaxItems());
+            copy.setMinLength(schema.getMinLength());
+            copy.setMaxLength(schema.getMaxLength());
+            copy.setMinimum(schema.getMinimum());
+            copy.setMaximum(schema.getMaximum());
+            copy.setUniqueItems(schema.getUniqueItems());
+            copy.setPattern(schema.getPattern());
+            copy.setDefaultValue(copyValue(schema.getDefaultValue()));
+            copy.setRequired(copyCollection(schema.getRequired(), Function.identity()));
+            copy.setEnumValues(copyCollection(schema.getEnumValues(), Function.identity()));
+            copy.setItems(copy(schema.getItems()));
+            if (schema.getProperties() != null) {
+                final Map<String, JsonSchema> properties = copyMap(schema.getProperties());
+                properties.replaceAll((name, value) -> copy(value));
+                copy.setProperties(properties);
+            }
+            return copy;
+        }
+
+        private Object copyValue(final Object value) {
+            if (Map.class.isInstance(value)) {
+                final Map<Object, Object> map = copyMap(Map.class.cast(value));
+                map.replaceAll((k, v) -> copyValue(v));
+                return map;
+            }
+            if (Collection.class.isInstance(value)) {
+                return copyCollection(Collection.class.cast(value), this::copyValue);
+            }
+            return value;
+        }
+
+        private <V> Collection<V> copyCollection(final Collection<V> source, final Function<V, V> copier) {
+            if (source == null) {
+                return null;
+            }
+            final Collection<V> copy =
+                    Set.class.isInstance(source) ? new LinkedHashSet<>(source.size()) : new ArrayList<>(source.size());
+            source.forEach(it -> copy.add(copier.apply(it)));
+            return copy;
+        }
+
+        // keep the ordering (comparator) of the source
+        private <K, V> Map<K, V> copyMap(final Map<K, V> source) {
+            if (SortedMap.class.isInstance(source)) {
+                return new TreeMap<>(SortedMap.class.cast(source));
+            }
+            return new LinkedHashMap<>(source);
+        }
+    }
+}
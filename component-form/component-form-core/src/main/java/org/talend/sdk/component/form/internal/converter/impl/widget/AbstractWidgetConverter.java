@@ -64,29 +64,32 @@ public abstract class AbstractWidgetConverter implements PropertyConverter {
         return client.action(family, "dynamic_values", actionName, lang, emptyMap(), context).exceptionally(e -> {
             log.warn(e.getMessage(), e);
             return emptyMap();
-        })
-                .thenApply(values -> ofNullable(values)
-                        .map(v -> v.get("items"))
-                        .filter(Collection.class::isInstance)
-                        .map(c -> {
-                            final Collection<?> dynamicValues = Collection.class.cast(c);
-                            return dynamicValues
-                                    .stream()
-                                    .filter(Map.class::isInstance)
-                                    .filter(m -> Map.class.cast(m).get("id") != null
-                                            && Map.class.cast(m).get("id") instanceof String)
-                                    .map(Map.class::cast)
-                                    .map(entry -> {
-                                        final UiSchema.NameValue val = new UiSchema.NameValue();
-                                        val
-                                                .setName(entry.get("label") == null ? (String) entry.get("id")
-                                                        : String.class.cast(entry.get("label")));
-                                        val.setValue(String.class.cast(entry.get("id")));
-                                        return val;
-                                    })
-                                    .collect(toList());
-                        })
-                        .orElse(emptyList()));
+        }).thenApply(AbstractWidgetConverter::toNameValues);
+    }
+
+    public static List<UiSchema.NameValue> toNameValues(final Map<String, Object> values) {
+        return ofNullable(values)
+                .map(v -> v.get("items"))
+                .filter(Collection.class::isInstance)
+                .map(c -> {
+                    final Collection<?> dynamicValues = Collection.class.cast(c);
+                    return dynamicValues
+                            .stream()
+                            .filter(Map.class::isInstance)
+                            .filter(m -> Map.class.cast(m).get("id") != null
+                                    && Map.class.cast(m).get("id") instanceof String)
+                            .map(Map.class::cast)
+                            .map(entry -> {
+                                final UiSchema.NameValue val = new UiSchema.NameValue();
+                                val
+                                        .setName(entry.get("label") == null ? (String) entry.get("id")
+                                                : String.class.cast(entry.get("label")));
+                                val.setValue(String.class.cast(entry.get("id")));
+                                return val;
+                            })
+                            .collect(toList());
+                })
+                .orElse(emptyList());
     }
 
     protected UiSchema.Trigger toTrigger(final Collection<SimplePropertyDefinition> properties,
@@ -690,6 +690,77 @@ class UiSpecServiceTest {
         });
     }
 
+    @Test
+    void cachedForm() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final Client<String> contextualClient = new Client<String>() {
+
+            @Override
+            public CompletionStage<Map<String, Object>> action(final String family, final String type,
+                    final String action, final String lang, final Map<String, Object> params, final String context) {
+                loads.incrementAndGet();
+                final Map<String, String> item = new HashMap<>();
+                item.put("id", "driver." + context);
+                return CompletableFuture.completedFuture(singletonMap("items", singleton(item)));
+            }
+
+            @Override
+            public void close() {
+                // no-op
+            }
+        };
+        try (final Jsonb jsonb = JsonbBuilder.create();
+                final UiSpecService<String> cached = new UiSpecService<>(contextualClient, jsonb);
+                final UiSpecService<String> notCached =
+                        new UiSpecService<String>(contextualClient, jsonb).withCacheSize(0)) {
+            final ComponentDetail detail = load("jdbc.json");
+            final Ui first = cached.convert(detail, "en", "a").toCompletableFuture().get();
+            mutate(first.getUiSchema()); // results are deep copies of the compiled form
+            first.getUiSchema().clear();
+            final Ui second = cached.convert(load("jdbc.json"), "en", "b").toCompletableFuture().get();
+            assertEquals(2, loads.get());
+            assertEquals(jsonb.toJson(notCached.convert(detail, "en", "b").toCompletableFuture().get()),
+                    jsonb.toJson(second));
+            assertEquals(singletonList("driver.b"), findDriver(second).getTitleMap().stream()
+                    .map(UiSchema.NameValue.class::cast)
+                    .map(UiSchema.NameValue::getValue)
+                    .collect(toList()));
+
+            cached.invalidateCache();
+            assertEquals(singletonList("driver.c"), findDriver(cached.convert(detail, "en", "c")
+                    .toCompletableFuture()
+                    .get()).getTitleMap().stream()
+                    .map(UiSchema.NameValue.class::cast)
+                    .map(UiSchema.NameValue::getValue)
+                    .collect(toList()));
+        }
+    }
+
+    private void mutate(final Collection<UiSchema> schemas) {
+        if (schemas == null) {
+            return;
+        }
+        schemas.forEach(schema -> {
+            if (schema.getOptions() != null) {
+                schema.getOptions().put("mutated", true);
+            }
+            if (schema.getTriggers() != null) {
+                schema.getTriggers().forEach(it -> it.setAction("mutated"));
+                schema.getTriggers().add(UiSchema.trigger().withAction("mutated").build());
+            }
+            if (schema.getTitleMap() != null) {
+                schema.getTitleMap().stream()
+                        .filter(UiSchema.NameValue.class::isInstance)
+                        .map(UiSchema.NameValue.class::cast)
+                        .forEach(it -> it.setValue("mutated"));
+            }
+            if (schema.getCondition() != null) {
+                schema.getCondition().values().forEach(it -> it.add("mutated"));
+            }
+            mutate(schema.getItems());
+        });
+    }
+
     /*
      * just to log the output
      */
@@ -789,6 +860,16 @@ class UiSpecServiceTest {
         return schemas;
     }
 
+    private UiSchema findDriver(final Ui ui) {
+        return ui
+                .getUiSchema()
+                .stream()
+                .flatMap(this::flatten)
+                .filter(it -> "configuration.connection.driver".equals(it.getKey()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("No driver"));
+    }
+
     private Stream<UiSchema> flatten(final UiSchema it) {
         return Stream
                 .concat(Stream.of(it),
@@ -23,12 +23,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
 import javax.json.bind.Jsonb;
 
 import org.apache.beam.sdk.transforms.DoFn;
+import org.apache.beam.sdk.transforms.join.CoGbkResult;
+import org.apache.beam.sdk.values.TupleTag;
 import org.talend.sdk.component.api.processor.OutputEmitter;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
@@ -50,7 +54,7 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @NoArgsConstructor
-abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
+abstract class BaseProcessorFn<I, O> extends DoFn<I, O> {
 
     protected Processor processor;
 
@@ -59,6 +63,11 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
 
     protected int currentCount;
 
+    // inputs of the current group when the processor takes them as a chunk, null otherwise
+    private transient List<InputFactory> chunk;
+
+    private transient boolean chunkInitialized;
+
     protected volatile RecordBuilderFactory recordFactory;
 
     protected volatile Jsonb jsonb;
@@ -84,7 +93,9 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
         }
     }
 
-    protected abstract Consumer<Record> toEmitter(ProcessContext context);
+    protected abstract InputFactory toInputFactory(I element);
+
+    protected abstract BeamOutputFactory toOutputFactory(ProcessContext context, boolean group);
 
     protected abstract BeamOutputFactory getFinishBundleOutputFactory(FinishBundleContext context);
 
@@ -98,15 +109,21 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
         ensureInit();
         if (currentCount == 0) {
             processor.beforeGroup();
+            initChunk();
+        }
+        if (chunk != null) { // nothing is emitted per record, the chunk is passed at the end of the group
+            chunk.add(toInputFactory(context.element()));
+        } else {
+            final BeamOutputFactory output = toOutputFactory(context, false);
+            processor.onNext(toInputFactory(context.element()), output);
+            output.postProcessing();
         }
-        final BeamOutputFactory output = new BeamSingleOutputFactory(toEmitter(context), recordFactory, jsonb);
-        processor.onNext(new BeamInputFactory(context), output);
-        output.postProcessing();
         currentCount++;
         if (maxBatchSize > 0 && currentCount >= maxBatchSize) {
             currentCount = 0;
-            final BeamOutputFactory ago = new BeamMultiOutputFactory(toEmitter(context), recordFactory, jsonb);
-            processor.afterGroup(output);
+            final BeamOutputFactory ago = toOutputFactory(context, true);
+            flushChunk(ago);
+            processor.afterGroup(ago);
             ago.postProcessing();
         }
     }
@@ -117,6 +134,7 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
             ensureInit();
             currentCount = 0;
             final BeamOutputFactory output = getFinishBundleOutputFactory(context);
+            flushChunk(output);
             processor.afterGroup(output);
             output.postProcessing();
         }
@@ -127,6 +145,22 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
         processor.stop();
     }
 
+    private void initChunk() {
+        if (!chunkInitialized) {
+            chunkInitialized = true;
+            if (ProcessorImpl.class.isInstance(processor) && ProcessorImpl.class.cast(processor).isBatchListener()) {
+                chunk = new ArrayList<>();
+            }
+        }
+    }
+
+    private void flushChunk(final OutputFactory output) {
+        if (chunk != null && !chunk.isEmpty()) {
+            processor.onBatch(chunk, output);
+            chunk.clear();
+        }
+    }
+
     private void ensureInit() {
         if (jsonb == null) {
             synchronized (this) {
@@ -143,8 +177,7 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
 
         private final Map<String, Iterator<Record>> objects;
 
-        BeamInputFactory(final DoFn<Record, ?>.ProcessContext context) {
-            final Record element = context.element();
+        BeamInputFactory(final Record element) {
             objects = element
                     .getSchema()
                     .getAllEntries()
@@ -172,8 +205,9 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
 
         @Override
         public OutputEmitter create(final String name) {
-            return new BeamOutputEmitter(outputs.computeIfAbsent(sanitizeConnectionName(name), k -> new ArrayList<>()),
-                    factory, jsonb);
+            return new BeamOutputEmitter(
+                    outputs.computeIfAbsent(sanitizeConnectionName(name), k -> new ArrayList<>())::add, factory,
+                    jsonb);
         }
 
         public abstract void postProcessing();
@@ -190,8 +224,9 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
 
         @Override
         public OutputEmitter create(final String name) {
-            return new BeamOutputEmitter(outputs.computeIfAbsent(sanitizeConnectionName(name), k -> new ArrayList<>()),
-                    factory, jsonb);
+            return new BeamOutputEmitter(
+                    outputs.computeIfAbsent(sanitizeConnectionName(name), k -> new ArrayList<>())::add, factory,
+                    jsonb);
         }
 
         @Override
@@ -226,7 +261,7 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
         public OutputEmitter create(final String name) {
             return value -> {
                 final Collection<Record> values = new ArrayList<>();
-                new BeamOutputEmitter(values, factory, jsonb) {
+                new BeamOutputEmitter(values::add, factory, jsonb) {
 
                     @Override
                     public void emit(final Object value) {
@@ -255,10 +290,95 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
         }
     }
 
+    /**
+     * Input of a single branch, the element is the record itself (no branch envelope).
+     */
+    protected static final class BeamBranchInputFactory implements InputFactory {
+
+        private final String branch;
+
+        private Record record;
+
+        BeamBranchInputFactory(final String branch, final Record record) {
+            this.branch = branch;
+            this.record = record;
+        }
+
+        @Override
+        public Object read(final String name) {
+            if (record == null || !branch.equals(sanitizeConnectionName(name))) {
+                return null;
+            }
+            final Record value = record;
+            record = null;
+            return value;
+        }
+    }
+
+    /**
+     * Input of a join, reads the branches directly from the {@link CoGbkResult}.
+     */
+    protected static final class BeamCoGbkInputFactory implements InputFactory {
+
+        private final Map<String, Iterator<?>> objects = new HashMap<>();
+
+        BeamCoGbkInputFactory(final CoGbkResult result) {
+            result
+                    .getSchema()
+                    .getTupleTagList()
+                    .getAll()
+                    .forEach(tag -> objects
+                            .put(sanitizeConnectionName(tag.getId()), result.getAll(tag).iterator()));
+        }
+
+        @Override
+        public Object read(final String name) {
+            final Iterator<?> values = objects.getOrDefault(sanitizeConnectionName(name), emptyIterator());
+            return values.hasNext() ? values.next() : null;
+        }
+    }
+
+    /**
+     * Emits each record in the {@link TupleTag} of its branch, records of a branch without tag are dropped
+     * (not connected).
+     */
+    protected static final class BeamBranchOutputFactory extends BeamOutputFactory {
+
+        private static final OutputEmitter NOT_CONNECTED = value -> {
+            // no-op
+        };
+
+        private final Map<String, TupleTag<Record>> tags;
+
+        private final BiConsumer<TupleTag<Record>, Record> branchEmit;
+
+        protected BeamBranchOutputFactory(final Map<String, TupleTag<Record>> tags,
+                final BiConsumer<TupleTag<Record>, Record> emit, final RecordBuilderFactory factory,
+                final Jsonb jsonb) {
+            super(null, factory, jsonb);
+            this.tags = tags;
+            this.branchEmit = emit;
+        }
+
+        @Override
+        public OutputEmitter create(final String name) {
+            final TupleTag<Record> tag = tags.get(sanitizeConnectionName(name));
+            if (tag == null) {
+                return NOT_CONNECTED;
+            }
+            return new BeamOutputEmitter(record -> branchEmit.accept(tag, record), factory, jsonb);
+        }
+
+        @Override
+        public void postProcessing() {
+            // no-op: records are emitted directly
+        }
+    }
+
     @RequiredArgsConstructor
     private static class BeamOutputEmitter implements OutputEmitter {
 
-        private final Collection<Record> builder;
+        private final Consumer<Record> builder;
 
         private final RecordBuilderFactory recordBuilderFactory;
 
@@ -273,7 +393,7 @@ abstract class BaseProcessorFn<O> extends DoFn<Record, O> {
             if (value == null) {
                 return;
             }
-            builder.add(toRecord(value));
+            builder.accept(toRecord(value));
         }
 
         private Record toRecord(final Object value) {
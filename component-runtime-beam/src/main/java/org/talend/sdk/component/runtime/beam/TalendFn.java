@@ -15,22 +15,36 @@
  */
 package org.talend.sdk.component.runtime.beam;
 
-import java.util.function.Consumer;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.talend.sdk.component.api.record.Schema.sanitizeConnectionName;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 
 import org.apache.beam.sdk.coders.Coder;
 import org.apache.beam.sdk.transforms.PTransform;
 import org.apache.beam.sdk.transforms.ParDo;
+import org.apache.beam.sdk.transforms.join.CoGbkResult;
 import org.apache.beam.sdk.transforms.windowing.GlobalWindow;
+import org.apache.beam.sdk.values.KV;
 import org.apache.beam.sdk.values.PCollection;
+import org.apache.beam.sdk.values.PCollectionTuple;
+import org.apache.beam.sdk.values.TupleTag;
+import org.apache.beam.sdk.values.TupleTagList;
 import org.joda.time.Instant;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.runtime.beam.coder.registry.SchemaRegistryCoder;
+import org.talend.sdk.component.runtime.output.InputFactory;
 import org.talend.sdk.component.runtime.output.Processor;
 
 import lombok.NoArgsConstructor;
 
 public final class TalendFn {
 
+    private static final TupleTag<Record> NO_OUTPUT = new TupleTag<>("__talend_no_output__");
+
     private TalendFn() {
         // no-op
     }
@@ -39,16 +53,68 @@ public final class TalendFn {
         return new ProcessorTransform(new ProcessorFn(processor));
     }
 
+    /**
+     * @param name the branch name.
+     * @return the tag of this branch in the outputs of {@link #asBranchFn(Processor, String, Collection)}
+     * and {@link #asJoinFn(Processor, Collection)}.
+     */
+    public static TupleTag<Record> branch(final String name) {
+        return new TupleTag<>(sanitizeConnectionName(name));
+    }
+
+    /**
+     * Unlike {@link #asFn(Processor)}, input records and outputs are not wrapped in a branch envelope record:
+     * the input collection is the branch {@code inputBranch} and each output branch is a {@link TupleTag}
+     * (see {@link #branch(String)}) of the resulting tuple.
+     *
+     * @param processor the processor to execute.
+     * @param inputBranch the branch the input records belong to.
+     * @param outputBranches the connected output branches, other branches are ignored.
+     * @return a transform executing the processor.
+     */
+    public static PTransform<PCollection<Record>, PCollectionTuple> asBranchFn(final Processor processor,
+            final String inputBranch, final Collection<String> outputBranches) {
+        return new BranchProcessorTransform<>(
+                new SingleBranchProcessorFn(processor, sanitizeConnectionName(inputBranch), toTags(outputBranches)));
+    }
+
+    /**
+     * Same as {@link #asBranchFn(Processor, String, Collection)} for a processor with multiple inputs,
+     * the input branches are the tags of the {@link CoGbkResult}.
+     *
+     * @param processor the processor to execute.
+     * @param outputBranches the connected output branches, other branches are ignored.
+     * @param <K> the join key type.
+     * @return a transform executing the processor.
+     */
+    public static <K> PTransform<PCollection<KV<K, CoGbkResult>>, PCollectionTuple> asJoinFn(
+            final Processor processor, final Collection<String> outputBranches) {
+        return new BranchProcessorTransform<>(new JoinProcessorFn<>(processor, toTags(outputBranches)));
+    }
+
+    private static HashMap<String, TupleTag<Record>> toTags(final Collection<String> branches) {
+        return branches
+                .stream()
+                .map(TalendFn::branch)
+                .collect(toMap(TupleTag::getId, identity(), (a, b) -> a, HashMap::new));
+    }
+
     @NoArgsConstructor
-    private static class ProcessorFn extends BaseProcessorFn<Record> {
+    private static class ProcessorFn extends BaseProcessorFn<Record, Record> {
 
         ProcessorFn(final Processor processor) {
             super(processor);
         }
 
         @Override
-        protected Consumer<Record> toEmitter(final ProcessContext context) {
-            return context::output;
+        protected InputFactory toInputFactory(final Record element) {
+            return new BeamInputFactory(element);
+        }
+
+        @Override
+        protected BeamOutputFactory toOutputFactory(final ProcessContext context, final boolean group) {
+            return group ? new BeamMultiOutputFactory(context::output, recordFactory, jsonb)
+                    : new BeamSingleOutputFactory(context::output, recordFactory, jsonb);
         }
 
         @Override
@@ -58,6 +124,59 @@ public final class TalendFn {
         }
     }
 
+    @NoArgsConstructor
+    private abstract static class BranchProcessorFn<I> extends BaseProcessorFn<I, Record> {
+
+        protected HashMap<String, TupleTag<Record>> tags;
+
+        BranchProcessorFn(final Processor processor, final HashMap<String, TupleTag<Record>> tags) {
+            super(processor);
+            this.tags = tags;
+        }
+
+        @Override
+        protected BeamOutputFactory toOutputFactory(final ProcessContext context, final boolean group) {
+            return new BeamBranchOutputFactory(tags, context::output, recordFactory, jsonb);
+        }
+
+        @Override
+        protected BeamOutputFactory getFinishBundleOutputFactory(final FinishBundleContext context) {
+            return new BeamBranchOutputFactory(tags,
+                    (tag, record) -> context.output(tag, record, Instant.now(), GlobalWindow.INSTANCE),
+                    recordFactory, jsonb);
+        }
+    }
+
+    @NoArgsConstructor
+    private static class SingleBranchProcessorFn extends BranchProcessorFn<Record> {
+
+        private String branch;
+
+        SingleBranchProcessorFn(final Processor processor, final String branch,
+                final HashMap<String, TupleTag<Record>> tags) {
+            super(processor, tags);
+            this.branch = branch;
+        }
+
+        @Override
+        protected InputFactory toInputFactory(final Record element) {
+            return new BeamBranchInputFactory(branch, element);
+        }
+    }
+
+    @NoArgsConstructor
+    private static class JoinProcessorFn<K> extends BranchProcessorFn<KV<K, CoGbkResult>> {
+
+        JoinProcessorFn(final Processor processor, final HashMap<String, TupleTag<Record>> tags) {
+            super(processor, tags);
+        }
+
+        @Override
+        protected InputFactory toInputFactory(final KV<K, CoGbkResult> element) {
+            return new BeamCoGbkInputFactory(element.getValue());
+        }
+    }
+
     private static class ProcessorTransform extends PTransform<PCollection<Record>, PCollection<Record>> {
 
         private final ProcessorFn fn;
@@ -76,4 +195,28 @@ public final class TalendFn {
             return SchemaRegistryCoder.of();
         }
     }
+
+    private static class BranchProcessorTransform<I> extends PTransform<PCollection<I>, PCollectionTuple> {
+
+        private final BranchProcessorFn<I> fn;
+
+        BranchProcessorTransform(final BranchProcessorFn<I> fn) {
+            this.fn = fn;
+        }
+
+        @Override
+        public PCollectionTuple expand(final PCollection<I> input) {
+            final Map<String, TupleTag<Record>> tags = fn.tags;
+            final TupleTag<Record> main = tags.isEmpty() ? NO_OUTPUT : tags.values().iterator().next();
+            TupleTagList others = TupleTagList.empty();
+            for (final TupleTag<Record> tag : tags.values()) {
+                if (tag != main) {
+                    others = others.and(tag);
+                }
+            }
+            final PCollectionTuple tuple = input.apply(ParDo.of(fn).withOutputTags(main, others));
+            tuple.getAll().values().forEach(it -> PCollection.class.cast(it).setCoder(SchemaRegistryCoder.of()));
+            return tuple;
+        }
+    }
 }
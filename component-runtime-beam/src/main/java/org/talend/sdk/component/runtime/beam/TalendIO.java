@@ -23,7 +23,7 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
-import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Stream;
 
 import javax.json.bind.Jsonb;
@@ -51,6 +51,7 @@ import org.talend.sdk.component.runtime.beam.coder.NoCheckpointCoder;
 import org.talend.sdk.component.runtime.beam.coder.registry.SchemaRegistryCoder;
 import org.talend.sdk.component.runtime.input.Input;
 import org.talend.sdk.component.runtime.input.Mapper;
+import org.talend.sdk.component.runtime.output.InputFactory;
 import org.talend.sdk.component.runtime.output.Processor;
 import org.talend.sdk.component.runtime.record.RecordConverters;
 import org.talend.sdk.component.runtime.serialization.ContainerFinder;
@@ -186,10 +187,7 @@ public final class TalendIO {
     }
 
     @NoArgsConstructor
-    private static class WriteFn extends BaseProcessorFn<Void> {
-
-        private static final Consumer<Record> NOOP_CONSUMER = record -> {
-        };
+    private static class WriteFn extends BaseProcessorFn<Record, Void> {
 
         private static final OutputEmitter NOOP_OUTPUT_EMITTER = value -> {
             // no-op
@@ -213,8 +211,13 @@ public final class TalendIO {
         }
 
         @Override
-        protected Consumer<Record> toEmitter(final ProcessContext context) {
-            return NOOP_CONSUMER;
+        protected InputFactory toInputFactory(final Record element) {
+            return new BeamInputFactory(element);
+        }
+
+        @Override
+        protected BeamOutputFactory toOutputFactory(final ProcessContext context, final boolean group) {
+            return NOOP_OUTPUT_FACTORY;
         }
 
         @Override
@@ -225,7 +228,7 @@ public final class TalendIO {
 
     @NoArgsConstructor
     @AllArgsConstructor
-    private static class BoundedSourceImpl extends BoundedSource<Record> {
+    static class BoundedSourceImpl extends BoundedSource<Record> {
 
         private Mapper mapper;
 
@@ -254,7 +257,7 @@ public final class TalendIO {
         public BoundedReader<Record> createReader(final PipelineOptions options) {
             mapper.start();
             try {
-                return new BoundedReaderImpl<>(this, mapper.create());
+                return new BoundedReaderImpl<>(this, mapper.create(), BoundedSourceImpl::new);
             } finally {
                 mapper.stop();
             }
@@ -344,7 +347,7 @@ public final class TalendIO {
 
     private static class BoundedReaderImpl<T> extends BoundedSource.BoundedReader<T> {
 
-        private BoundedSource<T> source;
+        private volatile BoundedSource<T> source;
 
         private Input input;
 
@@ -352,9 +355,15 @@ public final class TalendIO {
 
         private volatile Converter converter;
 
-        BoundedReaderImpl(final BoundedSource<T> source, final Input input) {
+        private final Function<Mapper, BoundedSource<T>> sourceFactory;
+
+        private volatile boolean done;
+
+        BoundedReaderImpl(final BoundedSource<T> source, final Input input,
+                final Function<Mapper, BoundedSource<T>> sourceFactory) {
             this.source = source;
             this.input = input;
+            this.sourceFactory = sourceFactory;
         }
 
         @Override
@@ -378,7 +387,8 @@ public final class TalendIO {
             } else {
                 current = next;
             }
-            return current != null;
+            done = current == null;
+            return !done;
         }
 
         @Override
@@ -395,6 +405,29 @@ public final class TalendIO {
         public BoundedSource<T> getCurrentSource() {
             return source;
         }
+
+        @Override
+        public Double getFractionConsumed() {
+            if (done) {
+                return 1.;
+            }
+            final double fraction = input.getFractionConsumed();
+            return fraction < 0 ? null : Math.min(1., fraction);
+        }
+
+        // dynamic work rebalancing, the input updates its own partition to the primary one
+        @Override
+        public BoundedSource<T> splitAtFraction(final double fraction) {
+            if (done) {
+                return null;
+            }
+            final List<Mapper> split = input.splitAtFraction(fraction);
+            if (split.isEmpty()) {
+                return null;
+            }
+            source = sourceFactory.apply(split.get(0));
+            return sourceFactory.apply(split.get(1));
+        }
     }
 
     private static class UnBoundedReaderImpl<T> extends UnboundedSource.UnboundedReader<T> {
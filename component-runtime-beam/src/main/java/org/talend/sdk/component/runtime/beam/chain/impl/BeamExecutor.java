@@ -15,8 +15,11 @@
  */
 package org.talend.sdk.component.runtime.beam.chain.impl;
 
+import static java.util.Collections.singletonMap;
+import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
+import static org.talend.sdk.component.api.record.Schema.sanitizeConnectionName;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -28,25 +31,18 @@ import org.apache.beam.sdk.Pipeline;
 import org.apache.beam.sdk.PipelineResult;
 import org.apache.beam.sdk.options.PipelineOptions;
 import org.apache.beam.sdk.options.PipelineOptionsFactory;
-import org.apache.beam.sdk.transforms.PTransform;
-import org.apache.beam.sdk.transforms.ParDo;
+import org.apache.beam.sdk.transforms.Create;
 import org.apache.beam.sdk.transforms.join.CoGroupByKey;
 import org.apache.beam.sdk.transforms.join.KeyedPCollectionTuple;
 import org.apache.beam.sdk.values.KV;
 import org.apache.beam.sdk.values.PCollection;
-import org.apache.beam.sdk.values.PDone;
+import org.apache.beam.sdk.values.PCollectionTuple;
 import org.apache.beam.sdk.values.TupleTag;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.runtime.beam.TalendFn;
 import org.talend.sdk.component.runtime.beam.TalendIO;
 import org.talend.sdk.component.runtime.beam.coder.registry.SchemaRegistryCoder;
 import org.talend.sdk.component.runtime.beam.transform.AutoKVWrapper;
-import org.talend.sdk.component.runtime.beam.transform.CoGroupByKeyResultMappingTransform;
-import org.talend.sdk.component.runtime.beam.transform.RecordBranchFilter;
-import org.talend.sdk.component.runtime.beam.transform.RecordBranchMapper;
-import org.talend.sdk.component.runtime.beam.transform.RecordBranchUnwrapper;
-import org.talend.sdk.component.runtime.beam.transform.RecordKVUnwrapper;
-import org.talend.sdk.component.runtime.beam.transform.RecordNormalizer;
 import org.talend.sdk.component.runtime.input.Mapper;
 import org.talend.sdk.component.runtime.manager.chain.Job;
 import org.talend.sdk.component.runtime.manager.chain.internal.JobImpl;
@@ -57,6 +53,8 @@ import lombok.AllArgsConstructor;
 @AllArgsConstructor
 public class BeamExecutor implements Job.ExecutorBuilder {
 
+    private static final String DEFAULT_BRANCH = "__default__";
+
     private final JobImpl.JobExecutor delegate;
 
     @Override
@@ -92,8 +90,9 @@ public class BeamExecutor implements Job.ExecutorBuilder {
                                     e.getNode().getVersion(), e.getNode().getConfiguration())
                             .orElseThrow(() -> new IllegalStateException("No processor found for:" + e.getNode()))));
 
+            // branches are routed with tagged outputs so records are never wrapped in a branch envelope
             final Pipeline pipeline = Pipeline.create(createPipelineOptions());
-            final Map<String, PCollection<Record>> pCollections = new HashMap<>();
+            final Map<String, Map<String, PCollection<Record>>> pCollections = new HashMap<>();
             delegate.getLevels().values().stream().flatMap(Collection::stream).forEach(component -> {
                 if (component.isSource()) {
                     final Mapper mapper = mappers.get(component.getId());
@@ -113,67 +112,42 @@ public class BeamExecutor implements Job.ExecutorBuilder {
                                                         .getOrDefault("streaming.maxDurationMs", "60000")));
                     }
                     pCollections
-                            .put(component.getId(),
-                                    pipeline
-                                            .apply(toName("TalendIO", component), TalendIO.read(mapper, mapperConfig))
-                                            .apply(toName("RecordNormalizer", component),
-                                                    RecordNormalizer.of(mapper.plugin())));
+                            .put(component.getId(), singletonMap(DEFAULT_BRANCH, pipeline
+                                    .apply(toName("TalendIO", component), TalendIO.read(mapper, mapperConfig))));
                 } else {
                     final Processor processor = processors.get(component.getId());
                     final List<Job.Edge> joins = getEdges(delegate.getEdges(), component, e -> e.getTo().getNode());
-                    final Map<String, PCollection<KV<String, Record>>> inputs =
-                            joins.stream().collect(toMap(e -> e.getTo().getBranch(), e -> {
-                                final PCollection<Record> pc = pCollections.get(e.getFrom().getNode().getId());
-                                final PCollection<Record> filteredInput = pc
-                                        .apply(toName("RecordBranchFilter", component, e),
-                                                RecordBranchFilter.of(processor.plugin(), e.getFrom().getBranch()));
-                                final PCollection<Record> mappedInput;
-                                if (e.getFrom().getBranch().equals(e.getTo().getBranch())) {
-                                    mappedInput = filteredInput;
-                                } else {
-                                    mappedInput = filteredInput
-                                            .apply(toName("RecordBranchMapper", component, e),
-                                                    RecordBranchMapper
-                                                            .of(processor.plugin(), e.getFrom().getBranch(),
-                                                                    e.getTo().getBranch()));
-                                }
-                                return mappedInput
-                                        .apply(toName("RecordBranchUnwrapper", component, e),
-                                                RecordBranchUnwrapper.of(processor.plugin(), e.getTo().getBranch()))
-                                        .apply(toName("AutoKVWrapper", component, e), AutoKVWrapper
-                                                .of(processor.plugin(), delegate.getKeyProvider(component.getId()),
-                                                        component.getId(), e.getFrom().getBranch()));
-                            }));
-                    final PCollection<Record> preparedInput;
-                    if (inputs.size() == 1) {
-                        final Map.Entry<String, PCollection<KV<String, Record>>> input =
-                                inputs.entrySet().iterator().next();
-                        preparedInput = input
-                                .getValue()
-                                .apply(toName("RecordKVUnwrapper", component), ParDo.of(new RecordKVUnwrapper()))
-                                .setCoder(SchemaRegistryCoder.of())
-                                .apply(toName("RecordNormalizer", component), RecordNormalizer.of(processor.plugin()));
+                    final Collection<String> outputBranches = getEdges(delegate.getEdges(), component,
+                            e -> e.getFrom().getNode())
+                                    .stream()
+                                    .map(e -> sanitizeConnectionName(e.getFrom().getBranch()))
+                                    .distinct()
+                                    .collect(toList());
+
+                    final PCollectionTuple outputs;
+                    if (joins.size() == 1) {
+                        final Job.Edge edge = joins.get(0);
+                        outputs = findBranch(pipeline, pCollections, edge)
+                                .apply(toName("Processor", component),
+                                        TalendFn.asBranchFn(processor, edge.getTo().getBranch(), outputBranches));
                     } else {
                         KeyedPCollectionTuple<String> join = null;
-                        for (final Map.Entry<String, PCollection<KV<String, Record>>> entry : inputs.entrySet()) {
-                            final TupleTag<Record> branch = new TupleTag<>(entry.getKey());
-                            join = join == null ? KeyedPCollectionTuple.of(branch, entry.getValue())
-                                    : join.and(branch, entry.getValue());
+                        for (final Job.Edge edge : joins) {
+                            final TupleTag<Record> branch = new TupleTag<>(edge.getTo().getBranch());
+                            final PCollection<KV<String, Record>> keyed = findBranch(pipeline, pCollections, edge)
+                                    .apply(toName("AutoKVWrapper", component, edge), AutoKVWrapper
+                                            .of(processor.plugin(), delegate.getKeyProvider(component.getId()),
+                                                    component.getId(), edge.getFrom().getBranch()));
+                            join = join == null ? KeyedPCollectionTuple.of(branch, keyed) : join.and(branch, keyed);
                         }
-                        preparedInput = join
+                        outputs = join
                                 .apply(toName("CoGroupByKey", component), CoGroupByKey.create())
-                                .apply(toName("CoGroupByKeyResultMappingTransform", component),
-                                        new CoGroupByKeyResultMappingTransform<>(processor.plugin(), true));
-                    }
-
-                    if (getEdges(delegate.getEdges(), component, e -> e.getFrom().getNode()).isEmpty()) {
-                        final PTransform<PCollection<Record>, PDone> write = TalendIO.write(processor);
-                        preparedInput.apply(toName("Output", component), write);
-                    } else {
-                        final PTransform<PCollection<Record>, PCollection<Record>> process = TalendFn.asFn(processor);
-                        pCollections
-                                .put(component.getId(), preparedInput.apply(toName("Processor", component), process));
+                                .apply(toName("Processor", component), TalendFn.asJoinFn(processor, outputBranches));
                     }
+                    pCollections
+                            .put(component.getId(), outputBranches
+                                    .stream()
+                                    .collect(toMap(identity(), branch -> outputs.get(TalendFn.branch(branch)))));
                 }
             });
             final PipelineResult result = pipeline.run();
@@ -197,6 +171,19 @@ public class BeamExecutor implements Job.ExecutorBuilder {
         }
     }
 
+    private PCollection<Record> findBranch(final Pipeline pipeline,
+            final Map<String, Map<String, PCollection<Record>>> pCollections, final Job.Edge edge) {
+        final PCollection<Record> branch = pCollections
+                .get(edge.getFrom().getNode().getId())
+                .get(sanitizeConnectionName(edge.getFrom().getBranch()));
+        if (branch != null) {
+            return branch;
+        }
+        // a source only has a default branch
+        return pipeline
+                .apply(toName("Empty", edge.getTo().getNode(), edge), Create.empty(SchemaRegistryCoder.of()));
+    }
+
     private String toName(final String transform, final Job.Component component, final Job.Edge e) {
         return String
                 .format(transform + "/step=%s,from=%s(%s)-to=%s(%s)", component.getId(), e.getFrom().getNode().getId(),
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.beam.coder.registry;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.runtime.beam.spi.record.AvroSchema;
+import org.talend.sdk.component.runtime.manager.service.api.Unwrappable;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Registry storing the avro schemas as files in a directory.
+ * When this directory is shared (NFS, mounted bucket...) workers can decode records encoded by other workers.
+ *
+ * It is enabled setting the system property {@code talend.component.beam.schema.registry.directory}.
+ */
+@Slf4j
+public class FileSchemaRegistry implements SchemaRegistry {
+
+    private final ConcurrentMap<String, Schema> schemas = new ConcurrentHashMap<>();
+
+    private final Path directory;
+
+    public FileSchemaRegistry(final Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void putIfAbsent(final String id, final Schema schema) {
+        if (schemas.putIfAbsent(id, schema) != null || !Unwrappable.class.isInstance(schema)) {
+            return;
+        }
+        final Path target = directory.resolve(id + ".avsc");
+        if (Files.exists(target)) {
+            return;
+        }
+        final org.apache.avro.Schema avro = Unwrappable.class.cast(schema).unwrap(org.apache.avro.Schema.class);
+        try {
+            final Path tmp = Files.createTempFile(directory, id, ".tmp");
+            try {
+                Files.write(tmp, avro.toString().getBytes(StandardCharsets.UTF_8));
+                Files.move(tmp, target, REPLACE_EXISTING, ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tmp);
+            }
+        } catch (final IOException e) {
+            schemas.remove(id, schema); // retry next time
+            log.warn("Can't store schema " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Schema get(final String id) {
+        return schemas.computeIfAbsent(id, this::load);
+    }
+
+    private Schema load(final String id) {
+        final Path source = directory.resolve(id + ".avsc");
+        if (!Files.exists(source)) {
+            return null;
+        }
+        try (final InputStream stream = Files.newInputStream(source)) {
+            return new AvroSchema(new org.apache.avro.Schema.Parser().parse(stream));
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -17,6 +17,7 @@ package org.talend.sdk.component.runtime.beam.coder.registry;
 
 import static lombok.AccessLevel.PRIVATE;
 
+import java.nio.file.Paths;
 import java.util.Iterator;
 import java.util.ServiceLoader;
 
@@ -40,6 +41,10 @@ public interface SchemaRegistry {
         }
 
         private static SchemaRegistry load() {
+            final String directory = System.getProperty("talend.component.beam.schema.registry.directory");
+            if (directory != null) {
+                return new FileSchemaRegistry(Paths.get(directory));
+            }
             final Iterator<SchemaRegistry> iterator = ServiceLoader.load(SchemaRegistry.class).iterator();
             if (iterator.hasNext()) {
                 final SchemaRegistry schemaRegistry = iterator.next();
@@ -16,15 +16,19 @@
 package org.talend.sdk.component.runtime.beam.coder.registry;
 
 import static org.talend.sdk.component.runtime.beam.coder.registry.AvroCoderCache.getCoder;
-import static org.talend.sdk.component.runtime.beam.spi.record.SchemaIdGenerator.generateRecordName;
 
 import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.beam.sdk.coders.CustomCoder;
@@ -38,48 +42,114 @@ import lombok.extern.slf4j.Slf4j;
 
 // advantage is that it does not need any record mutation but
 // it implies a mutation of the binary format on persistence
+//
+// format: a version byte, the 64 bits fingerprint of the avro schema then the raw avro binary datum.
+// the legacy format (generated record name, a new line then the datum) is still decoded,
+// it is recognized since the generated names never start with the version byte.
 @Slf4j
 public class SchemaRegistryCoder extends CustomCoder<Record> {
 
+    private static final int FINGERPRINT_FORMAT = 1;
+
     private static final GenericData.Record EMPTY_RECORD = new GenericData.Record(AvroSchemas.getEmptySchema());
 
+    private static final long EMPTY_FINGERPRINT = computeFingerprint(AvroSchemas.getEmptySchema());
+
+    private static final int MAX_FINGERPRINTS =
+            Integer.getInteger("component.runtime.beam.avrocoder.cache.size", 1024);
+
+    // fingerprint computation serializes the schema so ensure it is done once per schema,
+    // avro schemas cache their hash code so lookups stay cheap
+    private static final ConcurrentMap<Schema, Long> FINGERPRINTS = new ConcurrentHashMap<>();
+
     @Override
     public void encode(final Record value, final OutputStream outputStream) throws IOException {
-        final org.talend.sdk.component.api.record.Schema schema =
-                value == null ? Schemas.EMPTY_RECORD : value.getSchema();
-        final Schema avro =
-                value == null ? AvroSchemas.getEmptySchema() : Unwrappable.class.cast(schema).unwrap(Schema.class);
-        final String id = generateRecordName(avro.getFields());
+        outputStream.write(FINGERPRINT_FORMAT);
+        if (value == null) {
+            writeLong(outputStream, EMPTY_FINGERPRINT);
+            outputStream.flush();
+            return;
+        }
+        final org.talend.sdk.component.api.record.Schema schema = value.getSchema();
+        final Schema avro = Unwrappable.class.cast(schema).unwrap(Schema.class);
+        final long fingerprint = fingerprint(avro);
         // write the id first
-        outputStream.write(id.getBytes(StandardCharsets.UTF_8));
-        outputStream.write('\n');
+        writeLong(outputStream, fingerprint);
 
         // then the record with the default avro coder
-        registry().putIfAbsent(id, schema);
-        if (value != null) {
-            getCoder(avro).encode(Unwrappable.class.cast(value).unwrap(IndexedRecord.class), outputStream);
-        }
+        registry().putIfAbsent(toId(fingerprint), schema);
+        getCoder(avro).encode(Unwrappable.class.cast(value).unwrap(IndexedRecord.class), outputStream);
         outputStream.flush();
     }
 
     @Override
     public Record decode(final InputStream inputStream) throws IOException {
+        final int format = inputStream.read();
+        if (format < 0) {
+            throw new EOFException("No record to decode");
+        }
+        if (format != FINGERPRINT_FORMAT) {
+            return decodeLegacy(format, inputStream);
+        }
+        final long fingerprint = new DataInputStream(inputStream).readLong();
+        if (fingerprint == EMPTY_FINGERPRINT) {
+            return new AvroRecord(EMPTY_RECORD);
+        }
+        final String id = toId(fingerprint);
+        final org.talend.sdk.component.api.record.Schema schema = registry().get(id);
+        if (schema == null) {
+            throw new IllegalStateException("Invalid schema id: '" + id + "'");
+        }
+        final Schema unwrappedSchema = Unwrappable.class.cast(schema).unwrap(Schema.class);
+        final IndexedRecord decoded = getCoder(unwrappedSchema).decode(inputStream);
+        return new AvroRecord(decoded);
+    }
+
+    // previous format: the generated record name, a new line then the datum (absent for the empty record)
+    private Record decodeLegacy(final int firstByte, final InputStream inputStream) throws IOException {
         final ByteArrayOutputStream firstLineData = new ByteArrayOutputStream();
-        int b;
-        while ((b = inputStream.read()) >= 0 && b != '\n') {
+        int b = firstByte;
+        do {
             firstLineData.write(b);
-        }
+        } while ((b = inputStream.read()) >= 0 && b != '\n');
         final String id = firstLineData.toString("UTF-8");
         final org.talend.sdk.component.api.record.Schema schema = registry().get(id);
         if (schema == null) {
             throw new IllegalStateException("Invalid schema id: '" + id + "'");
         }
-        final Schema unwrappedSchema = Unwrappable.class.cast(schema).unwrap(Schema.class);
         if (Schemas.EMPTY_RECORD == schema) {
             return new AvroRecord(EMPTY_RECORD);
         }
-        final IndexedRecord decoded = getCoder(unwrappedSchema).decode(inputStream);
-        return new AvroRecord(decoded);
+        final Schema unwrappedSchema = Unwrappable.class.cast(schema).unwrap(Schema.class);
+        return new AvroRecord(getCoder(unwrappedSchema).decode(inputStream));
+    }
+
+    private static long fingerprint(final Schema schema) {
+        final Long cached = FINGERPRINTS.get(schema);
+        if (cached != null) {
+            return cached;
+        }
+        if (FINGERPRINTS.size() >= MAX_FINGERPRINTS) { // bounded, a job generally uses a few schemas
+            FINGERPRINTS.clear();
+        }
+        final long fingerprint = computeFingerprint(schema);
+        FINGERPRINTS.putIfAbsent(schema, fingerprint);
+        return fingerprint;
+    }
+
+    static String toId(final long fingerprint) {
+        return Long.toHexString(fingerprint);
+    }
+
+    // not the parsing canonical form since it drops the properties (talend metadata, logical types)
+    private static long computeFingerprint(final Schema schema) {
+        return SchemaNormalization.fingerprint64(schema.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeLong(final OutputStream outputStream, final long value) throws IOException {
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            outputStream.write((int) (value >>> shift));
+        }
     }
 
     @Override
@@ -28,6 +28,7 @@ import org.talend.sdk.component.runtime.beam.spi.record.AvroRecordBuilder;
 import org.talend.sdk.component.runtime.beam.spi.record.AvroSchemaBuilder;
 import org.talend.sdk.component.runtime.manager.service.DefaultServices;
 import org.talend.sdk.component.runtime.manager.service.record.RecordBuilderFactoryProvider;
+import org.talend.sdk.component.runtime.record.ColumnarRecordBuilderFactory;
 import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
 import org.talend.sdk.component.runtime.serialization.SerializableService;
 
@@ -42,6 +43,8 @@ public class AvroRecordBuilderFactoryProvider implements RecordBuilderFactoryPro
         case "memory":
         case "default":
             return new RecordBuilderFactoryImpl(containerId);
+        case "columnar":
+            return new ColumnarRecordBuilderFactory(containerId);
         case "avro":
             if (!hasAvroRecordBuilderFactory()) {
                 log.warn(
@@ -18,8 +18,6 @@ package org.talend.sdk.component.runtime.beam.spi.record;
 import static java.time.ZoneOffset.UTC;
 import static java.util.Optional.ofNullable;
 import static java.util.stream.Collectors.toList;
-import static org.talend.sdk.component.api.record.Schema.sanitizeConnectionName;
-import static org.talend.sdk.component.runtime.beam.avro.AvroSchemas.unwrapUnion;
 
 import java.nio.ByteBuffer;
 import java.time.ZonedDateTime;
@@ -37,7 +35,6 @@ import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.runtime.manager.service.api.Unwrappable;
 import org.talend.sdk.component.runtime.record.RecordConverters;
-import org.talend.sdk.component.runtime.record.RecordImpl;
 
 public class AvroRecord implements Record, AvroPropertyMapper, Unwrappable {
 
@@ -50,7 +47,7 @@ public class AvroRecord implements Record, AvroPropertyMapper, Unwrappable {
     private final AvroSchema schema;
 
     public AvroRecord(final IndexedRecord record) {
-        schema = new AvroSchema(record.getSchema());
+        schema = AvroSchema.of(record.getSchema());
         delegate = record;
         // dirty fix for Avro DateTime related logicalTypes converted to org.joda.time.DateTime
         delegate
@@ -75,28 +72,26 @@ public class AvroRecord implements Record, AvroPropertyMapper, Unwrappable {
         record
                 .getSchema()
                 .getAllEntries()
-                .forEach(entry -> ofNullable(record.get(Object.class, sanitizeConnectionName(entry.getName())))
-                        .ifPresent(v -> {
-                            final Object avroValue = directMapping(v);
-
-                            if (avroValue != null) {
-                                final org.apache.avro.Schema.Field field =
-                                        this.schema.getActualDelegate()
-                                                .getField(sanitizeConnectionName(entry.getName()));
-                                delegate.put(field.pos(), avroValue);
-                            }
-                        }));
+                .forEach(entry -> {
+                    final AvroSchema.FieldAccessor accessor = this.schema.getAccessor(entry.getName());
+                    ofNullable(record.get(Object.class, accessor.getName())).ifPresent(v -> {
+                        final Object avroValue = directMapping(v);
+                        if (avroValue != null) {
+                            delegate.put(accessor.getPos(), avroValue);
+                        }
+                    });
+                });
     }
 
     private Object directMapping(final Object value) {
         if (value instanceof Collection) {
             return Collection.class.cast(value).stream().map(this::directMapping).collect(toList());
         }
-        if (value instanceof RecordImpl) {
-            return new AvroRecord((Record) value).delegate;
+        if (value instanceof Unwrappable) {
+            return Unwrappable.class.cast(value).unwrap(IndexedRecord.class);
         }
         if (value instanceof Record) {
-            return Unwrappable.class.cast(value).unwrap(IndexedRecord.class);
+            return new AvroRecord((Record) value).delegate;
         }
         if (value instanceof ZonedDateTime) {
             return ZonedDateTime.class.cast(value).toInstant().toEpochMilli();
@@ -128,7 +123,7 @@ public class AvroRecord implements Record, AvroPropertyMapper, Unwrappable {
         if (expectedType == Collection.class) {
             return expectedType.cast(getArray(Object.class, name));
         }
-        return doGet(expectedType, sanitizeConnectionName(name));
+        return doGet(expectedType, name);
     }
 
     @Override
@@ -139,20 +134,71 @@ public class AvroRecord implements Record, AvroPropertyMapper, Unwrappable {
         return doGet(expectedType, entry.getName());
     }
 
+    @Override
+    public int getInt(final String name) {
+        return doGetInt(name);
+    }
+
+    @Override
+    public int getInt(final Schema.Entry entry) {
+        return doGetInt(entry.getName());
+    }
+
+    @Override
+    public long getLong(final String name) {
+        return doGetLong(name);
+    }
+
+    @Override
+    public long getLong(final Schema.Entry entry) {
+        return doGetLong(entry.getName());
+    }
+
+    @Override
+    public double getDouble(final String name) {
+        return doGetDouble(name);
+    }
+
+    @Override
+    public double getDouble(final Schema.Entry entry) {
+        return doGetDouble(entry.getName());
+    }
+
+    @Override
+    public float getFloat(final String name) {
+        return doGetFloat(name);
+    }
+
+    @Override
+    public float getFloat(final Schema.Entry entry) {
+        return doGetFloat(entry.getName());
+    }
+
+    @Override
+    public boolean getBoolean(final String name) {
+        return doGetBoolean(name);
+    }
+
+    @Override
+    public boolean getBoolean(final Schema.Entry entry) {
+        return doGetBoolean(entry.getName());
+    }
+
     @Override
     public <T> Collection<T> getArray(final Class<T> type, final String name) {
-        final String sanitizedName = sanitizeConnectionName(name);
-        return this.doGetArray(type, sanitizedName);
+        return this.doGetArray(type, name);
     }
 
-    private <T> Collection<T> doGetArray(final Class<T> type, final String sanitizedName) {
-        final Collection<?> collection = doGet(Collection.class, sanitizedName);
+    private <T> Collection<T> doGetArray(final Class<T> type, final String name) {
+        final AvroSchema.FieldAccessor accessor = schema.getAccessor(name);
+        if (accessor == null) {
+            return null;
+        }
+        final Collection<?> collection = doMap(Collection.class, accessor, delegate.get(accessor.getPos()));
         if (collection == null) {
             return null;
         }
-        final org.apache.avro.Schema elementType =
-                unwrapUnion(delegate.getSchema().getField(sanitizedName).schema()).getElementType();
-        return doMapCollection(type, collection, elementType);
+        return doMapCollection(type, collection, accessor.getItems());
     }
 
     @Override
@@ -184,23 +230,66 @@ public class AvroRecord implements Record, AvroPropertyMapper, Unwrappable {
     }
 
     private <T> Collection<T> doMapCollection(final Class<T> type, final Collection<?> collection,
-            final org.apache.avro.Schema elementType) {
+            final AvroSchema.FieldAccessor items) {
         return ofNullable(collection)
-                .map(c -> c.stream().map(item -> doMap(type, elementType, item)).collect(toList()))
+                .map(c -> c.stream().map(item -> doMap(type, items, item)).collect(toList()))
                 .orElse(null);
     }
 
+    private int doGetInt(final String name) {
+        final Object value = getRawValue(name);
+        if (Integer.class.isInstance(value)) {
+            return Integer.class.cast(value);
+        }
+        return doGet(Integer.class, name);
+    }
+
+    private long doGetLong(final String name) {
+        final Object value = getRawValue(name);
+        if (Long.class.isInstance(value)) {
+            return Long.class.cast(value);
+        }
+        return doGet(Long.class, name);
+    }
+
+    private double doGetDouble(final String name) {
+        final Object value = getRawValue(name);
+        if (Double.class.isInstance(value)) {
+            return Double.class.cast(value);
+        }
+        return doGet(Double.class, name);
+    }
+
+    private float doGetFloat(final String name) {
+        final Object value = getRawValue(name);
+        if (Float.class.isInstance(value)) {
+            return Float.class.cast(value);
+        }
+        return doGet(Float.class, name);
+    }
+
+    private boolean doGetBoolean(final String name) {
+        final Object value = getRawValue(name);
+        if (Boolean.class.isInstance(value)) {
+            return Boolean.class.cast(value);
+        }
+        return doGet(Boolean.class, name);
+    }
+
+    private Object getRawValue(final String name) {
+        final AvroSchema.FieldAccessor accessor = schema.getAccessor(name);
+        return accessor == null ? null : delegate.get(accessor.getPos());
+    }
+
     private <T> T doGet(final Class<T> expectedType, final String name) {
-        final org.apache.avro.Schema.Field field = delegate.getSchema().getField(name);
-        if (field == null) {
+        final AvroSchema.FieldAccessor accessor = schema.getAccessor(name);
+        if (accessor == null) {
             return null;
         }
-        final Object value = delegate.get(field.pos());
-        final org.apache.avro.Schema fieldSchema = field.schema();
-        return doMap(expectedType, unwrapUnion(fieldSchema), value);
+        return doMap(expectedType, accessor, delegate.get(accessor.getPos()));
     }
 
-    private <T> T doMap(final Class<T> expectedType, final org.apache.avro.Schema fieldSchemaRaw, final Object value) {
+    private <T> T doMap(final Class<T> expectedType, final AvroSchema.FieldAccessor accessor, final Object value) {
 
         if (value != null && expectedType == value.getClass() && !(value instanceof Collection)) {
             return expectedType.cast(value);
@@ -211,15 +300,13 @@ public class AvroRecord implements Record, AvroPropertyMapper, Unwrappable {
         if (value instanceof ByteBuffer && byte[].class == expectedType) {
             return expectedType.cast(ByteBuffer.class.cast(value).array());
         }
-        final org.apache.avro.Schema fieldSchema = unwrapUnion(fieldSchemaRaw);
-        if (value instanceof Long && expectedType != Long.class
-                && Boolean.parseBoolean(readProp(fieldSchema, Schema.Type.DATETIME.name()))) {
+        final org.apache.avro.Schema fieldSchema = accessor.getSchema();
+        if (value instanceof Long && expectedType != Long.class && accessor.isDatetime()) {
             return RECORD_CONVERTERS.coerce(expectedType, value, fieldSchema.getName());
         }
         if (value instanceof GenericArray && !GenericArray.class.isAssignableFrom(expectedType)) {
             final Class<?> itemType = expectedType == Collection.class ? Object.class : expectedType;
-            return expectedType
-                    .cast(doMapCollection(itemType, Collection.class.cast(value), fieldSchema.getElementType()));
+            return expectedType.cast(doMapCollection(itemType, Collection.class.cast(value), accessor.getItems()));
         }
 
         if (value instanceof org.joda.time.DateTime && ZonedDateTime.class == expectedType) {
@@ -236,15 +323,15 @@ public class AvroRecord implements Record, AvroPropertyMapper, Unwrappable {
             return expectedType.cast(value.toString());
         }
         if (Collection.class.isAssignableFrom(expectedType) && value instanceof Collection) {
-            final org.apache.avro.Schema elementType = fieldSchema.getElementType();
-            final org.apache.avro.Schema elementSchema = unwrapUnion(elementType);
+            final AvroSchema.FieldAccessor items = accessor.getItems();
+            final org.apache.avro.Schema elementSchema = items.getSchema();
             Class<?> toType = Object.class;
             if (elementSchema.getType() == org.apache.avro.Schema.Type.RECORD) {
                 toType = Record.class;
             } else if (elementSchema.getType() == org.apache.avro.Schema.Type.ARRAY) {
                 toType = Collection.class;
             }
-            final Collection<?> objects = this.doMapCollection(toType, Collection.class.cast(value), elementSchema);
+            final Collection<?> objects = this.doMapCollection(toType, Collection.class.cast(value), items);
             return expectedType.cast(objects);
         }
         return expectedType.cast(value);
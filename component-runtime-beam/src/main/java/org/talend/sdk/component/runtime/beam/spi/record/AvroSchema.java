@@ -20,15 +20,24 @@ import static java.util.Collections.emptyMap;
 import static java.util.stream.Collectors.toList;
 import static org.apache.avro.Schema.Type.NULL;
 import static org.apache.avro.Schema.Type.UNION;
+import static org.talend.sdk.component.api.record.Schema.sanitizeConnectionName;
 import static org.talend.sdk.component.runtime.beam.avro.AvroSchemas.unwrapUnion;
 import static org.talend.sdk.component.runtime.record.SchemaImpl.ENTRIES_ORDER_PROP;
 
+import java.lang.management.ManagementFactory;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.json.bind.annotation.JsonbTransient;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import org.apache.avro.LogicalTypes;
 import org.apache.avro.Schema;
@@ -36,10 +45,15 @@ import org.apache.avro.Schema.Field;
 import org.talend.sdk.component.runtime.manager.service.api.Unwrappable;
 import org.talend.sdk.component.runtime.record.SchemaImpl.EntryImpl;
 
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
 import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
 
+@Slf4j
 @Data
 @EqualsAndHashCode(of = "delegate")
 @ToString(of = "delegate")
@@ -49,13 +63,52 @@ public class AvroSchema implements org.talend.sdk.component.api.record.Schema, A
 
     private static AvroSchemaCache initCache() {
         final AvroSchemaConverter converter = new AvroSchemaConverter();
-        return new AvroSchemaCache(converter::convert);
+        final AvroSchemaCache cache = new AvroSchemaCache(converter::convert);
+        if (!Boolean.getBoolean("talend.component.manager.jmx.skip")) {
+            try {
+                ManagementFactory
+                        .getPlatformMBeanServer()
+                        .registerMBean(cache, new ObjectName("org.talend.sdk.component:type=AvroSchemaCache"));
+            } catch (final InstanceAlreadyExistsException e) {
+                // another classloader already exported its cache
+            } catch (final JMException | RuntimeException e) {
+                log.debug(e.getMessage(), e);
+            }
+        }
+        return cache;
     }
 
+    // avro readers reuse the same schema instance for all the records they decode
+    private static final Map<Schema, WeakReference<AvroSchema>> RECORD_SCHEMAS = new WeakHashMap<>();
+
+    private static volatile AvroSchema lastRecordSchema;
+
     static AvroSchema toAvroSchema(final org.talend.sdk.component.api.record.Schema schema) {
         return AvroSchema.SCHEMA_CACHE.find(schema);
     }
 
+    /**
+     * @param schema the avro schema of a record.
+     * @return a shared wrapper of this avro schema instance, keeping its field accessors for all the records.
+     */
+    static AvroSchema of(final Schema schema) {
+        final AvroSchema last = lastRecordSchema;
+        if (last != null && last.delegate == schema) {
+            return last;
+        }
+        AvroSchema found;
+        synchronized (RECORD_SCHEMAS) {
+            final WeakReference<AvroSchema> ref = RECORD_SCHEMAS.get(schema);
+            found = ref == null ? null : ref.get();
+            if (found == null || found.delegate != schema) { // equal but not the same instance
+                found = new AvroSchema(schema);
+                RECORD_SCHEMAS.put(schema, new WeakReference<>(found));
+            }
+        }
+        lastRecordSchema = found;
+        return found;
+    }
+
     @JsonbTransient
     private final Schema delegate;
 
@@ -70,6 +123,16 @@ public class AvroSchema implements org.talend.sdk.component.api.record.Schema, A
 
     private Schema actualDelegate;
 
+    @JsonbTransient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile Map<String, FieldAccessor> accessors;
+
+    @JsonbTransient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private final Map<String, FieldAccessor> accessorsByRawName = new ConcurrentHashMap<>();
+
     Schema getActualDelegate() {
         if (actualDelegate != null) {
             return actualDelegate;
@@ -134,6 +197,44 @@ public class AvroSchema implements org.talend.sdk.component.api.record.Schema, A
         return entries;
     }
 
+    /**
+     * @param name the field name, it is sanitized if it is not an avro field name.
+     * @return the precomputed access path of this field or null if it does not exist.
+     */
+    FieldAccessor getAccessor(final String name) {
+        Map<String, FieldAccessor> index = accessors;
+        if (index == null) {
+            synchronized (this) {
+                index = accessors;
+                if (index == null) {
+                    index = new HashMap<>();
+                    if (getActualDelegate().getType() == Schema.Type.RECORD) {
+                        for (final Field field : getActualDelegate().getFields()) {
+                            index.put(field.name(), new FieldAccessor(field.name(), field.pos(), field.schema()));
+                        }
+                    }
+                    accessors = index;
+                }
+            }
+        }
+        if (name == null) {
+            return null;
+        }
+        final FieldAccessor accessor = index.get(name); // avro names are not changed by the sanitization
+        if (accessor != null) {
+            return accessor;
+        }
+        final FieldAccessor sanitized = accessorsByRawName.get(name);
+        if (sanitized != null || index.isEmpty()) {
+            return sanitized;
+        }
+        final FieldAccessor found = index.get(sanitizeConnectionName(name));
+        if (found != null && accessorsByRawName.size() < index.size() * 4) { // don't grow with unknown names
+            accessorsByRawName.putIfAbsent(name, found);
+        }
+        return found;
+    }
+
     @Override
     public List<Entry> getMetadata() {
         if (getActualDelegate().getType() != Schema.Type.RECORD) {
@@ -255,4 +356,54 @@ public class AvroSchema implements org.talend.sdk.component.api.record.Schema, A
             return Type.valueOf(schema.getType().name());
         }
     }
+
+    /**
+     * Access path of a value: its position in the record, its schema without the null union
+     * and what is needed to map it without reading the schema again.
+     */
+    static final class FieldAccessor implements AvroPropertyMapper {
+
+        private final String name;
+
+        private final int pos;
+
+        private final Schema schema;
+
+        private final boolean datetime;
+
+        private final FieldAccessor items;
+
+        FieldAccessor(final String name, final int pos, final Schema raw) {
+            this.name = name;
+            this.pos = pos;
+            this.schema = unwrapUnion(raw);
+            this.datetime = schema != null && Boolean.parseBoolean(readProp(schema, Type.DATETIME.name()));
+            this.items = schema != null && schema.getType() == Schema.Type.ARRAY
+                    ? new FieldAccessor(null, -1, schema.getElementType())
+                    : null;
+        }
+
+        String getName() {
+            return name;
+        }
+
+        int getPos() {
+            return pos;
+        }
+
+        Schema getSchema() {
+            return schema;
+        }
+
+        boolean isDatetime() {
+            return datetime;
+        }
+
+        FieldAccessor getItems() {
+            if (items == null) { // not an array, fails as avro does
+                return new FieldAccessor(null, -1, schema.getElementType());
+            }
+            return items;
+        }
+    }
 }
@@ -15,28 +15,54 @@
  */
 package org.talend.sdk.component.runtime.beam.spi.record;
 
-import java.util.Comparator;
-import java.util.Map;
-import java.util.Optional;
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
 
 import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.runtime.record.SchemaImpl;
 
-import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
-@RequiredArgsConstructor
-public class AvroSchemaCache {
+/**
+ * Bounded cache of the {@link SchemaImpl} to {@link AvroSchema} conversions.
+ * Hits are lock free, eviction uses a CLOCK (second chance) policy which approximates a LRU in O(1).
+ *
+ * Its size is set by the {@code talend.component.beam.schema.cache.size} system property (default 1024).
+ */
+public class AvroSchemaCache implements AvroSchemaCacheMBean {
 
-    private static final int MAX_SIZE = 5;
+    private static final int DEFAULT_MAX_SIZE = Integer.getInteger("talend.component.beam.schema.cache.size", 1024);
 
     private final Function<SchemaImpl, AvroSchema> transform;
 
-    private final ConcurrentMap<SchemaImpl, ChronoValue> cache = new ConcurrentHashMap<>(AvroSchemaCache.MAX_SIZE);
+    @Getter
+    private final int maxSize;
+
+    private final ConcurrentMap<SchemaImpl, Node> cache;
+
+    private final Queue<Node> clock;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    public AvroSchemaCache(final Function<SchemaImpl, AvroSchema> transform) {
+        this(transform, DEFAULT_MAX_SIZE);
+    }
+
+    public AvroSchemaCache(final Function<SchemaImpl, AvroSchema> transform, final int maxSize) {
+        this.transform = transform;
+        this.maxSize = Math.max(1, maxSize);
+        this.cache = new ConcurrentHashMap<>(Math.min(this.maxSize, 64));
+        this.clock = new ArrayDeque<>(Math.min(this.maxSize, 64));
+    }
 
     public AvroSchema find(final Schema schema) {
         if (schema == null || schema instanceof AvroSchema) {
@@ -44,42 +70,74 @@ public class AvroSchemaCache {
         }
         if (schema instanceof SchemaImpl) {
             final SchemaImpl realSchema = (SchemaImpl) schema;
-            if ((!this.cache.containsKey(realSchema))
-                    && this.cache.size() >= AvroSchemaCache.MAX_SIZE) {
-                this.removeOldest();
+            final Node existing = cache.get(realSchema);
+            if (existing != null) {
+                hits.increment();
+                existing.referenced = true;
+                return existing.schema;
             }
 
-            final ChronoValue chronoValue =
-                    this.cache.computeIfAbsent(realSchema, this.transform.andThen(ChronoValue::new));
-
-            return chronoValue.getSchema();
+            misses.increment();
+            final Node created = new Node(realSchema, transform.apply(realSchema));
+            final Node previous = cache.putIfAbsent(realSchema, created);
+            if (previous != null) { // concurrent miss
+                return previous.schema;
+            }
+            synchronized (clock) {
+                clock.add(created);
+                // nodes of concurrent misses can still be missing from the clock, they are evicted by the next miss
+                while (cache.size() > maxSize && evict()) {
+                    // no-op
+                }
+            }
+            return created.schema;
         }
         return null;
     }
 
-    private synchronized void removeOldest() {
-        while (this.cache.size() >= AvroSchemaCache.MAX_SIZE) {
-            final Optional<Map.Entry<SchemaImpl, ChronoValue>> oldest = cache.entrySet() //
-                    .stream() //
-                    .min(Comparator.comparing((Map.Entry<SchemaImpl, ChronoValue> e) -> e.getValue().getLastUsage()));
-            if (oldest.isPresent()) {
-                final SchemaImpl key = oldest.get().getKey();
-                this.cache.remove(key);
+    // second chance: skip (and clear) referenced nodes, evict the first one not used since last round
+    private boolean evict() {
+        Node node;
+        while ((node = clock.poll()) != null) {
+            if (node.referenced) {
+                node.referenced = false;
+                clock.add(node);
+            } else {
+                cache.remove(node.key, node);
+                evictions.increment();
+                return true;
             }
         }
+        return false;
+    }
+
+    @Override
+    public int getSize() {
+        return cache.size();
+    }
+
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
     }
 
     @RequiredArgsConstructor
-    private static class ChronoValue {
+    private static class Node {
 
-        private final AvroSchema schema;
+        private final SchemaImpl key;
 
-        @Getter(AccessLevel.PACKAGE)
-        private Long lastUsage = System.currentTimeMillis();
+        private final AvroSchema schema;
 
-        public AvroSchema getSchema() {
-            this.lastUsage = System.currentTimeMillis();
-            return schema;
-        }
+        private volatile boolean referenced = true;
     }
 }
@@ -16,6 +16,7 @@
 package org.talend.sdk.component.runtime.beam;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
@@ -25,6 +26,9 @@ import static org.apache.ziplock.JarLocation.jarLocation;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
@@ -46,15 +50,22 @@ import javax.json.bind.JsonbBuilder;
 import org.apache.beam.runners.core.construction.UnboundedReadFromBoundedSource;
 import org.apache.beam.sdk.PipelineResult;
 import org.apache.beam.sdk.io.BoundedReadFromUnboundedSource;
+import org.apache.beam.sdk.io.BoundedSource;
+import org.apache.beam.sdk.options.PipelineOptions;
+import org.apache.beam.sdk.options.PipelineOptionsFactory;
 import org.apache.beam.sdk.testing.PAssert;
+import org.apache.beam.sdk.testing.SourceTestUtils;
 import org.apache.beam.sdk.testing.TestPipeline;
 import org.apache.beam.sdk.transforms.Create;
 import org.apache.beam.sdk.transforms.DoFn;
 import org.apache.beam.sdk.transforms.ParDo;
 import org.apache.beam.sdk.transforms.SerializableFunction;
 import org.apache.beam.sdk.values.PCollection;
+import org.apache.beam.sdk.values.PCollectionTuple;
 import org.junit.Rule;
 import org.junit.Test;
+import org.talend.sdk.component.api.processor.ElementListener;
+import org.talend.sdk.component.api.processor.OutputEmitter;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.beam.coder.JsonbCoder;
@@ -68,6 +79,7 @@ import org.talend.sdk.component.runtime.output.Branches;
 import org.talend.sdk.component.runtime.output.InputFactory;
 import org.talend.sdk.component.runtime.output.OutputFactory;
 import org.talend.sdk.component.runtime.output.Processor;
+import org.talend.sdk.component.runtime.output.ProcessorImpl;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -112,6 +124,39 @@ public class TalendIOTest implements Serializable {
         assertEquals(PipelineResult.State.DONE, pipeline.run().getState());
     }
 
+    @Test
+    public void dynamicSplit() throws Exception {
+        final BoundedSource<Record> source = new TalendIO.BoundedSourceImpl(new RangeMapper(0, 10));
+        final PipelineOptions options = PipelineOptionsFactory.create();
+        try (final BoundedSource.BoundedReader<Record> reader = source.createReader(options)) {
+            assertTrue(reader.start());
+            assertEquals("0", reader.getCurrent().getString("data"));
+            assertTrue(reader.advance());
+            assertEquals(.2, reader.getFractionConsumed(), 1e-6);
+            assertNull(reader.splitAtFraction(.1)); // already read
+
+            final BoundedSource<Record> residual = reader.splitAtFraction(.5);
+            assertNotNull(residual);
+            assertEquals(asList("5", "6", "7", "8", "9"), SourceTestUtils
+                    .readFromSource(residual, options)
+                    .stream()
+                    .map(it -> it.getString("data"))
+                    .collect(toList()));
+            assertEquals(asList("0", "1", "2", "3", "4"), SourceTestUtils
+                    .readFromSource(reader.getCurrentSource(), options)
+                    .stream()
+                    .map(it -> it.getString("data"))
+                    .collect(toList()));
+
+            final List<String> rest = new ArrayList<>();
+            while (reader.advance()) {
+                rest.add(reader.getCurrent().getString("data"));
+            }
+            assertEquals(asList("2", "3", "4"), rest);
+            assertEquals(1., reader.getFractionConsumed(), 0);
+        }
+    }
+
     @Test
     public void inputInfinite() { // ensure it stops with direct runner
         final PCollection<Record> out = pipeline.apply(TalendIO.read(new TheTestMapper() {
@@ -246,6 +291,21 @@ public class TalendIOTest implements Serializable {
         assertEquals(PipelineResult.State.DONE, pipeline.run().getState());
     }
 
+    @Test
+    public void processorChunk() {
+        final PCollection<SampleLength> out = pipeline
+                .apply(Create.of(new Sample("a"), new Sample("bb")).withCoder(JsonbCoder.of(Sample.class, PLUGIN)))
+                .apply(UUID.randomUUID().toString(), toRecord())
+                .setCoder(SchemaRegistryCoder.of())
+                .apply(new ViewsMappingTransform(emptyMap(), PLUGIN))
+                .apply(TalendFn
+                        .asFn(new ProcessorImpl("test-classes", "chunk", PLUGIN, emptyMap(), new ChunkProcessor())))
+                .setCoder(SchemaRegistryCoder.of())
+                .apply(toSampleLength());
+        PAssert.that(out.apply(UUID.randomUUID().toString(), toInt())).containsInAnyOrder(1, 2);
+        assertEquals(PipelineResult.State.DONE, pipeline.run().getState());
+    }
+
     @Test
     public void processorMulti() {
         final PCollection<SampleLength> out = pipeline
@@ -268,6 +328,38 @@ public class TalendIOTest implements Serializable {
         assertEquals(PipelineResult.State.DONE, pipeline.run().getState());
     }
 
+    @Test
+    public void processorBranches() {
+        final PCollectionTuple out = pipeline
+                .apply(Create.of(new Sample("a"), new Sample("bb")).withCoder(JsonbCoder.of(Sample.class, PLUGIN)))
+                .apply(UUID.randomUUID().toString(), toRecord())
+                .setCoder(SchemaRegistryCoder.of())
+                .apply(TalendFn.asBranchFn(new BaseTestProcessor() {
+
+                    @Override
+                    public void onNext(final InputFactory input, final OutputFactory factory) {
+                        assertNull(input.read(Branches.DEFAULT_BRANCH));
+                        final Record read = Record.class.cast(input.read("in"));
+                        final String data = read.getString("data");
+                        factory.create(data.length() == 1 ? "short" : "long").emit(read);
+                        factory.create("notConnected").emit(read);
+                    }
+                }, "in", asList("short", "long")));
+        PAssert.that(out.get(TalendFn.branch("short")).apply("short", toData())).containsInAnyOrder("a");
+        PAssert.that(out.get(TalendFn.branch("long")).apply("long", toData())).containsInAnyOrder("bb");
+        assertEquals(PipelineResult.State.DONE, pipeline.run().getState());
+    }
+
+    private ParDo.SingleOutput<Record, String> toData() {
+        return ParDo.of(new DoFn<Record, String>() {
+
+            @ProcessElement
+            public void onElement(final ProcessContext ctx) {
+                ctx.output(ctx.element().getString("data"));
+            }
+        });
+    }
+
     private ParDo.SingleOutput<SampleLength, Integer> toInt() {
         return ParDo.of(new DoFn<SampleLength, Integer>() {
 
@@ -322,6 +414,15 @@ public class TalendIOTest implements Serializable {
         private int len;
     }
 
+    public static class ChunkProcessor implements Serializable {
+
+        @ElementListener
+        public void onChunk(final Collection<Record> records,
+                @org.talend.sdk.component.api.processor.Output final OutputEmitter<Record> output) {
+            records.forEach(output::emit);
+        }
+    }
+
     private static abstract class BaseTestProcessor implements Serializable, Processor {
 
         @Override
@@ -431,6 +532,44 @@ public class TalendIOTest implements Serializable {
         }
     }
 
+    @AllArgsConstructor
+    private static class RangeMapper extends TheTestMapper {
+
+        private final int from;
+
+        private final int to;
+
+        @Override
+        public Input create() {
+            return new BaseTestInput() {
+
+                private int end = to;
+
+                private int current = from;
+
+                @Override
+                public Object next() {
+                    return current < end ? new Sample(Integer.toString(current++)) : null;
+                }
+
+                @Override
+                public double getFractionConsumed() {
+                    return (current - from) / (double) (to - from);
+                }
+
+                @Override
+                public synchronized List<Mapper> splitAtFraction(final double fraction) {
+                    final int position = from + (int) Math.round((to - from) * fraction);
+                    if (position <= current || position >= end) {
+                        return emptyList();
+                    }
+                    end = position;
+                    return asList(new RangeMapper(from, position), new RangeMapper(position, to));
+                }
+            };
+        }
+    }
+
     private static class JSONBReplacement implements Serializable {
 
         Object readResolve() throws ObjectStreamException {
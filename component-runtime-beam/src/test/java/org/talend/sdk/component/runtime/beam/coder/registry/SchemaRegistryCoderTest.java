@@ -19,17 +19,23 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 
 import javax.json.Json;
 import javax.json.JsonBuilderFactory;
 import javax.json.bind.Jsonb;
 import javax.json.bind.JsonbBuilder;
 
+import org.apache.avro.generic.IndexedRecord;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
@@ -80,6 +86,45 @@ class SchemaRegistryCoderTest {
         }
     }
 
+    @Test
+    void nullRecord() throws IOException {
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        SchemaRegistryCoder.of().encode(null, buffer);
+        assertEquals(9, buffer.size());
+
+        final Record decoded = SchemaRegistryCoder.of().decode(new ByteArrayInputStream(buffer.toByteArray()));
+        assertTrue(decoded.getSchema().getEntries().isEmpty());
+    }
+
+    @Test
+    void legacyFormat() throws IOException {
+        final Record record = new AvroRecord(new RecordImpl.BuilderImpl().withString("test", "legacy").build());
+        final org.apache.avro.Schema avro =
+                Unwrappable.class.cast(record.getSchema()).unwrap(org.apache.avro.Schema.class);
+        final String id = SchemaIdGenerator.generateRecordName(avro.getFields());
+        SchemaRegistry.Instance.get().putIfAbsent(id, record.getSchema());
+
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        buffer.write(id.getBytes(StandardCharsets.UTF_8));
+        buffer.write('\n');
+        AvroCoderCache.getCoder(avro).encode(Unwrappable.class.cast(record).unwrap(IndexedRecord.class), buffer);
+
+        final Record decoded = SchemaRegistryCoder.of().decode(new ByteArrayInputStream(buffer.toByteArray()));
+        assertEquals("legacy", decoded.getString("test"));
+    }
+
+    @Test
+    void fileRegistry(@TempDir final Path directory) throws IOException {
+        final Record record = new AvroRecord(new RecordImpl.BuilderImpl().withString("test", "data").build());
+        final Schema schema = record.getSchema();
+        new FileSchemaRegistry(directory).putIfAbsent("abc", schema);
+
+        final Schema loaded = new FileSchemaRegistry(directory).get("abc"); // another worker
+        assertEquals(Unwrappable.class.cast(schema).unwrap(org.apache.avro.Schema.class),
+                Unwrappable.class.cast(loaded).unwrap(org.apache.avro.Schema.class));
+        assertNull(new FileSchemaRegistry(directory).get("missing"));
+    }
+
     @Test
     void avoidNPE() {
         final RecordBuilderFactory factory = new AvroRecordBuilderFactoryProvider().apply("test");
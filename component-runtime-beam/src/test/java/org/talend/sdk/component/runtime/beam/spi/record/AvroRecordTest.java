@@ -23,6 +23,7 @@ import static org.junit.Assert.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.ByteArrayInputStream;
@@ -669,4 +670,27 @@ class AvroRecordTest {
         final Collection<Record> records = avrRec.getArray(Record.class, "array");
         Assertions.assertEquals(2, records.size());
     }
+
+    @Test
+    void sharedFieldAccessors() {
+        final org.apache.avro.Schema avro = new org.apache.avro.Schema.Parser()
+                .parse("{\"type\":\"record\",\"name\":\"r\",\"fields\":["
+                        + "{\"name\":\"my_name\",\"type\":[\"null\",\"string\"]},"
+                        + "{\"name\":\"values\",\"type\":{\"type\":\"array\",\"items\":\"int\"}}]}");
+        final GenericData.Record first = new GenericData.Record(avro);
+        first.put(0, new Utf8("first"));
+        first.put(1, asList(1, 2));
+        final GenericData.Record second = new GenericData.Record(avro);
+        second.put(0, new Utf8("second"));
+        second.put(1, singletonList(3));
+
+        final AvroRecord firstRecord = new AvroRecord(first);
+        final AvroRecord secondRecord = new AvroRecord(second);
+        assertSame(firstRecord.getSchema(), secondRecord.getSchema());
+        assertEquals("first", firstRecord.getString("my_name"));
+        assertEquals("second", secondRecord.getString("my-name")); // sanitized to my_name
+        assertEquals(asList(1, 2), firstRecord.getArray(Integer.class, "values"));
+        assertEquals(singletonList(3L), secondRecord.getArray(Long.class, "values"));
+        assertNull(firstRecord.getString("missing"));
+    }
 }
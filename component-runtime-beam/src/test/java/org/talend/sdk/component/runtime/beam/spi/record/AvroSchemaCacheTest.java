@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.talend.sdk.component.api.record.Schema;
 import org.talend.sdk.component.runtime.record.SchemaImpl;
 
+import java.lang.reflect.Field;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -57,6 +58,45 @@ class AvroSchemaCacheTest {
         this.treat(s7);
     }
 
+    @Test
+    void boundedWithMetrics() {
+        final AvroSchemaCache bounded = new AvroSchemaCache(converter::convert, 3);
+        final List<SchemaImpl> schemas = this.provideSchemas();
+        schemas.forEach(bounded::find);
+        Assertions.assertEquals(3, bounded.getSize());
+        Assertions.assertEquals(schemas.size(), bounded.getHits() + bounded.getMisses());
+        Assertions.assertEquals(bounded.getMisses() - 3, bounded.getEvictions());
+
+        // last inserted entry is still there
+        final long hits = bounded.getHits();
+        bounded.find(schemas.get(schemas.size() - 1));
+        Assertions.assertEquals(hits + 1, bounded.getHits());
+    }
+
+    @Test
+    void concurrentMissesOverMaxSize() throws Exception {
+        final AvroSchemaCache bounded = new AvroSchemaCache(converter::convert, 1);
+        final Field clockField = AvroSchemaCache.class.getDeclaredField("clock");
+        clockField.setAccessible(true);
+        final Object clock = clockField.get(bounded);
+        final List<SchemaImpl> schemas = this.provideSchemas().subList(0, 3);
+        final List<Thread> threads;
+        synchronized (clock) { // all misses are inserted in the cache before any is added to the clock
+            threads = schemas.stream().map(s -> new Thread(() -> bounded.find(s))).collect(Collectors.toList());
+            threads.forEach(Thread::start);
+            final long end = System.currentTimeMillis() + 30_000L;
+            while (bounded.getSize() < schemas.size() && System.currentTimeMillis() < end) {
+                Thread.sleep(10);
+            }
+            Assertions.assertEquals(schemas.size(), bounded.getSize());
+        }
+        for (final Thread thread : threads) {
+            thread.join(30_000L);
+            Assertions.assertFalse(thread.isAlive());
+        }
+        Assertions.assertEquals(1, bounded.getSize());
+    }
+
     private void treat(final SchemaImpl schema) {
         final AvroSchema avroSchema = this.cache.find(schema);
         Assertions.assertNotNull(avroSchema);
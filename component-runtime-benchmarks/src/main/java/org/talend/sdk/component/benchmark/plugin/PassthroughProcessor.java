@@ -0,0 +1,43 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.benchmark.plugin;
+
+import java.io.Serializable;
+
+import org.talend.sdk.component.api.processor.AfterGroup;
+import org.talend.sdk.component.api.processor.BeforeGroup;
+import org.talend.sdk.component.api.processor.ElementListener;
+import org.talend.sdk.component.api.processor.Processor;
+import org.talend.sdk.component.api.record.Record;
+
+@Processor(name = "passthrough")
+public class PassthroughProcessor implements Serializable {
+
+    @BeforeGroup
+    public void beforeGroup() {
+        // no-op
+    }
+
+    @ElementListener
+    public Record onElement(final Record record) {
+        return record;
+    }
+
+    @AfterGroup
+    public void afterGroup() {
+        // no-op
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * Component deployed by the benchmarks, it is outside of the runtime packages
+ * which are loaded from the parent classloader by the containers.
+ */
+@Components(family = "benchmark")
+package org.talend.sdk.component.benchmark.plugin;
+
+import org.talend.sdk.component.api.component.Components;
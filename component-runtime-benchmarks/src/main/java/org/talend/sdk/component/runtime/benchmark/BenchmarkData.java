@@ -0,0 +1,91 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.beam.spi.AvroRecordBuilderFactoryProvider;
+import org.talend.sdk.component.runtime.record.ColumnarRecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data shared by the benchmarks: flat schemas of a given width cycling over the primitive types.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class BenchmarkData {
+
+    private static final Schema.Type[] TYPES = { Schema.Type.STRING, Schema.Type.INT, Schema.Type.LONG,
+            Schema.Type.DOUBLE, Schema.Type.BOOLEAN };
+
+    static RecordBuilderFactory factory(final String name) {
+        switch (name) {
+        case "default":
+            return new RecordBuilderFactoryImpl("benchmark");
+        case "columnar":
+            return new ColumnarRecordBuilderFactory("benchmark");
+        case "avro":
+            return new AvroRecordBuilderFactoryProvider().apply("benchmark");
+        default:
+            throw new IllegalArgumentException("Unknown factory: '" + name + "'");
+        }
+    }
+
+    static Schema schema(final RecordBuilderFactory factory, final int width) {
+        final Schema.Builder builder = factory.newSchemaBuilder(Schema.Type.RECORD);
+        for (int i = 0; i < width; i++) {
+            builder
+                    .withEntry(factory
+                            .newEntryBuilder()
+                            .withName("field" + i)
+                            .withType(TYPES[i % TYPES.length])
+                            .withNullable(false)
+                            .build());
+        }
+        return builder.build();
+    }
+
+    static Record record(final RecordBuilderFactory factory, final Schema schema, final int seed) {
+        final Record.Builder builder = factory.newRecordBuilder(schema);
+        int index = 0;
+        for (final Schema.Entry entry : schema.getEntries()) {
+            final int value = seed + index++;
+            switch (entry.getType()) {
+            case STRING:
+                builder.withString(entry, "value-" + value);
+                break;
+            case INT:
+                builder.withInt(entry, value);
+                break;
+            case LONG:
+                builder.withLong(entry, value * 1_000_000L);
+                break;
+            case DOUBLE:
+                builder.withDouble(entry, value / 3.);
+                break;
+            case BOOLEAN:
+                builder.withBoolean(entry, value % 2 == 0);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported type: " + entry.getType());
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import org.talend.sdk.component.benchmark.plugin.PassthroughProcessor;
+import org.talend.sdk.component.runtime.manager.ComponentManager;
+
+import lombok.Getter;
+
+/**
+ * A component manager with the benchmark plugin deployed, it gives access to the services as seen by the components.
+ */
+final class BenchmarkPlugin implements AutoCloseable {
+
+    private final Path root;
+
+    @Getter
+    private final Path jar;
+
+    @Getter
+    private final ComponentManager manager;
+
+    @Getter
+    private final String id;
+
+    BenchmarkPlugin(final boolean deploy) {
+        try {
+            root = Files.createTempDirectory("talend-component-benchmark-");
+            jar = createJar(root.resolve("benchmark-plugin.jar"));
+            Files.createDirectories(root.resolve("m2"));
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        manager = new ComponentManager(root.resolve("m2"), "TALEND-INF/dependencies.txt", null);
+        id = deploy ? manager.addPlugin(jar.toString()) : null;
+    }
+
+    <T> T getService(final Class<T> type) {
+        return type
+                .cast(manager
+                        .findPlugin(id)
+                        .orElseThrow(() -> new IllegalStateException("No plugin " + id))
+                        .get(ComponentManager.AllServices.class)
+                        .getServices()
+                        .get(type));
+    }
+
+    @Override
+    public void close() {
+        manager.close();
+        try (final Stream<Path> files = Files.walk(root)) {
+            files.sorted(Comparator.reverseOrder()).forEach(it -> {
+                try {
+                    Files.delete(it);
+                } catch (final IOException e) {
+                    it.toFile().deleteOnExit();
+                }
+            });
+        } catch (final IOException e) {
+            // best effort, it is a temporary folder
+        }
+    }
+
+    private static Path createJar(final Path jar) throws IOException {
+        final ClassLoader loader = BenchmarkPlugin.class.getClassLoader();
+        final String pkg = PassthroughProcessor.class.getPackage().getName().replace('.', '/') + '/';
+        try (final JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("TALEND-INF/dependencies.txt"));
+            out.closeEntry();
+            for (final String name : new String[] { "package-info.class",
+                    PassthroughProcessor.class.getSimpleName() + ".class" }) {
+                out.putNextEntry(new JarEntry(pkg + name));
+                try (final InputStream stream = loader.getResourceAsStream(pkg + name)) {
+                    copy(stream, out);
+                }
+                out.closeEntry();
+            }
+        }
+        return jar;
+    }
+
+    private static void copy(final InputStream from, final OutputStream to) throws IOException {
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = from.read(buffer)) >= 0) {
+            to.write(buffer, 0, read);
+        }
+    }
+}
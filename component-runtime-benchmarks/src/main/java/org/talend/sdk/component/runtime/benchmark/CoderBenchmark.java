@@ -0,0 +1,67 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.apache.beam.sdk.coders.Coder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.beam.coder.record.FullSerializationRecordCoder;
+import org.talend.sdk.component.runtime.beam.coder.registry.SchemaRegistryCoder;
+
+/**
+ * Beam coders used to exchange records between the pipeline steps.
+ */
+public class CoderBenchmark extends BaseBenchmark {
+
+    @Param({ "registry", "full" })
+    private String coder;
+
+    @Param({ "5", "20", "100" })
+    private int width;
+
+    private Coder<Record> recordCoder;
+
+    private Record record;
+
+    private byte[] encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        recordCoder = "full".equals(coder) ? FullSerializationRecordCoder.of() : SchemaRegistryCoder.of();
+        final RecordBuilderFactory factory = BenchmarkData.factory("avro");
+        record = BenchmarkData.record(factory, BenchmarkData.schema(factory, width), 0);
+        encoded = encode();
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(encoded == null ? 512 : encoded.length);
+        recordCoder.encode(record, out);
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public Record decode() throws IOException {
+        return recordCoder.decode(new ByteArrayInputStream(encoded));
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static java.util.Arrays.asList;
+
+import java.util.List;
+
+import javax.json.JsonBuilderFactory;
+import javax.json.JsonObject;
+import javax.json.bind.Jsonb;
+import javax.json.spi.JsonProvider;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.RecordConverters;
+
+import lombok.Data;
+
+/**
+ * POJO, record and JSON-P conversions done by the runtime between components,
+ * the services are the ones of a deployed plugin.
+ */
+public class ConversionBenchmark extends BaseBenchmark {
+
+    private final RecordConverters converters = new RecordConverters();
+
+    private final RecordConverters.MappingMetaRegistry registry = new RecordConverters.MappingMetaRegistry();
+
+    private BenchmarkPlugin plugin;
+
+    private Jsonb jsonb;
+
+    private RecordBuilderFactory recordBuilderFactory;
+
+    private JsonBuilderFactory jsonBuilderFactory;
+
+    private JsonProvider jsonProvider;
+
+    private Person pojo;
+
+    private Record record;
+
+    private JsonObject json;
+
+    @Setup
+    public void setup() {
+        plugin = new BenchmarkPlugin(true);
+        jsonb = plugin.getService(Jsonb.class);
+        recordBuilderFactory = plugin.getService(RecordBuilderFactory.class);
+        jsonBuilderFactory = plugin.getService(JsonBuilderFactory.class);
+        jsonProvider = plugin.getService(JsonProvider.class);
+
+        final Address address = new Address();
+        address.setStreet("1 main street");
+        address.setCity("Nantes");
+        pojo = new Person();
+        pojo.setName("bob");
+        pojo.setAge(35);
+        pojo.setId(1234567890123L);
+        pojo.setSalary(1234.5);
+        pojo.setActive(true);
+        pojo.setTags(asList("a", "b", "c"));
+        pojo.setAddress(address);
+
+        record = pojoToRecord();
+        json = recordToJson();
+    }
+
+    @TearDown
+    public void tearDown() {
+        plugin.close();
+    }
+
+    @Benchmark
+    public Record pojoToRecord() {
+        return converters.toRecord(registry, pojo, () -> jsonb, () -> recordBuilderFactory);
+    }
+
+    @Benchmark
+    public JsonObject recordToJson() {
+        return JsonObject.class
+                .cast(converters
+                        .toType(registry, record, JsonObject.class, () -> jsonBuilderFactory, () -> jsonProvider,
+                                () -> jsonb, () -> recordBuilderFactory));
+    }
+
+    @Benchmark
+    public Record jsonToRecord() {
+        return converters.toRecord(registry, json, () -> jsonb, () -> recordBuilderFactory);
+    }
+
+    @Benchmark
+    public Person recordToPojo() {
+        return Person.class
+                .cast(converters
+                        .toType(registry, record, Person.class, () -> jsonBuilderFactory, () -> jsonProvider,
+                                () -> jsonb, () -> recordBuilderFactory));
+    }
+
+    @Data
+    public static class Person {
+
+        private String name;
+
+        private int age;
+
+        private long id;
+
+        private double salary;
+
+        private boolean active;
+
+        private List<String> tags;
+
+        private Address address;
+    }
+
+    @Data
+    public static class Address {
+
+        private String street;
+
+        private String city;
+    }
+}
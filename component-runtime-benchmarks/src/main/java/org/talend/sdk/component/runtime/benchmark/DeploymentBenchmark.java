@@ -0,0 +1,66 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to deploy a plugin (container creation, scanning and component model) in a component manager.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 10)
+@Measurement(iterations = 30)
+public class DeploymentBenchmark extends BaseBenchmark {
+
+    private BenchmarkPlugin plugin;
+
+    private String id;
+
+    @Setup
+    public void setup() {
+        plugin = new BenchmarkPlugin(false);
+    }
+
+    @TearDown
+    public void tearDown() {
+        plugin.close();
+    }
+
+    @TearDown(Level.Invocation)
+    public void undeploy() {
+        if (id != null) {
+            plugin.getManager().removePlugin(id);
+            id = null;
+        }
+    }
+
+    @Benchmark
+    public String addPlugin() {
+        id = plugin.getManager().addPlugin(plugin.getJar().toString());
+        return id;
+    }
+}
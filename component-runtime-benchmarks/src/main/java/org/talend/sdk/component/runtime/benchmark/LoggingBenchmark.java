@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Throughput of the {@code slf4j-standard} binding when several threads log concurrently,
+ * {@code sync} is the default mode and the other values use the asynchronous writer with the related overflow policy.
+ * The standard output is discarded so only the logging overhead is measured.
+ */
+@Threads(4)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class LoggingBenchmark extends BaseBenchmark {
+
+    private static final String ASYNC = "org.talend.sdk.component.slf4j.StdLogger.async";
+
+    @Param({ "sync", "block", "drop" })
+    private String mode;
+
+    private PrintStream stdout;
+
+    private Logger logger;
+
+    private final Object value = "benchmark";
+
+    @Setup
+    public void setup() {
+        if (!"sync".equals(mode)) { // each param runs in its own fork so the binding is not yet initialized
+            System.setProperty(ASYNC, "true");
+            System.setProperty(ASYNC + ".overflow", mode);
+        }
+        stdout = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+
+            @Override
+            public void write(final int b) {
+                // no-op
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                // no-op
+            }
+        }));
+        logger = LoggerFactory.getLogger(LoggingBenchmark.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setOut(stdout);
+    }
+
+    @Benchmark
+    public void info() {
+        logger.info("Processed record {}", value);
+    }
+}
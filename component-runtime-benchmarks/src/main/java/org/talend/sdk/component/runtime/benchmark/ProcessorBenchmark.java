@@ -0,0 +1,87 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.nCopies;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.benchmark.plugin.PassthroughProcessor;
+import org.talend.sdk.component.runtime.manager.chain.AutoChunkProcessor;
+import org.talend.sdk.component.runtime.output.InputFactory;
+import org.talend.sdk.component.runtime.output.OutputFactory;
+import org.talend.sdk.component.runtime.output.ProcessorImpl;
+
+/**
+ * Dispatch of the records to a processor as done by the local job executors,
+ * {@code maxBatchSize=1} is the behavior without {@code $maxBatchSize} (one group per record).
+ */
+public class ProcessorBenchmark extends BaseBenchmark {
+
+    private static final int CHUNK = 1000;
+
+    @Param({ "1", "1000" })
+    private int maxBatchSize;
+
+    private AutoChunkProcessor processor;
+
+    private InputFactory input;
+
+    private List<InputFactory> chunk;
+
+    private OutputFactory output;
+
+    private Object emitted;
+
+    @Setup
+    public void setup() {
+        final RecordBuilderFactory factory = BenchmarkData.factory("default");
+        final Record record = BenchmarkData.record(factory, BenchmarkData.schema(factory, 20), 0);
+        input = name -> record;
+        chunk = nCopies(CHUNK, input);
+        output = name -> value -> emitted = value;
+        processor = new AutoChunkProcessor(maxBatchSize, new ProcessorImpl("benchmark", "passthrough", "benchmark",
+                emptyMap(), new PassthroughProcessor()));
+        processor.start();
+    }
+
+    @TearDown
+    public void tearDown() {
+        processor.flush(output);
+        processor.stop();
+    }
+
+    @Benchmark
+    public Object onElement() {
+        processor.onElement(input, output);
+        return emitted;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(CHUNK)
+    public Object onElements() {
+        processor.onElements(chunk, output);
+        return emitted;
+    }
+}
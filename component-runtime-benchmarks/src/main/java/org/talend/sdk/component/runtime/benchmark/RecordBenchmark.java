@@ -0,0 +1,88 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+/**
+ * Builds and reads flat records for each record implementation.
+ */
+public class RecordBenchmark extends BaseBenchmark {
+
+    @Param({ "default", "columnar", "avro" })
+    private String factory;
+
+    @Param({ "5", "20", "100" })
+    private int width;
+
+    private RecordBuilderFactory recordBuilderFactory;
+
+    private Schema schema;
+
+    private List<Schema.Entry> entries;
+
+    private Record record;
+
+    @Setup
+    public void setup() {
+        recordBuilderFactory = BenchmarkData.factory(factory);
+        schema = BenchmarkData.schema(recordBuilderFactory, width);
+        entries = schema.getEntries();
+        record = BenchmarkData.record(recordBuilderFactory, schema, 0);
+    }
+
+    @Benchmark
+    public Record build() {
+        return BenchmarkData.record(recordBuilderFactory, schema, width);
+    }
+
+    @Benchmark
+    public void readByName(final Blackhole blackhole) {
+        for (final Schema.Entry entry : entries) {
+            blackhole.consume(record.get(Object.class, entry.getName()));
+        }
+    }
+
+    @Benchmark
+    public void readTypedByEntry(final Blackhole blackhole) {
+        for (final Schema.Entry entry : entries) {
+            switch (entry.getType()) {
+            case STRING:
+                blackhole.consume(record.getString(entry.getName()));
+                break;
+            case INT:
+                blackhole.consume(record.getInt(entry));
+                break;
+            case LONG:
+                blackhole.consume(record.getLong(entry));
+                break;
+            case DOUBLE:
+                blackhole.consume(record.getDouble(entry));
+                break;
+            default:
+                blackhole.consume(record.getBoolean(entry));
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static java.util.stream.Collectors.joining;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.JsonReader;
+import javax.json.JsonValue;
+
+import lombok.Data;
+
+/**
+ * Compares two JMH json results (the {@code -rf json} output): {@code baseline.json candidate.json [threshold%]}.
+ *
+ * A benchmark is reported as a regression (or an improvement) when its score changed by more than the threshold
+ * (5% by default) and the error intervals of both runs do not overlap.
+ * It fails with an exception when at least one regression is found so it can be used to gate a build,
+ * it does not call {@link System#exit(int)} since it runs in the Maven JVM with {@code exec:java}.
+ */
+public final class ResultComparison {
+
+    private ResultComparison() {
+        // no-op
+    }
+
+    public static void main(final String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: ResultComparison <baseline.json> <candidate.json> [threshold%]");
+        }
+        final double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 5;
+        final int regressions = compare(load(Paths.get(args[0])), load(Paths.get(args[1])), threshold, System.out);
+        if (regressions > 0) {
+            throw new IllegalStateException(regressions + " benchmark regression(s) found");
+        }
+    }
+
+    static int compare(final Map<String, Score> baseline, final Map<String, Score> candidate, final double threshold,
+            final PrintStream out) {
+        int regressions = 0;
+        out.printf(Locale.ROOT, "%-90s %18s %18s %9s  %s%n", "Benchmark", "Baseline", "Candidate", "Change", "");
+        for (final Map.Entry<String, Score> entry : candidate.entrySet()) {
+            final Score after = entry.getValue();
+            final Score before = baseline.get(entry.getKey());
+            if (before == null) {
+                out.printf(Locale.ROOT, "%-90s %18s %18s %9s  %s%n", entry.getKey(), "-", after, "", "new");
+                continue;
+            }
+            final double change =
+                    before.getScore() == 0 ? 0 : (after.getScore() - before.getScore()) / before.getScore();
+            final boolean significant = Math.abs(change) * 100 > threshold
+                    && Math.abs(after.getScore() - before.getScore()) > after.getError() + before.getError();
+            final boolean better = after.isHigherIsBetter() ? change > 0 : change < 0;
+            final String verdict = !significant ? "" : better ? "improvement" : "REGRESSION";
+            if (significant && !better) {
+                regressions++;
+            }
+            out
+                    .printf(Locale.ROOT, "%-90s %18s %18s %+8.2f%%  %s%n", entry.getKey(), before, after, change * 100,
+                            verdict);
+        }
+        baseline
+                .keySet()
+                .stream()
+                .filter(it -> !candidate.containsKey(it))
+                .forEach(it -> out.printf(Locale.ROOT, "%-90s %18s %18s %9s  %s%n", it, baseline.get(it), "-", "",
+                        "removed"));
+        out.printf(Locale.ROOT, "%d regression(s) over %.1f%%%n", regressions, threshold);
+        return regressions;
+    }
+
+    static Map<String, Score> load(final Path result) throws IOException {
+        try (final Reader reader = Files.newBufferedReader(result); final JsonReader json = Json.createReader(reader)) {
+            final Map<String, Score> scores = new TreeMap<>();
+            json.readArray().stream().map(JsonValue::asJsonObject).forEach(benchmark -> {
+                final JsonObject metric = benchmark.getJsonObject("primaryMetric");
+                final String error = metric.get("scoreError").toString(); // NaN is serialized as a string
+                scores
+                        .put(key(benchmark),
+                                new Score(metric.getJsonNumber("score").doubleValue(),
+                                        error.startsWith("\"") ? 0 : Double.parseDouble(error),
+                                        metric.getString("scoreUnit"), "thrpt".equals(benchmark.getString("mode"))));
+            });
+            return scores;
+        }
+    }
+
+    private static String key(final JsonObject benchmark) {
+        final String name = benchmark.getString("benchmark");
+        final String shortName = name.substring(name.lastIndexOf('.', name.lastIndexOf('.') - 1) + 1);
+        if (!benchmark.containsKey("params")) {
+            return shortName;
+        }
+        return shortName + benchmark
+                .getJsonObject("params")
+                .entrySet()
+                .stream()
+                .map(it -> it.getKey() + '=' + it.getValue().toString().replace("\"", ""))
+                .sorted()
+                .collect(joining(",", "(", ")"));
+    }
+
+    @Data
+    static class Score {
+
+        private final double score;
+
+        private final double error;
+
+        private final String unit;
+
+        private final boolean higherIsBetter;
+
+        @Override
+        public String toString() {
+            return String.format(Locale.ROOT, "%.3f %s", score, unit);
+        }
+    }
+}
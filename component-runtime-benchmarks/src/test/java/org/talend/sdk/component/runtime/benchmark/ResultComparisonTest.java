@@ -0,0 +1,63 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.benchmark;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ResultComparisonTest {
+
+    @Test
+    void compare(@TempDir final Path dir) throws IOException {
+        final Map<String, ResultComparison.Score> baseline = ResultComparison
+                .load(write(dir.resolve("baseline.json"), result("avgt", 100, 1) + ',' + result("thrpt", 100, 1)));
+        final Map<String, ResultComparison.Score> candidate = ResultComparison
+                .load(write(dir.resolve("candidate.json"), result("avgt", 120, 1) + ',' + result("thrpt", 120, 1)));
+        assertEquals(2, candidate.size());
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (final PrintStream stream = new PrintStream(out, true, "UTF-8")) {
+            // slower average time is a regression, higher throughput is an improvement
+            assertEquals(1, ResultComparison.compare(baseline, candidate, 5, stream));
+            assertEquals(0, ResultComparison.compare(baseline, candidate, 25, stream));
+        }
+        final String report = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        assertTrue(report.contains("RecordBenchmark.build(factory=default,width=5)"), report);
+        assertTrue(report.contains("REGRESSION"), report);
+        assertTrue(report.contains("improvement"), report);
+    }
+
+    private Path write(final Path file, final String content) throws IOException {
+        return Files.write(file, ('[' + content + ']').getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String result(final String mode, final double score, final double error) {
+        return "{\"benchmark\":\"org.talend.sdk.component.runtime.benchmark.RecordBenchmark.build" + mode
+                .replace("avgt", "") + "\",\"mode\":\"" + mode + "\",\"params\":{\"width\":\"5\",\"factory\":\"default\"},"
+                + "\"primaryMetric\":{\"score\":" + score + ",\"scoreError\":" + error + ",\"scoreUnit\":\"ns/op\"}}";
+    }
+}
@@ -26,6 +26,7 @@ import java.util.stream.Stream;
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
+import org.talend.sdk.component.runtime.reflect.MethodInvoker;
 import org.talend.sdk.component.runtime.serialization.ContainerFinder;
 
 // base class to handle postconstruct/predestroy
@@ -90,6 +91,33 @@ public class LifecycleImpl extends Named implements Lifecycle {
         }
     }
 
+    protected Object doInvoke(final MethodInvoker invoker) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader oldLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(findLoader());
+        try {
+            return invoker.invoke();
+        } finally {
+            thread.setContextClassLoader(oldLoader);
+        }
+    }
+
+    protected Object doInvoke(final MethodInvoker invoker, final Object[] args) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader oldLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(findLoader());
+        try {
+            return invoker.invoke(args);
+        } finally {
+            thread.setContextClassLoader(oldLoader);
+        }
+    }
+
+    // binds the method to the delegate once, prefer it to doInvoke(Method) for methods called per record
+    protected MethodInvoker toInvoker(final Method method) {
+        return new MethodInvoker(delegate, method);
+    }
+
     // mainly done by instance to avoid to rely on a registry maybe not initialized
     // after serialization
     protected Stream<Method> findMethods(final Class<? extends Annotation> marker) {
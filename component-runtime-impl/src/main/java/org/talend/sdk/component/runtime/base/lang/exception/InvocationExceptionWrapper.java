@@ -37,6 +37,18 @@ public class InvocationExceptionWrapper {
         return mapException(e.getTargetException(), visited);
     }
 
+    /**
+     * Same as {@link #toRuntimeException(InvocationTargetException)} for an exception thrown by the invoked method
+     * itself, typically through a method handle.
+     *
+     * @param e the exception thrown by the invoked method.
+     */
+    public static RuntimeException toRuntimeException(final Throwable e) {
+        final Set<Throwable> visited = new HashSet<>();
+        visited.add(e);
+        return mapException(e, visited);
+    }
+
     private static RuntimeException mapException(final Throwable targetException, final Collection<Throwable> visited) {
         if (targetException == null) {
             return null;
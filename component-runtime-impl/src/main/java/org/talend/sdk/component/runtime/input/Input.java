@@ -15,10 +15,31 @@
  */
 package org.talend.sdk.component.runtime.input;
 
+import static java.util.Collections.emptyList;
+
+import java.util.List;
+
 import org.talend.sdk.component.runtime.base.Lifecycle;
 
 public interface Input extends Lifecycle {
 
     Object next();
 
+    /**
+     * @return the fraction of the partition already read (between 0 and 1) or a negative value if unknown.
+     */
+    default double getFractionConsumed() {
+        return -1;
+    }
+
+    /**
+     * Splits the partition being read at the requested fraction.
+     *
+     * @param fraction the fraction of the partition where the split is requested.
+     * @return the primary mapper (what this input now reads) and the residual one
+     * or an empty list if the split is not supported or refused.
+     */
+    default List<Mapper> splitAtFraction(final double fraction) {
+        return emptyList();
+    }
 }
@@ -15,30 +15,39 @@
  */
 package org.talend.sdk.component.runtime.input;
 
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
 
 import javax.json.bind.Jsonb;
 
+import org.talend.sdk.component.api.input.DynamicSplit;
 import org.talend.sdk.component.api.input.Producer;
+import org.talend.sdk.component.api.input.Progress;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.base.Delegated;
 import org.talend.sdk.component.runtime.base.LifecycleImpl;
 import org.talend.sdk.component.runtime.record.RecordConverters;
+import org.talend.sdk.component.runtime.reflect.MethodInvoker;
 import org.talend.sdk.component.runtime.serialization.ContainerFinder;
 import org.talend.sdk.component.runtime.serialization.EnhancedObjectInputStream;
 import org.talend.sdk.component.runtime.serialization.LightContainer;
 
 import lombok.AllArgsConstructor;
+import lombok.Setter;
 
 public class InputImpl extends LifecycleImpl implements Input, Delegated {
 
-    private transient Method next;
+    private transient MethodInvoker next;
 
     private transient RecordConverters converters;
 
@@ -48,6 +57,16 @@ public class InputImpl extends LifecycleImpl implements Input, Delegated {
 
     private transient RecordBuilderFactory recordBuilderFactory;
 
+    private transient volatile MethodInvoker progress;
+
+    private transient volatile MethodInvoker dynamicSplit;
+
+    private transient volatile boolean rebalancingInitialized;
+
+    // wraps the partition mappers returned by the @DynamicSplit method, set by the mapper creating this input
+    @Setter
+    private transient Function<Serializable, Mapper> mapperFactory;
+
     public InputImpl(final String rootName, final String name, final String plugin, final Serializable instance) {
         super(instance, rootName, name, plugin);
     }
@@ -60,8 +79,16 @@ public class InputImpl extends LifecycleImpl implements Input, Delegated {
     public Object next() {
         if (next == null) {
             init();
+            initRebalancing();
+        }
+        final Object record;
+        if (dynamicSplit == null) {
+            record = readNext();
+        } else {
+            synchronized (delegate) { // @DynamicSplit never runs concurrently to the producer
+                record = readNext();
+            }
         }
-        final Object record = readNext();
         if (record == null) {
             return null;
         }
@@ -73,17 +100,60 @@ public class InputImpl extends LifecycleImpl implements Input, Delegated {
         return converters.toRecord(registry, record, this::jsonb, this::recordBuilderFactory);
     }
 
+    @Override
+    public double getFractionConsumed() {
+        initRebalancing();
+        if (progress == null) {
+            return -1;
+        }
+        return Number.class.cast(doInvoke(progress)).doubleValue();
+    }
+
+    @Override
+    public List<Mapper> splitAtFraction(final double fraction) {
+        initRebalancing();
+        if (dynamicSplit == null || mapperFactory == null) {
+            return emptyList();
+        }
+        final Object result;
+        synchronized (delegate) {
+            result = doInvoke(dynamicSplit, new Object[] { fraction });
+        }
+        if (result == null || Collection.class.cast(result).isEmpty()) {
+            return emptyList();
+        }
+        final Collection<?> mappers = Collection.class.cast(result);
+        if (mappers.size() != 2) {
+            throw new IllegalStateException(
+                    "@DynamicSplit must return the primary and residual partition mappers, got " + mappers);
+        }
+        return mappers.stream().map(Serializable.class::cast).map(mapperFactory).collect(toList());
+    }
+
     @Override
     public Object getDelegate() {
         return delegate;
     }
 
+    private void initRebalancing() {
+        if (rebalancingInitialized) {
+            return;
+        }
+        synchronized (this) {
+            if (!rebalancingInitialized) {
+                progress = findMethods(Progress.class).findFirst().map(this::toInvoker).orElse(null);
+                dynamicSplit = findMethods(DynamicSplit.class).findFirst().map(this::toInvoker).orElse(null);
+                rebalancingInitialized = true;
+            }
+        }
+    }
+
     protected Object readNext() {
         return doInvoke(this.next);
     }
 
     protected void init() {
-        next = findMethods(Producer.class).findFirst().get();
+        next = toInvoker(findMethods(Producer.class).findFirst().get());
         converters = new RecordConverters();
         registry = new RecordConverters.MappingMetaRegistry();
     }
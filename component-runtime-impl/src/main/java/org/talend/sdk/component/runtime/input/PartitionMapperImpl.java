@@ -25,7 +25,6 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.lang.reflect.Method;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -38,6 +37,7 @@ import org.talend.sdk.component.api.input.Split;
 import org.talend.sdk.component.api.service.configuration.LocalConfiguration;
 import org.talend.sdk.component.runtime.base.Delegated;
 import org.talend.sdk.component.runtime.base.LifecycleImpl;
+import org.talend.sdk.component.runtime.reflect.MethodInvoker;
 import org.talend.sdk.component.runtime.serialization.ContainerFinder;
 import org.talend.sdk.component.runtime.serialization.EnhancedObjectInputStream;
 
@@ -51,11 +51,11 @@ public class PartitionMapperImpl extends LifecycleImpl implements Mapper, Delega
 
     private boolean stream;
 
-    private transient Method assessor;
+    private transient MethodInvoker assessor;
 
-    private transient Method split;
+    private transient MethodInvoker split;
 
-    private transient Method inputFactory;
+    private transient MethodInvoker inputFactory;
 
     private transient Function<Long, Object[]> splitArgSupplier;
 
@@ -92,14 +92,15 @@ public class PartitionMapperImpl extends LifecycleImpl implements Mapper, Delega
     @Override
     public Input create() {
         lazyInit();
-        // note: we can surely mutualize/cache the reflection a bit here but let's wait
-        // to see it is useful before doing it,
-        // java 7/8 made enough progress to probably make it smooth OOTB
         final Serializable input = Serializable.class.cast(doInvoke(inputFactory));
         if (isStream()) {
             return new StreamingInputImpl(rootName(), inputName, plugin(), input, loadRetryConfiguration());
         }
-        return new InputImpl(rootName(), inputName, plugin(), input);
+        final InputImpl impl = new InputImpl(rootName(), inputName, plugin(), input);
+        impl
+                .setMapperFactory(
+                        mapper -> new PartitionMapperImpl(rootName(), name(), inputName, plugin(), false, mapper));
+        return impl;
     }
 
     private StreamingInputImpl.RetryConfiguration loadRetryConfiguration() {
@@ -163,15 +164,16 @@ public class PartitionMapperImpl extends LifecycleImpl implements Mapper, Delega
     private void lazyInit() {
         if (split == null || inputFactory == null) {
             inputName = inputName == null || inputName.isEmpty() ? name() : inputName;
-            assessor = findMethods(Assessor.class).findFirst().orElse(null);
-            split = findMethods(Split.class).findFirst().get();
-            inputFactory = findMethods(Emitter.class).findFirst().get();
+            assessor = findMethods(Assessor.class).findFirst().map(this::toInvoker).orElse(null);
+            split = toInvoker(findMethods(Split.class).findFirst().get());
+            inputFactory = toInvoker(findMethods(Emitter.class).findFirst().get());
 
-            switch (split.getParameterCount()) {
+            final Class<?>[] splitParameterTypes = split.getMethod().getParameterTypes();
+            switch (splitParameterTypes.length) {
             case 1:
-                if (int.class == split.getParameterTypes()[0]) {
+                if (int.class == splitParameterTypes[0]) {
                     splitArgSupplier = desiredSize -> new Object[] { desiredSize.intValue() };
-                } else if (long.class == split.getParameterTypes()[0]) {
+                } else if (long.class == splitParameterTypes[0]) {
                     splitArgSupplier = desiredSize -> new Object[] { desiredSize };
                 } else {
                     throw new IllegalArgumentException("@PartitionSize only supports int and long");
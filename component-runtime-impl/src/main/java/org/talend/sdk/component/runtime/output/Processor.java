@@ -27,4 +27,18 @@ public interface Processor extends Lifecycle {
     void afterGroup(OutputFactory output);
 
     void onNext(InputFactory input, OutputFactory output);
+
+    /**
+     * Process a chunk of inputs in a single call. It is equivalent to calling
+     * {@link #onNext(InputFactory, OutputFactory)} for each input but batch aware
+     * implementations can hand the whole chunk to the component at once.
+     *
+     * @param inputs the inputs of the chunk, one per element.
+     * @param output the output factory to use for the chunk.
+     */
+    default void onBatch(final Iterable<? extends InputFactory> inputs, final OutputFactory output) {
+        for (final InputFactory input : inputs) {
+            onNext(input, output);
+        }
+    }
 }
@@ -15,11 +15,9 @@
  */
 package org.talend.sdk.component.runtime.output;
 
-import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Optional.ofNullable;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
+import static org.talend.sdk.component.runtime.reflect.Parameters.isBatchInput;
 import static org.talend.sdk.component.runtime.reflect.Parameters.isGroupBuffer;
 
 import java.io.ByteArrayInputStream;
@@ -28,10 +26,8 @@ import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.ObjectStreamException;
 import java.io.Serializable;
-import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
-import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -54,11 +50,13 @@ import org.talend.sdk.component.api.processor.BeforeGroup;
 import org.talend.sdk.component.api.processor.ElementListener;
 import org.talend.sdk.component.api.processor.Input;
 import org.talend.sdk.component.api.processor.Output;
+import org.talend.sdk.component.api.processor.OutputEmitter;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.base.Delegated;
 import org.talend.sdk.component.runtime.base.LifecycleImpl;
 import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
 import org.talend.sdk.component.runtime.record.RecordConverters;
+import org.talend.sdk.component.runtime.reflect.MethodInvoker;
 import org.talend.sdk.component.runtime.serialization.ContainerFinder;
 import org.talend.sdk.component.runtime.serialization.EnhancedObjectInputStream;
 
@@ -66,15 +64,24 @@ import lombok.AllArgsConstructor;
 
 public class ProcessorImpl extends LifecycleImpl implements Processor, Delegated {
 
-    private transient List<Method> beforeGroup;
+    private transient MethodInvoker[] beforeGroup;
 
-    private transient List<Method> afterGroup;
+    private transient MethodInvoker[] afterGroup;
 
-    private transient Method process;
+    private transient MethodInvoker process;
 
-    private transient List<BiFunction<InputFactory, OutputFactory, Object>> parameterBuilderProcess;
+    private transient BiFunction<InputFactory, OutputFactory, Object>[] parameterBuilderProcess;
 
-    private transient Map<Method, List<Function<OutputFactory, Object>>> parameterBuilderAfterGroup;
+    private transient Function<OutputFactory, Object>[][] parameterBuilderAfterGroup;
+
+    // @ElementListener taking a Collection|List|Iterable of records, it is called once per chunk
+    private transient boolean batchListener;
+
+    private transient Class<?> batchRecordType;
+
+    private transient String batchInputName;
+
+    private transient List<Object> batch;
 
     private transient Jsonb jsonb;
 
@@ -110,19 +117,31 @@ public class ProcessorImpl extends LifecycleImpl implements Processor, Delegated
         return ofNullable(internalConfiguration).orElseGet(Collections::emptyMap);
     }
 
+    /**
+     * @return true when the @ElementListener takes a whole chunk of records (known once a group started),
+     * it does not emit anything per record so callers can pass the records of a group with {@link #onBatch}.
+     */
+    public boolean isBatchListener() {
+        return batchListener;
+    }
+
     @Override
+    @SuppressWarnings("unchecked")
     public void beforeGroup() {
         if (beforeGroup == null) {
-            beforeGroup = findMethods(BeforeGroup.class).collect(toList());
-            afterGroup = findMethods(AfterGroup.class).collect(toList());
-            process = findMethods(ElementListener.class).findFirst().orElse(null);
+            beforeGroup = findMethods(BeforeGroup.class).map(this::toInvoker).toArray(MethodInvoker[]::new);
+            afterGroup = findMethods(AfterGroup.class).map(this::toInvoker).toArray(MethodInvoker[]::new);
+            process = findMethods(ElementListener.class).findFirst().map(this::toInvoker).orElse(null);
 
             // IMPORTANT: ensure you call only once the create(....), see studio integration (mojo)
-            parameterBuilderProcess = process == null ? emptyList()
-                    : Stream.of(process.getParameters()).map(this::buildProcessParamBuilder).collect(toList());
-            parameterBuilderAfterGroup = afterGroup
-                    .stream()
-                    .map(after -> new AbstractMap.SimpleEntry<>(after, Stream.of(after.getParameters()).map(param -> {
+            parameterBuilderProcess = process == null ? new BiFunction[0]
+                    : Stream
+                            .of(process.getMethod().getParameters())
+                            .map(this::buildProcessParamBuilder)
+                            .toArray(BiFunction[]::new);
+            parameterBuilderAfterGroup = Stream
+                    .of(afterGroup)
+                    .map(after -> Stream.of(after.getMethod().getParameters()).map(param -> {
                         if (isGroupBuffer(param.getParameterizedType())) {
                             expectedRecordType = Class.class
                                     .cast(ParameterizedType.class
@@ -131,16 +150,18 @@ public class ProcessorImpl extends LifecycleImpl implements Processor, Delegated
                             return (Function<OutputFactory, Object>) o -> records;
                         }
                         return toOutputParamBuilder(param);
-                    }).collect(toList())))
-                    .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
-            forwardReturn = process != null && process.getReturnType() != void.class;
+                    }).toArray(Function[]::new))
+                    .toArray(Function[][]::new);
+            forwardReturn = process != null && process.getMethod().getReturnType() != void.class;
 
             converter = new RecordConverters();
 
             mappings = new RecordConverters.MappingMetaRegistry();
         }
 
-        beforeGroup.forEach(this::doInvoke);
+        for (final MethodInvoker before : beforeGroup) {
+            doInvoke(before);
+        }
         if (process == null) { // collect records for @AfterGroup param
             records = new ArrayList<>();
         }
@@ -157,6 +178,14 @@ public class ProcessorImpl extends LifecycleImpl implements Processor, Delegated
         final Class<?> parameterType = parameter.getType();
         final String inputName =
                 ofNullable(parameter.getAnnotation(Input.class)).map(Input::value).orElse(Branches.DEFAULT_BRANCH);
+        if (isBatchInput(parameter.getParameterizedType())) {
+            batchListener = true;
+            batchInputName = inputName;
+            batchRecordType = Class.class
+                    .cast(ParameterizedType.class.cast(parameter.getParameterizedType()).getActualTypeArguments()[0]);
+            batch = new ArrayList<>();
+            return (inputs, outputs) -> batch;
+        }
         return (inputs, outputs) -> doConvertInput(parameterType, inputs.read(inputName));
     }
 
@@ -239,13 +268,17 @@ public class ProcessorImpl extends LifecycleImpl implements Processor, Delegated
 
     @Override
     public void afterGroup(final OutputFactory output) {
-        afterGroup
-                .forEach(after -> doInvoke(after,
-                        parameterBuilderAfterGroup
-                                .get(after)
-                                .stream()
-                                .map(b -> b.apply(output))
-                                .toArray(Object[]::new)));
+        if (batchListener) {
+            flushBatch(output);
+        }
+        for (int i = 0; i < afterGroup.length; i++) {
+            final Function<OutputFactory, Object>[] builders = parameterBuilderAfterGroup[i];
+            final Object[] args = new Object[builders.length];
+            for (int j = 0; j < builders.length; j++) {
+                args[j] = builders[j].apply(output);
+            }
+            doInvoke(afterGroup[i], args);
+        }
         if (records != null) {
             records = null;
         }
@@ -256,11 +289,13 @@ public class ProcessorImpl extends LifecycleImpl implements Processor, Delegated
         if (process == null) {
             // todo: handle @Input there too? less likely it becomes useful
             records.add(doConvertInput(expectedRecordType, inputFactory.read(Branches.DEFAULT_BRANCH)));
+        } else if (batchListener) { // handed to the listener with the chunk
+            addToBatch(inputFactory);
         } else {
-            final Object[] args = parameterBuilderProcess
-                    .stream()
-                    .map(b -> b.apply(inputFactory, outputFactory))
-                    .toArray(Object[]::new);
+            final Object[] args = new Object[parameterBuilderProcess.length];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = parameterBuilderProcess[i].apply(inputFactory, outputFactory);
+            }
             final Object out = doInvoke(process, args);
             if (forwardReturn) {
                 outputFactory.create(Branches.DEFAULT_BRANCH).emit(out);
@@ -268,6 +303,45 @@ public class ProcessorImpl extends LifecycleImpl implements Processor, Delegated
         }
     }
 
+    @Override
+    public void onBatch(final Iterable<? extends InputFactory> inputs, final OutputFactory output) {
+        if (!batchListener) {
+            Processor.super.onBatch(inputs, output);
+            return;
+        }
+        for (final InputFactory input : inputs) {
+            addToBatch(input);
+        }
+        flushBatch(output);
+    }
+
+    private void addToBatch(final InputFactory inputFactory) {
+        final Object data = inputFactory.read(batchInputName);
+        if (data != null) {
+            batch.add(doConvertInput(batchRecordType, data));
+        }
+    }
+
+    private void flushBatch(final OutputFactory output) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        final Object[] args = new Object[parameterBuilderProcess.length];
+        for (int i = 0; i < args.length; i++) {
+            args[i] = parameterBuilderProcess[i].apply(null, output);
+        }
+        batch = new ArrayList<>(); // the component can keep the chunk
+        final Object out = doInvoke(process, args);
+        if (forwardReturn && out != null) {
+            final OutputEmitter emitter = output.create(Branches.DEFAULT_BRANCH);
+            if (Iterable.class.isInstance(out)) {
+                Iterable.class.cast(out).forEach(emitter::emit);
+            } else {
+                emitter.emit(out);
+            }
+        }
+    }
+
     @Override
     public Object getDelegate() {
         return delegate;
@@ -0,0 +1,729 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.record;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+import static org.talend.sdk.component.api.record.Schema.Type.ARRAY;
+import static org.talend.sdk.component.api.record.Schema.Type.BOOLEAN;
+import static org.talend.sdk.component.api.record.Schema.Type.BYTES;
+import static org.talend.sdk.component.api.record.Schema.Type.DATETIME;
+import static org.talend.sdk.component.api.record.Schema.Type.DOUBLE;
+import static org.talend.sdk.component.api.record.Schema.Type.FLOAT;
+import static org.talend.sdk.component.api.record.Schema.Type.INT;
+import static org.talend.sdk.component.api.record.Schema.Type.LONG;
+import static org.talend.sdk.component.api.record.Schema.Type.RECORD;
+import static org.talend.sdk.component.api.record.Schema.Type.STRING;
+
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.json.Json;
+import javax.json.JsonObject;
+import javax.json.bind.Jsonb;
+import javax.json.bind.JsonbBuilder;
+import javax.json.bind.JsonbConfig;
+import javax.json.bind.annotation.JsonbTransient;
+import javax.json.bind.config.PropertyOrderStrategy;
+import javax.json.spi.JsonProvider;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+
+/**
+ * Record storing its values by position instead of by name.
+ * Positions are resolved once per schema (see {@link Layout}) so a record is only
+ * an {@code Object[]} for the references and a {@code long[]} for primitives (INT, LONG, FLOAT, DOUBLE, BOOLEAN
+ * and DATETIME as epoch millis) which avoids boxing and per record hash maps.
+ */
+public final class ColumnarRecord implements Record {
+
+    private static final RecordConverters RECORD_CONVERTERS = new RecordConverters();
+
+    // marks a primitive slot as valued in the values array
+    private static final Object PRIMITIVE = new Object();
+
+    private static final long[] NO_PRIMITIVE = new long[0];
+
+    private final Layout layout;
+
+    private final Object[] values;
+
+    private final long[] primitives;
+
+    private ColumnarRecord(final Layout layout, final Object[] values, final long[] primitives) {
+        this.layout = layout;
+        this.values = values;
+        this.primitives = primitives;
+    }
+
+    @Override
+    @JsonbTransient
+    public Schema getSchema() {
+        return layout.schema;
+    }
+
+    @Override
+    public <T> T get(final Class<T> expectedType, final String name) {
+        final int index = layout.indexOf(name);
+        if (index < 0) {
+            return null;
+        }
+        final Object value = layout.valueAt(values, primitives, index);
+        if (value == null || expectedType.isInstance(value)) {
+            return expectedType.cast(value);
+        }
+        return RECORD_CONVERTERS.coerce(expectedType, value, name);
+    }
+
+    @Override
+    public int getInt(final String name) {
+        return getInt(layout.indexOf(name), name);
+    }
+
+    @Override
+    public int getInt(final Schema.Entry entry) {
+        return getInt(layout.indexOf(entry.getName()), entry.getName());
+    }
+
+    private int getInt(final int index, final String name) {
+        if (index >= 0 && layout.types[index] == INT && values[index] == PRIMITIVE) {
+            return (int) primitives[layout.primitiveSlots[index]];
+        }
+        return RECORD_CONVERTERS.coerceInt(index < 0 ? null : layout.valueAt(values, primitives, index), name);
+    }
+
+    @Override
+    public long getLong(final String name) {
+        return getLong(layout.indexOf(name), name);
+    }
+
+    @Override
+    public long getLong(final Schema.Entry entry) {
+        return getLong(layout.indexOf(entry.getName()), entry.getName());
+    }
+
+    private long getLong(final int index, final String name) {
+        if (index >= 0 && layout.types[index] == LONG && values[index] == PRIMITIVE) {
+            return primitives[layout.primitiveSlots[index]];
+        }
+        return RECORD_CONVERTERS.coerceLong(index < 0 ? null : layout.valueAt(values, primitives, index), name);
+    }
+
+    @Override
+    public double getDouble(final String name) {
+        return getDouble(layout.indexOf(name), name);
+    }
+
+    @Override
+    public double getDouble(final Schema.Entry entry) {
+        return getDouble(layout.indexOf(entry.getName()), entry.getName());
+    }
+
+    private double getDouble(final int index, final String name) {
+        if (index >= 0 && layout.types[index] == DOUBLE && values[index] == PRIMITIVE) {
+            return Double.longBitsToDouble(primitives[layout.primitiveSlots[index]]);
+        }
+        return RECORD_CONVERTERS.coerceDouble(index < 0 ? null : layout.valueAt(values, primitives, index), name);
+    }
+
+    @Override
+    public float getFloat(final String name) {
+        return getFloat(layout.indexOf(name), name);
+    }
+
+    @Override
+    public float getFloat(final Schema.Entry entry) {
+        return getFloat(layout.indexOf(entry.getName()), entry.getName());
+    }
+
+    private float getFloat(final int index, final String name) {
+        if (index >= 0 && layout.types[index] == FLOAT && values[index] == PRIMITIVE) {
+            return Float.intBitsToFloat((int) primitives[layout.primitiveSlots[index]]);
+        }
+        return RECORD_CONVERTERS.coerceFloat(index < 0 ? null : layout.valueAt(values, primitives, index), name);
+    }
+
+    @Override
+    public boolean getBoolean(final String name) {
+        return getBoolean(layout.indexOf(name), name);
+    }
+
+    @Override
+    public boolean getBoolean(final Schema.Entry entry) {
+        return getBoolean(layout.indexOf(entry.getName()), entry.getName());
+    }
+
+    private boolean getBoolean(final int index, final String name) {
+        if (index >= 0 && layout.types[index] == BOOLEAN && values[index] == PRIMITIVE) {
+            return primitives[layout.primitiveSlots[index]] != 0;
+        }
+        return RECORD_CONVERTERS.coerceBoolean(index < 0 ? null : layout.valueAt(values, primitives, index), name);
+    }
+
+    @Override
+    public Builder withNewSchema(final Schema newSchema) {
+        final Builder builder = SchemaImpl.class.isInstance(newSchema) && newSchema.getType() == RECORD
+                ? new BuilderImpl(SchemaImpl.class.cast(newSchema).getColumnarLayout())
+                : new RecordImpl.BuilderImpl(newSchema);
+        newSchema
+                .getAllEntries()
+                .filter(e -> Objects.equals(layout.entry(e.getName()), e))
+                .forEach(e -> builder.with(e, layout.valueAt(values, primitives, layout.indexOf(e.getName()))));
+        return builder;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!ColumnarRecord.class.isInstance(o)) {
+            return false;
+        }
+        final ColumnarRecord other = ColumnarRecord.class.cast(o);
+        if (!Objects.equals(layout.schema, other.layout.schema)) {
+            return false;
+        }
+        for (int i = 0; i < layout.entries.length; i++) {
+            final Object value = layout.valueAt(values, primitives, i);
+            final Object otherValue = other.layout.valueAt(other.values, other.primitives, i);
+            if (!Objects.deepEquals(value, otherValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = layout.schema.hashCode();
+        for (int i = 0; i < layout.entries.length; i++) {
+            final Object value = layout.valueAt(values, primitives, i);
+            result = 31 * result + (value == null ? 0 : value.hashCode());
+        }
+        return result;
+    }
+
+    @Override // for debug purposes, don't use it for anything else
+    public String toString() {
+        try (final Jsonb jsonb = JsonbBuilder
+                .create(new JsonbConfig()
+                        .withFormatting(true)
+                        .withPropertyOrderStrategy(PropertyOrderStrategy.LEXICOGRAPHICAL)
+                        .setProperty("johnzon.cdi.activated", false))) {
+            return new RecordConverters()
+                    .toType(new RecordConverters.MappingMetaRegistry(), this, JsonObject.class,
+                            () -> Json.createBuilderFactory(emptyMap()), JsonProvider::provider, () -> jsonb,
+                            () -> new ColumnarRecordBuilderFactory("tostring"))
+                    .toString();
+        } catch (final Exception e) {
+            return super.toString();
+        }
+    }
+
+    /**
+     * Positions of the entries of a schema, computed once per schema instance.
+     */
+    static final class Layout {
+
+        private final Schema schema;
+
+        private final Schema.Entry[] entries;
+
+        private final Schema.Type[] types;
+
+        private final Map<String, Integer> indexes;
+
+        // -1 when the entry is stored in the values array
+        private final int[] primitiveSlots;
+
+        private final int primitiveCount;
+
+        Layout(final Schema schema) {
+            this.schema = schema;
+            this.entries = schema.getAllEntries().toArray(Schema.Entry[]::new);
+            this.types = new Schema.Type[entries.length];
+            this.indexes = new HashMap<>(entries.length * 2);
+            this.primitiveSlots = new int[entries.length];
+            int slot = 0;
+            for (int i = 0; i < entries.length; i++) {
+                types[i] = entries[i].getType();
+                indexes.put(entries[i].getName(), i);
+                switch (types[i]) {
+                case INT:
+                case LONG:
+                case FLOAT:
+                case DOUBLE:
+                case BOOLEAN:
+                case DATETIME:
+                    primitiveSlots[i] = slot++;
+                    break;
+                default:
+                    primitiveSlots[i] = -1;
+                }
+            }
+            this.primitiveCount = slot;
+        }
+
+        private int indexOf(final String name) {
+            final Integer index = indexes.get(name);
+            return index == null ? -1 : index;
+        }
+
+        private Schema.Entry entry(final String name) {
+            final int index = indexOf(name);
+            return index < 0 ? null : entries[index];
+        }
+
+        private Object valueAt(final Object[] values, final long[] primitives, final int index) {
+            final Object value = values[index];
+            if (value != PRIMITIVE) {
+                return value;
+            }
+            final long raw = primitives[primitiveSlots[index]];
+            switch (types[index]) {
+            case INT:
+                return (int) raw;
+            case FLOAT:
+                return Float.intBitsToFloat((int) raw);
+            case DOUBLE:
+                return Double.longBitsToDouble(raw);
+            case BOOLEAN:
+                return raw != 0;
+            default: // LONG, DATETIME
+                return raw;
+            }
+        }
+    }
+
+    public static class BuilderImpl implements Builder {
+
+        private final Layout layout;
+
+        private Object[] values;
+
+        private long[] primitives;
+
+        // values are shared with a built record, copy them before next write
+        private boolean shared;
+
+        // when the schema is altered (order, removal, renaming) the builder switches to a map based one
+        private Builder fallback;
+
+        public BuilderImpl(final Schema schema) {
+            this(SchemaImpl.class.isInstance(schema) ? SchemaImpl.class.cast(schema).getColumnarLayout()
+                    : new Layout(schema));
+        }
+
+        BuilderImpl(final Layout layout) {
+            this.layout = layout;
+            this.values = new Object[layout.entries.length];
+            this.primitives = layout.primitiveCount == 0 ? NO_PRIMITIVE : new long[layout.primitiveCount];
+        }
+
+        @Override
+        public Record build() {
+            if (fallback != null) {
+                return fallback.build();
+            }
+            StringBuilder missing = null;
+            for (int i = 0; i < layout.entries.length; i++) {
+                if (values[i] == null && !layout.entries[i].isNullable()) {
+                    if (missing == null) {
+                        missing = new StringBuilder();
+                    } else {
+                        missing.append(", ");
+                    }
+                    missing.append(layout.entries[i].getName());
+                }
+            }
+            if (missing != null) {
+                throw new IllegalArgumentException("Missing entries: " + missing);
+            }
+            shared = true;
+            return new ColumnarRecord(layout, values, primitives);
+        }
+
+        @Override
+        public Object getValue(final String name) {
+            if (fallback != null) {
+                return fallback.getValue(name);
+            }
+            final int index = layout.indexOf(name);
+            return index < 0 ? null : layout.valueAt(values, primitives, index);
+        }
+
+        @Override
+        public List<Schema.Entry> getCurrentEntries() {
+            if (fallback != null) {
+                return fallback.getCurrentEntries();
+            }
+            return unmodifiableList(layout.schema.getAllEntries().collect(toList()));
+        }
+
+        @Override
+        public Schema.Entry getEntry(final String name) {
+            if (fallback != null) {
+                return fallback.getEntry(name);
+            }
+            return layout.entry(name);
+        }
+
+        @Override
+        public Builder before(final String entryName) {
+            fallback().before(entryName);
+            return this;
+        }
+
+        @Override
+        public Builder after(final String entryName) {
+            fallback().after(entryName);
+            return this;
+        }
+
+        @Override
+        public Builder removeEntry(final Schema.Entry schemaEntry) {
+            fallback = fallback().removeEntry(schemaEntry);
+            return this;
+        }
+
+        @Override
+        public Builder updateEntryByName(final String name, final Schema.Entry schemaEntry) {
+            fallback = fallback().updateEntryByName(name, schemaEntry);
+            return this;
+        }
+
+        @Override
+        public Builder with(final Schema.Entry entry, final Object value) {
+            if (fallback != null) {
+                fallback.with(entry, value);
+                return this;
+            }
+            final int index = validate(entry.getName(), entry.getType(), value == null);
+            if (!entry.getType().isCompatible(value)) {
+                throw new IllegalArgumentException(String
+                        .format("Entry '%s' of type %s is not compatible with value of type '%s'", entry.getName(),
+                                entry.getType(), value.getClass().getName()));
+            }
+            if (entry.getType() == DATETIME) {
+                if (value == null) {
+                    return this;
+                } else if (value instanceof Long) {
+                    return setPrimitive(index, (Long) value);
+                } else if (value instanceof Date) {
+                    return setPrimitive(index, ((Date) value).getTime());
+                } else if (value instanceof ZonedDateTime) {
+                    return setPrimitive(index, ((ZonedDateTime) value).toInstant().toEpochMilli());
+                } else if (value instanceof Temporal) {
+                    return setPrimitive(index, ((Temporal) value).get(ChronoField.INSTANT_SECONDS) * 1000L);
+                }
+                return this;
+            }
+            if (value == null) {
+                return setObject(entry, index, null);
+            }
+            switch (entry.getType()) {
+            case INT:
+                return setPrimitive(index, (Integer) value);
+            case LONG:
+                return setPrimitive(index, (Long) value);
+            case FLOAT:
+                return setPrimitive(index, Float.floatToRawIntBits((Float) value));
+            case DOUBLE:
+                return setPrimitive(index, Double.doubleToRawLongBits((Double) value));
+            case BOOLEAN:
+                return setPrimitive(index, (Boolean) value ? 1 : 0);
+            default:
+                return setObject(entry, index, value);
+            }
+        }
+
+        @Override
+        public Builder withString(final String name, final String value) {
+            return withString(findExistingEntry(name), value);
+        }
+
+        @Override
+        public Builder withString(final Schema.Entry entry, final String value) {
+            if (fallback != null) {
+                fallback.withString(entry, value);
+                return this;
+            }
+            assertType(entry.getType(), STRING);
+            return setObject(entry, validate(entry.getName(), STRING, value == null), value);
+        }
+
+        @Override
+        public Builder withBytes(final String name, final byte[] value) {
+            return withBytes(findExistingEntry(name), value);
+        }
+
+        @Override
+        public Builder withBytes(final Schema.Entry entry, final byte[] value) {
+            if (fallback != null) {
+                fallback.withBytes(entry, value);
+                return this;
+            }
+            assertType(entry.getType(), BYTES);
+            return setObject(entry, validate(entry.getName(), BYTES, value == null), value);
+        }
+
+        @Override
+        public Builder withDateTime(final String name, final Date value) {
+            return withDateTime(findExistingEntry(name), value);
+        }
+
+        @Override
+        public Builder withDateTime(final Schema.Entry entry, final Date value) {
+            if (fallback != null) {
+                fallback.withDateTime(entry, value);
+                return this;
+            }
+            if (value == null && !entry.isNullable()) {
+                throw new IllegalArgumentException("date '" + entry.getName() + "' is not allowed to be null");
+            }
+            final int index = validate(entry.getName(), DATETIME, value == null);
+            return value == null ? this : setPrimitive(index, value.getTime());
+        }
+
+        @Override
+        public Builder withDateTime(final String name, final ZonedDateTime value) {
+            return withDateTime(findExistingEntry(name), value);
+        }
+
+        @Override
+        public Builder withDateTime(final Schema.Entry entry, final ZonedDateTime value) {
+            if (fallback != null) {
+                fallback.withDateTime(entry, value);
+                return this;
+            }
+            if (value == null && !entry.isNullable()) {
+                throw new IllegalArgumentException("datetime '" + entry.getName() + "' is not allowed to be null");
+            }
+            final int index = validate(entry.getName(), DATETIME, value == null);
+            return value == null ? this : setPrimitive(index, value.toInstant().toEpochMilli());
+        }
+
+        @Override
+        public Builder withTimestamp(final String name, final long value) {
+            return withTimestamp(findExistingEntry(name), value);
+        }
+
+        @Override
+        public Builder withTimestamp(final Schema.Entry entry, final long value) {
+            if (fallback != null) {
+                fallback.withTimestamp(entry, value);
+                return this;
+            }
+            assertType(entry.getType(), DATETIME);
+            return setPrimitive(validate(entry.getName(), DATETIME, false), value);
+        }
+
+        @Override
+        public Builder withInt(final String name, final int value) {
+            return withInt(findExistingEntry(name), value);
+        }
+
+        @Override
+        public Builder withInt(final Schema.Entry entry, final int value) {
+            if (fallback != null) {
+                fallback.withInt(entry, value);
+                return this;
+            }
+            assertType(entry.getType(), INT);
+            return setPrimitive(validate(entry.getName(), INT, false), value);
+        }
+
+        @Override
+        public Builder withLong(final String name, final long value) {
+            return withLong(findExistingEntry(name), value);
+        }
+
+        @Override
+        public Builder withLong(final Schema.Entry entry, final long value) {
+            if (fallback != null) {
+                fallback.withLong(entry, value);
+                return this;
+            }
+            assertType(entry.getType(), LONG);
+            return setPrimitive(validate(entry.getName(), LONG, false), value);
+        }
+
+        @Override
+        public Builder withFloat(final String name, final float value) {
+            return withFloat(findExistingEntry(name), value);
+        }
+
+        @Override
+        public Builder withFloat(final Schema.Entry entry, final float value) {
+            if (fallback != null) {
+                fallback.withFloat(entry, value);
+                return this;
+            }
+            assertType(entry.getType(), FLOAT);
+            return setPrimitive(validate(entry.getName(), FLOAT, false), Float.floatToRawIntBits(value));
+        }
+
+        @Override
+        public Builder withDouble(final String name, final double value) {
+            return withDouble(findExistingEntry(name), value);
+        }
+
+        @Override
+        public Builder withDouble(final Schema.Entry entry, final double value) {
+            if (fallback != null) {
+                fallback.withDouble(entry, value);
+                return this;
+            }
+            assertType(entry.getType(), DOUBLE);
+            return setPrimitive(validate(entry.getName(), DOUBLE, false), Double.doubleToRawLongBits(value));
+        }
+
+        @Override
+        public Builder withBoolean(final String name, final boolean value) {
+            return withBoolean(findExistingEntry(name), value);
+        }
+
+        @Override
+        public Builder withBoolean(final Schema.Entry entry, final boolean value) {
+            if (fallback != null) {
+                fallback.withBoolean(entry, value);
+                return this;
+            }
+            assertType(entry.getType(), BOOLEAN);
+            return setPrimitive(validate(entry.getName(), BOOLEAN, false), value ? 1 : 0);
+        }
+
+        @Override
+        public Builder withRecord(final Schema.Entry entry, final Record value) {
+            if (fallback != null) {
+                fallback.withRecord(entry, value);
+                return this;
+            }
+            assertType(entry.getType(), RECORD);
+            if (entry.getElementSchema() == null) {
+                throw new IllegalArgumentException("No schema for the nested record");
+            }
+            return setObject(entry, validate(entry.getName(), RECORD, value == null), value);
+        }
+
+        @Override
+        public Builder withRecord(final String name, final Record value) {
+            if (value == null) {
+                throw new IllegalArgumentException("No schema for the nested record due to null record value");
+            }
+            return withRecord(new SchemaImpl.EntryImpl.BuilderImpl()
+                    .withName(name)
+                    .withElementSchema(value.getSchema())
+                    .withType(RECORD)
+                    .withNullable(true)
+                    .build(), value);
+        }
+
+        @Override
+        public <T> Builder withArray(final Schema.Entry entry, final Collection<T> values) {
+            if (fallback != null) {
+                fallback.withArray(entry, values);
+                return this;
+            }
+            assertType(entry.getType(), ARRAY);
+            if (entry.getElementSchema() == null) {
+                throw new IllegalArgumentException("No schema for the collection items");
+            }
+            return setObject(entry, validate(entry.getName(), ARRAY, values == null), values);
+        }
+
+        private Builder fallback() {
+            if (fallback == null) {
+                final RecordImpl.BuilderImpl builder = new RecordImpl.BuilderImpl(layout.schema);
+                for (int i = 0; i < layout.entries.length; i++) {
+                    final Object value = layout.valueAt(values, primitives, i);
+                    if (value != null) {
+                        builder.with(layout.entries[i], value);
+                    }
+                }
+                fallback = builder;
+            }
+            return fallback;
+        }
+
+        private Schema.Entry findExistingEntry(final String name) {
+            final Schema.Entry entry = fallback != null ? fallback.getEntry(name) : layout.entry(name);
+            if (entry == null) {
+                throw new IllegalArgumentException("No entry '" + name + "' expected in provided schema");
+            }
+            return entry;
+        }
+
+        private int validate(final String name, final Schema.Type type, final boolean nullValue) {
+            final int index = layout.indexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("No entry '" + name + "' expected in provided schema");
+            }
+            final Schema.Entry entry = layout.entries[index];
+            if (entry.getType() != type) {
+                throw new IllegalArgumentException(
+                        "Entry '" + name + "' expected to be a " + entry.getType() + ", got a " + type);
+            }
+            if (nullValue && !entry.isNullable()) {
+                throw new IllegalArgumentException("Entry '" + name + "' is not nullable");
+            }
+            return index;
+        }
+
+        private void assertType(final Schema.Type actual, final Schema.Type expected) {
+            if (actual != expected) {
+                throw new IllegalArgumentException("Expected entry type: " + expected + ", got: " + actual);
+            }
+        }
+
+        private Builder setObject(final Schema.Entry entry, final int index, final Object value) {
+            if (value == null) {
+                if (!entry.isNullable()) {
+                    throw new IllegalArgumentException(entry.getName() + " is not nullable but got a null value");
+                }
+                return this;
+            }
+            ensureWritable();
+            values[index] = value;
+            return this;
+        }
+
+        private Builder setPrimitive(final int index, final long value) {
+            ensureWritable();
+            values[index] = PRIMITIVE;
+            primitives[layout.primitiveSlots[index]] = value;
+            return this;
+        }
+
+        private void ensureWritable() {
+            if (shared) {
+                values = values.clone();
+                primitives = primitives.length == 0 ? primitives : primitives.clone();
+                shared = false;
+            }
+        }
+    }
+}
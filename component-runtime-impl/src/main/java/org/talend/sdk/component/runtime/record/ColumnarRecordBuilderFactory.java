@@ -0,0 +1,38 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.record;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+
+/**
+ * Factory creating {@link ColumnarRecord} when the schema is known upfront.
+ * Records built without schema keep using the map based {@link RecordImpl} since their schema is dynamic.
+ */
+public class ColumnarRecordBuilderFactory extends RecordBuilderFactoryImpl {
+
+    public ColumnarRecordBuilderFactory(final String plugin) {
+        super(plugin);
+    }
+
+    @Override
+    public Record.Builder newRecordBuilder(final Schema schema) {
+        if (SchemaImpl.class.isInstance(schema) && schema.getType() == Schema.Type.RECORD) {
+            return new ColumnarRecord.BuilderImpl(SchemaImpl.class.cast(schema).getColumnarLayout());
+        }
+        return super.newRecordBuilder(schema);
+    }
+}
@@ -0,0 +1,279 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.record;
+
+import static java.util.Collections.emptyMap;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.json.Json;
+import javax.json.JsonNumber;
+import javax.json.JsonObject;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Reads JSON parser events directly into records, it is the streaming flavor of the JSON to record
+ * conversion of {@link RecordConverters} (same mapping: numbers are doubles, nulls are skipped).
+ *
+ * The schema of an object is only inferred the first time a field layout (names and types) is seen,
+ * next objects with the same layout reuse it and are built with a schema aware builder.
+ */
+@RequiredArgsConstructor
+public class JsonRecordReader {
+
+    private static final int MAX_CACHED_LAYOUTS = 1024;
+
+    private static volatile JsonParserFactory parserFactory;
+
+    @Getter
+    private final RecordBuilderFactory factory;
+
+    private final Map<Layout, Shape> shapes = new ConcurrentHashMap<>();
+
+    public Record read(final JsonObject object) {
+        try (final JsonParser parser = getParserFactory().createParser(object)) {
+            return read(parser);
+        }
+    }
+
+    public Record read(final Reader reader) {
+        try (final JsonParser parser = getParserFactory().createParser(reader)) {
+            return read(parser);
+        }
+    }
+
+    /**
+     * @param parser a parser positioned before an object.
+     * @return the record for this object.
+     */
+    public Record read(final JsonParser parser) {
+        if (!parser.hasNext() || parser.next() != JsonParser.Event.START_OBJECT) {
+            throw new IllegalArgumentException("Expected a JSON object to create a record");
+        }
+        return readObject(parser);
+    }
+
+    /**
+     * @param parser a parser which just read the {@link JsonParser.Event#START_OBJECT} event.
+     * @return the record for this object, the parser is positioned after the end of the object.
+     */
+    public Record readObject(final JsonParser parser) {
+        final List<Object> layout = new ArrayList<>(24); // name, type, nested schema triplets
+        final List<Object> values = new ArrayList<>(8);
+        String name = null;
+        while (parser.hasNext()) {
+            final JsonParser.Event event = parser.next();
+            switch (event) {
+            case KEY_NAME:
+                name = parser.getString();
+                break;
+            case VALUE_STRING:
+                add(layout, values, name, Schema.Type.STRING, null, parser.getString());
+                break;
+            case VALUE_NUMBER:
+                add(layout, values, name, Schema.Type.DOUBLE, null, parser.getBigDecimal().doubleValue());
+                break;
+            case VALUE_TRUE:
+                add(layout, values, name, Schema.Type.BOOLEAN, null, true);
+                break;
+            case VALUE_FALSE:
+                add(layout, values, name, Schema.Type.BOOLEAN, null, false);
+                break;
+            case VALUE_NULL:
+                break;
+            case START_OBJECT:
+                final Record record = readObject(parser);
+                add(layout, values, name, Schema.Type.RECORD, record.getSchema(), record);
+                break;
+            case START_ARRAY:
+                final List<Object> items = readArray(parser);
+                add(layout, values, name, Schema.Type.ARRAY, RecordConverters.getArrayElementSchema(factory, items),
+                        items);
+                break;
+            case END_OBJECT:
+                return toRecord(new Layout(layout.toArray()), values);
+            default:
+                throw new IllegalArgumentException("Unexpected JSON event: " + event);
+            }
+        }
+        throw new IllegalArgumentException("Unterminated JSON object");
+    }
+
+    private List<Object> readArray(final JsonParser parser) {
+        final List<Object> items = new ArrayList<>();
+        while (parser.hasNext()) {
+            final JsonParser.Event event = parser.next();
+            switch (event) {
+            case VALUE_STRING:
+                items.add(parser.getString());
+                break;
+            case VALUE_NUMBER:
+                items.add(JsonNumber.class.cast(parser.getValue()).numberValue());
+                break;
+            case VALUE_TRUE:
+                items.add(true);
+                break;
+            case VALUE_FALSE:
+                items.add(false);
+                break;
+            case VALUE_NULL:
+                items.add(null);
+                break;
+            case START_OBJECT:
+                items.add(readObject(parser));
+                break;
+            case START_ARRAY:
+                items.add(readArray(parser));
+                break;
+            case END_ARRAY:
+                return items;
+            default:
+                throw new IllegalArgumentException("Unexpected JSON event: " + event);
+            }
+        }
+        throw new IllegalArgumentException("Unterminated JSON array");
+    }
+
+    private void add(final List<Object> layout, final List<Object> values, final String name,
+            final Schema.Type type, final Schema schema, final Object value) {
+        layout.add(name);
+        layout.add(type);
+        layout.add(schema);
+        values.add(value);
+    }
+
+    private Record toRecord(final Layout layout, final List<Object> values) {
+        final Shape shape = shapes.get(layout);
+        if (shape != null) {
+            final Record.Builder builder = factory.newRecordBuilder(shape.schema);
+            for (int i = 0; i < shape.entries.length; i++) {
+                append(builder, shape.entries[i], values.get(i));
+            }
+            return builder.build();
+        }
+
+        final Record.Builder builder = factory.newRecordBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            final String name = String.class.cast(layout.parts[i * 3]);
+            final Schema.Type type = Schema.Type.class.cast(layout.parts[i * 3 + 1]);
+            final Object value = values.get(i);
+            switch (type) {
+            case STRING:
+                builder.withString(name, String.class.cast(value));
+                break;
+            case DOUBLE:
+                builder.withDouble(name, Double.class.cast(value));
+                break;
+            case BOOLEAN:
+                builder.withBoolean(name, Boolean.class.cast(value));
+                break;
+            default: // record or array
+                append(builder,
+                        factory
+                                .newEntryBuilder()
+                                .withName(name)
+                                .withType(type)
+                                .withElementSchema(Schema.class.cast(layout.parts[i * 3 + 2]))
+                                .build(),
+                        value);
+            }
+        }
+        final Record record = builder.build();
+        if (shapes.size() < MAX_CACHED_LAYOUTS) {
+            final List<Schema.Entry> entries = record.getSchema().getEntries();
+            if (entries.size() == values.size()) { // else a name collision was solved by the builder
+                shapes.putIfAbsent(layout, new Shape(record.getSchema(), entries.toArray(new Schema.Entry[0])));
+            }
+        }
+        return record;
+    }
+
+    private void append(final Record.Builder builder, final Schema.Entry entry, final Object value) {
+        switch (entry.getType()) {
+        case STRING:
+            builder.withString(entry, String.class.cast(value));
+            break;
+        case DOUBLE:
+            builder.withDouble(entry, Double.class.cast(value));
+            break;
+        case BOOLEAN:
+            builder.withBoolean(entry, Boolean.class.cast(value));
+            break;
+        case RECORD:
+            builder.withRecord(entry, Record.class.cast(value));
+            break;
+        case ARRAY:
+            builder.withArray(entry, List.class.cast(value));
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported entry: " + entry);
+        }
+    }
+
+    private static JsonParserFactory getParserFactory() {
+        if (parserFactory == null) {
+            synchronized (JsonRecordReader.class) {
+                if (parserFactory == null) {
+                    parserFactory = Json.createParserFactory(emptyMap());
+                }
+            }
+        }
+        return parserFactory;
+    }
+
+    @RequiredArgsConstructor
+    private static class Shape {
+
+        private final Schema schema;
+
+        private final Schema.Entry[] entries;
+    }
+
+    private static class Layout {
+
+        private final Object[] parts;
+
+        private final int hash;
+
+        private Layout(final Object[] parts) {
+            this.parts = parts;
+            this.hash = Arrays.hashCode(parts);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            return this == obj || Layout.class.isInstance(obj) && Arrays.equals(parts, Layout.class.cast(obj).parts);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -20,7 +20,13 @@ import static java.util.stream.Collectors.toMap;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.UnaryOperator;
 
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.record.Schema;
@@ -32,6 +38,14 @@ import lombok.Data;
 @Data
 public class RecordBuilderFactoryImpl implements RecordBuilderFactory, Serializable {
 
+    // structurally equal schemas built through the factory share the same instance
+    private static final boolean INTERN_SCHEMAS =
+            Boolean.parseBoolean(System.getProperty("talend.component.runtime.record.schema.intern", "true"));
+
+    private static final ConcurrentMap<SchemaKey, SchemaKey> SCHEMAS = new ConcurrentHashMap<>();
+
+    private static final ReferenceQueue<Schema> COLLECTED_SCHEMAS = new ReferenceQueue<>();
+
     protected final String plugin;
 
     @Override
@@ -39,7 +53,9 @@ public class RecordBuilderFactoryImpl implements RecordBuilderFactory, Serializa
         switch (type) {
         case RECORD:
         case ARRAY:
-            return new SchemaImpl.BuilderImpl().withType(type);
+            final UnaryOperator<Schema> interner =
+                    INTERN_SCHEMAS ? RecordBuilderFactoryImpl::intern : UnaryOperator.identity();
+            return new SchemaImpl.BuilderImpl(interner).withType(type);
         default:
             return Schemas.valueOf(type.name());
         }
@@ -139,6 +155,51 @@ public class RecordBuilderFactoryImpl implements RecordBuilderFactory, Serializa
         return new SchemaImpl.EntryImpl.BuilderImpl();
     }
 
+    static Schema intern(final Schema schema) {
+        Reference<? extends Schema> collected;
+        while ((collected = COLLECTED_SCHEMAS.poll()) != null) {
+            SCHEMAS.remove(collected);
+        }
+        final SchemaKey key = new SchemaKey(schema, COLLECTED_SCHEMAS);
+        final SchemaKey existing = SCHEMAS.putIfAbsent(key, key);
+        if (existing == null) {
+            return schema;
+        }
+        final Schema value = existing.get();
+        // equal keys have a live referent so null means it was collected in between, the built one is fine then
+        return value == null ? schema : value;
+    }
+
+    /**
+     * Weak key of the schema pool, a collected key is only equal to itself so it can still be removed.
+     */
+    private static final class SchemaKey extends WeakReference<Schema> {
+
+        private final int hash;
+
+        private SchemaKey(final Schema schema, final ReferenceQueue<Schema> queue) {
+            super(schema, queue);
+            this.hash = schema.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!SchemaKey.class.isInstance(obj)) {
+                return false;
+            }
+            final Schema schema = get();
+            return schema != null && schema.equals(SchemaKey.class.cast(obj).get());
+        }
+    }
+
     Object writeReplace() throws ObjectStreamException {
         return new SerializableService(plugin, RecordBuilderFactory.class.getName());
     }
@@ -15,11 +15,11 @@
  */
 package org.talend.sdk.component.runtime.record;
 
-import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.io.StringReader;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -62,6 +62,8 @@ import lombok.Data;
 
 public class RecordConverters implements Serializable {
 
+    private transient volatile JsonRecordReader jsonRecordReader;
+
     public <T> Record toRecord(final MappingMetaRegistry registry, final T data, final Supplier<Jsonb> jsonbProvider,
             final Supplier<RecordBuilderFactory> recordBuilderProvider) {
         if (data == null) {
@@ -71,7 +73,7 @@ public class RecordConverters implements Serializable {
             return Record.class.cast(data);
         }
         if (JsonObject.class.isInstance(data)) {
-            return json2Record(recordBuilderProvider.get(), JsonObject.class.cast(data));
+            return getJsonRecordReader(recordBuilderProvider.get()).read(JsonObject.class.cast(data));
         }
 
         final MappingMeta meta = registry.find(data.getClass());
@@ -89,57 +91,19 @@ public class RecordConverters implements Serializable {
             }
             return holder.getRecord();
         }
-        return json2Record(recordBuilderProvider.get(), jsonb.fromJson(jsonb.toJson(data), JsonObject.class));
+        return getJsonRecordReader(recordBuilderProvider.get()).read(new StringReader(jsonb.toJson(data)));
     }
 
-    private Record json2Record(final RecordBuilderFactory factory, final JsonObject object) {
-        final Record.Builder builder = factory.newRecordBuilder();
-        object.forEach((key, value) -> {
-            switch (value.getValueType()) {
-            case ARRAY: {
-                final List<Object> items =
-                        value.asJsonArray().stream().map(it -> mapJson(factory, it)).collect(toList());
-                builder
-                        .withArray(factory
-                                .newEntryBuilder()
-                                .withName(key)
-                                .withType(Schema.Type.ARRAY)
-                                .withElementSchema(getArrayElementSchema(factory, items))
-                                .build(), items);
-                break;
-            }
-            case OBJECT: {
-                final Record record = json2Record(factory, value.asJsonObject());
-                builder
-                        .withRecord(factory
-                                .newEntryBuilder()
-                                .withName(key)
-                                .withType(Schema.Type.RECORD)
-                                .withElementSchema(record.getSchema())
-                                .build(), record);
-                break;
-            }
-            case TRUE:
-            case FALSE:
-                builder.withBoolean(key, JsonValue.TRUE.equals(value));
-                break;
-            case STRING:
-                builder.withString(key, JsonString.class.cast(value).getString());
-                break;
-            case NUMBER:
-                final JsonNumber number = JsonNumber.class.cast(value);
-                builder.withDouble(key, number.doubleValue());
-                break;
-            case NULL:
-                break;
-            default:
-                throw new IllegalArgumentException("Unsupported value type: " + value);
-            }
-        });
-        return builder.build();
+    private JsonRecordReader getJsonRecordReader(final RecordBuilderFactory factory) {
+        JsonRecordReader reader = jsonRecordReader;
+        if (reader == null || reader.getFactory() != factory) { // keep the layouts cache while the factory is the same
+            reader = new JsonRecordReader(factory);
+            jsonRecordReader = reader;
+        }
+        return reader;
     }
 
-    private Schema getArrayElementSchema(final RecordBuilderFactory factory, final List<Object> items) {
+    static Schema getArrayElementSchema(final RecordBuilderFactory factory, final List<Object> items) {
         if (items.isEmpty()) {
             return factory.newSchemaBuilder(Schema.Type.STRING).build();
         }
@@ -170,31 +134,6 @@ public class RecordConverters implements Serializable {
         }
     }
 
-    private Object mapJson(final RecordBuilderFactory factory, final JsonValue it) {
-        if (JsonObject.class.isInstance(it)) {
-            return json2Record(factory, JsonObject.class.cast(it));
-        }
-        if (JsonArray.class.isInstance(it)) {
-            return JsonArray.class.cast(it).stream().map(i -> mapJson(factory, i)).collect(toList());
-        }
-        if (JsonString.class.isInstance(it)) {
-            return JsonString.class.cast(it).getString();
-        }
-        if (JsonNumber.class.isInstance(it)) {
-            return JsonNumber.class.cast(it).numberValue();
-        }
-        if (JsonValue.FALSE.equals(it)) {
-            return false;
-        }
-        if (JsonValue.TRUE.equals(it)) {
-            return true;
-        }
-        if (JsonValue.NULL.equals(it)) {
-            return null;
-        }
-        return it;
-    }
-
     public static Schema toSchema(final RecordBuilderFactory factory, final Object next) {
         if (String.class.isInstance(next) || JsonString.class.isInstance(next)) {
             return factory.newSchemaBuilder(Schema.Type.STRING).build();
@@ -444,6 +383,53 @@ public class RecordConverters implements Serializable {
         return expectedType.cast(value);
     }
 
+    public int coerceInt(final Object value, final String name) {
+        if (Integer.class.isInstance(value)) {
+            return Integer.class.cast(value);
+        }
+        if (Number.class.isInstance(value)) {
+            return Number.class.cast(value).intValue();
+        }
+        return coerce(Integer.class, value, name);
+    }
+
+    public long coerceLong(final Object value, final String name) {
+        if (Long.class.isInstance(value)) {
+            return Long.class.cast(value);
+        }
+        if (Number.class.isInstance(value)) {
+            return Number.class.cast(value).longValue();
+        }
+        return coerce(Long.class, value, name);
+    }
+
+    public double coerceDouble(final Object value, final String name) {
+        if (Double.class.isInstance(value)) {
+            return Double.class.cast(value);
+        }
+        if (Number.class.isInstance(value)) {
+            return Number.class.cast(value).doubleValue();
+        }
+        return coerce(Double.class, value, name);
+    }
+
+    public float coerceFloat(final Object value, final String name) {
+        if (Float.class.isInstance(value)) {
+            return Float.class.cast(value);
+        }
+        if (Number.class.isInstance(value)) {
+            return Number.class.cast(value).floatValue();
+        }
+        return coerce(Float.class, value, name);
+    }
+
+    public boolean coerceBoolean(final Object value, final String name) {
+        if (Boolean.class.isInstance(value)) {
+            return Boolean.class.cast(value);
+        }
+        return coerce(Boolean.class, value, name);
+    }
+
     @Data
     public static class MappingMeta {
 
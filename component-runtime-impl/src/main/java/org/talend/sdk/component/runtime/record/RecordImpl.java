@@ -87,6 +87,56 @@ public final class RecordImpl implements Record {
         return RECORD_CONVERTERS.coerce(expectedType, value, name);
     }
 
+    @Override
+    public int getInt(final String name) {
+        return RECORD_CONVERTERS.coerceInt(values.get(name), name);
+    }
+
+    @Override
+    public int getInt(final Entry entry) {
+        return RECORD_CONVERTERS.coerceInt(values.get(entry.getName()), entry.getName());
+    }
+
+    @Override
+    public long getLong(final String name) {
+        return RECORD_CONVERTERS.coerceLong(values.get(name), name);
+    }
+
+    @Override
+    public long getLong(final Entry entry) {
+        return RECORD_CONVERTERS.coerceLong(values.get(entry.getName()), entry.getName());
+    }
+
+    @Override
+    public double getDouble(final String name) {
+        return RECORD_CONVERTERS.coerceDouble(values.get(name), name);
+    }
+
+    @Override
+    public double getDouble(final Entry entry) {
+        return RECORD_CONVERTERS.coerceDouble(values.get(entry.getName()), entry.getName());
+    }
+
+    @Override
+    public float getFloat(final String name) {
+        return RECORD_CONVERTERS.coerceFloat(values.get(name), name);
+    }
+
+    @Override
+    public float getFloat(final Entry entry) {
+        return RECORD_CONVERTERS.coerceFloat(values.get(entry.getName()), entry.getName());
+    }
+
+    @Override
+    public boolean getBoolean(final String name) {
+        return RECORD_CONVERTERS.coerceBoolean(values.get(name), name);
+    }
+
+    @Override
+    public boolean getBoolean(final Entry entry) {
+        return RECORD_CONVERTERS.coerceBoolean(values.get(entry.getName()), entry.getName());
+    }
+
     @Override // for debug purposes, don't use it for anything else
     public String toString() {
         try (final Jsonb jsonb = JsonbBuilder
@@ -147,7 +197,7 @@ public final class RecordImpl implements Record {
             this.providedSchema = null;
             this.entries = new OrderedMap<>(Schema.Entry::getName, entries);
             this.values.putAll(values);
-            this.orderState = null;
+            this.orderState = new OrderState(entries);
         }
 
         @Override
@@ -278,6 +328,15 @@ public final class RecordImpl implements Record {
 
         private Schema.Entry validateTypeAgainstProvidedSchema(final String name, final Schema.Type type,
                 final Object value) {
+            final Schema.Entry entry = validateTypeAgainstProvidedSchema(name, type);
+            if (entry != null && value == null && !entry.isNullable()) {
+                throw new IllegalArgumentException("Entry '" + name + "' is not nullable");
+            }
+            return entry;
+        }
+
+        // primitive flavor, avoids to box the value only to check it is not null
+        private Schema.Entry validateTypeAgainstProvidedSchema(final String name, final Schema.Type type) {
             if (this.providedSchema == null) {
                 return null;
             }
@@ -287,9 +346,6 @@ public final class RecordImpl implements Record {
                 throw new IllegalArgumentException(
                         "Entry '" + name + "' expected to be a " + entry.getType() + ", got a " + type);
             }
-            if (value == null && !entry.isNullable()) {
-                throw new IllegalArgumentException("Entry '" + name + "' is not nullable");
-            }
             return entry;
         }
 
@@ -374,7 +430,7 @@ public final class RecordImpl implements Record {
 
         public Builder withTimestamp(final Schema.Entry entry, final long value) {
             assertType(entry.getType(), DATETIME);
-            validateTypeAgainstProvidedSchema(entry.getName(), DATETIME, value);
+            validateTypeAgainstProvidedSchema(entry.getName(), DATETIME);
             return append(entry, value);
         }
 
@@ -385,7 +441,7 @@ public final class RecordImpl implements Record {
 
         public Builder withInt(final Schema.Entry entry, final int value) {
             assertType(entry.getType(), INT);
-            validateTypeAgainstProvidedSchema(entry.getName(), INT, value);
+            validateTypeAgainstProvidedSchema(entry.getName(), INT);
             return append(entry, value);
         }
 
@@ -396,7 +452,7 @@ public final class RecordImpl implements Record {
 
         public Builder withLong(final Schema.Entry entry, final long value) {
             assertType(entry.getType(), LONG);
-            validateTypeAgainstProvidedSchema(entry.getName(), LONG, value);
+            validateTypeAgainstProvidedSchema(entry.getName(), LONG);
             return append(entry, value);
         }
 
@@ -407,7 +463,7 @@ public final class RecordImpl implements Record {
 
         public Builder withFloat(final Schema.Entry entry, final float value) {
             assertType(entry.getType(), FLOAT);
-            validateTypeAgainstProvidedSchema(entry.getName(), FLOAT, value);
+            validateTypeAgainstProvidedSchema(entry.getName(), FLOAT);
             return append(entry, value);
         }
 
@@ -418,7 +474,7 @@ public final class RecordImpl implements Record {
 
         public Builder withDouble(final Schema.Entry entry, final double value) {
             assertType(entry.getType(), DOUBLE);
-            validateTypeAgainstProvidedSchema(entry.getName(), DOUBLE, value);
+            validateTypeAgainstProvidedSchema(entry.getName(), DOUBLE);
             return append(entry, value);
         }
 
@@ -429,7 +485,7 @@ public final class RecordImpl implements Record {
 
         public Builder withBoolean(final Schema.Entry entry, final boolean value) {
             assertType(entry.getType(), BOOLEAN);
-            validateTypeAgainstProvidedSchema(entry.getName(), BOOLEAN, value);
+            validateTypeAgainstProvidedSchema(entry.getName(), BOOLEAN);
             return append(entry, value);
         }
 
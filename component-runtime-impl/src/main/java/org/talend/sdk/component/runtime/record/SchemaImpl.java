@@ -15,7 +15,9 @@
  */
 package org.talend.sdk.component.runtime.record;
 
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
@@ -23,10 +25,12 @@ import static java.util.stream.Collectors.toMap;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
 
 import javax.json.bind.annotation.JsonbTransient;
@@ -59,31 +63,77 @@ public class SchemaImpl implements Schema {
     @JsonbTransient
     private final EntriesOrder entriesOrder;
 
+    @ToString.Exclude
+    @JsonbTransient
+    private volatile ColumnarRecord.Layout columnarLayout;
+
+    // schemas are immutable so lookups, ordering and hash are computed once
+    @ToString.Exclude
+    @JsonbTransient
+    private final Map<String, Entry> entriesByName;
+
+    @ToString.Exclude
+    @JsonbTransient
+    private final List<Entry> entriesOrdered;
+
+    @ToString.Exclude
+    @JsonbTransient
+    private int hash;
+
     public static final String ENTRIES_ORDER_PROP = "talend.fields.order";
 
+    private static final Class<?> READ_ONLY_PROPS = unmodifiableMap(emptyMap()).getClass();
+
     SchemaImpl(final SchemaImpl.BuilderImpl builder) {
         this.type = builder.type;
         this.elementSchema = builder.elementSchema;
         this.entries = unmodifiableList(builder.entries.streams().collect(toList()));
         this.metadataEntries = unmodifiableList(builder.metadataEntries.streams().collect(toList()));
-        this.props = builder.props;
-        entriesOrder = EntriesOrder.of(getFieldsOrder());
+        final Map<String, String> properties = new LinkedHashMap<>(builder.props);
+        String fieldsOrder = properties.get(ENTRIES_ORDER_PROP);
+        if (fieldsOrder == null || fieldsOrder.isEmpty()) {
+            fieldsOrder = getAllEntries().map(Entry::getName).collect(joining(","));
+            properties.put(ENTRIES_ORDER_PROP, fieldsOrder);
+        }
+        this.props = unmodifiableMap(properties);
+        entriesOrder = EntriesOrder.of(fieldsOrder);
+
+        final Map<String, Entry> byName = new HashMap<>(entries.size() + metadataEntries.size());
+        getAllEntries().forEach(entry -> byName.putIfAbsent(entry.getName(), entry));
+        this.entriesByName = byName;
+        this.entriesOrdered = unmodifiableList(getAllEntries().sorted(entriesOrder).collect(toList()));
     }
 
     /**
      * Optimized hashcode method (do not enter inside field hashcode, just getName, ignore props fields).
+     * It is computed once since the schema is immutable.
      *
      * @return hashcode.
      */
     @Override
     public int hashCode() {
-        final String e1 =
-                this.entries != null ? this.entries.stream().map(Entry::getName).collect(joining(",")) : "";
-        final String m1 = this.metadataEntries != null
-                ? this.metadataEntries.stream().map(Entry::getName).collect(joining(","))
-                : "";
+        int result = hash;
+        if (result == 0) {
+            result = computeHashCode();
+            hash = result;
+        }
+        return result;
+    }
 
-        return Objects.hash(this.type, this.elementSchema, e1, m1);
+    private int computeHashCode() {
+        int result = Objects.hash(this.type, this.elementSchema);
+        if (this.entries != null) {
+            for (final Entry entry : this.entries) {
+                result = 31 * result + entry.getName().hashCode();
+            }
+        }
+        result = 31 * result + 1;
+        if (this.metadataEntries != null) {
+            for (final Entry entry : this.metadataEntries) {
+                result = 31 * result + entry.getName().hashCode();
+            }
+        }
+        return result;
     }
 
     @Override
@@ -109,6 +159,14 @@ public class SchemaImpl implements Schema {
         return true;
     }
 
+    @Override
+    public Entry getEntry(final String name) {
+        if (entriesByName == null) { // not built through the constructor
+            return Schema.super.getEntry(name);
+        }
+        return entriesByName.get(name);
+    }
+
     @Override
     public String getProp(final String property) {
         return props.get(property);
@@ -141,7 +199,7 @@ public class SchemaImpl implements Schema {
     @Override
     @JsonbTransient
     public List<Entry> getEntriesOrdered() {
-        return getAllEntries().sorted(entriesOrder).collect(toList());
+        return entriesOrdered;
     }
 
     @Override
@@ -150,13 +208,11 @@ public class SchemaImpl implements Schema {
         return entriesOrder;
     }
 
-    private String getFieldsOrder() {
-        String fields = getProp(ENTRIES_ORDER_PROP);
-        if (fields == null || fields.isEmpty()) {
-            fields = getAllEntries().map(Entry::getName).collect(joining(","));
-            props.put(ENTRIES_ORDER_PROP, fields);
+    ColumnarRecord.Layout getColumnarLayout() {
+        if (columnarLayout == null) {
+            columnarLayout = new ColumnarRecord.Layout(this);
         }
-        return fields;
+        return columnarLayout;
     }
 
     public static class BuilderImpl implements Builder {
@@ -171,8 +227,21 @@ public class SchemaImpl implements Schema {
 
         private Map<String, String> props = new LinkedHashMap<>(0);
 
+        // false when props are the read only props of a built schema, they are then copied on first write
+        private boolean propsOwned = true;
+
         private List<String> entriesOrder = new ArrayList<>();
 
+        private final UnaryOperator<Schema> interner;
+
+        public BuilderImpl() {
+            this(UnaryOperator.identity());
+        }
+
+        BuilderImpl(final UnaryOperator<Schema> interner) {
+            this.interner = interner;
+        }
+
         @Override
         public Builder withElementSchema(final Schema schema) {
             if (type != Type.ARRAY && schema != null) {
@@ -236,14 +305,23 @@ public class SchemaImpl implements Schema {
 
         @Override
         public Builder withProp(final String key, final String value) {
-            props.put(key, value);
+            putProp(key, value);
             return this;
         }
 
+        private void putProp(final String key, final String value) {
+            if (!propsOwned) {
+                props = new LinkedHashMap<>(props);
+                propsOwned = true;
+            }
+            props.put(key, value);
+        }
+
         @Override
         public Builder withProps(final Map<String, String> props) {
             if (props != null) {
                 this.props = props;
+                this.propsOwned = !READ_ONLY_PROPS.isInstance(props);
             }
             return this;
         }
@@ -306,18 +384,18 @@ public class SchemaImpl implements Schema {
         @Override
         public Schema build() {
             if (this.entriesOrder != null && !this.entriesOrder.isEmpty()) {
-                this.props.put(ENTRIES_ORDER_PROP, entriesOrder.stream().collect(joining(",")));
+                putProp(ENTRIES_ORDER_PROP, entriesOrder.stream().collect(joining(",")));
             }
-            return new SchemaImpl(this);
+            return interner.apply(new SchemaImpl(this));
         }
 
         @Override
         public Schema build(final Comparator<Entry> order) {
             final String entriesOrderProp =
                     this.getAllEntries().sorted(order).map(Entry::getName).collect(joining(","));
-            this.props.put(ENTRIES_ORDER_PROP, entriesOrderProp);
+            putProp(ENTRIES_ORDER_PROP, entriesOrderProp);
 
-            return new SchemaImpl(this);
+            return interner.apply(new SchemaImpl(this));
         }
 
         private Schema.Entry getEntry(final String name) {
@@ -0,0 +1,77 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.reflect;
+
+import static java.lang.invoke.MethodType.methodType;
+import static org.talend.sdk.component.runtime.base.lang.exception.InvocationExceptionWrapper.toRuntimeException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+
+import lombok.Getter;
+
+/**
+ * A component method bound once to its instance, the arguments are spread from a fixed size array
+ * and the return is boxed (null for void methods) so call sites only use an {@code invokeExact}.
+ * Exceptions are mapped as for a reflective call.
+ */
+public final class MethodInvoker {
+
+    @Getter
+    private final Method method;
+
+    private final MethodHandle handle;
+
+    private final boolean noArg;
+
+    public MethodInvoker(final Object instance, final Method method) {
+        this.method = method;
+        this.noArg = method.getParameterCount() == 0;
+        try {
+            method.setAccessible(true); // unconditionally, isAccessible() is deprecated
+            final MethodHandle bound = MethodHandles.lookup().unreflect(method).bindTo(instance);
+            this.handle = noArg ? bound.asType(methodType(Object.class))
+                    : bound
+                            .asSpreader(Object[].class, method.getParameterCount())
+                            .asType(methodType(Object.class, Object[].class));
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public Object invoke() {
+        if (!noArg) {
+            throw new IllegalArgumentException(method + " expects " + method.getParameterCount() + " parameter(s)");
+        }
+        try {
+            return handle.invokeExact();
+        } catch (final Throwable e) {
+            throw toRuntimeException(e);
+        }
+    }
+
+    public Object invoke(final Object[] args) {
+        if (noArg) {
+            return invoke();
+        }
+        try {
+            return handle.invokeExact(args);
+        } catch (final Throwable e) {
+            throw toRuntimeException(e);
+        }
+    }
+}
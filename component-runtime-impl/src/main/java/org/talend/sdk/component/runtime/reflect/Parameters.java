@@ -20,6 +20,7 @@ import static lombok.AccessLevel.PRIVATE;
 
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 
 import javax.json.JsonObject;
@@ -44,4 +45,23 @@ public class Parameters {
         return Collection.class.isAssignableFrom(containerType)
                 && asList(Record.class, JsonObject.class).contains(parameterizedType.getActualTypeArguments()[0]);
     }
+
+    /**
+     * @param type the parameter type of an {@code @ElementListener}.
+     * @return true if the parameter receives a whole chunk of records: a {@code Collection}, {@code List} or
+     * {@code Iterable} of {@code Record} or {@code JsonObject}.
+     */
+    public static boolean isBatchInput(final Type type) {
+        if (!ParameterizedType.class.isInstance(type)) {
+            return false;
+        }
+        final ParameterizedType parameterizedType = ParameterizedType.class.cast(type);
+        if (!Class.class.isInstance(parameterizedType.getRawType())
+                || parameterizedType.getActualTypeArguments().length != 1) {
+            return false;
+        }
+        final Class<?> containerType = Class.class.cast(parameterizedType.getRawType());
+        return Iterable.class.isAssignableFrom(containerType) && containerType.isAssignableFrom(ArrayList.class)
+                && asList(Record.class, JsonObject.class).contains(parameterizedType.getActualTypeArguments()[0]);
+    }
 }
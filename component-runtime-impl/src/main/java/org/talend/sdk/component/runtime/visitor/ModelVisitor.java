@@ -37,10 +37,12 @@ import java.util.stream.Stream;
 import org.talend.sdk.component.api.component.AfterVariables.AfterVariable;
 import org.talend.sdk.component.api.component.AfterVariables.AfterVariableContainer;
 import org.talend.sdk.component.api.input.Assessor;
+import org.talend.sdk.component.api.input.DynamicSplit;
 import org.talend.sdk.component.api.input.Emitter;
 import org.talend.sdk.component.api.input.PartitionMapper;
 import org.talend.sdk.component.api.input.PartitionSize;
 import org.talend.sdk.component.api.input.Producer;
+import org.talend.sdk.component.api.input.Progress;
 import org.talend.sdk.component.api.input.Split;
 import org.talend.sdk.component.api.processor.AfterGroup;
 import org.talend.sdk.component.api.processor.BeforeGroup;
@@ -148,6 +150,7 @@ public class ModelVisitor {
                     if (m.getParameterCount() > 0) {
                         throw new IllegalArgumentException(m + " must not have any parameter");
                     }
+                    validateRebalancing(m.getReturnType());
                 });
 
         validateAfterVariableAnnotationDeclaration(type);
@@ -164,6 +167,7 @@ public class ModelVisitor {
         if (producers.get(0).getParameterCount() > 0) {
             throw new IllegalArgumentException(producers.get(0) + " must not have any parameter");
         }
+        validateRebalancing(input);
 
         validateAfterVariableAnnotationDeclaration(input);
         validateAfterVariableContainer(input);
@@ -224,6 +228,17 @@ public class ModelVisitor {
         }).filter(p -> !p.isAnnotationPresent(Output.class)).count() < 1) {
             throw new IllegalArgumentException(input + " doesn't have the input parameter on its producer method");
         }
+        if (!producers.isEmpty()
+                && Stream
+                        .of(producers.get(0).getParameters())
+                        .anyMatch(p -> Parameters.isBatchInput(p.getParameterizedType()))
+                && Stream
+                        .of(producers.get(0).getParameters())
+                        .filter(p -> !p.isAnnotationPresent(Output.class))
+                        .count() > 1) {
+            throw new IllegalArgumentException(
+                    producers.get(0) + " can only have a single input when it takes a chunk of records");
+        }
 
         Stream.of(input.getMethods()).filter(m -> m.isAnnotationPresent(BeforeGroup.class)).forEach(m -> {
             if (m.getParameterCount() > 0) {
@@ -235,6 +250,45 @@ public class ModelVisitor {
         validateAfterVariableContainer(input);
     }
 
+    private void validateRebalancing(final Class<?> producer) {
+        final List<Method> progresses =
+                Stream.of(producer.getMethods()).filter(m -> m.isAnnotationPresent(Progress.class)).collect(toList());
+        if (progresses.size() > 1) {
+            throw new IllegalArgumentException(producer + " must have a single @Progress method");
+        }
+        progresses.forEach(m -> {
+            if (m.getParameterCount() > 0) {
+                throw new IllegalArgumentException(m + " must not have any parameter");
+            }
+            if (!isNumber(m.getReturnType())) {
+                throw new IllegalArgumentException(m + " must return a double");
+            }
+        });
+
+        final List<Method> splits = Stream
+                .of(producer.getMethods())
+                .filter(m -> m.isAnnotationPresent(DynamicSplit.class))
+                .collect(toList());
+        if (splits.size() > 1) {
+            throw new IllegalArgumentException(producer + " must have a single @DynamicSplit method");
+        }
+        splits.forEach(m -> {
+            if (m.getParameterCount() != 1
+                    || (m.getParameterTypes()[0] != double.class && m.getParameterTypes()[0] != Double.class)) {
+                throw new IllegalArgumentException(m + " must take a single double parameter (the split fraction)");
+            }
+            if (!Collection.class.isAssignableFrom(m.getReturnType())) {
+                throw new IllegalArgumentException(
+                        m + " must return a Collection with the primary and residual partition mappers");
+            }
+        });
+    }
+
+    private boolean isNumber(final Class<?> type) {
+        return type == double.class || type == float.class || type == long.class || type == int.class
+                || Number.class.isAssignableFrom(type);
+    }
+
     private boolean validOutputParam(final Parameter p) {
         if (!ParameterizedType.class.isInstance(p.getParameterizedType())) {
             return false;
@@ -15,26 +15,37 @@
  */
 package org.talend.sdk.component.runtime.input;
 
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 import org.talend.sdk.component.api.input.Assessor;
+import org.talend.sdk.component.api.input.DynamicSplit;
 import org.talend.sdk.component.api.input.Emitter;
 import org.talend.sdk.component.api.input.PartitionSize;
 import org.talend.sdk.component.api.input.Producer;
+import org.talend.sdk.component.api.input.Progress;
 import org.talend.sdk.component.api.input.Split;
 import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.runtime.serialization.Serializer;
 
+import lombok.AllArgsConstructor;
+
 public class PartitionMapperImplTest {
 
     @Test
@@ -64,6 +75,52 @@ public class PartitionMapperImplTest {
         assertTrue(StreamingInputImpl.class.isInstance(input));
     }
 
+    @Test
+    void dynamicSplit() {
+        final Input input = new PartitionMapperImpl("Root", "Test", null, "Plugin", false, new RangeMapper(0, 10))
+                .create();
+        input.start();
+        assertEquals(0., input.getFractionConsumed());
+        assertEquals("0", input.next());
+        assertEquals("1", input.next());
+        assertEquals(.2, input.getFractionConsumed(), 1e-6);
+        assertTrue(input.splitAtFraction(.1).isEmpty()); // already read
+
+        final List<Mapper> split = input.splitAtFraction(.5);
+        assertEquals(2, split.size());
+        assertEquals(asList("0", "1", "2", "3", "4"), read(split.get(0).create()));
+        assertEquals(asList("5", "6", "7", "8", "9"), read(split.get(1).create()));
+        assertEquals(asList("2", "3", "4"), read(input)); // the input stops at the split
+        assertEquals(1., input.getFractionConsumed());
+    }
+
+    @Test
+    void dynamicSplitIsSerializedWithProducer() throws InterruptedException {
+        final Input input =
+                new PartitionMapperImpl("Root", "Test", null, "Plugin", false, new BlockingMapper()).create();
+        input.start();
+        final Thread reader = new Thread(input::next);
+        reader.start();
+        assertTrue(BlockingIn.READING.await(1, TimeUnit.MINUTES));
+
+        final Thread splitter = new Thread(() -> input.splitAtFraction(.5));
+        splitter.start();
+        splitter.join(200); // the split must wait for the producer
+        assertTrue(splitter.isAlive());
+
+        BlockingIn.RELEASE.countDown();
+        reader.join(TimeUnit.MINUTES.toMillis(1));
+        splitter.join(TimeUnit.MINUTES.toMillis(1));
+        assertFalse(BlockingIn.OVERLAP.get());
+    }
+
+    @Test
+    void noDynamicSplit() {
+        final Input input = new PartitionMapperImpl("Root", "Test", null, "Plugin", false, new SampleMapper()).create();
+        assertEquals(-1., input.getFractionConsumed());
+        assertTrue(input.splitAtFraction(.5).isEmpty());
+    }
+
     @Test
     void serialization() throws IOException, ClassNotFoundException {
         final Mapper mapper = new PartitionMapperImpl("Root", "Test", null, "Plugin", false, new SampleMapper());
@@ -74,6 +131,15 @@ public class PartitionMapperImplTest {
         assertEquals("Plugin", copy.plugin());
     }
 
+    private List<Object> read(final Input input) {
+        final List<Object> values = new ArrayList<>();
+        Object next;
+        while ((next = input.next()) != null) {
+            values.add(next);
+        }
+        return values;
+    }
+
     private void assertInput(final Mapper mapper) {
         assertTrue(Input.class.isInstance(mapper.create()));
         assertTrue(Record.class.isInstance(mapper.create().next())); // it was a sample in
@@ -105,6 +171,95 @@ public class PartitionMapperImplTest {
         }
     }
 
+    @AllArgsConstructor
+    public static class RangeMapper implements Serializable {
+
+        private final int from;
+
+        private final int to;
+
+        @Split
+        public Collection<RangeMapper> split() {
+            return singletonList(this);
+        }
+
+        @Emitter
+        public RangeIn create() {
+            return new RangeIn(from, to, from);
+        }
+    }
+
+    @AllArgsConstructor
+    public static class RangeIn implements Serializable {
+
+        private final int from;
+
+        private volatile int to;
+
+        private volatile int current;
+
+        @Producer
+        public String next() {
+            return current < to ? Integer.toString(current++) : null;
+        }
+
+        @Progress
+        public double progress() {
+            return (current - from) / (double) (to - from);
+        }
+
+        @DynamicSplit
+        public Collection<RangeMapper> split(final double fraction) {
+            final int splitPosition = from + (int) Math.round((to - from) * fraction);
+            if (splitPosition <= current || splitPosition >= to) {
+                return null;
+            }
+            final Collection<RangeMapper> split =
+                    asList(new RangeMapper(from, splitPosition), new RangeMapper(splitPosition, to));
+            to = splitPosition;
+            return split;
+        }
+    }
+
+    public static class BlockingMapper implements Serializable {
+
+        @Split
+        public Collection<BlockingMapper> split() {
+            return singletonList(this);
+        }
+
+        @Emitter
+        public BlockingIn create() {
+            return new BlockingIn();
+        }
+    }
+
+    public static class BlockingIn implements Serializable {
+
+        private static final CountDownLatch READING = new CountDownLatch(1);
+
+        private static final CountDownLatch RELEASE = new CountDownLatch(1);
+
+        private static final AtomicBoolean OVERLAP = new AtomicBoolean();
+
+        private volatile boolean reading;
+
+        @Producer
+        public String next() throws InterruptedException {
+            reading = true;
+            READING.countDown();
+            RELEASE.await(1, TimeUnit.MINUTES);
+            reading = false;
+            return "done";
+        }
+
+        @DynamicSplit
+        public Collection<BlockingMapper> split(final double fraction) {
+            OVERLAP.compareAndSet(false, reading);
+            return null;
+        }
+    }
+
     public static class Sample {
 
     }
@@ -23,17 +23,20 @@ import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.IntStream;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
 
 import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.exception.ComponentException;
 import org.talend.sdk.component.api.processor.AfterGroup;
 import org.talend.sdk.component.api.processor.BeforeGroup;
 import org.talend.sdk.component.api.processor.ElementListener;
@@ -70,6 +73,38 @@ class ProcessorImplTest {
         processor.stop();
     }
 
+    @Test
+    void batchListener() {
+        final BatchListener delegate = new BatchListener();
+        final Processor processor = new ProcessorImpl("Root", "Test", "Plugin", emptyMap(), delegate);
+        final Collection<Object> emitted = new ArrayList<>();
+        final OutputFactory output = name -> emitted::add;
+        final Collection<Record> data = IntStream
+                .rangeClosed(1, 3)
+                .mapToObj(idx -> new RecordImpl.BuilderImpl().withInt("value", idx).build())
+                .collect(toList());
+        processor.start();
+
+        // per element delivery, the listener gets the chunk when the group ends
+        processor.beforeGroup();
+        data.forEach(it -> processor.onNext(n -> it, output));
+        assertEquals(emptyList(), delegate.chunks);
+        processor.afterGroup(output);
+        assertEquals(singletonList(data), delegate.chunks);
+        assertEquals(data, emitted);
+
+        // chunk delivery
+        delegate.chunks.clear();
+        emitted.clear();
+        processor.beforeGroup();
+        processor.onBatch(data.stream().map(it -> (InputFactory) n -> it).collect(toList()), output);
+        assertEquals(singletonList(data), delegate.chunks);
+        assertEquals(data, emitted);
+        processor.afterGroup(output);
+        assertEquals(1, delegate.chunks.size());
+        processor.stop();
+    }
+
     @Test
     void lifecycle() {
         assertLifecycle(new SampleProcessor());
@@ -80,6 +115,18 @@ class ProcessorImplTest {
         assertLifecycle(new SampleOutput());
     }
 
+    @Test
+    void exceptionMapping() {
+        final Processor processor = new ProcessorImpl("Root", "Test", "Plugin", emptyMap(), new Failing());
+        processor.start();
+        processor.beforeGroup();
+        assertEquals("fail{1}", assertThrows(IllegalArgumentException.class,
+                () -> processor.onNext(name -> new Sample(1), NO_OUTPUT)).getMessage());
+        final ComponentException checked = assertThrows(ComponentException.class, () -> processor.afterGroup(null));
+        assertEquals(IOException.class.getName(), checked.getOriginalType());
+        processor.stop();
+    }
+
     @Test
     void serialization() throws IOException, ClassNotFoundException {
         final Processor processor = new ProcessorImpl("Root", "Test", "Plugin", emptyMap(), new SampleOutput());
@@ -172,6 +219,30 @@ class ProcessorImplTest {
         }
     }
 
+    public static class BatchListener implements Serializable {
+
+        private final Collection<Collection<Record>> chunks = new ArrayList<>();
+
+        @ElementListener
+        public Collection<Record> onChunk(final List<Record> records) {
+            chunks.add(records);
+            return records;
+        }
+    }
+
+    public static class Failing implements Serializable {
+
+        @ElementListener
+        public void onNext(final Sample sample) {
+            throw new IllegalArgumentException("fail{" + sample.data + "}");
+        }
+
+        @AfterGroup
+        public void afterGroup() throws IOException {
+            throw new IOException("commit");
+        }
+    }
+
     public static class SampleOutput extends Base {
 
         @ElementListener
@@ -0,0 +1,192 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.record;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+class ColumnarRecordTest {
+
+    private final RecordBuilderFactory factory = new ColumnarRecordBuilderFactory("test");
+
+    private final RecordBuilderFactory reference = new RecordBuilderFactoryImpl("test");
+
+    private final Schema schema = factory
+            .newSchemaBuilder(Schema.Type.RECORD)
+            .withEntry(factory.newEntryBuilder().withName("name").withType(Schema.Type.STRING).build())
+            .withEntry(factory.newEntryBuilder().withName("age").withType(Schema.Type.INT).build())
+            .withEntry(factory.newEntryBuilder().withName("id").withType(Schema.Type.LONG).build())
+            .withEntry(factory.newEntryBuilder().withName("salary").withType(Schema.Type.DOUBLE).build())
+            .withEntry(factory.newEntryBuilder().withName("ratio").withType(Schema.Type.FLOAT).build())
+            .withEntry(factory.newEntryBuilder().withName("active").withType(Schema.Type.BOOLEAN).build())
+            .withEntry(factory
+                    .newEntryBuilder()
+                    .withName("birth")
+                    .withType(Schema.Type.DATETIME)
+                    .withNullable(true)
+                    .build())
+            .withEntry(factory
+                    .newEntryBuilder()
+                    .withName("data")
+                    .withType(Schema.Type.BYTES)
+                    .withNullable(true)
+                    .build())
+            .withEntry(factory
+                    .newEntryBuilder()
+                    .withName("tags")
+                    .withType(Schema.Type.ARRAY)
+                    .withNullable(true)
+                    .withElementSchema(factory.newSchemaBuilder(Schema.Type.STRING).build())
+                    .build())
+            .build();
+
+    @Test
+    void builderType() {
+        assertTrue(ColumnarRecord.BuilderImpl.class.isInstance(factory.newRecordBuilder(schema)));
+        assertTrue(RecordImpl.BuilderImpl.class.isInstance(factory.newRecordBuilder()));
+    }
+
+    @Test
+    void sameValuesAsMapRecord() {
+        final ZonedDateTime birth = ZonedDateTime.of(2000, 1, 2, 3, 4, 5, 0, ZoneId.of("UTC"));
+        final Record columnar = fill(factory.newRecordBuilder(schema), birth).build();
+        final Record map = fill(reference.newRecordBuilder(schema), birth).build();
+
+        schema.getAllEntries().forEach(entry -> {
+            final Object expected = map.get(Object.class, entry.getName());
+            final Object actual = columnar.get(Object.class, entry.getName());
+            if (byte[].class.isInstance(expected)) {
+                assertArrayEquals(byte[].class.cast(expected), byte[].class.cast(actual));
+            } else {
+                assertEquals(expected, actual, entry.getName());
+            }
+        });
+        assertEquals("bob", columnar.getString("name"));
+        assertEquals(35, columnar.getInt("age"));
+        assertEquals(35L, columnar.getLong("age"));
+        assertEquals(1234567890123L, columnar.getLong("id"));
+        assertEquals(1234.5, columnar.getDouble("salary"));
+        assertEquals(0.5f, columnar.getFloat("ratio"));
+        assertTrue(columnar.getBoolean("active"));
+        assertEquals(birth, columnar.getDateTime("birth"));
+        assertEquals(asList("a", "b"), columnar.getArray(String.class, "tags"));
+        assertNull(columnar.get(String.class, "missing"));
+        assertEquals(map.toString(), columnar.toString());
+    }
+
+    @Test
+    void primitiveEntryAccessors() {
+        final Record columnar = fill(factory.newRecordBuilder(schema), null).build();
+        final Record map = fill(reference.newRecordBuilder(schema), null).build();
+        for (final Record record : asList(columnar, map)) {
+            assertEquals(35, record.getInt(schema.getEntry("age")));
+            assertEquals(35L, record.getLong(schema.getEntry("age")));
+            assertEquals(35., record.getDouble(schema.getEntry("age")));
+            assertEquals(1234567890123L, record.getLong(schema.getEntry("id")));
+            assertEquals(1234.5, record.getDouble(schema.getEntry("salary")));
+            assertEquals(0.5f, record.getFloat(schema.getEntry("ratio")));
+            assertTrue(record.getBoolean(schema.getEntry("active")));
+        }
+    }
+
+    @Test
+    void nullable() {
+        final Record record = factory
+                .newRecordBuilder(schema)
+                .withString("name", "bob")
+                .withInt("age", 1)
+                .withLong("id", 2)
+                .withDouble("salary", 3)
+                .withFloat("ratio", 4)
+                .withBoolean("active", false)
+                .withDateTime("birth", (ZonedDateTime) null)
+                .build();
+        assertNull(record.getDateTime("birth"));
+        assertFalse(record.getOptionalBytes("data").isPresent());
+        assertFalse(record.getBoolean("active"));
+    }
+
+    @Test
+    void validation() {
+        assertThrows(IllegalArgumentException.class, () -> factory.newRecordBuilder(schema).withInt("name", 1));
+        assertThrows(IllegalArgumentException.class, () -> factory.newRecordBuilder(schema).withInt("other", 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> factory.newRecordBuilder(schema).withString("name", "bob").build());
+    }
+
+    @Test
+    void builderReuseDoesNotMutateRecord() {
+        final Record.Builder builder = fill(factory.newRecordBuilder(schema), null);
+        final Record first = builder.build();
+        final Record second = builder.withInt("age", 36).build();
+        assertEquals(35, first.getInt("age"));
+        assertEquals(36, second.getInt("age"));
+        assertEquals(first, fill(factory.newRecordBuilder(schema), null).build());
+    }
+
+    @Test
+    void schemaChanges() {
+        final Record.Builder builder = fill(factory.newRecordBuilder(schema), null);
+        final Record record = builder.removeEntry(schema.getEntry("tags")).build();
+        assertNull(record.getSchema().getEntry("tags"));
+        assertEquals("bob", record.getString("name"));
+
+        final Record ordered = fill(factory.newRecordBuilder(schema), null).before("name").withInt("age", 36).build();
+        assertEquals(36, ordered.getInt("age"));
+        assertEquals("age,name,id,salary,ratio,active,birth,data,tags",
+                ordered.getSchema().getEntriesOrdered().stream().map(Schema.Entry::getName).collect(joining(",")));
+    }
+
+    @Test
+    void withNewSchema() {
+        final Schema subset = factory
+                .newSchemaBuilder(Schema.Type.RECORD)
+                .withEntry(schema.getEntry("name"))
+                .withEntry(schema.getEntry("age"))
+                .build();
+        final Record record = fill(factory.newRecordBuilder(schema), null).build().withNewSchema(subset).build();
+        assertEquals("bob", record.getString("name"));
+        assertEquals(35, record.getInt("age"));
+        assertEquals(2, record.getSchema().getEntries().size());
+    }
+
+    private Record.Builder fill(final Record.Builder builder, final ZonedDateTime birth) {
+        return builder
+                .withString("name", "bob")
+                .withInt("age", 35)
+                .withLong("id", 1234567890123L)
+                .withDouble("salary", 1234.5)
+                .withFloat("ratio", 0.5f)
+                .withBoolean("active", true)
+                .withDateTime("birth", birth)
+                .withBytes("data", new byte[] { 1, 2 })
+                .withArray(schema.getEntry("tags"), asList("a", "b"));
+    }
+}
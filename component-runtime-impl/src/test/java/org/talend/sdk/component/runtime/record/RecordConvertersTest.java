@@ -17,11 +17,13 @@ package org.talend.sdk.component.runtime.record;
 
 import static java.time.format.DateTimeFormatter.ISO_ZONED_DATE_TIME;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import routines.system.IPersistableRow;
@@ -369,6 +371,41 @@ class RecordConvertersTest {
         }
     }
 
+    @Test
+    void jsonObjectsWithSameLayoutShareTheSchema(final JsonBuilderFactory jsonBuilderFactory,
+            final RecordBuilderFactory recordBuilderFactory, final RecordConverters converter) throws Exception {
+        try (final Jsonb jsonb = JsonbBuilder.create()) {
+            final Record first = converter
+                    .toRecord(new MappingMetaRegistry(), jsonBuilderFactory
+                            .createObjectBuilder()
+                            .add("name", "a")
+                            .add("age", 1)
+                            .add("nested", jsonBuilderFactory.createObjectBuilder().add("active", true))
+                            .add("tags", jsonBuilderFactory.createArrayBuilder().add("t1"))
+                            .build(), () -> jsonb, () -> recordBuilderFactory);
+            final Record second = converter
+                    .toRecord(new MappingMetaRegistry(), jsonBuilderFactory
+                            .createObjectBuilder()
+                            .add("name", "b")
+                            .add("age", 2)
+                            .add("nested", jsonBuilderFactory.createObjectBuilder().add("active", false))
+                            .add("tags", jsonBuilderFactory.createArrayBuilder().add("t2"))
+                            .build(), () -> jsonb, () -> recordBuilderFactory);
+            assertSame(first.getSchema(), second.getSchema());
+            assertEquals("b", second.getString("name"));
+            assertEquals(2., second.getDouble("age"));
+            assertFalse(second.getRecord("nested").getBoolean("active"));
+            assertEquals(singletonList("t2"), new ArrayList<>(second.getArray(String.class, "tags")));
+
+            final Record withNull = converter
+                    .toRecord(new MappingMetaRegistry(),
+                            jsonBuilderFactory.createObjectBuilder().add("name", JsonValue.NULL).add("age", 3).build(),
+                            () -> jsonb, () -> recordBuilderFactory);
+            assertNull(withNull.getSchema().getEntry("name"));
+            assertEquals(3., withNull.getDouble("age"));
+        }
+    }
+
     @Test
     void bigDecimalsInArray(final JsonBuilderFactory jsonBuilderFactory, final JsonProvider jsonProvider,
             final RecordBuilderFactory recordBuilderFactory, final RecordConverters converter) throws Exception {
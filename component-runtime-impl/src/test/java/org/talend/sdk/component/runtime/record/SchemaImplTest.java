@@ -18,6 +18,9 @@ package org.talend.sdk.component.runtime.record;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import nl.jqno.equalsverifier.EqualsVerifier;
@@ -29,6 +32,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -76,16 +82,65 @@ class SchemaImplTest {
             .withNullable(true) //
             .build();
 
+    @Test
+    void interned() {
+        final RecordBuilderFactory f = new RecordBuilderFactoryImpl("test");
+        final Schema schema1 =
+                f.newSchemaBuilder(Type.RECORD).withEntry(data1).withEntry(meta1).withEntry(data2).build();
+        final Schema schema2 =
+                f.newSchemaBuilder(Type.RECORD).withEntry(data1).withEntry(meta1).withEntry(data2).build();
+        assertSame(schema1, schema2);
+        assertNotSame(schema1, f.newSchemaBuilder(Type.RECORD).withEntry(data1).withEntry(data2).build());
+        assertNotSame(schema1, new BuilderImpl().withType(Type.RECORD).withEntry(data1).withEntry(meta1).build());
+
+        assertSame(data2, schema1.getEntry(data2.getName()));
+        assertSame(meta1, schema1.getEntry(meta1.getName()));
+        assertNull(schema1.getEntry("missing"));
+        assertSame(schema1.getEntriesOrdered(), schema1.getEntriesOrdered());
+        assertThrows(UnsupportedOperationException.class, () -> schema1.getProps().put("other", "value"));
+        assertEquals("value", schema1.toBuilder().withProp("other", "value").build().getProp("other"));
+        final Schema copy =
+                f.newSchemaBuilder(Type.RECORD).withProps(schema1.getProps()).withProp("other", "v").build();
+        assertEquals("v", copy.getProp("other"));
+    }
+
+    @Test
+    void internedConcurrently() throws Exception {
+        final RecordBuilderFactory f = new RecordBuilderFactoryImpl("test");
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<Schema>> schemas = IntStream
+                    .range(0, 64)
+                    .mapToObj(i -> pool
+                            .submit(() -> f
+                                    .newSchemaBuilder(Type.RECORD)
+                                    .withEntry(data1)
+                                    .withEntry(meta1)
+                                    .withEntry(data2)
+                                    .build()))
+                    .collect(toList());
+            final Schema first = schemas.get(0).get();
+            for (final Future<Schema> schema : schemas) {
+                assertSame(first, schema.get());
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
     @Test
     void checkEquals() {
         final RecordBuilderFactory f = new RecordBuilderFactoryImpl("test");
         final Entry first = f.newEntryBuilder().withName("First").withType(Type.STRING).build();
         final Entry second = f.newEntryBuilder().withName("Second").withType(Type.STRING).build();
-        EqualsVerifier.simple()
-                .suppress(Warning.STRICT_HASHCODE) // Supress test hashcode use all fields used by equals (for legacy)
+        EqualsVerifier
                 .forClass(SchemaImpl.class)
+                .suppress(Warning.STRICT_HASHCODE) // Supress test hashcode use all fields used by equals (for legacy)
+                .suppress(Warning.STRICT_INHERITANCE)
                 .withPrefabValues(Schema.Entry.class, first, second)
-                .withIgnoredFields("entriesOrder")
+                .withIgnoredFields("entriesOrder", "columnarLayout", "entriesByName", "entriesOrdered")
+                .withCachedHashCode("hash", "computeHashCode",
+                        SchemaImpl.class.cast(f.newSchemaBuilder(Type.RECORD).withEntry(first).build()))
                 .withPrefabValues(EntriesOrder.class, EntriesOrder.of("First"), EntriesOrder.of("Second"))
                 .verify();
     }
@@ -33,10 +33,12 @@ import org.junit.jupiter.api.Test;
 import org.talend.sdk.component.api.component.AfterVariables.AfterVariable;
 import org.talend.sdk.component.api.component.AfterVariables.AfterVariableContainer;
 import org.talend.sdk.component.api.input.Assessor;
+import org.talend.sdk.component.api.input.DynamicSplit;
 import org.talend.sdk.component.api.input.Emitter;
 import org.talend.sdk.component.api.input.PartitionMapper;
 import org.talend.sdk.component.api.input.PartitionSize;
 import org.talend.sdk.component.api.input.Producer;
+import org.talend.sdk.component.api.input.Progress;
 import org.talend.sdk.component.api.input.Split;
 import org.talend.sdk.component.api.processor.AfterGroup;
 import org.talend.sdk.component.api.processor.ElementListener;
@@ -129,6 +131,28 @@ class ModelVisitorTest {
         assertThrows(IllegalArgumentException.class, () -> visit(MapperInvalidAssessorReturnType.class));
     }
 
+    @Test
+    void mapperRebalancing() {
+        assertEquals(singletonList(
+                "@PartitionMapper(org.talend.sdk.component.runtime.visitor.visitor.ModelVisitorTest$MapperRebalancing$Mapper)"),
+                visit(MapperRebalancing.class));
+    }
+
+    @Test
+    void mapperInvalidProgressReturnType() {
+        assertThrows(IllegalArgumentException.class, () -> visit(MapperInvalidProgressReturnType.class));
+    }
+
+    @Test
+    void mapperInvalidDynamicSplitParameter() {
+        assertThrows(IllegalArgumentException.class, () -> visit(MapperInvalidDynamicSplitParameter.class));
+    }
+
+    @Test
+    void emitterInvalidDynamicSplitReturnType() {
+        assertThrows(IllegalArgumentException.class, () -> visit(EmitterInvalidDynamicSplitReturnType.class));
+    }
+
     @Test
     void processorAfterVariableOk() {
         assertEquals(singletonList("@Processor(" + ProcessorAfterVariableOk.Out.class.getName() + ")"),
@@ -460,6 +484,118 @@ class ModelVisitorTest {
         }
     }
 
+    public static class MapperRebalancing {
+
+        @PartitionMapper(family = "comp", name = "Mapper")
+        public static class Mapper {
+
+            @Assessor
+            public long get() {
+                return 1;
+            }
+
+            @Split
+            public Collection<Mapper> ins() {
+                return emptyList();
+            }
+
+            @Emitter
+            public RebalancingIn emit() {
+                return null;
+            }
+        }
+
+        public static class RebalancingIn extends ValidIn {
+
+            @Progress
+            public double progress() {
+                return 0;
+            }
+
+            @DynamicSplit
+            public Collection<Mapper> split(final double fraction) {
+                return null;
+            }
+        }
+    }
+
+    public static class MapperInvalidProgressReturnType {
+
+        @PartitionMapper(family = "comp", name = "Mapper")
+        public static class Mapper {
+
+            @Assessor
+            public long get() {
+                return 1;
+            }
+
+            @Split
+            public Collection<Mapper> ins() {
+                return emptyList();
+            }
+
+            @Emitter
+            public ProgressIn emit() {
+                return null;
+            }
+        }
+
+        public static class ProgressIn extends ValidIn {
+
+            @Progress
+            public String progress() {
+                return "0";
+            }
+        }
+    }
+
+    public static class MapperInvalidDynamicSplitParameter {
+
+        @PartitionMapper(family = "comp", name = "Mapper")
+        public static class Mapper {
+
+            @Assessor
+            public long get() {
+                return 1;
+            }
+
+            @Split
+            public Collection<Mapper> ins() {
+                return emptyList();
+            }
+
+            @Emitter
+            public SplitIn emit() {
+                return null;
+            }
+        }
+
+        public static class SplitIn extends ValidIn {
+
+            @DynamicSplit
+            public Collection<Mapper> split() {
+                return null;
+            }
+        }
+    }
+
+    public static class EmitterInvalidDynamicSplitReturnType {
+
+        @Emitter(family = "comp", name = "Input")
+        public static class In {
+
+            @Producer
+            public In produces() {
+                return this;
+            }
+
+            @DynamicSplit
+            public In split(final double fraction) {
+                return this;
+            }
+        }
+    }
+
     public static class MapperInvalidAssessorParams {
 
         @PartitionMapper(family = "comp", name = "Mapper")
@@ -171,6 +171,7 @@ import org.talend.sdk.component.runtime.manager.xbean.KnownClassesFilter;
 import org.talend.sdk.component.runtime.manager.xbean.NestedJarArchive;
 import org.talend.sdk.component.runtime.manager.xbean.registry.EnrichedPropertyEditorRegistry;
 import org.talend.sdk.component.runtime.output.ProcessorImpl;
+import org.talend.sdk.component.runtime.record.ColumnarRecordBuilderFactory;
 import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
 import org.talend.sdk.component.runtime.serialization.LightContainer;
 import org.talend.sdk.component.runtime.standalone.DriverRunnerImpl;
@@ -494,6 +495,8 @@ public class ComponentManager implements AutoCloseable {
                 throw new IllegalArgumentException(
                         "Ambiguous recordBuilderFactory: " + factory + "/" + recordBuilderFactoryIterator.next());
             }
+        } else if ("columnar".equals(System.getProperty("talend.component.manager.record.factory.impl"))) {
+            recordBuilderFactoryProvider = ColumnarRecordBuilderFactory::new;
         } else {
             recordBuilderFactoryProvider = RecordBuilderFactoryImpl::new;
         }
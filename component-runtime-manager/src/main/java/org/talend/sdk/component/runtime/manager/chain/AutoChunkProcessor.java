@@ -15,6 +15,8 @@
  */
 package org.talend.sdk.component.runtime.manager.chain;
 
+import java.util.List;
+
 import org.talend.sdk.component.runtime.base.Lifecycle;
 import org.talend.sdk.component.runtime.output.InputFactory;
 import org.talend.sdk.component.runtime.output.OutputFactory;
@@ -46,6 +48,33 @@ public class AutoChunkProcessor implements Lifecycle {
         }
     }
 
+    /**
+     * Same as {@link #onElement(InputFactory, OutputFactory)} for a list of elements,
+     * they are passed to the processor by chunks in a single call.
+     *
+     * @param ins the inputs, one per element.
+     * @param outs the output factory.
+     */
+    public void onElements(final List<? extends InputFactory> ins, final OutputFactory outs) {
+        int from = 0;
+        while (from < ins.size()) {
+            if (processedItemCount == 0) {
+                processor.beforeGroup();
+            }
+            final int to = chunkSize > 0 ? Math.min(ins.size(), from + chunkSize - processedItemCount) : ins.size();
+            try {
+                processor.onBatch(ins.subList(from, to), outs);
+                processedItemCount += to - from;
+            } finally {
+                if (processedItemCount == chunkSize) {
+                    processor.afterGroup(outs);
+                    processedItemCount = 0;
+                }
+            }
+            from = to;
+        }
+    }
+
     public void flush(final OutputFactory outs) {
         if (processedItemCount > 0) {
             processor.afterGroup(outs);
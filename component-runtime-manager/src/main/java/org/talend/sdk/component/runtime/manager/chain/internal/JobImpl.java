@@ -256,7 +256,9 @@ public class JobImpl implements Job {
                 final String name = String.class.cast(o).trim();
                 if (!"standalone".equalsIgnoreCase(name) && !"default".equalsIgnoreCase(name)
                         && !"local".equalsIgnoreCase(name)) {
-                    if ("beam".equalsIgnoreCase(name)) {
+                    if ("pipelined".equalsIgnoreCase(name) || "parallel".equalsIgnoreCase(name)) {
+                        runner = new PipelinedExecutor(this);
+                    } else if ("beam".equalsIgnoreCase(name)) {
                         try {
                             runner = newRunner(Thread.currentThread().getContextClassLoader(),
                                     "org.talend.sdk.component.runtime.beam.chain.impl.BeamExecutor");
@@ -321,50 +323,59 @@ public class JobImpl implements Job {
             }
         }
 
+        Mapper findMapper(final Component component) {
+            return manager
+                    .findMapper(component.getNode().getFamily(), component.getNode().getComponent(),
+                            component.getNode().getVersion(), component.getNode().getConfiguration())
+                    .orElseThrow(() -> new IllegalStateException("No mapper found for: " + component.getNode()));
+        }
+
+        AutoChunkProcessor findProcessor(final Component component) {
+            final Processor processor = manager
+                    .findProcessor(component.getNode().getFamily(), component.getNode().getComponent(),
+                            component.getNode().getVersion(), component.getNode().getConfiguration())
+                    .orElseThrow(() -> new IllegalStateException("No processor found for:" + component.getNode()));
+            final AtomicInteger maxBatchSize = new AtomicInteger(1);
+            if (ProcessorImpl.class.isInstance(processor)) {
+                ProcessorImpl.class
+                        .cast(processor)
+                        .getInternalConfiguration()
+                        .entrySet()
+                        .stream()
+                        .filter(it -> it.getKey().endsWith("$maxBatchSize") && it.getValue() != null
+                                && !it.getValue().trim().isEmpty())
+                        .findFirst()
+                        .ifPresent(val -> {
+                            try {
+                                maxBatchSize.set(Integer.parseInt(val.getValue().trim()));
+                            } catch (final NumberFormatException nfe) {
+                                throw new IllegalArgumentException("Invalid configuratoin: " + val);
+                            }
+                        });
+            }
+            return new AutoChunkProcessor(maxBatchSize.get(), processor);
+        }
+
+        long getMaxRecords() {
+            return Long.parseLong(String.valueOf(getJobProperties().getOrDefault("streaming.maxRecords", "-1")));
+        }
+
         private void localRun() {
-            final long maxRecords =
-                    Long.parseLong(String.valueOf(getJobProperties().getOrDefault("streaming.maxRecords", "-1")));
-            final Map<String, InputRunner> inputs =
-                    levels.values().stream().flatMap(Collection::stream).filter(Component::isSource).map(n -> {
-                        final Mapper mapper = manager
-                                .findMapper(n.getNode().getFamily(), n.getNode().getComponent(),
-                                        n.getNode().getVersion(), n.getNode().getConfiguration())
-                                .orElseThrow(() -> new IllegalStateException("No mapper found for: " + n.getNode()));
-                        return new AbstractMap.SimpleEntry<>(n.getId(), new InputRunner(mapper, maxRecords));
-                    }).collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
+            final long maxRecords = getMaxRecords();
+            final Map<String, InputRunner> inputs = levels
+                    .values()
+                    .stream()
+                    .flatMap(Collection::stream)
+                    .filter(Component::isSource)
+                    .map(n -> new AbstractMap.SimpleEntry<>(n.getId(), new InputRunner(findMapper(n), maxRecords)))
+                    .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
 
             final Map<String, AutoChunkProcessor> processors = levels
                     .values()
                     .stream()
                     .flatMap(Collection::stream)
                     .filter(component -> !component.isSource())
-                    .map(component -> {
-                        final Processor processor = manager
-                                .findProcessor(component.getNode().getFamily(), component.getNode().getComponent(),
-                                        component.getNode().getVersion(), component.getNode().getConfiguration())
-                                .orElseThrow(() -> new IllegalStateException(
-                                        "No processor found for:" + component.getNode()));
-                        final AtomicInteger maxBatchSize = new AtomicInteger(1);
-                        if (ProcessorImpl.class.isInstance(processor)) {
-                            ProcessorImpl.class
-                                    .cast(processor)
-                                    .getInternalConfiguration()
-                                    .entrySet()
-                                    .stream()
-                                    .filter(it -> it.getKey().endsWith("$maxBatchSize") && it.getValue() != null
-                                            && !it.getValue().trim().isEmpty())
-                                    .findFirst()
-                                    .ifPresent(val -> {
-                                        try {
-                                            maxBatchSize.set(Integer.parseInt(val.getValue().trim()));
-                                        } catch (final NumberFormatException nfe) {
-                                            throw new IllegalArgumentException("Invalid configuratoin: " + val);
-                                        }
-                                    });
-                        }
-                        return new AbstractMap.SimpleEntry<>(component.getId(),
-                                new AutoChunkProcessor(maxBatchSize.get(), processor));
-                    })
+                    .map(component -> new AbstractMap.SimpleEntry<>(component.getId(), findProcessor(component)))
                     .collect(toMap(AbstractMap.SimpleEntry::getKey, AbstractMap.SimpleEntry::getValue));
 
             final RecordConverters.MappingMetaRegistry registry = new RecordConverters.MappingMetaRegistry();
@@ -544,7 +555,7 @@ public class JobImpl implements Job {
     }
 
     @Data
-    private static class GroupContextImpl implements GroupKeyProvider.GroupContext {
+    static class GroupContextImpl implements GroupKeyProvider.GroupContext {
 
         private final Record data;
 
@@ -568,7 +579,7 @@ public class JobImpl implements Job {
     }
 
     @Slf4j
-    private static class InputRunner {
+    static class InputRunner {
 
         private final Mapper chainedMapper;
 
@@ -578,7 +589,7 @@ public class JobImpl implements Job {
 
         private long currentRecords;
 
-        private InputRunner(final Mapper mapper, final long maxRecords) {
+        InputRunner(final Mapper mapper, final long maxRecords) {
             this.maxRecords = maxRecords;
             RuntimeException error = null;
             try {
@@ -639,7 +650,7 @@ public class JobImpl implements Job {
     }
 
     @Data
-    private static class DataOutputFactory implements OutputFactory {
+    static class DataOutputFactory implements OutputFactory {
 
         private final Map<Class<?>, Object> services;
 
@@ -671,9 +682,9 @@ public class JobImpl implements Job {
         }
     }
 
-    private static class DataInputFactory implements InputFactory {
+    static class DataInputFactory implements InputFactory {
 
-        private final Map<String, Iterator<Object>> inputs = new HashMap<>();
+        private final Map<String, Iterator<?>> inputs = new HashMap<>();
 
         private volatile Jsonb jsonb;
 
@@ -681,7 +692,7 @@ public class JobImpl implements Job {
 
         private volatile RecordConverters.MappingMetaRegistry registry;
 
-        private DataInputFactory withInput(final String branch, final Collection<Object> branchData) {
+        DataInputFactory withInput(final String branch, final Collection<?> branchData) {
             inputs.put(branch, branchData.iterator());
             return this;
         }
@@ -0,0 +1,409 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.chain.internal;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.runtime.manager.ComponentManager;
+import org.talend.sdk.component.runtime.manager.chain.AutoChunkProcessor;
+import org.talend.sdk.component.runtime.manager.chain.GroupKeyProvider;
+import org.talend.sdk.component.runtime.manager.chain.Job;
+import org.talend.sdk.component.runtime.record.RecordConverters;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Local executor running each component of the job in its own thread.
+ * Stages are connected by bounded queues (backpressure) and exchange records by batches,
+ * sources pull their data independently and processors consume their inputs as soon as they are available.
+ *
+ * It can be selected setting the {@link Job.ExecutorBuilder} job property to {@code pipelined}.
+ * Tuning is done through the job properties {@code pipelined.batchSize} (records per exchanged batch)
+ * and {@code pipelined.queueSize} (batches buffered between two stages).
+ *
+ * Records are emitted in the same order as the local executor for each branch.
+ * Joins (components with multiple inputs) buffer their inputs by key until all of them ended then emit the groups
+ * following the first connected input order; like with the local executor, a key missing on one of the inputs
+ * is not emitted.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class PipelinedExecutor implements Job.ExecutorBuilder {
+
+    private static final String DEFAULT_BRANCH = "__default__";
+
+    private final JobImpl.JobExecutor delegate;
+
+    @Override
+    public Job.ExecutorBuilder property(final String name, final Object value) {
+        delegate.property(name, value);
+        return this;
+    }
+
+    @Override
+    public void run() {
+        final int batchSize = getIntProperty("pipelined.batchSize", 256);
+        final int queueSize = getIntProperty("pipelined.queueSize", 16);
+        final long maxRecords = delegate.getMaxRecords();
+
+        final List<Job.Component> components =
+                delegate.getLevels().values().stream().flatMap(Collection::stream).collect(toList());
+        final Map<String, Stage> stages = new HashMap<>();
+        try {
+            components.forEach(component -> {
+                final List<Job.Edge> inputs = delegate
+                        .getEdges()
+                        .stream()
+                        .filter(edge -> edge.getTo().getNode().equals(component))
+                        .collect(toList());
+                stages
+                        .put(component.getId(),
+                                new Stage(component, inputs, new ArrayBlockingQueue<>(Math.max(1, queueSize))));
+            });
+            components.forEach(component -> {
+                final Stage stage = stages.get(component.getId());
+                final List<Job.Edge> outputs = delegate
+                        .getEdges()
+                        .stream()
+                        .filter(edge -> edge.getFrom().getNode().equals(component))
+                        .collect(toList());
+                outputs.forEach(edge -> {
+                    final Stage target = stages.get(edge.getTo().getNode().getId());
+                    stage.outlets
+                            .computeIfAbsent(edge.getFrom().getBranch(), branch -> new ArrayList<>())
+                            .add(new Outlet(edge.getTo().getBranch(), target.queue, target.inputs.size() > 1,
+                                    batchSize));
+                });
+                // one provider per component, shared by its branches, and one key per record like the local executor
+                if (stage.outlets.values().stream().flatMap(Collection::stream).anyMatch(outlet -> outlet.keyed)) {
+                    stage.keyProvider = delegate.getKeyProvider(component.getId());
+                }
+                if (!component.isSource()) {
+                    stage.processor = delegate.findProcessor(component);
+                }
+            });
+
+            final AtomicReference<Throwable> error = new AtomicReference<>();
+            final List<Thread> threads = stages.values().stream().map(stage -> {
+                final Thread thread = new Thread(() -> {
+                    try {
+                        if (stage.component.isSource()) {
+                            stage.produce(maxRecords);
+                        } else {
+                            stage.process();
+                        }
+                    } catch (final InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        error.compareAndSet(null, ie);
+                    } catch (final RuntimeException | Error e) {
+                        if (error.compareAndSet(null, e)) {
+                            stages.values().stream().map(s -> s.thread).forEach(Thread::interrupt);
+                        } else {
+                            log.debug(e.getMessage(), e);
+                        }
+                    }
+                }, "talend-job-" + stage.component.getId());
+                stage.thread = thread;
+                return thread;
+            }).collect(toList());
+            threads.forEach(Thread::start);
+            for (final Thread thread : threads) {
+                try {
+                    thread.join();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    threads.forEach(Thread::interrupt);
+                    throw new IllegalStateException(e);
+                }
+            }
+
+            final Throwable throwable = error.get();
+            if (RuntimeException.class.isInstance(throwable)) {
+                throw RuntimeException.class.cast(throwable);
+            }
+            if (Error.class.isInstance(throwable)) {
+                throw Error.class.cast(throwable);
+            }
+            if (throwable != null) {
+                throw new IllegalStateException(throwable);
+            }
+        } finally {
+            components.stream().map(Job.Component::getId).forEach(JobImpl.LocalSequenceHolder::clean);
+        }
+    }
+
+    private int getIntProperty(final String key, final int defaultValue) {
+        return Integer.parseInt(String.valueOf(delegate.getJobProperties().getOrDefault(key, defaultValue)).trim());
+    }
+
+    @RequiredArgsConstructor
+    private class Stage {
+
+        private final Job.Component component;
+
+        private final List<Job.Edge> inputs;
+
+        private final BlockingQueue<Batch> queue;
+
+        private final Map<String, List<Outlet>> outlets = new HashMap<>();
+
+        private AutoChunkProcessor processor;
+
+        private GroupKeyProvider keyProvider;
+
+        private volatile Thread thread;
+
+        private void produce(final long maxRecords) throws InterruptedException {
+            final JobImpl.InputRunner input = new JobImpl.InputRunner(delegate.findMapper(component), maxRecords);
+            try {
+                final List<Outlet> branchOutlets = outlets.getOrDefault(DEFAULT_BRANCH, emptyList());
+                Record record;
+                while ((record = input.next()) != null) {
+                    if (Thread.interrupted()) {
+                        throw new InterruptedException("Job aborted");
+                    }
+                    add(DEFAULT_BRANCH, branchOutlets, record);
+                }
+                end();
+            } finally {
+                input.stop();
+            }
+        }
+
+        private void process() throws InterruptedException {
+            final JobImpl.DataOutputFactory output = new JobImpl.DataOutputFactory(delegate
+                    .getManager()
+                    .findPlugin(processor.plugin())
+                    .get()
+                    .get(ComponentManager.AllServices.class)
+                    .getServices(), new RecordConverters.MappingMetaRegistry());
+            final Joiner joiner = inputs.size() > 1 ? new Joiner(component.getId(),
+                    inputs.stream().map(edge -> edge.getTo().getBranch()).collect(toList()), group -> {
+                        final JobImpl.DataInputFactory input = new JobImpl.DataInputFactory();
+                        group.forEach(input::withInput);
+                        final int iterations = group.values().stream().mapToInt(List::size).max().orElse(0);
+                        for (int i = 0; i < iterations; i++) {
+                            processor.onElement(input, output);
+                        }
+                    }) : null;
+
+            processor.start();
+            try {
+                int openInputs = inputs.size();
+                while (openInputs > 0) {
+                    final Batch batch = queue.take();
+                    if (batch.records == null) {
+                        openInputs--;
+                        continue;
+                    }
+                    if (joiner != null) {
+                        joiner.add(batch);
+                    } else {
+                        processor
+                                .onElements(batch.records
+                                        .stream()
+                                        .map(record -> new JobImpl.DataInputFactory()
+                                                .withInput(batch.branch, singletonList(record)))
+                                        .collect(toList()), output);
+                    }
+                    route(output);
+                }
+                if (joiner != null) {
+                    joiner.emit();
+                }
+                processor.flush(output);
+                route(output);
+                end();
+            } finally {
+                processor.stop();
+            }
+        }
+
+        private void route(final JobImpl.DataOutputFactory output) throws InterruptedException {
+            if (output.getOutputs().isEmpty()) {
+                return;
+            }
+            for (final Map.Entry<String, Collection<Record>> data : output.getOutputs().entrySet()) {
+                final List<Outlet> branchOutlets = outlets.get(data.getKey());
+                if (branchOutlets == null) { // not connected
+                    continue;
+                }
+                for (final Record record : data.getValue()) {
+                    add(data.getKey(), branchOutlets, record);
+                }
+                for (final Outlet outlet : branchOutlets) {
+                    outlet.flush();
+                }
+            }
+            output.getOutputs().clear();
+        }
+
+        private void add(final String branch, final List<Outlet> branchOutlets, final Record record)
+                throws InterruptedException {
+            String key = null;
+            for (final Outlet outlet : branchOutlets) {
+                if (outlet.keyed && key == null) {
+                    key = keyProvider.apply(new JobImpl.GroupContextImpl(record, component.getId(), branch));
+                }
+                outlet.add(record, key);
+            }
+        }
+
+        private void end() throws InterruptedException {
+            for (final List<Outlet> branchOutlets : outlets.values()) {
+                for (final Outlet outlet : branchOutlets) {
+                    outlet.end();
+                }
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class Batch {
+
+        private final String branch;
+
+        private final List<Record> records;
+
+        private final List<String> keys;
+    }
+
+    private static class Outlet {
+
+        private final String toBranch;
+
+        private final BlockingQueue<Batch> queue;
+
+        // true when the target joins several inputs and needs the group key of the records
+        private final boolean keyed;
+
+        private final int batchSize;
+
+        private List<Record> records;
+
+        private List<String> keys;
+
+        private Outlet(final String toBranch, final BlockingQueue<Batch> queue, final boolean keyed,
+                final int batchSize) {
+            this.toBranch = toBranch;
+            this.queue = queue;
+            this.keyed = keyed;
+            this.batchSize = Math.max(1, batchSize);
+            reset();
+        }
+
+        private void add(final Record record, final String key) throws InterruptedException {
+            records.add(record);
+            if (keys != null) {
+                keys.add(key);
+            }
+            if (records.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() throws InterruptedException {
+            if (records.isEmpty()) {
+                return;
+            }
+            queue.put(new Batch(toBranch, records, keys));
+            reset();
+        }
+
+        private void end() throws InterruptedException {
+            flush();
+            queue.put(new Batch(toBranch, null, null));
+        }
+
+        private void reset() {
+            records = new ArrayList<>(batchSize);
+            keys = keyed ? new ArrayList<>(batchSize) : null;
+        }
+    }
+
+    /**
+     * Groups the records of all the inputs of a component by key.
+     * Inputs are buffered until they all ended so a group gets all the records of its key whatever the order
+     * the inputs provide them, then complete groups are emitted following the order of the first input.
+     */
+    private static class Joiner {
+
+        private final String componentId;
+
+        private final List<String> branches;
+
+        private final Consumer<Map<String, List<Record>>> onGroup;
+
+        // keys in the order of the first input, a complete group always has records on this input
+        private final Collection<String> keys = new LinkedHashSet<>();
+
+        private final Map<String, Map<String, List<Record>>> groups = new HashMap<>();
+
+        private Joiner(final String componentId, final List<String> branches,
+                final Consumer<Map<String, List<Record>>> onGroup) {
+            this.componentId = componentId;
+            this.branches = branches;
+            this.onGroup = onGroup;
+        }
+
+        private void add(final Batch batch) {
+            final boolean first = branches.get(0).equals(batch.branch);
+            for (int i = 0; i < batch.records.size(); i++) {
+                final String key = batch.keys.get(i);
+                if (first) {
+                    keys.add(key);
+                }
+                groups
+                        .computeIfAbsent(key, k -> new HashMap<>())
+                        .computeIfAbsent(batch.branch, b -> new ArrayList<>())
+                        .add(batch.records.get(i));
+            }
+        }
+
+        private void emit() {
+            for (final String key : keys) {
+                final Map<String, List<Record>> group = groups.get(key);
+                if (group.size() == branches.size()) {
+                    groups.remove(key);
+                    onGroup.accept(group);
+                }
+            }
+            keys.clear();
+            if (!groups.isEmpty()) {
+                log
+                        .warn("{} group(s) of '{}' did not get records on all its inputs {}, they were ignored",
+                                groups.size(), componentId, branches);
+                groups.clear();
+            }
+        }
+    }
+}
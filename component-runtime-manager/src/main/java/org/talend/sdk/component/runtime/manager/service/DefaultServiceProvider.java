@@ -175,6 +175,7 @@ public class DefaultServiceProvider {
             final LocalCacheService service =
                     new LocalCacheService(id, System::currentTimeMillis, this.executorService);
             Injector.class.cast(services.get().get(Injector.class)).inject(service);
+            service.registerMBean();
             return service;
         }
         if (Injector.class == api) {
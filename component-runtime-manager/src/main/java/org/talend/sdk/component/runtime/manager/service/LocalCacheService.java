@@ -17,15 +17,25 @@ package org.talend.sdk.component.runtime.manager.service;
 
 import java.io.ObjectStreamException;
 import java.io.Serializable;
+import java.lang.management.ManagementFactory;
 import java.util.List;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -33,6 +43,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.PreDestroy;
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.ObjectName;
 
 import org.talend.sdk.component.api.configuration.Option;
 import org.talend.sdk.component.api.service.cache.LocalCache;
@@ -40,11 +53,24 @@ import org.talend.sdk.component.api.service.configuration.Configuration;
 import org.talend.sdk.component.runtime.serialization.SerializableService;
 
 import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * Implementation of LocalCache with in memory concurrent map.
+ *
+ * Values are loaded once per key even with concurrent misses (other callers wait for the loading one),
+ * the least recently used entries are evicted when {@code defaultMaxSize} is reached
+ * and timeouts are handled by a timer wheel ticking every
+ * {@code talend.component.manager.services.cache.tick} milliseconds (50 by default).
+ * A value supplier must not request its own key, it fails with an {@link IllegalStateException}.
  */
-public class LocalCacheService implements LocalCache, Serializable {
+@Slf4j
+public class LocalCacheService implements LocalCache, LocalCacheServiceMBean, Serializable {
+
+    private static final double NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private static final long TICK =
+            Math.max(1, Long.getLong("talend.component.manager.services.cache.tick", 50L));
 
     /** plugin name for this cache */
     private final String plugin;
@@ -53,6 +79,29 @@ public class LocalCacheService implements LocalCache, Serializable {
 
     private final ConcurrentMap<String, ElementImpl> cache = new ConcurrentHashMap<>();
 
+    // access order, head is the least recently used element
+    private final ReentrantLock lruLock = new ReentrantLock();
+
+    private ElementImpl lruHead;
+
+    private ElementImpl lruTail;
+
+    private final TimerWheel wheel = new TimerWheel(TICK, 512);
+
+    private volatile ScheduledFuture<?> wheelTask;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder loadFailures = new LongAdder();
+
+    private final LongAdder loadTime = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+
+    private volatile ObjectName jmxName;
+
     @Configuration("talend.component.manager.services.cache.eviction")
     private Supplier<CacheConfiguration> configuration;
 
@@ -73,59 +122,51 @@ public class LocalCacheService implements LocalCache, Serializable {
      */
     @Override
     public void evict(final String key) {
-        final String realKey = internalKey(key);
-
-        // use compute to be able to call release.
-        cache.compute(realKey, (String oldKey, ElementImpl oldElement) -> {
-            if (oldElement != null && oldElement.canBeEvict()) {
-                // ok to evict, so do release.
-                oldElement.release();
-                return null;
-            }
-            return oldElement;
-        });
+        final ElementImpl element = cache.get(internalKey(key));
+        if (element != null && element.canBeEvict()) {
+            remove(element, false);
+        }
     }
 
     @Override
     public void evictIfValue(final String key, final Object expected) {
-        final String realKey = internalKey(key);
-
-        // use compute to be able to call release.
-        cache.compute(realKey, (String oldKey, ElementImpl oldElement) -> {
-            if (oldElement != null && (Objects.equals(oldElement.getValue(), expected) || oldElement.canBeEvict())) {
-                // ok to evit, so do release.
-                oldElement.release();
-                return null;
-            }
-            return oldElement;
-        });
-
+        final ElementImpl element = cache.get(internalKey(key));
+        if (element != null && ((element.isLoaded() && Objects.equals(element.getValue(), expected))
+                || element.canBeEvict())) {
+            remove(element, false);
+        }
     }
 
     @Override
     public <T> T computeIfAbsent(final Class<T> expectedClass, final String key, final Predicate<Element> toRemove,
             final long timeoutMs, final Supplier<T> value) {
-
-        final Integer maxSize = this.getConfigValue(CacheConfiguration::getDefaultMaxSize, -1);
-        if (maxSize > 0 && this.cache.size() >= maxSize) {
-            this.clean(); // clean before add one element.
-            if (this.cache.size() >= maxSize) {
-                synchronized (this.cache) {
-                    while (this.cache.size() >= maxSize) {
-                        final String keyToRemove = this.cache.keySet().iterator().next();
-                        this.cache.remove(keyToRemove);
-                    }
+        final String internalKey = internalKey(key);
+        while (true) {
+            final ElementImpl existing = cache.get(internalKey);
+            if (existing != null) {
+                if (!existing.mustBeRemoved()) {
+                    hits.increment();
+                    touch(existing);
+                    return existing.getValue(expectedClass);
                 }
+                remove(existing, true);
+                continue;
             }
-        }
-
-        final ScheduledFuture<?> task = timeoutMs > 0 ? this.evictionTask(key, timeoutMs) : null;
 
-        final long endOfValidity = this.calcEndOfValidity(timeoutMs);
-        final ElementImpl element =
-                this.addToMap(key, () -> new ElementImpl(value, toRemove, endOfValidity, task, this.timer));
-
-        return element.getValue(expectedClass);
+            final ElementImpl created =
+                    new ElementImpl(internalKey, toRemove, this.calcEndOfValidity(timeoutMs), this.timer);
+            if (cache.putIfAbsent(internalKey, created) != null) { // another caller is loading it
+                continue;
+            }
+            misses.increment();
+            link(created);
+            load(created, value);
+            if (created.endOfValidity > 0) {
+                scheduleEviction(created);
+            }
+            evictOverflow();
+            return created.getValue(expectedClass);
+        }
     }
 
     @Override
@@ -142,12 +183,6 @@ public class LocalCacheService implements LocalCache, Serializable {
         return this.computeIfAbsent(expectedClass, key, null, timeoutMs, value);
     }
 
-    private ElementImpl addToMap(final String key, final Supplier<ElementImpl> builder) {
-        final String internalKey = internalKey(key);
-        return cache.compute(internalKey, (String k, ElementImpl old) -> //
-        old == null || old.mustBeRemoved() ? builder.get() : old);
-    }
-
     @Override
     public <T> T computeIfAbsent(final Class<T> expectedClass, final String key, final Supplier<T> value) {
         final long timeOut = this.getConfigValue(CacheConfiguration::getDefaultEvictionTimeout, -1L);
@@ -156,8 +191,157 @@ public class LocalCacheService implements LocalCache, Serializable {
 
     @PreDestroy
     public void release() {
+        final ScheduledFuture<?> task = this.wheelTask;
+        if (task != null) {
+            task.cancel(false);
+            this.wheelTask = null;
+        }
         this.cache.forEach((String k, ElementImpl e) -> e.release());
         this.cache.clear();
+        lruLock.lock();
+        try {
+            lruHead = null;
+            lruTail = null;
+        } finally {
+            lruLock.unlock();
+        }
+        unregisterMBean();
+    }
+
+    private void load(final ElementImpl element, final Supplier<?> value) {
+        final long start = System.nanoTime();
+        element.loader = Thread.currentThread();
+        try {
+            element.loaded(value.get());
+        } catch (final RuntimeException | Error e) {
+            loadFailures.increment();
+            remove(element, false);
+            element.failed(e);
+            throw e;
+        } finally {
+            element.loader = null;
+            loadTime.add(System.nanoTime() - start);
+        }
+    }
+
+    private void remove(final ElementImpl element, final boolean eviction) {
+        // by identity: ElementImpl#equals compares values so remove(key, element) could drop a newer equal element
+        final AtomicBoolean removed = new AtomicBoolean();
+        cache.computeIfPresent(element.key, (key, current) -> {
+            if (current != element) {
+                return current;
+            }
+            removed.set(true);
+            return null;
+        });
+        if (removed.get()) {
+            unlink(element);
+            element.release();
+            if (eviction) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private void evictOverflow() {
+        final int maxSize = this.getConfigValue(CacheConfiguration::getDefaultMaxSize, -1);
+        while (maxSize > 0 && this.cache.size() > maxSize) {
+            final ElementImpl eldest;
+            lruLock.lock();
+            try {
+                eldest = lruHead;
+            } finally {
+                lruLock.unlock();
+            }
+            if (eldest == null) {
+                return;
+            }
+            remove(eldest, true);
+        }
+    }
+
+    private void link(final ElementImpl element) {
+        lruLock.lock();
+        try {
+            doLink(element);
+        } finally {
+            lruLock.unlock();
+        }
+    }
+
+    // lossy: under contention the access order is not updated, the element stays cached anyway
+    private void touch(final ElementImpl element) {
+        if (lruTail == element || !lruLock.tryLock()) {
+            return;
+        }
+        try {
+            if (element.linked) {
+                doUnlink(element);
+                doLink(element);
+            }
+        } finally {
+            lruLock.unlock();
+        }
+    }
+
+    private void unlink(final ElementImpl element) {
+        lruLock.lock();
+        try {
+            if (element.linked) {
+                doUnlink(element);
+            }
+        } finally {
+            lruLock.unlock();
+        }
+    }
+
+    private void doLink(final ElementImpl element) {
+        element.prev = lruTail;
+        element.next = null;
+        if (lruTail == null) {
+            lruHead = element;
+        } else {
+            lruTail.next = element;
+        }
+        lruTail = element;
+        element.linked = true;
+    }
+
+    private void doUnlink(final ElementImpl element) {
+        if (element.prev == null) {
+            lruHead = element.next;
+        } else {
+            element.prev.next = element.next;
+        }
+        if (element.next == null) {
+            lruTail = element.prev;
+        } else {
+            element.next.prev = element.prev;
+        }
+        element.prev = null;
+        element.next = null;
+        element.linked = false;
+    }
+
+    private void scheduleEviction(final ElementImpl element) {
+        wheel.schedule(element);
+        if (wheelTask == null) {
+            synchronized (wheel) {
+                if (wheelTask == null) {
+                    wheelTask = this
+                            .getThreadService()
+                            .scheduleAtFixedRate(() -> wheel.advance(this.timer.get(), this::expire), TICK, TICK,
+                                    TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+    }
+
+    // a single eviction attempt once the timeout is reached, access and clean() still check it after
+    private void expire(final ElementImpl element) {
+        if (cache.get(element.key) == element && element.canBeEvict()) {
+            remove(element, true);
+        }
     }
 
     private long calcEndOfValidity(final long timeoutMs) {
@@ -169,40 +353,93 @@ public class LocalCacheService implements LocalCache, Serializable {
     }
 
     public void clean() {
-        Stream<Entry<String, ElementImpl>> elements = //
+        Stream<ElementImpl> elements = //
                 this.cache
                         .entrySet() //
                         .stream() //
-                        .filter(e -> e.getValue().mustBeRemoved());
+                        .map(Entry::getValue)
+                        .filter(ElementImpl::mustBeRemoved);
 
         final int maxEviction = this.getConfigValue(CacheConfiguration::getMaxDeletionPerEvictionRun, -1);
         if (maxEviction > 0) {
             elements = elements.limit(maxEviction);
         }
-        final List<String> removableElements = elements.map(Entry::getKey).collect(Collectors.toList());// materialize
-                                                                                                        // before
-                                                                                                        // actually
-                                                                                                        // removing it
-        removableElements.forEach(this.cache::remove);
+        final List<ElementImpl> removableElements = elements.collect(Collectors.toList()); // materialize
+                                                                                            // before
+                                                                                            // actually
+                                                                                            // removing it
+        removableElements.forEach(element -> remove(element, true));
     }
 
-    private ScheduledExecutorService getThreadService() {
-        return this.threadServiceGetter.get();
+    @Override
+    public int getSize() {
+        return cache.size();
     }
 
-    /**
-     * Schedule an eviction task for a key.
-     * 
-     * @param key : key to evict from cache.
-     * @param delayMillis : delay in millis before triggered.
-     * @return result of task.
-     */
-    private ScheduledFuture<?> evictionTask(final String key, final long delayMillis) {
-        return this
-                .getThreadService()
-                .schedule(() -> this.evict(key), //
-                        delayMillis, //
-                        TimeUnit.MILLISECONDS); //
+    @Override
+    public long getHits() {
+        return hits.sum();
+    }
+
+    @Override
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    @Override
+    public double getHitRate() {
+        final long hitCount = hits.sum();
+        final long total = hitCount + misses.sum();
+        return total == 0 ? 1. : hitCount / (double) total;
+    }
+
+    @Override
+    public long getLoadFailures() {
+        return loadFailures.sum();
+    }
+
+    @Override
+    public double getAverageLoadTime() {
+        final long loads = misses.sum();
+        return loads == 0 ? 0. : loadTime.sum() / (NANOS_PER_MILLI * loads);
+    }
+
+    @Override
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    void registerMBean() {
+        if (Boolean.getBoolean("talend.component.manager.jmx.skip")) {
+            return;
+        }
+        try {
+            final ObjectName name =
+                    new ObjectName("org.talend.sdk.component:type=LocalCache,plugin=" + ObjectName.quote(plugin));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(this, name);
+            jmxName = name;
+        } catch (final InstanceAlreadyExistsException e) {
+            log.debug("A cache is already registered for plugin {}", plugin);
+        } catch (final JMException | RuntimeException e) {
+            log.debug(e.getMessage(), e);
+        }
+    }
+
+    private void unregisterMBean() {
+        final ObjectName name = jmxName;
+        if (name == null) {
+            return;
+        }
+        jmxName = null;
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+        } catch (final JMException | RuntimeException e) {
+            log.debug(e.getMessage(), e);
+        }
+    }
+
+    private ScheduledExecutorService getThreadService() {
+        return this.threadServiceGetter.get();
     }
 
     private <T> T getConfigValue(final Function<CacheConfiguration, T> getter, final T defaultValue) {
@@ -232,13 +469,74 @@ public class LocalCacheService implements LocalCache, Serializable {
         private int defaultMaxSize;
     }
 
+    /**
+     * Hashed timer wheel: elements are put in the bucket of their timeout tick
+     * and each tick only visits its bucket, elements due in a later round are put back.
+     */
+    private static final class TimerWheel {
+
+        private final long tick;
+
+        private final int mask;
+
+        private final AtomicReferenceArray<Queue<ElementImpl>> buckets;
+
+        private volatile long lastTick = -1;
+
+        private TimerWheel(final long tick, final int size) {
+            this.tick = tick;
+            this.mask = size - 1; // size is a power of 2
+            this.buckets = new AtomicReferenceArray<>(size);
+            for (int i = 0; i < size; i++) {
+                buckets.set(i, new ConcurrentLinkedQueue<>());
+            }
+        }
+
+        private void schedule(final ElementImpl element) {
+            final long last = lastTick;
+            long target = (element.endOfValidity + tick - 1) / tick;
+            if (last >= 0 && target <= last) { // already passed, take the next tick
+                target = last + 1;
+            }
+            buckets.get((int) (target & mask)).add(element);
+        }
+
+        // only called by the scheduled task so never concurrently
+        private void advance(final long now, final Consumer<ElementImpl> onExpired) {
+            final long current = now / tick;
+            final long last = lastTick;
+            final long from = last < 0 || current < last || current - last > mask ? current - mask : last + 1;
+            lastTick = current;
+            for (long t = from; t <= current; t++) {
+                final Queue<ElementImpl> bucket = buckets.getAndSet((int) (t & mask), new ConcurrentLinkedQueue<>());
+                ElementImpl element;
+                while ((element = bucket.poll()) != null) {
+                    if (element.released) {
+                        continue;
+                    }
+                    if (element.endOfValidity <= now) {
+                        try {
+                            onExpired.accept(element);
+                        } catch (final RuntimeException | Error e) { // a failing predicate must not stop the wheel
+                            log.warn("Can't evict cache entry '{}': {}", element.key, e.getMessage(), e);
+                        }
+                    } else {
+                        schedule(element);
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Wrapper for each cached object.
      */
     private static class ElementImpl implements Element {
 
-        /** cached object */
-        private final Object value;
+        private final String key;
+
+        /** cached object, completed once loaded */
+        private final CompletableFuture<Object> value = new CompletableFuture<>();
 
         /** function, if exists, that authorize to remove object. */
         private final Predicate<Element> canBeRemoved;
@@ -246,27 +544,63 @@ public class LocalCacheService implements LocalCache, Serializable {
         /** give time object can be release (infinity if < 0) */
         private final long endOfValidity;
 
-        /** scheduled task to remove object if nedeed (to cancel if removed before) */
-        private final ScheduledFuture<?> removedTask;
-
         private final Supplier<Long> serviceTimer;
 
-        public <T> ElementImpl(final Supplier<T> value, final Predicate<Element> canBeRemoved, final long endOfValidity,
-                final ScheduledFuture<?> removedTask, final Supplier<Long> timer) {
-            this.value = value.get();
+        private volatile boolean released;
+
+        /** thread computing the value, used to detect a reentrant load of the same key */
+        private volatile Thread loader;
+
+        // access order links, guarded by the cache lruLock
+        private ElementImpl prev;
+
+        private ElementImpl next;
+
+        private boolean linked;
+
+        private ElementImpl(final String key, final Predicate<Element> canBeRemoved, final long endOfValidity,
+                final Supplier<Long> timer) {
+            this.key = key;
             this.canBeRemoved = canBeRemoved;
             this.endOfValidity = endOfValidity;
-            this.removedTask = removedTask;
             this.serviceTimer = timer;
         }
 
+        private void loaded(final Object loadedValue) {
+            value.complete(loadedValue);
+        }
+
+        private void failed(final Throwable error) {
+            value.completeExceptionally(error);
+        }
+
+        private boolean isLoaded() {
+            return value.isDone() && !value.isCompletedExceptionally();
+        }
+
         @Override
         public <T> T getValue(final Class<T> expectedType) {
-            if (this.value != null && !expectedType.isInstance(this.value)) {
+            if (!value.isDone() && loader == Thread.currentThread()) {
+                throw new IllegalStateException("Recursive load of cache key '" + key
+                        + "', the value supplier must not request its own key");
+            }
+            final Object loaded;
+            try {
+                loaded = value.join();
+            } catch (final CompletionException ce) { // loading failed in another thread
+                if (RuntimeException.class.isInstance(ce.getCause())) {
+                    throw RuntimeException.class.cast(ce.getCause());
+                }
+                if (Error.class.isInstance(ce.getCause())) {
+                    throw Error.class.cast(ce.getCause());
+                }
+                throw ce;
+            }
+            if (loaded != null && !expectedType.isInstance(loaded)) {
                 throw new ClassCastException(
-                        this.value.getClass().getName() + " cannot be cast to " + expectedType.getName());
+                        loaded.getClass().getName() + " cannot be cast to " + expectedType.getName());
             }
-            return expectedType.cast(this.value);
+            return expectedType.cast(loaded);
         }
 
         @Override
@@ -280,16 +614,15 @@ public class LocalCacheService implements LocalCache, Serializable {
         }
 
         public boolean canBeEvict() {
-            return this.canBeRemoved == null || this.canBeRemoved.test(this);
+            // a loading element can't be evaluated yet, it is just loaded anyway
+            return this.canBeRemoved == null || (isLoaded() && this.canBeRemoved.test(this));
         }
 
         /**
          * Release this object because removed.
          */
-        public synchronized void release() {
-            if (this.removedTask != null) {
-                this.removedTask.cancel(false);
-            }
+        public void release() {
+            this.released = true;
         }
 
         @Override
@@ -300,12 +633,13 @@ public class LocalCacheService implements LocalCache, Serializable {
             if (o == null || getClass() != o.getClass()) {
                 return false;
             }
-            return Objects.equals(ElementImpl.class.cast(o).value, value);
+            final ElementImpl other = ElementImpl.class.cast(o);
+            return isLoaded() && other.isLoaded() && Objects.equals(other.value.join(), value.join());
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(value);
+            return Objects.hash(isLoaded() ? value.join() : null);
         }
     }
 
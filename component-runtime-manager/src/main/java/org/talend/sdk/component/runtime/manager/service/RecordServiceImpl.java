@@ -23,7 +23,6 @@ import java.util.OptionalDouble;
 import java.util.OptionalInt;
 import java.util.OptionalLong;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Supplier;
@@ -42,6 +41,8 @@ import org.talend.sdk.component.runtime.record.RecordConverters;
 import org.talend.sdk.component.runtime.serialization.SerializableService;
 
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 @Data
 public class RecordServiceImpl implements RecordService, Serializable {
@@ -60,6 +61,10 @@ public class RecordServiceImpl implements RecordService, Serializable {
 
     private final RecordConverters.MappingMetaRegistry mappingRegistry = new RecordConverters.MappingMetaRegistry();
 
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final transient RecordVisitPlan.Cache visitPlans = new RecordVisitPlan.Cache();
+
     @Override
     public Collector<Schema.Entry, Record.Builder, Record> toRecord(final Schema schema, final Record fallbackRecord,
             final BiFunction<Schema.Entry, Record.Builder, Boolean> customHandler,
@@ -91,97 +96,7 @@ public class RecordServiceImpl implements RecordService, Serializable {
 
     @Override
     public <T> T visit(final RecordVisitor<T> visitor, final Record record) {
-        final AtomicReference<T> out = new AtomicReference<>();
-        record.getSchema().getAllEntries().forEach(entry -> {
-            switch (entry.getType()) {
-            case INT:
-                visitor.onInt(entry, record.getOptionalInt(entry.getName()));
-                break;
-            case LONG:
-                visitor.onLong(entry, record.getOptionalLong(entry.getName()));
-                break;
-            case FLOAT:
-                visitor.onFloat(entry, record.getOptionalFloat(entry.getName()));
-                break;
-            case DOUBLE:
-                visitor.onDouble(entry, record.getOptionalDouble(entry.getName()));
-                break;
-            case BOOLEAN:
-                visitor.onBoolean(entry, record.getOptionalBoolean(entry.getName()));
-                break;
-            case STRING:
-                visitor.onString(entry, record.getOptionalString(entry.getName()));
-                break;
-            case DATETIME:
-                visitor.onDatetime(entry, record.getOptionalDateTime(entry.getName()));
-                break;
-            case BYTES:
-                visitor.onBytes(entry, record.getOptionalBytes(entry.getName()));
-                break;
-            case RECORD:
-                final Optional<Record> optionalRecord = record.getOptionalRecord(entry.getName());
-                final RecordVisitor<T> recordVisitor = visitor.onRecord(entry, optionalRecord);
-                optionalRecord.ifPresent(r -> {
-                    final T visited = visit(recordVisitor, r);
-                    if (visited != null) {
-                        final T current = out.get();
-                        out.set(current == null ? visited : visitor.apply(current, visited));
-                    }
-                });
-                break;
-            case ARRAY:
-                final Schema schema = entry.getElementSchema();
-                switch (schema.getType()) {
-                case INT:
-                    visitor.onIntArray(entry, record.getOptionalArray(int.class, entry.getName()));
-                    break;
-                case LONG:
-                    visitor.onLongArray(entry, record.getOptionalArray(long.class, entry.getName()));
-                    break;
-                case FLOAT:
-                    visitor.onFloatArray(entry, record.getOptionalArray(float.class, entry.getName()));
-                    break;
-                case DOUBLE:
-                    visitor.onDoubleArray(entry, record.getOptionalArray(double.class, entry.getName()));
-                    break;
-                case BOOLEAN:
-                    visitor.onBooleanArray(entry, record.getOptionalArray(boolean.class, entry.getName()));
-                    break;
-                case STRING:
-                    visitor.onStringArray(entry, record.getOptionalArray(String.class, entry.getName()));
-                    break;
-                case DATETIME:
-                    visitor.onDatetimeArray(entry, record.getOptionalArray(ZonedDateTime.class, entry.getName()));
-                    break;
-                case BYTES:
-                    visitor.onBytesArray(entry, record.getOptionalArray(byte[].class, entry.getName()));
-                    break;
-                case RECORD:
-                    final Optional<Collection<Record>> array = record.getOptionalArray(Record.class, entry.getName());
-                    final RecordVisitor<T> recordArrayVisitor = visitor.onRecordArray(entry, array);
-                    array.ifPresent(a -> a.forEach(r -> {
-                        final T visited = visit(recordArrayVisitor, r);
-                        if (visited != null) {
-                            final T current = out.get();
-                            out.set(current == null ? visited : visitor.apply(current, visited));
-                        }
-                    }));
-                    break;
-                // array of array is not yet supported!
-                default:
-                    throw new IllegalStateException("Unsupported entry type: " + entry);
-                }
-                break;
-            default:
-                throw new IllegalStateException("Unsupported entry type: " + entry);
-            }
-        });
-        final T value = out.get();
-        final T visited = visitor.get();
-        if (value != null) {
-            return visitor.apply(value, visited);
-        }
-        return visited;
+        return visitPlans.get(record.getSchema()).visit(visitor, record);
     }
 
     @Override
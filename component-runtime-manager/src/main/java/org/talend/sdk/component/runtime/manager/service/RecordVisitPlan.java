@@ -0,0 +1,365 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.manager.service;
+
+import static java.util.Optional.empty;
+
+import java.lang.reflect.Proxy;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.api.service.record.RecordVisitor;
+
+/**
+ * Visit of the records of a schema compiled once: each entry is bound to a typed accessor
+ * so visiting a record does not dispatch on the entry types nor wrap present primitive values when the visitor
+ * overrides the primitive callbacks.
+ */
+class RecordVisitPlan {
+
+    private final Schema schema;
+
+    private final Step[] steps;
+
+    private RecordVisitPlan(final Schema schema, final Cache cache) {
+        this.schema = schema;
+        this.steps = schema.getAllEntries().map(entry -> toStep(entry, cache)).toArray(Step[]::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T> T visit(final RecordVisitor<T> visitor, final Record record) {
+        final RecordVisitor<Object> objectVisitor = (RecordVisitor<Object>) visitor;
+        final PrimitiveCallbacks callbacks = PrimitiveCallbacks.CALLBACKS.get(visitor.getClass());
+        Object value = null;
+        for (final Step step : steps) {
+            value = step.visit(objectVisitor, callbacks, record, value);
+        }
+        final T visited = visitor.get();
+        if (value != null) {
+            return visitor.apply((T) value, visited);
+        }
+        return visited;
+    }
+
+    private static Step toStep(final Schema.Entry entry, final Cache cache) {
+        switch (entry.getType()) {
+        case INT:
+            return (visitor, callbacks, record, current) -> {
+                final Integer value = record.get(Integer.class, entry);
+                if (value == null) {
+                    visitor.onInt(entry, OptionalInt.empty());
+                } else if (callbacks.ints) {
+                    visitor.onInt(entry, value.intValue());
+                } else {
+                    visitor.onInt(entry, OptionalInt.of(value));
+                }
+                return current;
+            };
+        case LONG:
+            return (visitor, callbacks, record, current) -> {
+                final Long value = record.get(Long.class, entry);
+                if (value == null) {
+                    visitor.onLong(entry, OptionalLong.empty());
+                } else if (callbacks.longs) {
+                    visitor.onLong(entry, value.longValue());
+                } else {
+                    visitor.onLong(entry, OptionalLong.of(value));
+                }
+                return current;
+            };
+        case FLOAT:
+            return (visitor, callbacks, record, current) -> {
+                final Float value = record.get(Float.class, entry);
+                if (value == null) {
+                    visitor.onFloat(entry, OptionalDouble.empty());
+                } else if (callbacks.floats) {
+                    visitor.onFloat(entry, value.floatValue());
+                } else {
+                    visitor.onFloat(entry, OptionalDouble.of(value));
+                }
+                return current;
+            };
+        case DOUBLE:
+            return (visitor, callbacks, record, current) -> {
+                final Double value = record.get(Double.class, entry);
+                if (value == null) {
+                    visitor.onDouble(entry, OptionalDouble.empty());
+                } else if (callbacks.doubles) {
+                    visitor.onDouble(entry, value.doubleValue());
+                } else {
+                    visitor.onDouble(entry, OptionalDouble.of(value));
+                }
+                return current;
+            };
+        case BOOLEAN:
+            return (visitor, callbacks, record, current) -> {
+                final Boolean value = record.get(Boolean.class, entry);
+                if (value == null) {
+                    visitor.onBoolean(entry, empty());
+                } else if (callbacks.booleans) {
+                    visitor.onBoolean(entry, value.booleanValue());
+                } else {
+                    visitor.onBoolean(entry, Optional.of(value));
+                }
+                return current;
+            };
+        case STRING:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onString(entry, Optional.ofNullable(record.get(String.class, entry)));
+                return current;
+            };
+        case DATETIME:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onDatetime(entry, Optional.ofNullable(record.get(ZonedDateTime.class, entry)));
+                return current;
+            };
+        case BYTES:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onBytes(entry, Optional.ofNullable(record.get(byte[].class, entry)));
+                return current;
+            };
+        case RECORD:
+            return new RecordStep(entry, cache);
+        case ARRAY:
+            return toArrayStep(entry, cache);
+        default:
+            throw new IllegalStateException("Unsupported entry type: " + entry);
+        }
+    }
+
+    private static Step toArrayStep(final Schema.Entry entry, final Cache cache) {
+        final String name = entry.getName();
+        switch (entry.getElementSchema().getType()) {
+        case INT:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onIntArray(entry, record.getOptionalArray(int.class, name));
+                return current;
+            };
+        case LONG:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onLongArray(entry, record.getOptionalArray(long.class, name));
+                return current;
+            };
+        case FLOAT:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onFloatArray(entry, record.getOptionalArray(float.class, name));
+                return current;
+            };
+        case DOUBLE:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onDoubleArray(entry, record.getOptionalArray(double.class, name));
+                return current;
+            };
+        case BOOLEAN:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onBooleanArray(entry, record.getOptionalArray(boolean.class, name));
+                return current;
+            };
+        case STRING:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onStringArray(entry, record.getOptionalArray(String.class, name));
+                return current;
+            };
+        case DATETIME:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onDatetimeArray(entry, record.getOptionalArray(ZonedDateTime.class, name));
+                return current;
+            };
+        case BYTES:
+            return (visitor, callbacks, record, current) -> {
+                visitor.onBytesArray(entry, record.getOptionalArray(byte[].class, name));
+                return current;
+            };
+        case RECORD:
+            return new RecordArrayStep(entry, cache);
+        // array of array is not yet supported!
+        default:
+            throw new IllegalStateException("Unsupported entry type: " + entry);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Step {
+
+        /**
+         * @param visitor the visitor to call for this entry.
+         * @param callbacks the primitive callbacks the visitor overrides.
+         * @param record the visited record.
+         * @param current the value aggregated from the nested records visited so far, can be null.
+         * @return the new aggregated value.
+         */
+        Object visit(RecordVisitor<Object> visitor, PrimitiveCallbacks callbacks, Record record, Object current);
+    }
+
+    /**
+     * Base for nested records, it remembers the last nested plan since nested records
+     * generally share the same schema instance.
+     */
+    private abstract static class NestedStep implements Step {
+
+        protected final Schema.Entry entry;
+
+        private final Cache cache;
+
+        private volatile RecordVisitPlan last;
+
+        private NestedStep(final Schema.Entry entry, final Cache cache) {
+            this.entry = entry;
+            this.cache = cache;
+        }
+
+        protected Object visitNested(final RecordVisitor<Object> visitor, final RecordVisitor<Object> nestedVisitor,
+                final Record nested, final Object current) {
+            final Schema schema = nested.getSchema();
+            RecordVisitPlan plan = last;
+            if (plan == null || plan.schema != schema) {
+                plan = cache.get(schema);
+                last = plan;
+            }
+            final Object visited = plan.visit(nestedVisitor, nested);
+            if (visited == null) {
+                return current;
+            }
+            return current == null ? visited : visitor.apply(current, visited);
+        }
+    }
+
+    private static class RecordStep extends NestedStep {
+
+        private RecordStep(final Schema.Entry entry, final Cache cache) {
+            super(entry, cache);
+        }
+
+        @Override
+        public Object visit(final RecordVisitor<Object> visitor, final PrimitiveCallbacks callbacks,
+                final Record record, final Object current) {
+            final Record nested = record.get(Record.class, entry);
+            final RecordVisitor<Object> nestedVisitor = visitor.onRecord(entry, Optional.ofNullable(nested));
+            if (nested == null) {
+                return current;
+            }
+            return visitNested(visitor, nestedVisitor, nested, current);
+        }
+    }
+
+    private static class RecordArrayStep extends NestedStep {
+
+        private RecordArrayStep(final Schema.Entry entry, final Cache cache) {
+            super(entry, cache);
+        }
+
+        @Override
+        public Object visit(final RecordVisitor<Object> visitor, final PrimitiveCallbacks callbacks,
+                final Record record, final Object current) {
+            final Optional<Collection<Record>> array = record.getOptionalArray(Record.class, entry.getName());
+            final RecordVisitor<Object> nestedVisitor = visitor.onRecordArray(entry, array);
+            if (!array.isPresent()) {
+                return current;
+            }
+            Object value = current;
+            for (final Record nested : array.get()) {
+                value = visitNested(visitor, nestedVisitor, nested, value);
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Primitive callbacks are only used when the visitor class overrides them, otherwise the optional flavors
+     * are called directly so visitors intercepting all the calls (proxies) keep seeing the optional values.
+     */
+    static class PrimitiveCallbacks {
+
+        private static final ClassValue<PrimitiveCallbacks> CALLBACKS = new ClassValue<PrimitiveCallbacks>() {
+
+            @Override
+            protected PrimitiveCallbacks computeValue(final Class<?> type) {
+                return new PrimitiveCallbacks(type);
+            }
+        };
+
+        private final boolean ints;
+
+        private final boolean longs;
+
+        private final boolean floats;
+
+        private final boolean doubles;
+
+        private final boolean booleans;
+
+        private PrimitiveCallbacks(final Class<?> type) {
+            ints = overrides(type, "onInt", int.class);
+            longs = overrides(type, "onLong", long.class);
+            floats = overrides(type, "onFloat", float.class);
+            doubles = overrides(type, "onDouble", double.class);
+            booleans = overrides(type, "onBoolean", boolean.class);
+        }
+
+        private static boolean overrides(final Class<?> type, final String name, final Class<?> primitive) {
+            if (Proxy.isProxyClass(type)) {
+                return false;
+            }
+            try {
+                return type.getMethod(name, Schema.Entry.class, primitive).getDeclaringClass() != RecordVisitor.class;
+            } catch (final NoSuchMethodException e) {
+                return false;
+            }
+        }
+    }
+
+    /**
+     * Plans by schema identity, schemas are immutable and generally shared by all the records of a flow.
+     * The cache is bounded to not leak dynamic schemas: it is reset when it reaches its max size.
+     */
+    static class Cache {
+
+        private static final int MAX_SIZE = 256;
+
+        private final Map<Schema, RecordVisitPlan> plans = new IdentityHashMap<>();
+
+        private volatile RecordVisitPlan last;
+
+        RecordVisitPlan get(final Schema schema) {
+            final RecordVisitPlan current = last;
+            if (current != null && current.schema == schema) {
+                return current;
+            }
+            final RecordVisitPlan plan;
+            synchronized (plans) {
+                RecordVisitPlan existing = plans.get(schema);
+                if (existing == null) {
+                    if (plans.size() >= MAX_SIZE) {
+                        plans.clear();
+                    }
+                    existing = new RecordVisitPlan(schema, this);
+                    plans.put(schema, existing);
+                }
+                plan = existing;
+            }
+            last = plan;
+            return plan;
+        }
+    }
+}
@@ -16,21 +16,41 @@
 package org.talend.sdk.component.runtime.manager.service.http;
 
 import static java.util.Optional.ofNullable;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.stream.Collectors.toMap;
 
 import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.PhantomReference;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
+import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 
 import org.talend.sdk.component.api.service.http.Configurer;
@@ -56,12 +76,38 @@ public class ExecutionContext implements BiFunction<String, Object[], Object> {
 
     private final Map<String, Decoder> decoders;
 
+    private final boolean async;
+
     public Object apply(final String base, final Object[] params) {
+        if (async) {
+            final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            return CompletableFuture.supplyAsync(() -> {
+                final Thread thread = Thread.currentThread();
+                final ClassLoader old = thread.getContextClassLoader();
+                thread.setContextClassLoader(loader);
+                try {
+                    return execute(base, params);
+                } finally {
+                    thread.setContextClassLoader(old);
+                }
+            }, AsyncExecutor.INSTANCE);
+        }
+        return execute(base, params);
+    }
+
+    private Object execute(final String base, final Object[] params) {
         HttpURLConnection urlConnection = null;
+        final HttpRequest request = requestCreator.apply(base, params);
+        final String queryParams = String.join("&", request.getQueryParams());
+        final URL url;
+        try {
+            url = new URL(request.getUrl() + (queryParams.isEmpty() ? "" : "?" + queryParams));
+        } catch (final MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+        HostLimiter.Permit permit = null;
+        boolean releasePermit = true;
         try {
-            final HttpRequest request = requestCreator.apply(base, params);
-            final String queryParams = String.join("&", request.getQueryParams());
-            final URL url = new URL(request.getUrl() + (queryParams.isEmpty() ? "" : "?" + queryParams));
             urlConnection = HttpURLConnection.class.cast(url.openConnection());
             urlConnection.setRequestMethod(request.getMethodType());
             request.getHeaders().forEach(urlConnection::setRequestProperty);
@@ -73,6 +119,7 @@ public class ExecutionContext implements BiFunction<String, Object[], Object> {
                 request.getConfigurer().configure(connection, request.getConfigurationOptions());
             }
             connection.postConfigure();
+            permit = HostLimiter.acquire(url, urlConnection.getConnectTimeout());
 
             if (requestBody.isPresent()) {
                 urlConnection.setDoOutput(true);
@@ -90,16 +137,39 @@ public class ExecutionContext implements BiFunction<String, Object[], Object> {
             try {
                 final InputStream inputStream = urlConnection.getInputStream();
                 if (getResponseType() == InputStream.class) {
+                    final InputStream stream = HostLimiter.releaseOnClose(inputStream, permit);
+                    HostLimiter.track(stream, permit);
+                    releasePermit = false;
                     if (isResponse()) {
                         return new InputStreamResponse(responseCode, PassthroughDecoder.INSTANCE,
-                                headers(urlConnection), null, inputStream);
+                                headers(urlConnection), null, stream);
+                    }
+                    return stream;
+                }
+                if (!isResponse() && byte[].class != getResponseType()) {
+                    final Decoder decoder = decoderMatcher.select(getDecoders(), contentType);
+                    if (isLazy()) { // the decoder owns the stream, it is released once consumed or closed
+                        final Object decoded =
+                                decoder.decode(HostLimiter.releaseOnClose(inputStream, permit), getResponseType());
+                        HostLimiter.track(decoded, permit);
+                        releasePermit = false;
+                        return decoded;
+                    }
+                    try (final InputStream stream = inputStream) {
+                        final Object decoded = decoder.decode(new FilterInputStream(stream) {
+
+                            @Override
+                            public void close() {
+                                // no-op, drained and closed there to ensure the connection can be reused
+                            }
+                        }, getResponseType());
+                        drain(stream);
+                        return decoded;
                     }
-                    return inputStream;
                 }
                 response = slurp(inputStream, urlConnection.getContentLength());
                 if (!isResponse()) {
-                    return byte[].class == getResponseType() ? response
-                            : decoderMatcher.select(getDecoders(), contentType).decode(response, getResponseType());
+                    return response;
                 }
                 return new ResponseImpl(responseCode,
                         byte[].class == getResponseType() ? PassthroughDecoder.INSTANCE
@@ -128,6 +198,22 @@ public class ExecutionContext implements BiFunction<String, Object[], Object> {
                 urlConnection.disconnect();
             }
             throw new IllegalStateException(e);
+        } finally {
+            if (releasePermit && permit != null) {
+                permit.release();
+            }
+        }
+    }
+
+    private boolean isLazy() {
+        return ParameterizedType.class.isInstance(responseType)
+                && ParameterizedType.class.cast(responseType).getRawType() == Iterator.class;
+    }
+
+    private static void drain(final InputStream stream) throws IOException {
+        final byte[] buffer = new byte[1024];
+        while (stream.read(buffer) >= 0) {
+            // no-op
         }
     }
 
@@ -306,4 +392,154 @@ public class ExecutionContext implements BiFunction<String, Object[], Object> {
             return bodyCache;
         }
     }
+
+    /**
+     * Bounds the number of concurrent connections per host (scheme and authority),
+     * configured with the {@code talend.component.manager.http.maxConnectionsPerHost} system property.
+     * Connections themselves are kept alive and reused by the JVM ({@code http.keepAlive}, {@code http.maxConnections}).
+     *
+     * Waiting for a permit is bounded by the connect timeout of the request, or when there is none by the
+     * {@code talend.component.manager.http.maxConnectionsPerHost.timeout} system property (milliseconds).
+     * Permits of streamed responses (input stream, iterator) are released when the stream is fully read or closed,
+     * or once the response is garbage collected if it was dropped before.
+     */
+    private static class HostLimiter {
+
+        private static final int MAX_PER_HOST =
+                Integer.getInteger("talend.component.manager.http.maxConnectionsPerHost", -1);
+
+        private static final long TIMEOUT =
+                Long.getLong("talend.component.manager.http.maxConnectionsPerHost.timeout", 60000);
+
+        private static final ConcurrentMap<String, Semaphore> PERMITS = new ConcurrentHashMap<>();
+
+        private static final ReferenceQueue<Object> ABANDONED = new ReferenceQueue<>();
+
+        private static final Set<PermitReference> TRACKED = ConcurrentHashMap.newKeySet();
+
+        private static Permit acquire(final URL url, final int connectTimeout) {
+            if (MAX_PER_HOST <= 0) {
+                return null;
+            }
+            releaseAbandonedPermits();
+            final String host = url.getProtocol() + "://" + url.getAuthority();
+            final Semaphore semaphore = PERMITS.computeIfAbsent(host, k -> new Semaphore(MAX_PER_HOST, true));
+            final long timeout = connectTimeout > 0 ? connectTimeout : TIMEOUT;
+            try {
+                if (!semaphore.tryAcquire(timeout, MILLISECONDS)) {
+                    throw new IllegalStateException("No connection available for " + host + " after " + timeout
+                            + "ms (talend.component.manager.http.maxConnectionsPerHost=" + MAX_PER_HOST + ")");
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+            return new Permit(semaphore);
+        }
+
+        private static void track(final Object response, final Permit permit) {
+            if (permit != null && response != null) {
+                TRACKED.add(new PermitReference(response, permit));
+            }
+        }
+
+        private static void releaseAbandonedPermits() {
+            Reference<?> reference;
+            while ((reference = ABANDONED.poll()) != null) {
+                final PermitReference permitReference = PermitReference.class.cast(reference);
+                TRACKED.remove(permitReference);
+                permitReference.permit.release();
+            }
+        }
+
+        private static InputStream releaseOnClose(final InputStream stream, final Permit permit) {
+            if (permit == null) {
+                return stream;
+            }
+            return new FilterInputStream(stream) { // at the end of the payload the JVM can reuse the connection
+
+                @Override
+                public int read() throws IOException {
+                    return releaseAtEnd(super.read());
+                }
+
+                @Override
+                public int read(final byte[] b, final int off, final int len) throws IOException {
+                    return releaseAtEnd(super.read(b, off, len));
+                }
+
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        permit.release();
+                    }
+                }
+
+                private int releaseAtEnd(final int read) {
+                    if (read < 0) {
+                        permit.release();
+                    }
+                    return read;
+                }
+            };
+        }
+
+        @AllArgsConstructor
+        private static class Permit {
+
+            private final Semaphore semaphore;
+
+            private final AtomicBoolean released = new AtomicBoolean();
+
+            private void release() {
+                if (released.compareAndSet(false, true)) {
+                    semaphore.release();
+                }
+            }
+        }
+
+        private static class PermitReference extends PhantomReference<Object> {
+
+            private final Permit permit;
+
+            private PermitReference(final Object response, final Permit permit) {
+                super(response, ABANDONED);
+                this.permit = permit;
+            }
+        }
+    }
+
+    /**
+     * Executes the requests returning a {@link java.util.concurrent.CompletionStage}.
+     * It is bounded ({@code talend.component.manager.http.async.threads} and
+     * {@code talend.component.manager.http.async.queue} system properties) and runs the request in the caller
+     * thread when saturated.
+     */
+    private static class AsyncExecutor {
+
+        private static final ExecutorService INSTANCE = newExecutor();
+
+        private static ExecutorService newExecutor() {
+            final int threads = Integer
+                    .getInteger("talend.component.manager.http.async.threads",
+                            Math.max(4, Runtime.getRuntime().availableProcessors() * 2));
+            final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, MINUTES,
+                    new LinkedBlockingQueue<>(Integer.getInteger("talend.component.manager.http.async.queue", 1024)),
+                    new ThreadFactory() {
+
+                        private final AtomicInteger counter = new AtomicInteger();
+
+                        @Override
+                        public Thread newThread(final Runnable r) {
+                            final Thread thread = new Thread(r, "talend-http-async-" + counter.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        }
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
 }
@@ -38,11 +38,14 @@ import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -67,6 +70,7 @@ import org.talend.sdk.component.api.service.http.Request;
 import org.talend.sdk.component.api.service.http.Response;
 import org.talend.sdk.component.api.service.http.Url;
 import org.talend.sdk.component.api.service.http.UseConfigurer;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.manager.reflect.Constructors;
 import org.talend.sdk.component.runtime.manager.reflect.ReflectionService;
 import org.talend.sdk.component.runtime.manager.service.MediaTypeComparator;
@@ -123,13 +127,19 @@ public class RequestParser {
     private volatile CodecMatcher<Encoder> codecMatcher = new CodecMatcher<>();
 
     public RequestParser(final ReflectionService reflections, final Jsonb jsonb, final Map<Class<?>, Object> services) {
-        this(new ReflectionInstanceCreator(reflections, services), jsonb);
+        this(new ReflectionInstanceCreator(reflections, services), jsonb,
+                RecordBuilderFactory.class.cast(services.get(RecordBuilderFactory.class)));
     }
 
     public RequestParser(final InstanceCreator instanceCreator, final Jsonb jsonb) {
+        this(instanceCreator, jsonb, null);
+    }
+
+    public RequestParser(final InstanceCreator instanceCreator, final Jsonb jsonb,
+            final RecordBuilderFactory recordBuilderFactory) {
         this.instanceCreator = instanceCreator;
         this.jsonpEncoder = new JsonpEncoder(jsonb);
-        this.jsonpDecoder = new JsonpDecoder(jsonb);
+        this.jsonpDecoder = new JsonpDecoder(jsonb, recordBuilderFactory);
     }
 
     /**
@@ -204,10 +214,15 @@ public class RequestParser {
             }
         }
 
-        final boolean isResponse = method.getReturnType() == Response.class;
+        final boolean async =
+                method.getReturnType() == CompletionStage.class || method.getReturnType() == CompletableFuture.class;
+        final Type returnType =
+                async ? ParameterizedType.class.cast(method.getGenericReturnType()).getActualTypeArguments()[0]
+                        : method.getGenericReturnType();
+        final boolean isResponse = toRawType(returnType) == Response.class;
         final Type responseType =
-                isResponse ? ParameterizedType.class.cast(method.getGenericReturnType()).getActualTypeArguments()[0]
-                        : method.getReturnType();
+                isResponse ? ParameterizedType.class.cast(returnType).getActualTypeArguments()[0]
+                        : toRawType(returnType) == Iterator.class ? returnType : toRawType(returnType);
         final Integer httpMethodIndex = httpMethod;
         final Function<Object[], String> httpMethodProvider = params -> httpMethodIndex == null ? request.method()
                 : ofNullable(params[httpMethodIndex]).map(String::valueOf).orElse(request.method());
@@ -222,7 +237,7 @@ public class RequestParser {
 
         return new ExecutionContext(new HttpRequestCreator(httpMethodProvider, urlProvider, baseProvider, pathTemplate,
                 pathProvider, queryParamsProvider, headersProvider, payloadProvider, configurerInstance,
-                configurerOptionsProvider), responseType, isResponse, decoders);
+                configurerOptionsProvider), responseType, isResponse, decoders, async);
     }
 
     private BiFunction<String, Object[], Optional<byte[]>> buildPayloadProvider(final Map<String, Encoder> encoders,
@@ -255,6 +270,16 @@ public class RequestParser {
         }
     }
 
+    private static Class<?> toRawType(final Type type) {
+        if (Class.class.isInstance(type)) {
+            return Class.class.cast(type);
+        }
+        if (ParameterizedType.class.isInstance(type)) {
+            return toRawType(ParameterizedType.class.cast(type).getRawType());
+        }
+        return Object.class;
+    }
+
     static Class<?> toClassType(final Type type) {
         Class<?> cType = null;
         if (Class.class.isInstance(type)) {
@@ -15,26 +15,155 @@
  */
 package org.talend.sdk.component.runtime.manager.service.http.codec;
 
+import static java.util.Collections.emptyMap;
+
 import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
 
+import javax.json.Json;
+import javax.json.JsonStructure;
+import javax.json.JsonValue;
 import javax.json.bind.Jsonb;
+import javax.json.stream.JsonParser;
+import javax.json.stream.JsonParserFactory;
 
+import org.apache.johnzon.jsonb.extension.JsonValueReader;
+import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.http.Decoder;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+import org.talend.sdk.component.runtime.record.JsonRecordReader;
 
-import lombok.AllArgsConstructor;
-
-@AllArgsConstructor
 public class JsonpDecoder implements Decoder {
 
     private final Jsonb jsonb;
 
+    // records are read from the parser events, without intermediate JsonObject
+    private final JsonRecordReader recordReader;
+
+    public JsonpDecoder(final Jsonb jsonb) {
+        this(jsonb, null);
+    }
+
+    public JsonpDecoder(final Jsonb jsonb, final RecordBuilderFactory recordBuilderFactory) {
+        this.jsonb = jsonb;
+        this.recordReader = recordBuilderFactory == null ? null : new JsonRecordReader(recordBuilderFactory);
+    }
+
     @Override
     public Object decode(final byte[] value, final Type expectedType) {
+        return decode(new ByteArrayInputStream(value), expectedType);
+    }
+
+    @Override
+    public Object decode(final InputStream value, final Type expectedType) {
+        if (ParameterizedType.class.isInstance(expectedType)) {
+            final ParameterizedType pt = ParameterizedType.class.cast(expectedType);
+            if (pt.getRawType() == Iterator.class && Class.class.isInstance(pt.getActualTypeArguments()[0])) {
+                return new ArrayIterator(jsonb, recordReader, value, Class.class.cast(pt.getActualTypeArguments()[0]));
+            }
+        }
         if (!Class.class.isInstance(expectedType)) {
             throw new IllegalArgumentException("Unsupported type: " + expectedType);
         }
         final Class<?> clazz = Class.class.cast(expectedType);
-        return jsonb.fromJson(new ByteArrayInputStream(value), clazz);
+        if (clazz == Record.class && recordReader != null) {
+            try (final JsonParser parser = ArrayIterator.PARSER_FACTORY.createParser(value)) {
+                return recordReader.read(parser);
+            }
+        }
+        return jsonb.fromJson(value, clazz);
+    }
+
+    /**
+     * Decodes a JSON array item per item, only the current item is in memory.
+     * Closing it before the end of the array releases the underlying stream.
+     */
+    private static class ArrayIterator implements Iterator<Object>, Closeable {
+
+        private static final JsonParserFactory PARSER_FACTORY = Json.createParserFactory(emptyMap());
+
+        private final Jsonb jsonb;
+
+        private final JsonRecordReader recordReader;
+
+        private final InputStream stream;
+
+        private final JsonParser parser;
+
+        private final Class<?> itemType;
+
+        private JsonParser.Event current;
+
+        private boolean done;
+
+        private ArrayIterator(final Jsonb jsonb, final JsonRecordReader recordReader, final InputStream stream,
+                final Class<?> itemType) {
+            this.jsonb = jsonb;
+            this.recordReader = recordReader;
+            this.stream = stream;
+            this.itemType = itemType;
+            this.parser = PARSER_FACTORY.createParser(stream);
+            if (!parser.hasNext() || parser.next() != JsonParser.Event.START_ARRAY) {
+                close();
+                throw new IllegalArgumentException("Expected a JSON array to decode " + itemType.getName() + " items");
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (current == null && !done) {
+                final JsonParser.Event event = parser.hasNext() ? parser.next() : JsonParser.Event.END_ARRAY;
+                if (event == JsonParser.Event.END_ARRAY) {
+                    close();
+                } else {
+                    current = event;
+                }
+            }
+            return current != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final JsonParser.Event event = current;
+            current = null;
+            if (itemType == Record.class && recordReader != null && event == JsonParser.Event.START_OBJECT) {
+                return recordReader.readObject(parser);
+            }
+            final JsonValue value = parser.getValue();
+            if (itemType.isInstance(value)) {
+                return value;
+            }
+            if (JsonStructure.class.isInstance(value)) { // mapped from the parsed value, not serialized again
+                return jsonb.fromJson(new JsonValueReader<>(JsonStructure.class.cast(value)), itemType);
+            }
+            return jsonb.fromJson(value.toString(), itemType);
+        }
+
+        @Override
+        public void close() {
+            if (done) {
+                return;
+            }
+            done = true;
+            current = null;
+            try {
+                parser.close();
+            } finally {
+                try {
+                    stream.close();
+                } catch (final IOException e) {
+                    // no-op: the payload was read
+                }
+            }
+        }
     }
 }
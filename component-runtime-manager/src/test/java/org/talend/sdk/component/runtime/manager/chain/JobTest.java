@@ -342,6 +342,119 @@ class JobTest {
         }
     }
 
+    @Test
+    void pipelinedExecution(final TestInfo info, @TempDir final Path temporaryFolder) throws IOException {
+        final String testName = info.getTestMethod().get().getName();
+        final String plugin = testName + ".jar";
+        final File jar = pluginGenerator.createChainPlugin(temporaryFolder.toFile(), plugin);
+        final File out = new File(temporaryFolder.toFile(), testName + "-out.txt");
+
+        try (final ComponentManager manager = newTestManager(jar)) {
+            Job
+                    .components()
+                    .component("users", "db://input?__version=1&tableName=users")
+                    .component("address", "db://input?__version=1&tableName=address")
+                    .component("salary", "db://input?__version=1&tableName=salary")
+                    .component("concat", "processor://concat?__version=1")
+                    .component("concat_2", "processor://concat?__version=1")
+                    .component("outFile",
+                            "file://out?__version=1&configuration.file=" + encode(out.getAbsolutePath(), "utf-8"))
+                    .connections()
+                    .from("users")
+                    .to("concat", "str1")
+                    .from("address")
+                    .to("concat", "str2")
+                    .from("concat")
+                    .to("concat_2", "str1")
+                    .from("salary")
+                    .to("concat_2", "str2")
+                    .from("concat_2")
+                    .to("outFile")
+                    .build()
+                    .property(Job.ExecutorBuilder.class.getName(), "pipelined")
+                    .property("pipelined.batchSize", 2)
+                    .property(GroupKeyProvider.class.getName(), (GroupKeyProvider) context -> {
+                        if (context.getComponentId().equals("users")) {
+                            return context.getData().get(String.class, "id");
+                        }
+                        return context.getData().get(String.class, "userId");
+                    })
+                    .run();
+
+            assertTrue(out.isFile());
+            assertEquals(asList("sophia nantes 2000.5", "emma strasbourg 1900", "liam lyon 3055", "ava paris 2600.30"),
+                    Files.readAllLines(out.toPath()));
+        }
+    }
+
+    @Test
+    void pipelinedDefaultKeyProvider(final TestInfo info, @TempDir final Path temporaryFolder) throws IOException {
+        final String testName = info.getTestMethod().get().getName();
+        final String plugin = testName + ".jar";
+        final File jar = pluginGenerator.createChainPlugin(temporaryFolder.toFile(), plugin);
+        final File out = new File(temporaryFolder.toFile(), testName + "-out.txt");
+
+        try (final ComponentManager manager = newTestManager(jar)) {
+            Job
+                    .components()
+                    .component("users", "db://input?__version=1&tableName=users")
+                    .component("address", "db://input?__version=1&tableName=address")
+                    .component("salary", "db://input?__version=1&tableName=salary")
+                    .component("concat", "processor://concat?__version=1")
+                    .component("concat_2", "processor://concat?__version=1")
+                    .component("outFile",
+                            "file://out?__version=1&configuration.file=" + encode(out.getAbsolutePath(), "utf-8"))
+                    .connections()
+                    .from("users")
+                    .to("concat", "str1")
+                    .from("address")
+                    .to("concat", "str2")
+                    .from("concat")
+                    .to("concat_2", "str1")
+                    .from("salary")
+                    .to("concat_2", "str2")
+                    .from("concat_2")
+                    .to("outFile")
+                    .build()
+                    .property(Job.ExecutorBuilder.class.getName(), "pipelined")
+                    .property("pipelined.batchSize", 1)
+                    .run();
+
+            assertTrue(out.isFile());
+            assertEquals(asList("sophia paris 1900", "emma nantes 3055", "liam strasbourg 2600.30", "ava lyon 2000.5"),
+                    Files.readAllLines(out.toPath()));
+        }
+    }
+
+    @Test
+    void pipelinedLifecycle(final TestInfo info, @TempDir final Path temporaryFolder) {
+        final String testName = info.getTestMethod().get().getName();
+        final String plugin = testName + ".jar";
+        final File jar = pluginGenerator.createChainPlugin(temporaryFolder.toFile(), plugin);
+        try (final ComponentManager manager = newTestManager(jar)) {
+            Job
+                    .components()
+                    .component("countdown", "lifecycle://countdown?__version=1&start=2")
+                    .component("square", "lifecycle://square?__version=1")
+                    .connections()
+                    .from("countdown")
+                    .to("square")
+                    .build()
+                    .property(Job.ExecutorBuilder.class.getName(), "pipelined")
+                    .run();
+
+            final LocalPartitionMapper mapper =
+                    LocalPartitionMapper.class.cast(manager.findMapper("lifecycle", "countdown", 1, emptyMap()).get());
+            assertEquals(asList("start", "produce(1)", "produce(0)", "produce(null)", "stop"),
+                    ((Supplier<List<String>>) mapper.getDelegate()).get());
+
+            final ProcessorImpl processor =
+                    (ProcessorImpl) manager.findProcessor("lifecycle", "square", 1, emptyMap()).get();
+            assertEquals(asList("start", "beforeGroup", "onNext(1)", "afterGroup", "beforeGroup", "onNext(0)",
+                    "afterGroup", "stop"), ((Supplier<List<String>>) processor.getDelegate()).get());
+        }
+    }
+
     private ComponentManager newTestManager(final File jar) {
         return new ComponentManager(new File("target/fake-m2"), "TALEND-INF/dependencies.txt", null) {
 
@@ -19,14 +19,18 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static java.util.concurrent.TimeUnit.MINUTES;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.talend.sdk.component.api.service.http.QueryFormat.MULTI;
 
 import java.io.BufferedReader;
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -34,12 +38,17 @@ import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
 import java.net.InetSocketAddress;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.stream.Stream;
 
+import javax.json.JsonArray;
 import javax.json.bind.JsonbBuilder;
 import javax.xml.bind.annotation.XmlRootElement;
 
@@ -47,6 +56,7 @@ import org.apache.xbean.propertyeditor.PropertyEditorRegistry;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.talend.sdk.component.api.internationalization.Internationalized;
+import org.talend.sdk.component.api.record.Record;
 import org.talend.sdk.component.api.service.Service;
 import org.talend.sdk.component.api.service.http.Codec;
 import org.talend.sdk.component.api.service.http.Configurer;
@@ -65,9 +75,11 @@ import org.talend.sdk.component.api.service.http.Response;
 import org.talend.sdk.component.api.service.http.Url;
 import org.talend.sdk.component.api.service.http.UseConfigurer;
 import org.talend.sdk.component.api.service.http.configurer.oauth1.OAuth1;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.manager.reflect.ParameterModelService;
 import org.talend.sdk.component.runtime.manager.reflect.ReflectionService;
 import org.talend.sdk.component.runtime.manager.service.http.HttpClientFactoryImpl;
+import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
 
 import com.sun.net.httpserver.Headers;
 import com.sun.net.httpserver.HttpServer;
@@ -266,6 +278,89 @@ class HttpClientFactoryImplTest {
         }
     }
 
+    @Test
+    void requestAsync() throws Exception {
+        final HttpServer server = createTestServer(HttpURLConnection.HTTP_OK);
+        try {
+            server.start();
+            final AsyncClient client = newDefaultFactory().create(AsyncClient.class, null);
+            client.base("http://localhost:" + server.getAddress().getPort() + "/api");
+
+            final Response<String> response = client.get("test").toCompletableFuture().get(1, MINUTES);
+            assertEquals(HttpURLConnection.HTTP_OK, response.status());
+            assertEquals("POST@Connection=keep-alive/Content-length=4/"
+                    + "Content-type=application/x-www-form-urlencoded@/api@test", response.body());
+            assertTrue(client.getString("test").get(1, MINUTES).endsWith("@/api@test"));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void streamJsonArray() throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/").setHandler(httpExchange -> {
+            final byte[] bytes = "[{\"name\":\"a\"},{\"name\":\"b\"},{\"name\":\"c\"}]"
+                    .getBytes(StandardCharsets.UTF_8);
+            httpExchange.getResponseHeaders().set("content-type", "application/json");
+            httpExchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, bytes.length);
+            httpExchange.getResponseBody().write(bytes);
+            httpExchange.close();
+        });
+        try {
+            server.start();
+            final StreamingClient client = newDefaultFactory().create(StreamingClient.class, null);
+            client.base("http://localhost:" + server.getAddress().getPort() + "/api");
+
+            final Iterator<Foo> foos = client.foos();
+            final List<String> names = new ArrayList<>();
+            foos.forEachRemaining(foo -> names.add(foo.getName()));
+            assertEquals(asList("a", "b", "c"), names);
+            assertEquals(3, client.array().size());
+
+            // early stop
+            final Iterator<Foo> partial = client.foos();
+            assertEquals("a", partial.next().getName());
+            assertTrue(Closeable.class.isInstance(partial));
+            Closeable.class.cast(partial).close();
+            assertFalse(partial.hasNext());
+        } finally {
+            server.stop(0);
+        }
+    }
+
+    @Test
+    void streamJsonRecords() throws IOException {
+        final HttpServer server = HttpServer.create(new InetSocketAddress(0), 0);
+        server.createContext("/").setHandler(httpExchange -> {
+            final byte[] bytes = "[{\"name\":\"a\",\"age\":1},{\"name\":\"b\",\"age\":2}]"
+                    .getBytes(StandardCharsets.UTF_8);
+            httpExchange.getResponseHeaders().set("content-type", "application/json");
+            httpExchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, bytes.length);
+            httpExchange.getResponseBody().write(bytes);
+            httpExchange.close();
+        });
+        try {
+            server.start();
+            final PropertyEditorRegistry propertyEditorRegistry = new PropertyEditorRegistry();
+            final StreamingClient client = new HttpClientFactoryImpl("test",
+                    new ReflectionService(new ParameterModelService(propertyEditorRegistry), propertyEditorRegistry),
+                    JsonbBuilder.create(),
+                    singletonMap(RecordBuilderFactory.class, (Object) new RecordBuilderFactoryImpl("test")))
+                            .create(StreamingClient.class, null);
+            client.base("http://localhost:" + server.getAddress().getPort() + "/api");
+
+            final List<Record> records = new ArrayList<>();
+            client.records().forEachRemaining(records::add);
+            assertEquals(2, records.size());
+            assertEquals("b", records.get(1).getString("name"));
+            assertEquals(2., records.get(1).getDouble("age"));
+            assertSame(records.get(0).getSchema(), records.get(1).getSchema());
+        } finally {
+            server.stop(0);
+        }
+    }
+
     @Test
     void decoderWithServices() throws IOException {
         final HttpServer server = createTestServer(HttpURLConnection.HTTP_OK);
@@ -681,6 +776,27 @@ class HttpClientFactoryImplTest {
         Response<XmlRecord> main(@Header("content-type") String contentType, XmlRecord payload);
     }
 
+    public interface AsyncClient extends HttpClient {
+
+        @Request(method = "POST")
+        CompletionStage<Response<String>> get(String payload);
+
+        @Request(method = "POST")
+        CompletableFuture<String> getString(String payload);
+    }
+
+    public interface StreamingClient extends HttpClient {
+
+        @Request
+        Iterator<Foo> foos();
+
+        @Request
+        JsonArray array();
+
+        @Request
+        Iterator<Record> records();
+    }
+
     public interface ResponseJson extends HttpClient {
 
         @Request(method = "POST")
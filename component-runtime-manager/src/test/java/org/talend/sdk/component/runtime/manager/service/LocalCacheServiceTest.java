@@ -17,15 +17,21 @@ package org.talend.sdk.component.runtime.manager.service;
 
 import java.io.IOException;
 import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
@@ -291,6 +297,135 @@ class LocalCacheServiceTest {
         Assertions.assertEquals(10, this.cacheSize());
     }
 
+    @Test
+    void singleFlight() throws Exception {
+        final AtomicInteger loads = new AtomicInteger();
+        final CountDownLatch loading = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            final List<Future<String>> results = new ArrayList<>();
+            results.add(pool.submit(() -> cache.computeIfAbsent(String.class, "foo", () -> {
+                loads.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "bar";
+            })));
+            loading.await();
+            for (int i = 0; i < 3; i++) {
+                results.add(pool.submit(() -> cache.computeIfAbsent(String.class, "foo", () -> {
+                    loads.incrementAndGet();
+                    return "other";
+                })));
+            }
+            release.countDown();
+            for (final Future<String> result : results) {
+                assertEquals("bar", result.get(1, TimeUnit.MINUTES));
+            }
+            assertEquals(1, loads.get());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        Assertions
+                .assertThrows(IllegalStateException.class, () -> cache.computeIfAbsent(String.class, "foo", () -> {
+                    throw new IllegalStateException("failed");
+                }));
+        Assertions.assertTrue(isCacheEmpty());
+        assertEquals("bar", cache.computeIfAbsent(String.class, "foo", () -> "bar"));
+        assertEquals(1, cache.getLoadFailures());
+    }
+
+    @Test
+    void statistics() {
+        this.defaultMaxSize = 2;
+        cache.computeIfAbsent(String.class, "k1", () -> "v1");
+        cache.computeIfAbsent(String.class, "k2", () -> "v2");
+        cache.computeIfAbsent(String.class, "k1", () -> "ignored"); // k1 is now the most recently used
+        cache.computeIfAbsent(String.class, "k3", () -> "v3"); // evicts k2
+        assertEquals("v1", cache.computeIfAbsent(String.class, "k1", () -> "ignored"));
+        assertEquals("reloaded", cache.computeIfAbsent(String.class, "k2", () -> "reloaded"));
+
+        assertEquals(2, cache.getSize());
+        assertEquals(2, cache.getHits());
+        assertEquals(4, cache.getMisses());
+        assertEquals(2, cache.getEvictions());
+        assertEquals(1 / 3., cache.getHitRate(), 1e-6);
+    }
+
+    @Test
+    void explicitEvictionsAreNotCounted() {
+        cache.computeIfAbsent(String.class, "k1", () -> "v1");
+        cache.evict("k1");
+        Assertions
+                .assertThrows(IllegalStateException.class, () -> cache.computeIfAbsent(String.class, "k2", () -> {
+                    throw new IllegalStateException("failed");
+                }));
+        assertEquals(0, cache.getEvictions());
+        assertEquals(2, cache.getMisses());
+    }
+
+    @Test
+    void failingPredicateDoesNotStopTimeouts() throws InterruptedException {
+        this.interval = 50;
+        cache.computeIfAbsent(String.class, "failing", (Element e) -> {
+            throw new IllegalStateException("failing predicate");
+        }, () -> "v1");
+        final CountDownLatch first = new CountDownLatch(1);
+        cache.computeIfAbsent(String.class, "first", (Element e) -> {
+            first.countDown();
+            return true;
+        }, () -> "v2");
+        Assertions.assertTrue(first.await(1, TimeUnit.MINUTES));
+
+        final CountDownLatch next = new CountDownLatch(1);
+        cache.computeIfAbsent(String.class, "next", (Element e) -> {
+            next.countDown();
+            return true;
+        }, () -> "v3");
+        Assertions.assertTrue(next.await(1, TimeUnit.MINUTES));
+        cache.evictIfValue("failing", "v1");
+    }
+
+    @Test
+    void recursiveLoad() {
+        final IllegalStateException error = Assertions
+                .assertThrows(IllegalStateException.class, () -> cache
+                        .computeIfAbsent(String.class, "foo",
+                                () -> cache.computeIfAbsent(String.class, "foo", () -> "bar")));
+        Assertions.assertTrue(error.getMessage().contains("Recursive load"), error.getMessage());
+        Assertions.assertTrue(isCacheEmpty());
+    }
+
+    @Test
+    void staleRemovalKeepsNewerEqualElement() throws Exception {
+        cache.computeIfAbsent(String.class, "k", () -> "v");
+        final Object stale = internalCacheMap().values().iterator().next();
+        cache.evict("k");
+        cache.computeIfAbsent(String.class, "k", () -> "v"); // equal value, new element
+        final Object current = internalCacheMap().values().iterator().next();
+
+        // a concurrent remover which still holds the previous element
+        final Method remove = LocalCacheService.class.getDeclaredMethod("remove", stale.getClass(), boolean.class);
+        remove.setAccessible(true);
+        remove.invoke(cache, stale, false);
+
+        assertEquals(1, cacheSize());
+        final Field head = LocalCacheService.class.getDeclaredField("lruHead");
+        head.setAccessible(true);
+        Assertions.assertSame(current, head.get(cache));
+        assertEquals("v", cache.computeIfAbsent(String.class, "k", () -> {
+            throw new IllegalStateException("should be cached");
+        }));
+    }
+
     private boolean isCacheEmpty() {
         return this.internalCacheMap().isEmpty();
     }
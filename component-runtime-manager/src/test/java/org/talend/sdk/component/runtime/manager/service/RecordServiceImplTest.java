@@ -22,7 +22,9 @@ import static java.util.stream.Collectors.joining;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.talend.sdk.component.api.record.Schema.Type.ARRAY;
 import static org.talend.sdk.component.api.record.Schema.Type.INT;
+import static org.talend.sdk.component.api.record.Schema.Type.LONG;
 import static org.talend.sdk.component.api.record.Schema.Type.RECORD;
 import static org.talend.sdk.component.api.record.Schema.Type.STRING;
 
@@ -31,6 +33,9 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -135,6 +140,94 @@ class RecordServiceImplTest {
                 "onInt/[OptionalInt[1]]", "get/null", "get/null", "apply/[1, 2]"), visited);
     }
 
+    @Test
+    void visitOptionalCallbacks() {
+        final Schema schema = factory
+                .newSchemaBuilder(RECORD)
+                .withEntry(factory.newEntryBuilder().withName("age").withType(INT).withNullable(true).build())
+                .withEntry(factory.newEntryBuilder().withName("id").withType(LONG).build())
+                .withEntry(factory
+                        .newEntryBuilder()
+                        .withName("addresses")
+                        .withType(ARRAY)
+                        .withElementSchema(address)
+                        .build())
+                .build();
+        final Record record = factory
+                .newRecordBuilder(schema)
+                .withLong("id", 5)
+                .withArray(schema.getEntry("addresses"),
+                        asList(factory.newRecordBuilder(address).withString("street", "a").withInt("number", 1).build(),
+                                factory.newRecordBuilder(address).withString("street", "b").withInt("number", 2).build()))
+                .build();
+        final Collection<String> visited = new ArrayList<>();
+        final RecordVisitor<String> visitor = new RecordVisitor<String>() {
+
+            @Override
+            public String get() {
+                return String.join(",", visited);
+            }
+
+            @Override
+            public String apply(final String t1, final String t2) {
+                return t2;
+            }
+
+            @Override
+            public void onInt(final Schema.Entry entry, final OptionalInt optionalInt) {
+                visited.add(entry.getName() + "=" + optionalInt);
+            }
+
+            @Override
+            public void onLong(final Schema.Entry entry, final OptionalLong optionalLong) {
+                visited.add(entry.getName() + "=" + optionalLong);
+            }
+
+            @Override
+            public RecordVisitor<String> onRecordArray(final Schema.Entry entry,
+                    final Optional<Collection<Record>> array) {
+                return this;
+            }
+        };
+        final String expected = "age=OptionalInt.empty,id=OptionalLong[5],number=OptionalInt[1],number=OptionalInt[2]";
+        assertEquals(expected, service.visit(visitor, record));
+        visited.clear();
+        assertEquals(expected, service.visit(visitor, record)); // cached plan
+    }
+
+    @Test
+    void visitPrimitiveCallbacks() {
+        final Collection<String> visited = new ArrayList<>();
+        service.visit(new RecordVisitor<String>() {
+
+            @Override
+            public void onInt(final Schema.Entry entry, final int value) {
+                visited.add(entry.getName() + "=" + value);
+            }
+
+            @Override
+            public void onInt(final Schema.Entry entry, final OptionalInt optionalInt) {
+                visited.add(entry.getName() + "=" + optionalInt);
+            }
+
+            @Override
+            public RecordVisitor<String> onRecord(final Schema.Entry entry, final Optional<Record> record) {
+                return this;
+            }
+
+            @Override
+            public String get() {
+                return null;
+            }
+
+            @Override
+            public String apply(final String t1, final String t2) {
+                return null;
+            }
+        }, baseRecord);
+        assertEquals(asList("age=33", "number=1"), visited);
+    }
+
     @Test
     void buildRecord() {
         final Schema customSchema = factory
@@ -135,11 +135,88 @@ public class ComponentServerConfiguration {
     @ConfigProperty(name = "talend.component.server.request.log", defaultValue = "false")
     private Boolean logRequests;
 
+    @Inject
+    @Documentation("How many sub-requests of a bulk request can be executed concurrently, "
+            + "a value lower or equal to 1 executes them sequentially in the HTTP thread.")
+    @ConfigProperty(name = "talend.component.server.bulk.parallelism", defaultValue = "4")
+    private Integer bulkParallelism;
+
+    @Inject
+    @Documentation("Number of threads shared by all the bulk requests to execute their sub-requests.")
+    @ConfigProperty(name = "talend.component.server.bulk.threads", defaultValue = "16")
+    private Integer bulkThreads;
+
+    @Inject
+    @Documentation("Number of bulk sub-request lanes which can wait for a bulk thread, "
+            + "when full the lane is executed in the HTTP thread.")
+    @ConfigProperty(name = "talend.component.server.bulk.queueSize", defaultValue = "64")
+    private Integer bulkQueueSize;
+
+    @Inject
+    @Documentation("Should actions be executed in per family (or type) thread pools with bounded queues and "
+            + "a timeout instead of the HTTP thread.")
+    @ConfigProperty(name = "talend.component.server.actions.bulkhead.active", defaultValue = "true")
+    private Boolean actionBulkheadActive;
+
+    @Inject
+    @Documentation("How actions are isolated: `family` uses a thread pool per component family, "
+            + "`type` a thread pool per action type (`healthcheck`, `suggestions`, ...).")
+    @ConfigProperty(name = "talend.component.server.actions.bulkhead.partitioning", defaultValue = "family")
+    private String actionBulkheadPartitioning;
+
+    @Inject
+    @Documentation("Number of threads of each action thread pool.")
+    @ConfigProperty(name = "talend.component.server.actions.bulkhead.threads", defaultValue = "8")
+    private Integer actionBulkheadThreads;
+
+    @Inject
+    @Documentation("Number of actions which can wait for a thread in each action thread pool, "
+            + "when full the action is rejected with a HTTP 503.")
+    @ConfigProperty(name = "talend.component.server.actions.bulkhead.queueSize", defaultValue = "64")
+    private Integer actionBulkheadQueueSize;
+
+    @Inject
+    @Documentation("Timeout in milliseconds of an action execution, when reached the action fails with a HTTP 504. "
+            + "A negative or zero value disables the timeout.")
+    @ConfigProperty(name = "talend.component.server.actions.timeout", defaultValue = "60000")
+    private Long actionTimeout;
+
+    @Inject
+    @Documentation("Comma separated list of idempotent action types (for instance `suggestions,dynamic_values`) "
+            + "whose results can be cached, identical requests are then served from memory.")
+    @ConfigProperty(name = "talend.component.server.actions.cache.types")
+    private Optional<String> actionCacheTypes;
+
+    @Inject
+    @Documentation("How long in milliseconds a cached action result is reused.")
+    @ConfigProperty(name = "talend.component.server.actions.cache.ttl", defaultValue = "30000")
+    private Long actionCacheTtl;
+
+    @Inject
+    @Documentation("Maximum number of action results kept in memory when action caching is enabled, "
+            + "least recently used results are evicted first.")
+    @ConfigProperty(name = "talend.component.server.actions.cache.maxSize", defaultValue = "1000")
+    private Integer actionCacheMaxSize;
+
     @Inject
     @Documentation("Maximum items a cache can store, used for index endpoints.")
     @ConfigProperty(name = "talend.component.server.cache.maxSize", defaultValue = "1000")
     private Integer maxCacheSize;
 
+    @Inject
+    @Documentation("Should the index, details and documentation endpoints be served from pre-serialized "
+            + "(and when accepted by the client, gzipped) payloads validated with an `ETag` "
+            + "computed from the serialized payload (SHA-256), the payloads are dropped when plugins are "
+            + "redeployed.")
+    @ConfigProperty(name = "talend.component.server.cache.payload.active", defaultValue = "true")
+    private Boolean payloadCacheActive;
+
+    @Inject
+    @Documentation("Maximum size in bytes of the pre-serialized payloads kept in memory, "
+            + "least recently used payloads are evicted first.")
+    @ConfigProperty(name = "talend.component.server.cache.payload.maxBytes", defaultValue = "67108864")
+    private Long payloadCacheMaxBytes;
+
     @Inject
     @Documentation("Should the lastUpdated timestamp value of `/environment` "
             + "endpoint be updated with server start time.")
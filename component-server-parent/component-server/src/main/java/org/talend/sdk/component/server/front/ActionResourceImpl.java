@@ -26,7 +26,9 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Predicate;
@@ -53,6 +55,7 @@ import org.talend.sdk.component.server.front.model.ActionList;
 import org.talend.sdk.component.server.front.model.ErrorDictionary;
 import org.talend.sdk.component.server.front.model.error.ErrorPayload;
 import org.talend.sdk.component.server.front.security.SecurityUtils;
+import org.talend.sdk.component.server.service.ActionExecutionService;
 import org.talend.sdk.component.server.service.ExtensionComponentMetadataManager;
 import org.talend.sdk.component.server.service.LocaleMapper;
 import org.talend.sdk.component.server.service.PropertiesService;
@@ -90,6 +93,9 @@ public class ActionResourceImpl implements ActionResource {
     @Inject
     private SecurityUtils secUtils;
 
+    @Inject
+    private ActionExecutionService actionExecutionService;
+
     @Override
     public CompletionStage<Response> execute(final String family, final String type, final String action,
             final String lang, final Map<String, String> params) {
@@ -129,6 +135,7 @@ public class ActionResourceImpl implements ActionResource {
 
     private CompletableFuture<Response> doExecuteLocalAction(final String family, final String type,
             final String action, final String lang, final Map<String, String> params) {
+        final Locale locale = ofNullable(lang).map(localeMapper::mapLocale).orElseGet(Locale::getDefault);
         return CompletableFuture.supplyAsync(() -> {
             if (action == null) {
                 throw new WebApplicationException(Response
@@ -143,26 +150,42 @@ public class ActionResourceImpl implements ActionResource {
                         .entity(new ErrorPayload(ErrorDictionary.ACTION_MISSING, "No action with id '" + action + "'"))
                         .build());
             }
+            return actionMeta;
+        }, Runnable::run).thenCompose(actionMeta -> {
+            // request bound data (headers, locale) are read in the HTTP thread, only the invocation runs in the
+            // bulkhead, see ComponentManagerService.withLocale
+            final Map<String, String> runtimeParams = ofNullable(params).map(HashMap::new).orElseGet(HashMap::new);
+            runtimeParams.put("$lang", localeMapper.mapLocale(lang).getLanguage());
+            String tenant;
             try {
-                final Map<String, String> runtimeParams = ofNullable(params).map(HashMap::new).orElseGet(HashMap::new);
-                runtimeParams.put("$lang", localeMapper.mapLocale(lang).getLanguage());
-                String tenant;
-                try {
-                    tenant = headers.getHeaderString("x-talend-tenant-id");
-                } catch (Exception e) {
-                    log.debug("[doExecuteLocalAction] context not applicable: {}", e.getMessage());
-                    tenant = null;
-                }
-                final Map<String, String> deciphered = secUtils.decrypt(actionMeta.getParameters()
-                        .get(), runtimeParams, tenant);
-                final Object result = actionMeta.getInvoker().apply(deciphered);
-                return Response.ok(result).type(APPLICATION_JSON_TYPE).build();
+                tenant = headers.getHeaderString("x-talend-tenant-id");
+            } catch (Exception e) {
+                log.debug("[doExecuteLocalAction] context not applicable: {}", e.getMessage());
+                tenant = null;
+            }
+            final Map<String, String> deciphered;
+            try {
+                deciphered = secUtils.decrypt(actionMeta.getParameters().get(), runtimeParams, tenant);
             } catch (final RuntimeException re) {
-                return onError(re);
+                return CompletableFuture.completedFuture(onError(re));
             }
-            // synchronous, if needed we can move to async with timeout later but currently we don't want.
-            // check org.talend.sdk.component.server.service.ComponentManagerService.readCurrentLocale if you change it
-        }, Runnable::run).exceptionally(e -> {
+            return actionExecutionService
+                    .execute(family, type, action, locale,
+                            executionKey(family, type, action, tenant, runtimeParams),
+                            () -> actionMeta.getInvoker().apply(deciphered))
+                    .handle((result, error) -> {
+                        if (error == null) {
+                            return Response.ok(result).type(APPLICATION_JSON_TYPE).build();
+                        }
+                        final Throwable cause = CompletionException.class.isInstance(error) && error.getCause() != null
+                                ? error.getCause()
+                                : error;
+                        if (ActionExecutionService.BulkheadException.class.isInstance(cause)) {
+                            throw ActionExecutionService.BulkheadException.class.cast(cause);
+                        }
+                        return onError(cause);
+                    });
+        }).exceptionally(e -> {
             final Throwable cause;
             if (ExecutionException.class.isInstance(e.getCause())) {
                 cause = e.getCause().getCause();
@@ -198,6 +221,12 @@ public class ActionResourceImpl implements ActionResource {
         });
     }
 
+    private String executionKey(final String family, final String type, final String action, final String tenant,
+            final Map<String, String> runtimeParams) {
+        return family + '\u0000' + type + '\u0000' + action + '\u0000' + tenant + '\u0000'
+                + new TreeMap<>(runtimeParams);
+    }
+
     private Response onError(final Throwable re) {
         log.warn(re.getMessage(), re);
         if (WebApplicationException.class.isInstance(re.getCause())) {
@@ -16,6 +16,7 @@
 package org.talend.sdk.component.server.front;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.CompletableFuture.completedFuture;
 import static java.util.stream.Collectors.joining;
@@ -28,16 +29,25 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.security.Principal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import javax.enterprise.context.ApplicationScoped;
 import javax.inject.Inject;
 import javax.json.bind.Jsonb;
@@ -47,6 +57,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.HttpMethod;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
@@ -55,7 +66,9 @@ import org.apache.cxf.transport.http.DestinationRegistry;
 import org.apache.cxf.transport.servlet.ServletController;
 import org.apache.cxf.transport.servlet.servicelist.ServiceListGeneratorServlet;
 import org.talend.sdk.component.server.api.BulkReadResource;
+import org.talend.sdk.component.server.configuration.ComponentServerConfiguration;
 import org.talend.sdk.component.server.front.cxf.CxfExtractor;
+import org.talend.sdk.component.server.front.filter.cache.PayloadCache;
 import org.talend.sdk.component.server.front.memory.InMemoryRequest;
 import org.talend.sdk.component.server.front.memory.InMemoryResponse;
 import org.talend.sdk.component.server.front.memory.MemoryInputStream;
@@ -100,8 +113,16 @@ public class BulkReadResourceImpl implements BulkReadResource {
     @ComponentServer
     private Jsonb defaultMapper;
 
+    @Inject
+    private ComponentServerConfiguration configuration;
+
+    @Inject
+    private PayloadCache payloadCache;
+
     private ServletController controller;
 
+    private ExecutorService executor;
+
     private final String appPrefix = "/api/v1";
 
     private final Collection<String> blacklisted =
@@ -127,21 +148,52 @@ public class BulkReadResourceImpl implements BulkReadResource {
         controller = new ServletController(registry,
                 new SimpleServletConfig(servletContext, "Talend Component Kit Bulk Transport"),
                 new ServiceListGeneratorServlet(registry, bus));
+        final AtomicInteger counter = new AtomicInteger();
+        final int threads = Math.max(1, configuration.getBulkThreads());
+        // bounded, when saturated the lane runs in the calling HTTP thread instead of creating threads
+        final ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(Math.max(1, configuration.getBulkQueueSize())), r -> {
+                    final Thread thread = new Thread(r, "talend-component-server-bulk-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        pool.allowCoreThreadTimeOut(true);
+        executor = pool;
+    }
+
+    @PreDestroy
+    private void destroy() {
+        executor.shutdownNow();
     }
 
     @Override
     public CompletionStage<BulkResponses> bulk(final BulkRequests requests) {
-        final Collection<CompletableFuture<BulkResponses.Result>> responses =
-                ofNullable(requests.getRequests()).map(Collection::stream).orElseGet(Stream::empty).map(request -> {
-                    if (isBlacklisted(request)) {
-                        return completedFuture(forbiddenInBulkModeResponse);
-                    }
-                    if (request.getPath() == null || !request.getPath().startsWith(appPrefix)
-                            || request.getPath().contains("?")) {
-                        return completedFuture(invalidResponse);
-                    }
-                    return doExecute(request, uriInfo);
-                }).collect(toList());
+        final List<BulkRequests.Request> subRequests = ofNullable(requests.getRequests())
+                .<List<BulkRequests.Request>> map(ArrayList::new)
+                .orElseGet(Collections::emptyList);
+        final List<CompletableFuture<BulkResponses.Result>> responses =
+                subRequests.stream().map(it -> new CompletableFuture<BulkResponses.Result>()).collect(toList());
+
+        // request bound data are read there, sub-requests can be executed in other threads
+        final int port = uriInfo.getBaseUri().getPort();
+        final Principal userPrincipal = request.getUserPrincipal(); // this is ap proxy so ready it early
+        final int parallelism = Math.min(configuration.getBulkParallelism(), subRequests.size());
+        if (parallelism <= 1) {
+            executeLane(subRequests, responses, 0, 1, port, userPrincipal);
+        } else { // each lane executes every parallelism-th sub-request so a bulk request uses at most N threads
+            final ClassLoader loader = Thread.currentThread().getContextClassLoader();
+            IntStream.range(0, parallelism).forEach(lane -> executor.execute(() -> {
+                final Thread thread = Thread.currentThread();
+                final ClassLoader old = thread.getContextClassLoader();
+                thread.setContextClassLoader(loader);
+                try {
+                    executeLane(subRequests, responses, lane, parallelism, port, userPrincipal);
+                } finally {
+                    thread.setContextClassLoader(old);
+                }
+            }));
+        }
+
         return CompletableFuture
                 .allOf(responses.toArray(EMPTY_PROMISES))
                 .handle((ignored, error) -> new BulkResponses(responses.stream().map(it -> {
@@ -159,16 +211,50 @@ public class BulkReadResourceImpl implements BulkReadResource {
                 }).collect(toList())));
     }
 
+    private void executeLane(final List<BulkRequests.Request> requests,
+            final List<CompletableFuture<BulkResponses.Result>> responses, final int first, final int step,
+            final int port, final Principal userPrincipal) {
+        for (int i = first; i < requests.size(); i += step) {
+            final BulkRequests.Request request = requests.get(i);
+            final CompletableFuture<BulkResponses.Result> promise = responses.get(i);
+            try {
+                final CompletableFuture<BulkResponses.Result> result;
+                if (isBlacklisted(request)) {
+                    result = completedFuture(forbiddenInBulkModeResponse);
+                } else if (request.getPath() == null || !request.getPath().startsWith(appPrefix)
+                        || request.getPath().contains("?")) {
+                    result = completedFuture(invalidResponse);
+                } else {
+                    result = doExecute(request, port, userPrincipal);
+                }
+                result.whenComplete((value, error) -> {
+                    if (error != null) {
+                        promise.completeExceptionally(error);
+                    } else {
+                        promise.complete(value);
+                    }
+                });
+            } catch (final RuntimeException re) {
+                promise.completeExceptionally(re);
+            }
+        }
+    }
+
     private boolean isBlacklisted(final BulkRequests.Request request) {
         return blacklisted.stream().anyMatch(it -> request.getPath() == null || request.getPath().startsWith(it));
     }
 
     private CompletableFuture<BulkResponses.Result> doExecute(final BulkRequests.Request inputRequest,
-            final UriInfo info) {
+            final int port, final Principal userPrincipal) {
         final Map<String, List<String>> headers =
                 ofNullable(inputRequest.getHeaders()).orElseGet(Collections::emptyMap);
         final String path = ofNullable(inputRequest.getPath()).map(it -> it.substring(appPrefix.length())).orElse("/");
 
+        final BulkResponses.Result cached = findCachedPayload(inputRequest, path);
+        if (cached != null) {
+            return completedFuture(cached);
+        }
+
         // theorically we should encode these params but should be ok this way for now - due to the param we can accept
         final String queryString = ofNullable(inputRequest.getQueryParameters())
                 .map(Map::entrySet)
@@ -180,8 +266,6 @@ public class BulkReadResourceImpl implements BulkReadResource {
                         .map(value -> it.getKey() + '=' + value))
                 .collect(joining("&"));
 
-        final int port = info.getBaseUri().getPort();
-        final Principal userPrincipal = request.getUserPrincipal(); // this is ap proxy so ready it early
         final InMemoryRequest request = new InMemoryRequest(ofNullable(inputRequest.getVerb()).orElse(HttpMethod.GET),
                 headers, path, appPrefix + path, appPrefix, queryString, port < 0 ? 8080 : port, servletContext,
                 new MemoryInputStream(ofNullable(inputRequest.getPayload())
@@ -204,7 +288,7 @@ public class BulkReadResourceImpl implements BulkReadResource {
             }
         }, (status, responseHeaders) -> {
             result.setStatus(status);
-            result.setHeaders(headers);
+            result.setHeaders(copy(responseHeaders));
             return "";
         });
         request.setResponse(response);
@@ -221,4 +305,33 @@ public class BulkReadResourceImpl implements BulkReadResource {
         }
         return promise;
     }
+
+    // avoids the in-memory round trip for the sub-requests already served once (component details, ...),
+    // only when connections are not validated since the cached payload bypasses the security filters
+    private BulkResponses.Result findCachedPayload(final BulkRequests.Request inputRequest, final String path) {
+        if (!payloadCache.isActive()
+                || !HttpMethod.GET.equals(ofNullable(inputRequest.getVerb()).orElse(HttpMethod.GET))
+                || !"securityNoopHandler".equals(configuration.getSecurityConnectionHandler())) {
+            return null;
+        }
+        // same key as PayloadCacheFilter, uriInfo path being relative to the application (no leading slash)
+        final String key = path.substring(1) + '?'
+                + new TreeMap<>(ofNullable(inputRequest.getQueryParameters()).orElseGet(Collections::emptyMap));
+        final PayloadCache.Payload payload = payloadCache.get(key, payloadCache.getPluginsHash(), false);
+        if (payload == null) {
+            return null;
+        }
+        final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        headers.put(HttpHeaders.CONTENT_TYPE, singletonList(payload.getMediaType()));
+        headers.put(HttpHeaders.ETAG, singletonList(payloadCache.etag(payload, false)));
+        headers.put(HttpHeaders.VARY, singletonList(HttpHeaders.ACCEPT_ENCODING));
+        return new BulkResponses.Result(Response.Status.OK.getStatusCode(), headers, payload.getIdentity());
+    }
+
+    // the in-memory response keeps mutating its headers, the result must not see later changes
+    private Map<String, List<String>> copy(final Map<String, List<String>> responseHeaders) {
+        final Map<String, List<String>> copy = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+        responseHeaders.forEach((name, values) -> copy.put(name, new ArrayList<>(values)));
+        return copy;
+    }
 }
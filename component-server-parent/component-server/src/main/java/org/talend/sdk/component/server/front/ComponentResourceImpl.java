@@ -82,6 +82,7 @@ import org.talend.sdk.component.server.configuration.ComponentServerConfiguratio
 import org.talend.sdk.component.server.dao.ComponentDao;
 import org.talend.sdk.component.server.dao.ComponentFamilyDao;
 import org.talend.sdk.component.server.front.base.internal.RequestKey;
+import org.talend.sdk.component.server.front.filter.cache.CachedPayload;
 import org.talend.sdk.component.server.front.model.ComponentDetail;
 import org.talend.sdk.component.server.front.model.ComponentDetailList;
 import org.talend.sdk.component.server.front.model.ComponentId;
@@ -291,6 +292,7 @@ public class ComponentResourceImpl implements ComponentResource {
 
     @Override
     @CacheResult
+    @CachedPayload
     public ComponentIndices getIndex(final String language, final boolean includeIconContent, final String query) {
         final Locale locale = localeMapper.mapLocale(language);
         caches.evictIfNeeded(indicesPerRequest, configuration.getMaxCacheSize() - 1);
@@ -442,6 +444,7 @@ public class ComponentResourceImpl implements ComponentResource {
 
     @Override // TODO: max ids.length
     @CacheResult
+    @CachedPayload
     public ComponentDetailList getDetail(final String language, final String[] ids) {
         if (ids == null || ids.length == 0) {
             return new ComponentDetailList(emptyList());
@@ -55,6 +55,7 @@ import org.talend.sdk.component.server.api.ConfigurationTypeResource;
 import org.talend.sdk.component.server.configuration.ComponentServerConfiguration;
 import org.talend.sdk.component.server.dao.ConfigurationDao;
 import org.talend.sdk.component.server.front.base.internal.RequestKey;
+import org.talend.sdk.component.server.front.filter.cache.CachedPayload;
 import org.talend.sdk.component.server.front.model.ConfigTypeNode;
 import org.talend.sdk.component.server.front.model.ConfigTypeNodes;
 import org.talend.sdk.component.server.front.model.ErrorDictionary;
@@ -137,6 +138,7 @@ public class ConfigurationTypeResourceImpl implements ConfigurationTypeResource
 
     @Override
     @CacheResult
+    @CachedPayload
     public ConfigTypeNodes getRepositoryModel(final String language, final boolean lightPayload, final String query) {
         final Locale locale = localeMapper.mapLocale(language);
         caches.evictIfNeeded(indicesPerRequest, configuration.getMaxCacheSize() - 1);
@@ -147,6 +149,7 @@ public class ConfigurationTypeResourceImpl implements ConfigurationTypeResource
 
     @Override
     @CacheResult
+    @CachedPayload
     public ConfigTypeNodes getDetail(final String language, final String[] ids) {
         final Predicate<String> filter = ids == null ? s -> false : new Predicate<String>() {
 
@@ -62,6 +62,7 @@ import org.talend.sdk.component.runtime.manager.ContainerComponentRegistry;
 import org.talend.sdk.component.server.api.DocumentationResource;
 import org.talend.sdk.component.server.configuration.ComponentServerConfiguration;
 import org.talend.sdk.component.server.dao.ComponentDao;
+import org.talend.sdk.component.server.front.filter.cache.CachedPayload;
 import org.talend.sdk.component.server.front.model.DocumentationContent;
 import org.talend.sdk.component.server.front.model.ErrorDictionary;
 import org.talend.sdk.component.server.front.model.error.ErrorPayload;
@@ -109,6 +110,7 @@ public class DocumentationResourceImpl implements DocumentationResource {
 
     @Override
     @CacheResult
+    @CachedPayload
     public DocumentationContent getDocumentation(final String id, final String language,
             final DocumentationSegment segment) {
         if (virtualComponents.isExtensionEntity(id)) {
@@ -0,0 +1,166 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.server.front.filter.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.talend.sdk.component.server.configuration.ComponentServerConfiguration;
+import org.talend.sdk.component.server.front.model.Connectors;
+import org.talend.sdk.component.server.service.ComponentManagerService;
+import org.talend.sdk.component.server.service.event.DeployedComponent;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Serialized responses of the {@link CachedPayload} endpoints, bounded in bytes with a LRU policy.
+ * Payloads are bound to the plugins hash they were computed with so a redeployment invalidates them
+ * and their etag is derived from the serialized bytes.
+ */
+@ApplicationScoped
+public class PayloadCache {
+
+    @Inject
+    private ComponentServerConfiguration configuration;
+
+    @Inject
+    private ComponentManagerService componentManagerService;
+
+    private final Map<String, Payload> payloads = new LinkedHashMap<>(16, .75f, true);
+
+    private long size;
+
+    public boolean isActive() {
+        return configuration.getPayloadCacheActive();
+    }
+
+    public String getPluginsHash() {
+        final Connectors connectors = componentManagerService.getConnectors();
+        return connectors == null || connectors.getPluginsHash() == null ? "none" : connectors.getPluginsHash();
+    }
+
+    // strong etag: a gzipped payload is not byte equivalent to the identity one
+    public String etag(final Payload payload, final boolean gzip) {
+        return '"' + payload.digest + (gzip ? "-gzip" : "") + '"';
+    }
+
+    public synchronized Payload get(final String key, final String pluginsHash, final boolean gzip) {
+        final Payload payload = payloads.get(key);
+        if (payload == null) {
+            return null;
+        }
+        if (!payload.pluginsHash.equals(pluginsHash)) {
+            remove(key);
+            return null;
+        }
+        if (gzip && payload.gzip == null) {
+            return store(key, new Payload(payload.pluginsHash, payload.mediaType, payload.digest,
+                    payload.identity, gzip(payload.identity)));
+        }
+        return payload;
+    }
+
+    public Payload put(final String key, final String pluginsHash, final String mediaType, final byte[] bytes,
+            final boolean gzip) {
+        final Payload payload = new Payload(pluginsHash, mediaType, digest(bytes), bytes, gzip ? gzip(bytes) : null);
+        synchronized (this) {
+            return store(key, payload);
+        }
+    }
+
+    public synchronized void clear(@Observes final DeployedComponent deployedComponent) {
+        payloads.clear();
+        size = 0;
+    }
+
+    private Payload store(final String key, final Payload payload) {
+        remove(key);
+        final long max = configuration.getPayloadCacheMaxBytes();
+        if (payload.weight() > max) {
+            return payload;
+        }
+        payloads.put(key, payload);
+        size += payload.weight();
+        final Iterator<Payload> eldest = payloads.values().iterator();
+        while (size > max && eldest.hasNext()) {
+            size -= eldest.next().weight();
+            eldest.remove();
+        }
+        return payload;
+    }
+
+    private void remove(final String key) {
+        final Payload old = payloads.remove(key);
+        if (old != null) {
+            size -= old.weight();
+        }
+    }
+
+    private String digest(final byte[] bytes) {
+        final byte[] hash;
+        try {
+            hash = MessageDigest.getInstance("SHA-256").digest(bytes);
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        final char[] hexChars = "0123456789abcdef".toCharArray();
+        final StringBuilder out = new StringBuilder(hash.length * 2);
+        for (final byte b : hash) {
+            out.append(hexChars[b >> 4 & 15]).append(hexChars[b & 15]);
+        }
+        return out.toString();
+    }
+
+    private byte[] gzip(final byte[] bytes) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(32, bytes.length / 4));
+        try (final GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+        return out.toByteArray();
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class Payload {
+
+        private final String pluginsHash;
+
+        private final String mediaType;
+
+        private final String digest;
+
+        private final byte[] identity;
+
+        private final byte[] gzip;
+
+        private long weight() {
+            return identity.length + (gzip == null ? 0 : gzip.length);
+        }
+    }
+}
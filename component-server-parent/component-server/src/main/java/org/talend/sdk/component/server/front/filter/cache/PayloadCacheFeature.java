@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.server.front.filter.cache;
+
+import java.lang.reflect.Method;
+import java.util.stream.Stream;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Registers the {@link PayloadCacheFilter} on the endpoints marked with {@link CachedPayload}.
+ */
+@Provider
+@Dependent
+public class PayloadCacheFeature implements DynamicFeature {
+
+    @Inject
+    private PayloadCache cache;
+
+    @Override
+    public void configure(final ResourceInfo resourceInfo, final FeatureContext context) {
+        if (isCached(resourceInfo.getResourceClass(), resourceInfo.getResourceMethod())) {
+            context.register(new PayloadCacheFilter(cache));
+        }
+    }
+
+    // the resource class can be a CDI proxy, lookup the method in the whole hierarchy
+    private boolean isCached(final Class<?> resourceClass, final Method method) {
+        if (method.isAnnotationPresent(CachedPayload.class)) {
+            return true;
+        }
+        Class<?> current = resourceClass;
+        while (current != null && current != Object.class) {
+            try {
+                if (current
+                        .getDeclaredMethod(method.getName(), method.getParameterTypes())
+                        .isAnnotationPresent(CachedPayload.class)) {
+                    return true;
+                }
+            } catch (final NoSuchMethodException e) {
+                // check parent
+            }
+            if (Stream
+                    .of(current.getInterfaces())
+                    .flatMap(itf -> Stream.of(itf.getMethods()))
+                    .anyMatch(m -> m.getName().equals(method.getName())
+                            && m.isAnnotationPresent(CachedPayload.class))) {
+                return true;
+            }
+            current = current.getSuperclass();
+        }
+        return false;
+    }
+}
@@ -0,0 +1,182 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.server.front.filter.cache;
+
+import static java.util.Locale.ROOT;
+import static java.util.Optional.ofNullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.TreeMap;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Serves {@link CachedPayload} endpoints from their serialized form:
+ * <ul>
+ * <li>a cached payload matching {@code If-None-Match} returns a 304 without touching the resource,</li>
+ * <li>a cached payload is written as it is (already gzipped if the client accepts it),</li>
+ * <li>otherwise the resource is invoked and its serialized response is captured for next requests.</li>
+ * </ul>
+ */
+@RequiredArgsConstructor
+public class PayloadCacheFilter implements ContainerRequestFilter, ContainerResponseFilter, WriterInterceptor {
+
+    private static final String STATE = PayloadCacheFilter.class.getName() + ".state";
+
+    private static final String GZIP = "gzip";
+
+    private final PayloadCache cache;
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext) {
+        if (!HttpMethod.GET.equals(requestContext.getMethod()) || !cache.isActive()) {
+            return;
+        }
+        final String key = requestContext.getUriInfo().getPath() + '?'
+                + new TreeMap<>(requestContext.getUriInfo().getQueryParameters());
+        final boolean gzip = ofNullable(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING))
+                .map(this::acceptsGzip)
+                .orElse(false);
+        final String pluginsHash = cache.getPluginsHash();
+
+        final PayloadCache.Payload payload = cache.get(key, pluginsHash, gzip);
+        if (payload != null) {
+            final String etag = cache.etag(payload, gzip);
+            final String ifNoneMatch = requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH);
+            if (ifNoneMatch != null && (ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(etag))) {
+                requestContext
+                        .abortWith(Response
+                                .notModified()
+                                .header(HttpHeaders.ETAG, etag)
+                                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING)
+                                .build());
+                return;
+            }
+
+            final Response.ResponseBuilder response = Response
+                    .ok(gzip ? payload.getGzip() : payload.getIdentity(), payload.getMediaType())
+                    .header(HttpHeaders.ETAG, etag)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzip) {
+                response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+            }
+            requestContext.abortWith(response.build());
+            return;
+        }
+        requestContext.setProperty(STATE, new State(key, pluginsHash, gzip));
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext requestContext, final ContainerResponseContext responseContext) {
+        final Object state = requestContext.getProperty(STATE);
+        if (state == null) {
+            return;
+        }
+        if (responseContext.getStatus() != Response.Status.OK.getStatusCode() || !responseContext.hasEntity()) {
+            requestContext.removeProperty(STATE);
+            return;
+        }
+        responseContext.getHeaders().putSingle(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+    }
+
+    @Override
+    public void aroundWriteTo(final WriterInterceptorContext context) throws IOException {
+        final Object state = context.getProperty(STATE);
+        if (state == null) {
+            context.proceed();
+            return;
+        }
+        final State current = State.class.cast(state);
+        final OutputStream original = context.getOutputStream();
+        final ByteArrayOutputStream buffer = new ByteArrayOutputStream(8192);
+        context.setOutputStream(buffer);
+        try {
+            context.proceed();
+        } finally {
+            context.setOutputStream(original);
+        }
+
+        final MediaType mediaType = context.getMediaType();
+        final PayloadCache.Payload payload = cache
+                .put(current.key, current.pluginsHash,
+                        mediaType == null ? MediaType.APPLICATION_JSON : mediaType.toString(), buffer.toByteArray(),
+                        current.gzip);
+        context.getHeaders().putSingle(HttpHeaders.ETAG, cache.etag(payload, current.gzip));
+        if (current.gzip) {
+            context.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, GZIP);
+            original.write(payload.getGzip());
+        } else {
+            original.write(payload.getIdentity());
+        }
+    }
+
+    // RFC 7231 5.3.4: an explicit coding wins over "*" and a zero qvalue means "not acceptable"
+    private boolean acceptsGzip(final String acceptEncoding) {
+        Boolean wildcard = null;
+        for (final String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.split(";");
+            final String name = parts[0].trim().toLowerCase(ROOT);
+            if (!GZIP.equals(name) && !"x-gzip".equals(name) && !"*".equals(name)) {
+                continue;
+            }
+            final boolean accepted = qValue(parts) > 0;
+            if (!"*".equals(name)) {
+                return accepted;
+            }
+            wildcard = accepted;
+        }
+        return wildcard != null && wildcard;
+    }
+
+    private double qValue(final String[] parts) {
+        for (int i = 1; i < parts.length; i++) {
+            final String param = parts[i].trim();
+            if (param.length() > 1 && (param.charAt(0) == 'q' || param.charAt(0) == 'Q')
+                    && param.substring(1).trim().startsWith("=")) {
+                try {
+                    return Double.parseDouble(param.substring(param.indexOf('=') + 1).trim());
+                } catch (final NumberFormatException nfe) {
+                    return 0;
+                }
+            }
+        }
+        return 1;
+    }
+
+    @AllArgsConstructor
+    private static class State {
+
+        private final String key;
+
+        private final String pluginsHash;
+
+        private final boolean gzip;
+    }
+}
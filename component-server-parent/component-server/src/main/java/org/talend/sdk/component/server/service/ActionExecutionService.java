@@ -0,0 +1,268 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.server.service;
+
+import static java.util.Collections.emptySet;
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Response;
+
+import org.slf4j.MDC;
+import org.talend.sdk.component.server.configuration.ComponentServerConfiguration;
+import org.talend.sdk.component.server.front.model.ErrorDictionary;
+import org.talend.sdk.component.server.front.model.error.ErrorPayload;
+import org.talend.sdk.component.server.service.event.DeployedComponent;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Executes the actions out of the HTTP threads in bulkheads (one bounded thread pool per family or action type)
+ * so a slow backend can't exhaust the server threads.
+ * Identical concurrent executions are coalesced and idempotent action types can be cached.
+ */
+@Slf4j
+@ApplicationScoped
+public class ActionExecutionService {
+
+    @Inject
+    private ComponentServerConfiguration configuration;
+
+    @Inject
+    private ComponentManagerService componentManagerService;
+
+    private final Map<String, ThreadPoolExecutor> bulkheads = new ConcurrentHashMap<>();
+
+    private final Map<String, CompletableFuture<Object>> inflight = new ConcurrentHashMap<>();
+
+    private final Map<String, CachedResult> results = new LinkedHashMap<>(16, .75f, true);
+
+    private ScheduledExecutorService timeouts;
+
+    private Collection<String> cachedTypes;
+
+    private boolean byType;
+
+    @PostConstruct
+    private void init() {
+        byType = "type".equalsIgnoreCase(configuration.getActionBulkheadPartitioning());
+        cachedTypes = configuration
+                .getActionCacheTypes()
+                .map(it -> Stream.of(it.split(",")).map(String::trim).filter(t -> !t.isEmpty()).collect(toSet()))
+                .orElse(emptySet());
+        if (configuration.getActionBulkheadActive() && configuration.getActionTimeout() > 0) {
+            timeouts = Executors.newSingleThreadScheduledExecutor(r -> {
+                final Thread thread = new Thread(r, "talend-component-server-action-timeouts");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @PreDestroy
+    private void destroy() {
+        bulkheads.values().forEach(ThreadPoolExecutor::shutdownNow);
+        if (timeouts != null) {
+            timeouts.shutdownNow();
+        }
+    }
+
+    public void onDeploy(@Observes final DeployedComponent deployedComponent) {
+        synchronized (results) {
+            results.clear();
+        }
+    }
+
+    /**
+     * @param family the action family.
+     * @param type the action type.
+     * @param action the action name.
+     * @param locale the request locale.
+     * @param key the identifier of this execution (action and its inputs), identical executions are coalesced.
+     * @param task the action execution.
+     * @return the action result.
+     */
+    public CompletableFuture<Object> execute(final String family, final String type, final String action,
+            final Locale locale, final String key, final Supplier<Object> task) {
+        if (!configuration.getActionBulkheadActive()) {
+            return CompletableFuture.supplyAsync(task, Runnable::run);
+        }
+
+        final boolean cacheable = cachedTypes.contains(type);
+        if (cacheable) {
+            final Object cached = findCachedResult(key);
+            if (cached != null) {
+                return CompletableFuture.completedFuture(cached);
+            }
+        }
+
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inflight.putIfAbsent(key, result);
+        if (existing != null) {
+            return existing;
+        }
+        result.whenComplete((value, error) -> {
+            inflight.remove(key, result);
+            if (cacheable && error == null && value != null) {
+                cache(key, value);
+            }
+        });
+
+        final String bulkheadName = byType ? type : family;
+        final ThreadPoolExecutor bulkhead = bulkheads.computeIfAbsent(bulkheadName, this::newBulkhead);
+        final Map<String, String> mdc = MDC.getCopyOfContextMap();
+        final long submitted = System.nanoTime();
+        final int queueDepth = bulkhead.getQueue().size();
+        final Supplier<Object> localized = componentManagerService.withLocale(locale, task);
+        final Future<?> execution;
+        try {
+            execution = bulkhead.submit(() -> {
+                if (result.isDone()) { // timed out while queued
+                    return;
+                }
+                final long started = System.nanoTime();
+                final Map<String, String> previousMdc = MDC.getCopyOfContextMap();
+                if (mdc != null) {
+                    MDC.setContextMap(mdc);
+                }
+                MDC.put("action", family + '/' + type + '/' + action);
+                MDC.put("actionQueueDepth", Integer.toString(queueDepth));
+                MDC.put("actionQueueLatency", Long.toString(TimeUnit.NANOSECONDS.toMillis(started - submitted)));
+                try {
+                    result.complete(localized.get());
+                } catch (final RuntimeException | Error e) {
+                    result.completeExceptionally(e);
+                } finally {
+                    if (log.isDebugEnabled()) {
+                        log
+                                .debug("Executed action {}/{}/{} in {}ms (queued {}ms, queue depth {})", family, type,
+                                        action, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started),
+                                        TimeUnit.NANOSECONDS.toMillis(started - submitted), queueDepth);
+                    }
+                    if (previousMdc == null) {
+                        MDC.clear();
+                    } else {
+                        MDC.setContextMap(previousMdc);
+                    }
+                }
+            });
+        } catch (final RejectedExecutionException ree) {
+            log.warn("Action bulkhead '{}' is full, rejecting {}/{}/{}", bulkheadName, family, type, action);
+            result
+                    .completeExceptionally(new BulkheadException(Response.Status.SERVICE_UNAVAILABLE,
+                            "Too many pending actions for '" + bulkheadName + "', retry later"));
+            return result;
+        }
+
+        if (timeouts != null) {
+            final long timeout = configuration.getActionTimeout();
+            final Future<?> timeoutTask = timeouts.schedule(() -> {
+                if (result
+                        .completeExceptionally(new BulkheadException(Response.Status.GATEWAY_TIMEOUT,
+                                "Action " + family + '/' + type + '/' + action + " timed out after " + timeout
+                                        + "ms"))) {
+                    execution.cancel(true);
+                }
+            }, timeout, TimeUnit.MILLISECONDS);
+            result.whenComplete((value, error) -> timeoutTask.cancel(false));
+        }
+        return result;
+    }
+
+    private ThreadPoolExecutor newBulkhead(final String name) {
+        final AtomicInteger counter = new AtomicInteger();
+        final int threads = Math.max(1, configuration.getActionBulkheadThreads());
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 1, TimeUnit.MINUTES,
+                new ArrayBlockingQueue<>(Math.max(1, configuration.getActionBulkheadQueueSize())), r -> {
+                    final Thread thread = new Thread(r, "talend-component-server-action-" + name + '-'
+                            + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private Object findCachedResult(final String key) {
+        synchronized (results) {
+            final CachedResult cached = results.get(key);
+            if (cached == null) {
+                return null;
+            }
+            if (cached.expiresAt < System.currentTimeMillis()) {
+                results.remove(key);
+                return null;
+            }
+            return cached.value;
+        }
+    }
+
+    private void cache(final String key, final Object value) {
+        synchronized (results) {
+            results.put(key, new CachedResult(System.currentTimeMillis() + configuration.getActionCacheTtl(), value));
+            final Iterator<String> eldest = results.keySet().iterator();
+            while (results.size() > configuration.getActionCacheMaxSize() && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+    }
+
+    @AllArgsConstructor
+    private static class CachedResult {
+
+        private final long expiresAt;
+
+        private final Object value;
+    }
+
+    /**
+     * Failure of the bulkhead itself (rejection, timeout), not of the action.
+     */
+    public static class BulkheadException extends WebApplicationException {
+
+        private BulkheadException(final Response.Status status, final String message) {
+            super(message, Response
+                    .status(status)
+                    .entity(new ErrorPayload(ErrorDictionary.ACTION_ERROR, message))
+                    .build());
+        }
+    }
+}
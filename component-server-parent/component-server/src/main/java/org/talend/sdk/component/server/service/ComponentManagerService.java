@@ -128,6 +128,8 @@ public class ComponentManagerService {
 
     private ScheduledExecutorService scheduledExecutorService;
 
+    private final ThreadLocal<Locale> boundLocale = new ThreadLocal<>();
+
     public void startupLoad(@Observes @Initialized(ApplicationScoped.class) final Object start) {
         // no-op
     }
@@ -197,7 +199,36 @@ public class ComponentManagerService {
         }
     }
 
+    /**
+     * Binds the locale of the current request to a task executed out of the HTTP thread
+     * (where the request context is not available).
+     *
+     * @param locale the request locale.
+     * @param task the task to execute.
+     * @param <T> the task result type.
+     * @return a task using this locale.
+     */
+    public <T> Supplier<T> withLocale(final Locale locale, final Supplier<T> task) {
+        return () -> {
+            final Locale old = boundLocale.get();
+            boundLocale.set(locale);
+            try {
+                return task.get();
+            } finally {
+                if (old == null) {
+                    boundLocale.remove();
+                } else {
+                    boundLocale.set(old);
+                }
+            }
+        };
+    }
+
     private Locale readCurrentLocale() {
+        final Locale bound = boundLocale.get();
+        if (bound != null) {
+            return bound;
+        }
         try {
             return ofNullable(uriInfo.getQueryParameters().getFirst("lang"))
                     .map(localeMapper::mapLocale)
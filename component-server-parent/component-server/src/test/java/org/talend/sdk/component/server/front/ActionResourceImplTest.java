@@ -18,13 +18,20 @@ package org.talend.sdk.component.server.front;
 import static java.util.Collections.emptyMap;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import javax.inject.Inject;
 import javax.ws.rs.client.Entity;
@@ -39,10 +46,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.talend.sdk.component.api.service.healthcheck.HealthCheckStatus;
+import org.talend.sdk.component.server.configuration.ComponentServerConfiguration;
 import org.talend.sdk.component.server.front.model.ActionItem;
 import org.talend.sdk.component.server.front.model.ActionList;
 import org.talend.sdk.component.server.front.model.ErrorDictionary;
 import org.talend.sdk.component.server.front.model.error.ErrorPayload;
+import org.talend.sdk.component.server.service.ActionExecutionService;
 
 @MonoMeecrowaveConfig
 class ActionResourceImplTest {
@@ -50,6 +59,12 @@ class ActionResourceImplTest {
     @Inject
     private WebTarget base;
 
+    @Inject
+    private ComponentServerConfiguration configuration;
+
+    @Inject
+    private ActionExecutionService actionExecutionService;
+
     @RepeatedTest(2) // this also checks the cache and queries usage
     void actionIndex() {
         { // default
@@ -298,4 +313,120 @@ class ActionResourceImplTest {
                 response.readEntity(ErrorPayload.class).getDescription());
     }
 
+
+    @Test
+    void executeReturns503WhenBulkheadIsFull() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<CompletableFuture<Object>> blockers = block("custom",
+                configuration.getActionBulkheadThreads() + configuration.getActionBulkheadQueueSize(), release);
+        try {
+            final Response response = executeCustomUserException();
+            assertEquals(Response.Status.SERVICE_UNAVAILABLE.getStatusCode(), response.getStatus());
+            assertEquals(ErrorDictionary.ACTION_ERROR, response.readEntity(ErrorPayload.class).getCode());
+        } finally {
+            release.countDown();
+            awaitAll(blockers);
+        }
+    }
+
+    @Test
+    void executeReturns504OnTimeout() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<CompletableFuture<Object>> blockers =
+                block("custom", configuration.getActionBulkheadThreads(), release);
+        try { // all the threads are busy so the action stays queued until the (5s) timeout
+            final Response response = executeCustomUserException();
+            assertEquals(Response.Status.GATEWAY_TIMEOUT.getStatusCode(), response.getStatus());
+            assertEquals(ErrorDictionary.ACTION_ERROR, response.readEntity(ErrorPayload.class).getCode());
+        } finally {
+            release.countDown();
+            awaitAll(blockers);
+        }
+    }
+
+    @Test
+    void identicalConcurrentExecutionsAreCoalesced() {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger invocations = new AtomicInteger();
+        final Supplier<Object> task = () -> {
+            invocations.incrementAndGet();
+            awaitUninterruptibly(release);
+            return "done";
+        };
+        final CompletableFuture<Object> first =
+                actionExecutionService.execute("coalescing", "user", "test", Locale.ROOT, "coalescing", task);
+        final CompletableFuture<Object> second =
+                actionExecutionService.execute("coalescing", "user", "test", Locale.ROOT, "coalescing", task);
+        assertSame(first, second);
+        release.countDown();
+        assertEquals("done", second.join());
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    void cacheableResultsAreReused() {
+        final AtomicInteger invocations = new AtomicInteger();
+        final Supplier<Object> task = () -> "result" + invocations.incrementAndGet();
+        assertEquals("result1",
+                actionExecutionService.execute("caching", "cached", "test", Locale.ROOT, "caching-1", task).join());
+        assertEquals("result1",
+                actionExecutionService.execute("caching", "cached", "test", Locale.ROOT, "caching-1", task).join());
+        assertEquals(1, invocations.get());
+
+        // another input is executed
+        assertEquals("result2",
+                actionExecutionService.execute("caching", "cached", "test", Locale.ROOT, "caching-2", task).join());
+
+        // not cacheable types are always executed
+        assertEquals("result3",
+                actionExecutionService.execute("caching", "user", "test", Locale.ROOT, "caching-3", task).join());
+        assertEquals("result4",
+                actionExecutionService.execute("caching", "user", "test", Locale.ROOT, "caching-3", task).join());
+    }
+
+    private Response executeCustomUserException() {
+        return base
+                .path("action/execute")
+                .queryParam("type", "user")
+                .queryParam("family", "custom")
+                .queryParam("action", "userException")
+                .request(APPLICATION_JSON_TYPE)
+                .post(Entity.entity(new HashMap<String, String>(), APPLICATION_JSON_TYPE));
+    }
+
+    private List<CompletableFuture<Object>> block(final String family, final int count,
+            final CountDownLatch release) {
+        final List<CompletableFuture<Object>> blockers = new ArrayList<>(count);
+        IntStream
+                .range(0, count)
+                .forEach(i -> blockers
+                        .add(actionExecutionService
+                                .execute(family, "user", "blocker", Locale.ROOT, family + "-blocker-" + i, () -> {
+                                    awaitUninterruptibly(release);
+                                    return "released";
+                                })));
+        return blockers;
+    }
+
+    private void awaitAll(final List<CompletableFuture<Object>> blockers) {
+        CompletableFuture
+                .allOf(blockers.stream().map(it -> it.handle((r, e) -> r)).toArray(CompletableFuture[]::new))
+                .join();
+    }
+
+    // the bulkhead interrupts timed out executions, the blockers must keep the threads until released
+    private void awaitUninterruptibly(final CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (final InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
 }
@@ -19,6 +19,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.singletonList;
 import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
 import static javax.ws.rs.client.Entity.entity;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
@@ -39,6 +40,7 @@ import javax.ws.rs.core.HttpHeaders;
 
 import org.apache.meecrowave.junit5.MonoMeecrowaveConfig;
 import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.server.front.filter.cache.PayloadCache;
 import org.talend.sdk.component.server.front.model.BulkRequests;
 import org.talend.sdk.component.server.front.model.BulkResponses;
 import org.talend.sdk.component.server.test.ComponentClient;
@@ -52,6 +54,9 @@ class BulkReadResourceImplTest {
     @Inject
     private ComponentClient client;
 
+    @Inject
+    private PayloadCache payloadCache;
+
     @Test
     void valid() {
         final BulkRequests.Request okTrigger = new BulkRequests.Request(HttpMethod.POST, "{\"enum\":\"V1\"}",
@@ -124,6 +129,49 @@ class BulkReadResourceImplTest {
                 new String(results.get(2).getResponse(), StandardCharsets.UTF_8));
     }
 
+    @Test
+    void cachedSubRequests() {
+        final BulkRequests.Request details = new BulkRequests.Request(HttpMethod.GET, null, emptyMap(),
+                "/api/v1/component/details", singletonMap("identifiers", singletonList(client.getJdbcId())));
+        final BulkRequests requests =
+                new BulkRequests(Stream.generate(() -> details).limit(10).collect(toList()));
+        final List<BulkResponses.Result> first = base
+                .path("bulk")
+                .request(APPLICATION_JSON_TYPE)
+                .post(entity(requests, APPLICATION_JSON_TYPE), BulkResponses.class)
+                .getResponses();
+        assertEquals(10, first.size());
+        final String expected = new String(first.get(0).getResponse(), StandardCharsets.UTF_8);
+        assertTrue(expected.contains("\"id\":\"" + client.getJdbcId() + "\""), expected);
+        first.forEach(it -> {
+            assertEquals(HttpServletResponse.SC_OK, it.getStatus());
+            assertEquals(singletonList(APPLICATION_JSON), it.getHeaders().get(HttpHeaders.CONTENT_TYPE));
+            assertEquals(expected, new String(it.getResponse(), StandardCharsets.UTF_8));
+        });
+
+        // a payload the resource can't produce proves the second batch never reaches it
+        final String key = "component/details?{identifiers=[" + client.getJdbcId() + "]}";
+        final PayloadCache.Payload sentinel = payloadCache
+                .put(key, payloadCache.getPluginsHash(), APPLICATION_JSON,
+                        "{\"sentinel\":true}".getBytes(StandardCharsets.UTF_8), false);
+        try {
+            final List<BulkResponses.Result> second = base
+                    .path("bulk")
+                    .request(APPLICATION_JSON_TYPE)
+                    .post(entity(requests, APPLICATION_JSON_TYPE), BulkResponses.class)
+                    .getResponses();
+            assertEquals(10, second.size());
+            second.forEach(it -> {
+                assertEquals(HttpServletResponse.SC_OK, it.getStatus());
+                assertEquals(singletonList(APPLICATION_JSON), it.getHeaders().get(HttpHeaders.CONTENT_TYPE));
+                assertEquals(singletonList(payloadCache.etag(sentinel, false)), it.getHeaders().get(HttpHeaders.ETAG));
+                assertEquals("{\"sentinel\":true}", new String(it.getResponse(), StandardCharsets.UTF_8));
+            });
+        } finally {
+            payloadCache.clear(null);
+        }
+    }
+
     @Test
     void forbidden() {
         final BulkResponses responses =
@@ -20,6 +20,7 @@ import static javax.ws.rs.client.Entity.entity;
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static javax.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -51,7 +52,9 @@ import java.util.stream.IntStream;
 import javax.inject.Inject;
 import javax.ws.rs.client.WebTarget;
 import javax.ws.rs.core.GenericType;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
 
 import org.apache.meecrowave.junit5.MonoMeecrowaveConfig;
 import org.apache.ziplock.IO;
@@ -90,6 +93,41 @@ class ComponentResourceImplTest {
         assertIndex(ws.read(ComponentIndices.class, "get", "/component/index?includeIconContent=true", ""));
     }
 
+    @Test
+    void getIndexWithETag() {
+        final Response first = base.path("component/index").request(APPLICATION_JSON_TYPE).get();
+        final String etag = first.getHeaderString(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        final ComponentIndices indices = first.readEntity(ComponentIndices.class);
+
+        final Response cached = base.path("component/index").request(APPLICATION_JSON_TYPE).get();
+        assertEquals(etag, cached.getHeaderString(HttpHeaders.ETAG));
+        assertEquals(indices.getComponents().size(), cached.readEntity(ComponentIndices.class).getComponents().size());
+
+        final Response notModified = base
+                .path("component/index")
+                .request(APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .get();
+        assertEquals(Response.Status.NOT_MODIFIED.getStatusCode(), notModified.getStatus());
+
+        final Response gzip = base
+                .path("component/index")
+                .request(APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                .get();
+        assertEquals("gzip", gzip.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertNotEquals(etag, gzip.getHeaderString(HttpHeaders.ETAG));
+
+        final Response refused = base
+                .path("component/index")
+                .request(APPLICATION_JSON_TYPE)
+                .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity")
+                .get();
+        assertNull(refused.getHeaderString(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(etag, refused.getHeaderString(HttpHeaders.ETAG));
+    }
+
     @RepeatedTest(2) // this also checks the cache and queries usage
     void getDependencies() {
         final String compId = client.getJdbcId();
@@ -15,12 +15,11 @@
  */
 package org.talend.sdk.component.runtime.di;
 
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.Map;
-import java.util.Queue;
 import java.util.TreeMap;
 
 import javax.json.bind.Jsonb;
@@ -28,10 +27,19 @@ import javax.json.bind.Jsonb;
 import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
 import org.talend.sdk.component.runtime.record.RecordConverters;
 
-import lombok.RequiredArgsConstructor;
+import lombok.Getter;
 
+/**
+ * Connections of a TCK component in a Studio job.
+ *
+ * Generated jobs call these methods for every row so connections are resolved once to a slot
+ * ({@link #slot(String)}), values are queued in array backed ring buffers and the number of pending values
+ * is tracked to make {@link #hasMoreData()} constant time.
+ */
 public abstract class BaseIOHandler {
 
+    private static final IO[] NO_IO = new IO[0];
+
     protected final Jsonb jsonb;
 
     protected final RecordBuilderFactory recordBuilderMapper;
@@ -40,6 +48,13 @@ public abstract class BaseIOHandler {
 
     protected final Map<String, IO> connections = new TreeMap<>();
 
+    // connection and branch names (including their actual name) to the connection
+    private final Map<String, IO> lookup = new HashMap<>();
+
+    private IO[] slots = NO_IO;
+
+    private int pending;
+
     public BaseIOHandler(final Jsonb jsonb, final Map<Class<?>, Object> servicesMapper) {
         this.jsonb = jsonb;
         this.recordBuilderMapper = (RecordBuilderFactory) servicesMapper.get(RecordBuilderFactory.class);
@@ -60,60 +75,136 @@ public abstract class BaseIOHandler {
             mapping.put(rowStruct, branches.next());
         }
         if (!mapping.isEmpty()) {
-            mapping.forEach((row, branch) -> connections.putIfAbsent(branch, connections.get(row)));
+            mapping.forEach((row, branch) -> {
+                if (connections.putIfAbsent(branch, connections.get(row)) == null) {
+                    register(branch, connections.get(branch));
+                }
+            });
         }
     }
 
     public void addConnection(final String connectorName, final Class<?> type) {
-        connections.put(connectorName, new IO<>(type));
+        final IO previous = connections.get(connectorName);
+        if (previous != null) { // redefined, reuse its slot and keep the aliases
+            previous.reset();
+            final IO io = new IO<>(previous.slot, type);
+            slots[io.slot] = io;
+            connections.replaceAll((name, it) -> it == previous ? io : it);
+            lookup.replaceAll((name, it) -> it == previous ? io : it);
+            return;
+        }
+        final IO io = new IO<>(slots.length, type);
+        slots = Arrays.copyOf(slots, slots.length + 1);
+        slots[io.slot] = io;
+        connections.put(connectorName, io);
+        register(connectorName, io);
     }
 
     public void reset() {
-        connections.values().forEach(IO::reset);
+        for (final IO io : slots) {
+            io.reset();
+        }
+    }
+
+    /**
+     * @param connectorName the connection or branch name.
+     * @return the slot of this connection to use with {@link #getValue(int)}, {@code -1} if it does not exist.
+     */
+    public int slot(final String connectorName) {
+        final IO io = find(connectorName);
+        return io == null ? -1 : io.slot;
     }
 
     public <T> T getValue(final String connectorName) {
-        return (T) connections.get(connectorName).next();
+        return (T) find(connectorName).next();
+    }
+
+    public <T> T getValue(final int slot) {
+        return (T) slots[slot].next();
     }
 
     public boolean hasMoreData() {
-        return connections.entrySet().stream().anyMatch(e -> e.getValue().hasNext());
+        return pending > 0;
     }
 
     protected String getActualName(final String name) {
         return "__default__".equals(name) ? "FLOW" : name;
     }
 
-    @RequiredArgsConstructor
-    static class IO<T> {
+    protected IO find(final String name) {
+        final IO io = lookup.get(name);
+        return io != null ? io : lookup.get(getActualName(name));
+    }
 
-        private final Queue<T> values = new LinkedList<>();
+    protected IO slotAt(final int slot) {
+        return slots[slot];
+    }
 
+    private void register(final String name, final IO io) {
+        lookup.put(name, io);
+        if ("FLOW".equals(name)) {
+            lookup.put("__default__", io);
+        }
+    }
+
+    class IO<T> {
+
+        private final int slot;
+
+        @Getter
         private final Class<T> type;
 
+        private Object[] values = new Object[8];
+
+        private int head;
+
+        private int size;
+
+        private IO(final int slot, final Class<T> type) {
+            this.slot = slot;
+            this.type = type;
+        }
+
         private void reset() {
-            values.clear();
+            if (size == 0) {
+                return;
+            }
+            for (int i = 0; i < size; i++) {
+                values[(head + i) & (values.length - 1)] = null;
+            }
+            pending -= size;
+            head = 0;
+            size = 0;
         }
 
         boolean hasNext() {
-            return values.size() != 0;
+            return size != 0;
         }
 
         T next() {
-            if (hasNext()) {
-                return type.cast(values.poll());
+            if (size == 0) {
+                return null;
             }
-
-            return null;
+            final Object value = values[head];
+            values[head] = null;
+            head = (head + 1) & (values.length - 1);
+            size--;
+            pending--;
+            return type.cast(value);
         }
 
         void add(final T e) {
-            values.add(e);
-        }
-
-        Class<T> getType() {
-            return type;
+            if (size == values.length) { // keep a power of 2 capacity to wrap with a mask
+                final Object[] grown = new Object[values.length << 1];
+                for (int i = 0; i < size; i++) {
+                    grown[i] = values[(head + i) & (values.length - 1)];
+                }
+                values = grown;
+                head = 0;
+            }
+            values[(head + size) & (values.length - 1)] = e;
+            size++;
+            pending++;
         }
     }
-
 }
@@ -35,7 +35,7 @@ public class InputsHandler extends BaseIOHandler {
 
     public InputFactory asInputFactory() {
         return name -> {
-            final BaseIOHandler.IO ref = connections.get(getActualName(name));
+            final BaseIOHandler.IO ref = find(name);
             if (ref == null || !ref.hasNext()) {
                 return null;
             }
@@ -70,9 +70,13 @@ public class InputsHandler extends BaseIOHandler {
     }
 
     public <T> void setInputValue(final String name, final T value) {
-        final IO input = connections.get(getActualName(name));
+        final IO input = find(name);
         if (input != null) {
             input.add(value);
         }
     }
+
+    public <T> void setInputValue(final int slot, final T value) {
+        slotAt(slot).add(value);
+    }
 }
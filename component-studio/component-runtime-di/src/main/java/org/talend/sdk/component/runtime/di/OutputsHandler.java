@@ -41,9 +41,12 @@ public class OutputsHandler extends BaseIOHandler {
     }
 
     public OutputFactory asOutputFactory() {
-        return name -> value -> {
-            final BaseIOHandler.IO ref = connections.get(getActualName(name));
-            if (ref != null && value != null) {
+        return name -> {
+            final BaseIOHandler.IO ref = find(name);
+            return value -> {
+                if (ref == null || value == null) {
+                    return;
+                }
                 if (value instanceof javax.json.JsonValue) {
                     ref.add(jsonb.fromJson(value.toString(), ref.getType()));
                 } else if (value instanceof Record) {
@@ -51,7 +54,7 @@ public class OutputsHandler extends BaseIOHandler {
                 } else {
                     ref.add(jsonb.fromJson(jsonb.toJson(value), ref.getType()));
                 }
-            }
+            };
         };
     }
 
@@ -62,9 +65,12 @@ public class OutputsHandler extends BaseIOHandler {
      * @return GuessSchema OutputFactory
      */
     public OutputFactory asOutputFactoryForGuessSchema() {
-        return name -> value -> {
-            final BaseIOHandler.IO ref = connections.get(getActualName(name));
-            if (ref != null && value != null) {
+        return name -> {
+            final BaseIOHandler.IO ref = find(name);
+            return value -> {
+                if (ref == null || value == null) {
+                    return;
+                }
                 if (value instanceof javax.json.JsonValue) {
                     ref.add(jsonb.fromJson(value.toString(), ref.getType()));
                 } else if (value instanceof Record) {
@@ -74,7 +80,7 @@ public class OutputsHandler extends BaseIOHandler {
                 } else {
                     ref.add(jsonb.fromJson(jsonb.toJson(value), ref.getType()));
                 }
-            }
+            };
         };
     }
 
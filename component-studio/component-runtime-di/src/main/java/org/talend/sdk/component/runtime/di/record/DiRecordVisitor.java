@@ -61,7 +61,9 @@ import org.talend.sdk.component.runtime.manager.service.DefaultServiceProvider;
 import org.talend.sdk.component.runtime.record.MappingUtils;
 import org.talend.sdk.component.runtime.record.RecordBuilderFactoryImpl;
 
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
 @Data
@@ -74,6 +76,9 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
 
     private final Map<String, Field> fields;
 
+    @Getter(AccessLevel.NONE)
+    private final RowStructAccessor accessor;
+
     private final boolean hasDynamic;
 
     private final Dynamic dynamic;
@@ -102,6 +107,7 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
 
     DiRecordVisitor(final Class<?> clzz, final java.util.Map<String, String> metadata) {
         clazz = clzz;
+        accessor = RowStructAccessor.of(clazz);
         try {
             instance = clazz.getConstructor().newInstance();
             fields = Arrays.stream(instance.getClass().getFields()).collect(toMap(Field::getName, identity()));
@@ -136,12 +142,7 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
     public Object visit(final Record record) {
         arrayOfRecordPrefix = "";
         recordPrefix = "";
-        try {
-            instance = clazz.getConstructor().newInstance();
-        } catch (final InstantiationException | InvocationTargetException | NoSuchMethodException
-                | IllegalAccessException e) {
-            throw new IllegalStateException(e);
-        }
+        instance = accessor.instantiate();
         if (hasDynamic) {
             dynamic.metadatas.clear();
             dynamic.clearColumnValues();
@@ -182,11 +183,7 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
     @Override
     public Object get() {
         if (hasDynamic) {
-            try {
-                fields.get(dynamicColumn).set(instance, dynamic);
-            } catch (final IllegalAccessException e) {
-                throw new IllegalStateException(e);
-            }
+            accessor.getFieldsByName().get(dynamicColumn).set(instance, dynamic);
         }
         return instance;
     }
@@ -257,7 +254,7 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
     }
 
     private void setField(final Entry entry, final Object value) {
-        final Field field = fields.get(entry.getName());
+        final RowStructAccessor.FieldAccessor field = accessor.getFieldsByName().get(entry.getName());
         if (hasDynamic && (field == null || dynamicColumn.equals(entry.getName()))) {
             final String name = recordFields
                     .stream()
@@ -286,11 +283,7 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
         if (field == null) {
             return;
         }
-        try {
-            field.set(instance, MappingUtils.coerce(field.getType(), value, entry.getName()));
-        } catch (final IllegalAccessException e) {
-            throw new IllegalStateException(e);
-        }
+        field.set(instance, MappingUtils.coerce(field.getType(), value, entry.getName()));
     }
 
     @Override
@@ -323,6 +316,36 @@ public class DiRecordVisitor implements RecordVisitor<Object> {
         optionalBoolean.ifPresent(value -> setField(entry, value));
     }
 
+    @Override
+    public void onInt(final Entry entry, final int value) {
+        log.debug("[onInt] visiting {}.", entry.getName());
+        setField(entry, value);
+    }
+
+    @Override
+    public void onLong(final Entry entry, final long value) {
+        log.debug("[onLong] visiting {}.", entry.getName());
+        setField(entry, value);
+    }
+
+    @Override
+    public void onFloat(final Entry entry, final float value) {
+        log.debug("[onFloat] visiting {}.", entry.getName());
+        setField(entry, value);
+    }
+
+    @Override
+    public void onDouble(final Entry entry, final double value) {
+        log.debug("[onDouble] visiting {}.", entry.getName());
+        setField(entry, value);
+    }
+
+    @Override
+    public void onBoolean(final Entry entry, final boolean value) {
+        log.debug("[onBoolean] visiting {}.", entry.getName());
+        setField(entry, value);
+    }
+
     @Override
     public void onString(final Entry entry, final Optional<String> string) {
         log.debug("[onString] visiting {}.", entry.getName());
@@ -46,10 +46,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import javax.json.bind.Jsonb;
 import javax.json.bind.spi.JsonbProvider;
@@ -76,24 +73,22 @@ public class DiRowStructVisitor {
 
     private final Jsonb jsonb = JsonbProvider.provider().create().build();
 
-    private Set<String> allowedFields;
-
     public void visit(final Object data) {
         log.debug("[visit] Class: {} ==> {}.", data.getClass().getName(), data);
-        Arrays.stream(data.getClass().getFields()).forEach(field -> {
+        for (final RowStructAccessor.FieldAccessor field : RowStructAccessor.of(data.getClass()).getFields()) {
             try {
-                final Class<?> fieldType = field.getType();
-                final String studioType = StudioTypes.typeFromClass(fieldType.getName());
                 final String name = field.getName();
+                if (!field.isAllowed()) {
+                    log.debug("[visit] Skipping technical field {}.", name);
+                    continue;
+                }
+                final Class<?> fieldType = field.getType();
+                final String studioType = field.getStudioType();
                 final Object raw = field.get(data);
                 log.debug("[visit] Field {} ({} / {}) ==> {}.", name, fieldType.getName(), studioType, raw);
                 if (raw == null) {
                     log.debug("[visit] Skipping field {} with null value.", name);
-                    return;
-                }
-                if (!allowedFields.contains(name)) {
-                    log.debug("[visit] Skipping technical field {}.", name);
-                    return;
+                    continue;
                 }
                 switch (studioType) {
                 case StudioTypes.OBJECT:
@@ -214,7 +209,7 @@ public class DiRowStructVisitor {
             } catch (final IllegalAccessException e) {
                 throw new IllegalStateException(e);
             }
-        });
+        }
     }
 
     public Record get(final Object data, final RecordBuilderFactory factory) {
@@ -237,29 +232,12 @@ public class DiRowStructVisitor {
     }
 
     private Schema inferSchema(final Object data, final RecordBuilderFactory factory) {
-        // all standard rowStruct fields have accessors, not technical fields.
-        final Set<String> fields = Arrays
-                .stream(data.getClass().getFields()) //
-                .map(f -> f.getName()) //
-                .collect(Collectors.toSet());
-        allowedFields = Arrays
-                .stream(data.getClass().getDeclaredMethods())
-                .map(method -> method.getName())
-                .filter(m -> m.matches("^(get|is).*"))
-                .map(n -> n.replaceAll("^(get|is)", ""))
-                .map(n -> {
-                    if (fields.contains(n)) {
-                        return n;
-                    }
-                    // use java convention for members
-                    return n.substring(0, 1).toLowerCase(Locale.ROOT) + n.substring(1);
-                })
-                .collect(Collectors.toSet());
+        final RowStructAccessor accessor = RowStructAccessor.of(data.getClass());
         final Schema.Builder schema = factory.newSchemaBuilder(RECORD);
         Arrays.stream(data.getClass().getFields()).forEach(field -> {
             try {
                 final Class<?> type = field.getType();
-                if (!allowedFields.contains(field.getName())) {
+                if (!accessor.getFieldsByName().get(field.getName()).isAllowed()) {
                     log.debug("[inferSchema] Skipping technical field {}.", field.getName());
                     return;
                 }
@@ -0,0 +1,282 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.di.record;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.toSet;
+import static lombok.AccessLevel.PRIVATE;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.talend.sdk.component.runtime.di.schema.StudioTypes;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per row struct class view of its public fields, computed once and cached by class.
+ * Reads and writes go through method handles instead of reflection.
+ */
+final class RowStructAccessor {
+
+    private static final ClassValue<RowStructAccessor> CACHE = new ClassValue<RowStructAccessor>() {
+
+        @Override
+        protected RowStructAccessor computeValue(final Class<?> type) {
+            return new RowStructAccessor(type);
+        }
+    };
+
+    // numeric primitives in their widening conversion order (JLS 5.1.2), char widens from int
+    private static final List<Class<?>> WIDENING_ORDER =
+            asList(byte.class, short.class, int.class, long.class, float.class, double.class);
+
+    private static final Map<Class<?>, Class<?>> PRIMITIVES = new HashMap<>();
+
+    static {
+        PRIMITIVES.put(Boolean.class, boolean.class);
+        PRIMITIVES.put(Character.class, char.class);
+        PRIMITIVES.put(Byte.class, byte.class);
+        PRIMITIVES.put(Short.class, short.class);
+        PRIMITIVES.put(Integer.class, int.class);
+        PRIMITIVES.put(Long.class, long.class);
+        PRIMITIVES.put(Float.class, float.class);
+        PRIMITIVES.put(Double.class, double.class);
+    }
+
+    private final MethodHandle constructor;
+
+    @Getter
+    private final FieldAccessor[] fields;
+
+    @Getter
+    private final Map<String, FieldAccessor> fieldsByName;
+
+    private RowStructAccessor(final Class<?> type) {
+        final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        this.constructor = constructor(lookup, type);
+
+        // all standard rowStruct fields have accessors, not technical fields.
+        final Field[] publicFields = type.getFields();
+        final Set<String> names = Arrays.stream(publicFields).map(Field::getName).collect(toSet());
+        final Set<String> allowed = Arrays
+                .stream(type.getDeclaredMethods())
+                .map(method -> method.getName())
+                .filter(m -> m.startsWith("get") || m.startsWith("is"))
+                .map(n -> n.substring(n.startsWith("get") ? 3 : 2))
+                .filter(n -> !n.isEmpty())
+                .map(n -> {
+                    if (names.contains(n)) {
+                        return n;
+                    }
+                    // use java convention for members
+                    return n.substring(0, 1).toLowerCase(Locale.ROOT) + n.substring(1);
+                })
+                .collect(toSet());
+
+        this.fields = Arrays
+                .stream(publicFields)
+                .map(field -> new FieldAccessor(field.getName(), field.getType(),
+                        StudioTypes.typeFromClass(field.getType().getName()), allowed.contains(field.getName()),
+                        getter(lookup, field), setter(lookup, field)))
+                .toArray(FieldAccessor[]::new);
+        final Map<String, FieldAccessor> byName = new LinkedHashMap<>(fields.length);
+        for (final FieldAccessor field : fields) {
+            byName.put(field.getName(), field);
+        }
+        this.fieldsByName = unmodifiableMap(byName);
+    }
+
+    // null if there is no default constructor, instantiate() will fail but reading is still possible
+    private static MethodHandle constructor(final MethodHandles.Lookup lookup, final Class<?> type) {
+        try {
+            final Constructor<?> constructor = type.getConstructor();
+            try {
+                return lookup.unreflectConstructor(constructor).asType(methodType(Object.class));
+            } catch (final IllegalAccessException iae) { // not public row struct class
+                constructor.setAccessible(true);
+                return lookup.unreflectConstructor(constructor).asType(methodType(Object.class));
+            }
+        } catch (final NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle getter(final MethodHandles.Lookup lookup, final Field field) {
+        MethodHandle handle = unreflect(lookup, field, true);
+        if (Modifier.isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(methodType(Object.class, Object.class));
+    }
+
+    private static MethodHandle setter(final MethodHandles.Lookup lookup, final Field field) {
+        if (Modifier.isFinal(field.getModifiers())) {
+            return null;
+        }
+        MethodHandle handle = unreflect(lookup, field, false);
+        if (Modifier.isStatic(field.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(methodType(void.class, Object.class, Object.class));
+    }
+
+    private static MethodHandle unreflect(final MethodHandles.Lookup lookup, final Field field,
+            final boolean getter) {
+        try {
+            return getter ? lookup.unreflectGetter(field) : lookup.unreflectSetter(field);
+        } catch (final IllegalAccessException iae) { // not public row struct class
+            try {
+                field.setAccessible(true);
+                return getter ? lookup.unreflectGetter(field) : lookup.unreflectSetter(field);
+            } catch (final IllegalAccessException | RuntimeException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    static RowStructAccessor of(final Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    Object instantiate() {
+        if (constructor == null) {
+            throw new IllegalStateException("No public default constructor");
+        }
+        try {
+            return constructor.invokeExact();
+        } catch (final RuntimeException | Error e) {
+            throw e;
+        } catch (final Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @RequiredArgsConstructor(access = PRIVATE)
+    static final class FieldAccessor {
+
+        @Getter
+        private final String name;
+
+        @Getter
+        private final Class<?> type;
+
+        @Getter
+        private final String studioType;
+
+        @Getter
+        private final boolean allowed;
+
+        private final MethodHandle getter;
+
+        private final MethodHandle setter;
+
+        Object get(final Object instance) {
+            try {
+                return getter.invokeExact(instance);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        /**
+         * Same conversions as {@link Field#set(Object, Object)}: primitive fields accept the wrapper of a narrower
+         * primitive (widening) and reject {@code null} or another type with an {@link IllegalArgumentException}.
+         */
+        void set(final Object instance, final Object value) {
+            if (setter == null) {
+                throw new IllegalStateException("Can't set final field " + name);
+            }
+            final Object converted = convert(value);
+            try {
+                setter.invokeExact(instance, converted);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private Object convert(final Object value) {
+            if (!type.isPrimitive()) {
+                if (value != null && !type.isInstance(value)) {
+                    throw illegalValue(value);
+                }
+                return value;
+            }
+            if (value == null) {
+                throw illegalValue(null);
+            }
+            if (type == boolean.class || type == char.class) {
+                if (PRIMITIVES.get(value.getClass()) != type) {
+                    throw illegalValue(value);
+                }
+                return value;
+            }
+            final Class<?> primitive = PRIMITIVES.get(value.getClass());
+            if (primitive == char.class) {
+                if (WIDENING_ORDER.indexOf(type) < WIDENING_ORDER.indexOf(int.class)) { // char -> int at least
+                    throw illegalValue(value);
+                }
+                return widen((int) Character.class.cast(value), type);
+            }
+            if (primitive == null || primitive == boolean.class
+                    || WIDENING_ORDER.indexOf(primitive) > WIDENING_ORDER.indexOf(type)) {
+                throw illegalValue(value);
+            }
+            return widen(Number.class.cast(value), type);
+        }
+
+        private IllegalArgumentException illegalValue(final Object value) {
+            return new IllegalArgumentException("Can not set " + type.getName() + " field " + name + " to "
+                    + (value == null ? "null value" : value.getClass().getName()));
+        }
+
+        private static Object widen(final Number value, final Class<?> type) {
+            if (type == short.class) {
+                return value.shortValue();
+            }
+            if (type == int.class) {
+                return value.intValue();
+            }
+            if (type == long.class) {
+                return value.longValue();
+            }
+            if (type == float.class) {
+                return value.floatValue();
+            }
+            if (type == double.class) {
+                return value.doubleValue();
+            }
+            return value; // byte
+        }
+    }
+}
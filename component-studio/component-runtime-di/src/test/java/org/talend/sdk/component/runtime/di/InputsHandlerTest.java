@@ -0,0 +1,72 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.di;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+class InputsHandlerTest {
+
+    @Test
+    void slots() {
+        final InputsHandler handler = new InputsHandler(null, emptyMap());
+        handler.addConnection("FLOW", String.class);
+        handler.addConnection("REJECT", Integer.class);
+        handler.init(asList("__default__", "reject"));
+
+        final int flow = handler.slot("__default__");
+        assertEquals(flow, handler.slot("FLOW"));
+        assertEquals(handler.slot("REJECT"), handler.slot("reject"));
+        assertEquals(-1, handler.slot("missing"));
+        assertFalse(handler.hasMoreData());
+
+        handler.setInputValue(flow, "a");
+        handler.setInputValue("reject", 1);
+        assertTrue(handler.hasMoreData());
+        assertEquals("a", handler.getValue(flow));
+        assertEquals(1, handler.<Integer> getValue("REJECT"));
+        assertFalse(handler.hasMoreData());
+        assertNull(handler.getValue(flow));
+    }
+
+    @Test
+    void ringBuffer() {
+        final InputsHandler handler = new InputsHandler(null, emptyMap());
+        handler.addConnection("FLOW", Integer.class);
+        int expected = 0;
+        for (int i = 0; i < 100; i++) { // interleave reads and writes to wrap and grow the buffer
+            handler.setInputValue("FLOW", 2 * i);
+            handler.setInputValue("FLOW", 2 * i + 1);
+            assertEquals(expected++, handler.<Integer> getValue("FLOW"));
+        }
+        while (handler.hasMoreData()) {
+            assertEquals(expected++, handler.<Integer> getValue("FLOW"));
+        }
+        assertEquals(200, expected);
+
+        handler.setInputValue("FLOW", 1);
+        handler.setInputValue("FLOW", 2);
+        handler.reset();
+        assertFalse(handler.hasMoreData());
+        assertNull(handler.getValue("FLOW"));
+    }
+}
@@ -0,0 +1,139 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.runtime.di.record;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.talend.sdk.component.runtime.di.schema.StudioTypes;
+
+class RowStructAccessorTest {
+
+    @Test
+    void fields() {
+        final RowStructAccessor accessor = RowStructAccessor.of(Row.class);
+        assertSame(accessor, RowStructAccessor.of(Row.class));
+        assertEquals(asList("id", "amount", "ratio", "flag", "letter", "name", "technical", "constant"),
+                Stream.of(accessor.getFields()).map(RowStructAccessor.FieldAccessor::getName).collect(toList()));
+        assertTrue(accessor.getFieldsByName().get("id").isAllowed());
+        assertFalse(accessor.getFieldsByName().get("technical").isAllowed());
+        assertEquals(StudioTypes.LONG, accessor.getFieldsByName().get("amount").getStudioType());
+        assertEquals(StudioTypes.STRING, accessor.getFieldsByName().get("name").getStudioType());
+    }
+
+    @Test
+    void getAndSet() {
+        final RowStructAccessor accessor = RowStructAccessor.of(Row.class);
+        final Row row = Row.class.cast(accessor.instantiate());
+        accessor.getFieldsByName().get("id").set(row, 1);
+        accessor.getFieldsByName().get("name").set(row, "test");
+        accessor.getFieldsByName().get("name").set(row, null);
+        accessor.getFieldsByName().get("flag").set(row, true);
+        assertEquals(1, row.id);
+        assertNull(row.name);
+        assertTrue(row.flag);
+        assertEquals(1, accessor.getFieldsByName().get("id").get(row));
+        assertEquals("const", accessor.getFieldsByName().get("constant").get(row));
+    }
+
+    @Test
+    void primitiveWidening() {
+        final RowStructAccessor accessor = RowStructAccessor.of(Row.class);
+        final Row row = new Row();
+        accessor.getFieldsByName().get("amount").set(row, 2);
+        assertEquals(2L, row.amount);
+        accessor.getFieldsByName().get("amount").set(row, (short) 3);
+        assertEquals(3L, row.amount);
+        accessor.getFieldsByName().get("ratio").set(row, 4L);
+        assertEquals(4., row.ratio);
+        accessor.getFieldsByName().get("ratio").set(row, 1.5f);
+        assertEquals(1.5, row.ratio);
+        accessor.getFieldsByName().get("id").set(row, 'a');
+        assertEquals('a', row.id);
+        accessor.getFieldsByName().get("letter").set(row, 'b');
+        assertEquals('b', row.letter);
+    }
+
+    @Test
+    void invalidValues() {
+        final RowStructAccessor accessor = RowStructAccessor.of(Row.class);
+        final Row row = new Row();
+        // same errors than Field#set
+        assertThrows(IllegalArgumentException.class, () -> accessor.getFieldsByName().get("id").set(row, null));
+        assertThrows(IllegalArgumentException.class, () -> accessor.getFieldsByName().get("id").set(row, 1L));
+        assertThrows(IllegalArgumentException.class, () -> accessor.getFieldsByName().get("id").set(row, "1"));
+        assertThrows(IllegalArgumentException.class, () -> accessor.getFieldsByName().get("letter").set(row, 1));
+        assertThrows(IllegalArgumentException.class, () -> accessor.getFieldsByName().get("flag").set(row, 1));
+        assertThrows(IllegalArgumentException.class, () -> accessor.getFieldsByName().get("name").set(row, 1));
+        assertThrows(IllegalStateException.class, () -> accessor.getFieldsByName().get("constant").set(row, "x"));
+    }
+
+    public static class Row {
+
+        public int id;
+
+        public long amount;
+
+        public double ratio;
+
+        public boolean flag;
+
+        public char letter;
+
+        public String name;
+
+        public String technical;
+
+        public final String constant = "const";
+
+        public int getId() {
+            return id;
+        }
+
+        public long getAmount() {
+            return amount;
+        }
+
+        public double getRatio() {
+            return ratio;
+        }
+
+        public boolean isFlag() {
+            return flag;
+        }
+
+        public char getLetter() {
+            return letter;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getConstant() {
+            return constant;
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.talend.sdk.component.tools.webapp;
 import static java.util.Optional.ofNullable;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Event;
 import javax.inject.Inject;
 import javax.ws.rs.HEAD;
 import javax.ws.rs.Path;
@@ -29,6 +30,7 @@ import org.talend.sdk.component.container.ContainerManager;
 import org.talend.sdk.component.runtime.manager.ComponentFamilyMeta;
 import org.talend.sdk.component.server.dao.ComponentFamilyDao;
 import org.talend.sdk.component.server.service.ComponentManagerService;
+import org.talend.sdk.component.server.service.event.DeployedComponent;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -43,6 +45,9 @@ public class AdminResource {
     @Inject
     private ComponentManagerService service;
 
+    @Inject
+    private Event<DeployedComponent> deployedComponentEvent;
+
     @HEAD
     @Path("{familyId}")
     public void reload(@PathParam("familyId") final String familyId) {
@@ -54,6 +59,7 @@ public class AdminResource {
                 .orElseThrow(() -> new WebApplicationException(Response.Status.NOT_FOUND))
                 .get(ContainerManager.Actions.class)
                 .reload();
+        deployedComponentEvent.fire(new DeployedComponent()); // the reloaded models can keep the same version
 
         log.info("Reloaded family {}", family.getName());
     }
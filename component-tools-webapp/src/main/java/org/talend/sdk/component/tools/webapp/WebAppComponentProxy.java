@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.concurrent.CompletionException;
 
 import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.DefaultValue;
@@ -50,6 +51,7 @@ import org.talend.sdk.component.server.front.model.ComponentDetailList;
 import org.talend.sdk.component.server.front.model.ComponentIndices;
 import org.talend.sdk.component.server.front.model.ConfigTypeNode;
 import org.talend.sdk.component.server.front.model.ConfigTypeNodes;
+import org.talend.sdk.component.server.service.event.DeployedComponent;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -70,6 +72,10 @@ public class WebAppComponentProxy {
     @Inject
     private WebTarget target;
 
+    public void onDeploy(@Observes final DeployedComponent deployedComponent) {
+        uiSpecService.invalidateCache();
+    }
+
     @POST
     @Path("action")
     public void action(@Suspended final AsyncResponse response, @QueryParam("family") final String family,
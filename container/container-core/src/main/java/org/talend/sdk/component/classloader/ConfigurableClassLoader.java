@@ -15,6 +15,8 @@
  */
 package org.talend.sdk.component.classloader;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.enumeration;
@@ -38,8 +40,12 @@ import java.net.URL;
 import java.net.URLClassLoader;
 import java.net.URLConnection;
 import java.net.URLStreamHandler;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.security.cert.Certificate;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -55,12 +61,15 @@ import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.function.Predicate;
+import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 import java.util.jar.JarInputStream;
 import java.util.jar.Manifest;
 import java.util.stream.Stream;
 import java.util.zip.ZipEntry;
 
+import org.talend.sdk.component.path.PathFactory;
+
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -94,6 +103,10 @@ public class ConfigurableClassLoader extends URLClassLoader {
 
     private final Map<String, Collection<Resource>> resources = new HashMap<>();
 
+    private final Collection<JarFile> nestedJars = new ArrayList<>();
+
+    private final Collection<Path> temporaryNestedJars = new ArrayList<>();
+
     private final Collection<ClassFileTransformer> transformers = new ArrayList<>();
 
     private final WeakHashMap<Closeable, Void> closeables = new WeakHashMap<>();
@@ -113,7 +126,11 @@ public class ConfigurableClassLoader extends URLClassLoader {
             final String[] nestedDependencies, final String[] jvmPrefixes) {
         this(id, urls, parent, parentFilter, childFirstFilter, emptyMap(), jvmPrefixes);
         if (nestedDependencies != null) {
-            loadNestedDependencies(parent, nestedDependencies);
+            if ("extracted".equalsIgnoreCase(System.getProperty("talend.component.classloader.nested.mode"))) {
+                indexNestedDependencies(parent, nestedDependencies);
+            } else {
+                loadNestedDependencies(parent, nestedDependencies);
+            }
         }
     }
 
@@ -179,7 +196,9 @@ public class ConfigurableClassLoader extends URLClassLoader {
                             out.write(buffer, 0, read);
                         }
 
-                        resources.put(entry.getName(), new Resource(resource, out.toByteArray(), manifest, codeSource));
+                        resources
+                                .put(entry.getName(),
+                                        new Resource(resource, out.toByteArray(), null, null, manifest, codeSource));
                     }
                 }
             } catch (final IOException e) {
@@ -189,6 +208,91 @@ public class ConfigurableClassLoader extends URLClassLoader {
         });
     }
 
+    // only index the entries, content is read on demand from an extracted copy of the nested jar
+    private void indexNestedDependencies(final ClassLoader parent, final String[] nestedDependencies) {
+        final String cache = System.getProperty("talend.component.classloader.nested.cache");
+        Stream.of(nestedDependencies).map(d -> NESTED_MAVEN_REPOSITORY + d).forEach(resource -> {
+            final URL url = ofNullable(super.findResource(resource)).orElseGet(() -> parent.getResource(resource));
+            if (url == null) {
+                throw new IllegalArgumentException("Didn't find " + resource + " in " + asList(nestedDependencies));
+            }
+            try {
+                final URLConnection urlConnection = url.openConnection();
+                final CodeSource codeSource = JarURLConnection.class.isInstance(urlConnection)
+                        ? new CodeSource(url, JarURLConnection.class.cast(urlConnection).getCertificates())
+                        : null;
+                final Path extracted = extractNestedJar(url, urlConnection, cache);
+                final JarFile jar = new JarFile(extracted.toFile());
+                nestedJars.add(jar);
+
+                final Manifest manifest = jar.getManifest();
+                final Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    final JarEntry entry = entries.nextElement();
+                    if (entry.isDirectory()) {
+                        continue;
+                    }
+                    if (isBlacklisted(entry.getName())) {
+                        logUnexpectedDependency(url, entry.getName());
+                        continue;
+                    }
+                    this.resources
+                            .computeIfAbsent(entry.getName(), i -> new ArrayList<>())
+                            .add(new Resource(resource, null, jar, entry, manifest, codeSource));
+                }
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+    }
+
+    // when a cache directory is set, the extracted jar is reused while the container jar is unchanged,
+    // it is keyed by the nested jar url and the container jar version so containers never share an entry
+    private Path extractNestedJar(final URL url, final URLConnection connection, final String cache)
+            throws IOException {
+        final String name = url.toExternalForm();
+        final String fileName = name.substring(name.lastIndexOf('/') + 1);
+        final Path container = cache == null ? null : toPath(url);
+        if (container == null || !Files.exists(container)) { // no cache or no way to know if it is up to date
+            final Path target = Files.createTempFile("talend-nested-", "-" + fileName);
+            temporaryNestedJars.add(target);
+            try (final InputStream stream = connection.getInputStream()) {
+                Files.copy(stream, target, REPLACE_EXISTING);
+            }
+            return target;
+        }
+
+        final String version = Long.toHexString(Files.getLastModifiedTime(container).toMillis()) + "-"
+                + Long.toHexString(Files.size(container));
+        final Path target = PathFactory.get(cache).resolve(hash(name) + '-' + version).resolve(fileName);
+        if (Files.exists(target)) {
+            return target;
+        }
+        Files.createDirectories(target.getParent());
+        final Path tmp = Files.createTempFile(target.getParent(), fileName, ".tmp");
+        try (final InputStream stream = connection.getInputStream()) {
+            Files.copy(stream, tmp, REPLACE_EXISTING);
+            Files.move(tmp, target, REPLACE_EXISTING, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+        return target;
+    }
+
+    private static String hash(final String value) {
+        try {
+            final byte[] hash = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            final char[] hexChars = "0123456789abcdef".toCharArray();
+            final StringBuilder out = new StringBuilder(hash.length * 2);
+            for (final byte b : hash) {
+                out.append(hexChars[b >> 4 & 15]).append(hexChars[b & 15]);
+            }
+            return out.toString();
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public Class<?> registerBytecode(final String name, final byte[] bytes) {
         final Class<?> value = super.defineClass(name, bytes, 0, bytes.length);
         resolveClass(value);
@@ -241,6 +345,22 @@ public class ConfigurableClassLoader extends URLClassLoader {
                 log.warn(re.getMessage(), re);
             }
         }
+        nestedJars.forEach(jar -> {
+            try {
+                jar.close();
+            } catch (final IOException ex) {
+                log.warn(ex.getMessage(), ex);
+            }
+        });
+        nestedJars.clear();
+        temporaryNestedJars.forEach(path -> {
+            try {
+                Files.deleteIfExists(path);
+            } catch (final IOException ex) {
+                log.warn(ex.getMessage(), ex);
+            }
+        });
+        temporaryNestedJars.clear();
         synchronized (closeables) {
             closeables.keySet().forEach(c -> {
                 try {
@@ -370,8 +490,7 @@ public class ConfigurableClassLoader extends URLClassLoader {
         return ofNullable(doGetResourceAsStream(name))
                 .orElseGet(() -> ofNullable(resources.get(name))
                         .filter(s -> s.size() > 0)
-                        .map(s -> s.iterator().next().resource)
-                        .map(ByteArrayInputStream::new)
+                        .map(s -> s.iterator().next().stream())
                         .orElse(null));
     }
 
@@ -462,11 +581,7 @@ public class ConfigurableClassLoader extends URLClassLoader {
                 }
             })).orElseGet(Stream::empty),
                     ofNullable(resources.get(name))
-                            .map(s -> s
-                                    .stream()
-                                    .map(it -> it.resource)
-                                    .map(ByteArrayInputStream::new)
-                                    .map(InputStream.class::cast))
+                            .map(s -> s.stream().map(Resource::stream))
                             .orElseGet(Stream::empty))
                     .collect(toList());
         } catch (final IOException e) {
@@ -786,7 +901,7 @@ public class ConfigurableClassLoader extends URLClassLoader {
                     doDefinePackage(resource.manifest, null, name.substring(0, i));
                 }
 
-                final byte[] bytes = doTransform(resourceName, resource.resource);
+                final byte[] bytes = doTransform(resourceName, resource.bytes());
                 clazz = defineClass(name, bytes, 0, bytes.length, resource.codeSource);
             }
         }
@@ -854,11 +969,44 @@ public class ConfigurableClassLoader extends URLClassLoader {
 
         private final String entry;
 
-        private final byte[] resource;
+        private final byte[] resource; // in memory mode
+
+        private final JarFile jar; // extracted mode
+
+        private final JarEntry jarEntry;
 
         private final Manifest manifest;
 
         private final CodeSource codeSource;
+
+        private InputStream stream() {
+            if (resource != null) {
+                return new ByteArrayInputStream(resource);
+            }
+            try {
+                return jar.getInputStream(jarEntry);
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        private byte[] bytes() {
+            if (resource != null) {
+                return resource;
+            }
+            final long size = jarEntry.getSize();
+            final ByteArrayOutputStream out = new ByteArrayOutputStream(size > 0 ? (int) size : 8192);
+            final byte[] buffer = new byte[8192];
+            try (final InputStream stream = stream()) {
+                int read;
+                while ((read = stream.read(buffer)) >= 0) {
+                    out.write(buffer, 0, read);
+                }
+            } catch (final IOException e) {
+                throw new IllegalStateException(e);
+            }
+            return out.toByteArray();
+        }
     }
 
     @RequiredArgsConstructor(access = PRIVATE)
@@ -888,7 +1036,7 @@ public class ConfigurableClassLoader extends URLClassLoader {
 
         @Override
         public InputStream getInputStream() {
-            return new ByteArrayInputStream(resource.resource);
+            return resource.stream();
         }
     }
 
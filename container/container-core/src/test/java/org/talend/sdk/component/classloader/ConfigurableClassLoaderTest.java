@@ -19,6 +19,7 @@ import static java.lang.ClassLoader.getSystemClassLoader;
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
@@ -218,6 +219,58 @@ class ConfigurableClassLoaderTest {
         }
     }
 
+    @Test
+    void extractedNestedJars(@TempDir final File temporaryFolder) throws Exception {
+        final File nestedJar = createNestedJar(temporaryFolder, "org.apache.tomee:ziplock:jar:7.0.5");
+        final File otherNestedJar = createNestedJar(temporaryFolder, "org.apache.tomee:ziplock:jar:7.0.5");
+        final File cache = new File(temporaryFolder, "cache");
+        final String[] nested = new String[] { "org/apache/tomee/ziplock/7.0.5/ziplock-7.0.5.jar" };
+        final String resource = "org/apache/ziplock/JarLocation.class";
+        try (final URLClassLoader parent = new URLClassLoader(new URL[] { nestedJar.toURI().toURL() },
+                Thread.currentThread().getContextClassLoader());
+                final URLClassLoader otherParent = new URLClassLoader(new URL[] { otherNestedJar.toURI().toURL() },
+                        Thread.currentThread().getContextClassLoader())) {
+            final byte[] expected;
+            try (final ConfigurableClassLoader inMemory = new ConfigurableClassLoader("", new URL[0], parent,
+                    name -> true, name -> true, nested, new String[0])) {
+                expected = slurp(inMemory.getResourceAsStream(resource));
+            }
+
+            System.setProperty("talend.component.classloader.nested.mode", "extracted");
+            System.setProperty("talend.component.classloader.nested.cache", cache.getAbsolutePath());
+            for (int i = 0; i < 2; i++) { // second iteration reuses the cache
+                try (final ConfigurableClassLoader loader = new ConfigurableClassLoader("", new URL[0], parent,
+                        name -> true, name -> true, nested, new String[0])) {
+                    final Class<?> aClass = loader.loadClass("org.apache.ziplock.JarLocation");
+                    assertEquals(loader, aClass.getClassLoader());
+                    assertEquals("org.apache.ziplock", aClass.getPackage().getName());
+
+                    final URL url = loader.getResource(resource);
+                    assertEquals("nested", url.getProtocol());
+                    assertArrayEquals(expected, slurp(url.openStream()));
+                    assertArrayEquals(expected, slurp(loader.getResourceAsStream(resource)));
+                    assertEquals(1, loader.findContainedResources(resource).size());
+                }
+                final File[] files = cache.listFiles();
+                assertNotNull(files);
+                assertEquals(1, files.length);
+            }
+
+            // another container with the same nested jar gets its own entry
+            try (final ConfigurableClassLoader loader = new ConfigurableClassLoader("", new URL[0], otherParent,
+                    name -> true, name -> true, nested, new String[0])) {
+                assertArrayEquals(expected, slurp(loader.getResourceAsStream(resource)));
+            }
+            final File[] files = cache.listFiles();
+            assertNotNull(files);
+            assertEquals(2, files.length);
+        } finally {
+            System.clearProperty("talend.component.classloader.nested.mode");
+            System.clearProperty("talend.component.classloader.nested.cache");
+            Stream.of(nestedJar, otherNestedJar).filter(it -> !it.delete()).forEach(File::deleteOnExit);
+        }
+    }
+
     @Test
     void noNestedJarsMissingResources() throws IOException {
         try (final URLClassLoader parent =
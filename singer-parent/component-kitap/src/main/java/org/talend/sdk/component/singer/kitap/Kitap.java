@@ -23,13 +23,21 @@ import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
 
 import java.io.StringReader;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Spliterator;
+import java.util.TreeSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -51,6 +59,7 @@ import org.talend.sdk.component.runtime.manager.ComponentManager;
 import org.talend.sdk.component.singer.java.Singer;
 import org.talend.sdk.component.singer.java.SingerArgs;
 
+import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
 
 public final class Kitap implements Runnable {
@@ -61,7 +70,7 @@ public final class Kitap implements Runnable {
 
     private final JsonBuilderFactory jsonBuilderFactory = Json.createBuilderFactory(emptyMap());
 
-    private final RecordJsonMapper recordJsonMapper;
+    private final RecordJsonWriter recordJsonWriter;
 
     public Kitap(final String... args) {
         this(new SingerArgs(args), new Singer());
@@ -70,7 +79,7 @@ public final class Kitap implements Runnable {
     public Kitap(final SingerArgs args, final Singer singer) {
         this.args = args;
         this.singer = singer;
-        this.recordJsonMapper = new RecordJsonMapper(jsonBuilderFactory, singer);
+        this.recordJsonWriter = new RecordJsonWriter(singer);
     }
 
     @Override
@@ -118,7 +127,14 @@ public final class Kitap implements Runnable {
         if (args.isDiscover()) {
             discover(mapper);
         } else {
-            readAll(args.getConfig().getJsonObject("schemaCustomization"), stream, streamName, mapper);
+            final Consumer<Schema> schemaWriter =
+                    newSchemaWriter(args.getConfig().getJsonObject("schemaCustomization"), stream, streamName);
+            final int parallelism = args.getConfig().getInt("parallelism", 1);
+            if (parallelism > 1) {
+                readAllInParallel(schemaWriter, streamName, mapper, parallelism);
+            } else {
+                readAll(schemaWriter, streamName, mapper);
+            }
         }
     }
 
@@ -161,11 +177,10 @@ public final class Kitap implements Runnable {
         singer.stdout(streams);
     }
 
-    private void readAll(final JsonObject config, final JsonObject stream, final String streamName,
-            final Mapper mapper) {
+    private Consumer<Schema> newSchemaWriter(final JsonObject config, final JsonObject stream,
+            final String streamName) {
         final AtomicReference<Schema> lastSchema = new AtomicReference<>();
-        records(mapper).peek(record -> {
-            final Schema newSchema = record.getSchema();
+        return newSchema -> {
             if (!newSchema.equals(lastSchema.get())) {
                 final JsonArray keys = config != null && config.containsKey("keys") ? config.getJsonArray("keys")
                         : jsonBuilderFactory.createArrayBuilder().build();
@@ -177,12 +192,109 @@ public final class Kitap implements Runnable {
                 singer.writeSchema(streamName, schema, keys, bookmarks);
                 lastSchema.set(newSchema);
             }
-        }).forEach(record -> singer.writeRecord(streamName, recordJsonMapper.apply(record)));
+        };
+    }
+
+    private void readAll(final Consumer<Schema> schemaWriter, final String streamName, final Mapper mapper) {
+        try {
+            records(mapper).forEach(record -> {
+                schemaWriter.accept(record.getSchema());
+                singer.writeRecord(streamName, generator -> recordJsonWriter.accept(record, generator));
+            });
+        } finally {
+            singer.flush();
+        }
+    }
+
+    /**
+     * Reads the partitions on a bounded pool, records are serialized by the partition threads
+     * and the calling thread is the single writer of the messages (ordering of SCHEMA/RECORD/STATE).
+     * A STATE message listing the completed partitions is emitted each time a partition is fully read.
+     */
+    private void readAllInParallel(final Consumer<Schema> schemaWriter, final String streamName,
+            final Mapper mapper, final int parallelism) {
+        final List<Mapper> partitions = createPartitions(mapper);
+        if (partitions.isEmpty()) {
+            return;
+        }
+        final BlockingQueue<Message> queue = new ArrayBlockingQueue<>(1024 * parallelism);
+        final AtomicInteger threadCounter = new AtomicInteger();
+        final ExecutorService pool = Executors.newFixedThreadPool(Math.min(parallelism, partitions.size()), r -> {
+            final Thread thread = new Thread(r, "kitap-partition-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            for (int i = 0; i < partitions.size(); i++) {
+                final int partition = i;
+                final Mapper partitionMapper = partitions.get(i);
+                pool.submit(() -> {
+                    try {
+                        final Input input = partitionMapper.create();
+                        input.start();
+                        try {
+                            Object next;
+                            while ((next = input.next()) != null) {
+                                final Record record = Record.class.cast(next);
+                                queue
+                                        .put(new Message(partition, record.getSchema(),
+                                                singer
+                                                        .formatRecord(streamName,
+                                                                generator -> recordJsonWriter
+                                                                        .accept(record, generator)),
+                                                null));
+                            }
+                        } finally {
+                            input.stop();
+                        }
+                        queue.put(new Message(partition, null, null, null));
+                    } catch (final InterruptedException ie) {
+                        Thread.currentThread().interrupt(); // aborted, nobody reads the queue anymore
+                    } catch (final RuntimeException | Error e) {
+                        try {
+                            queue.put(new Message(partition, null, null, e));
+                        } catch (final InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+            }
+            pool.shutdown();
+
+            final Collection<Integer> completed = new TreeSet<>();
+            while (completed.size() < partitions.size()) {
+                final Message message = queue.take();
+                if (RuntimeException.class.isInstance(message.error)) {
+                    throw RuntimeException.class.cast(message.error);
+                }
+                if (Error.class.isInstance(message.error)) {
+                    throw Error.class.cast(message.error);
+                }
+                if (message.record != null) {
+                    schemaWriter.accept(message.schema);
+                    singer.writeRecordMessage(message.record);
+                } else {
+                    completed.add(message.partition);
+                    singer
+                            .writeState(jsonBuilderFactory
+                                    .createObjectBuilder()
+                                    .add("partitions", partitions.size())
+                                    .add("completed", jsonBuilderFactory.createArrayBuilder(completed))
+                                    .build());
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        } finally {
+            pool.shutdownNow();
+            singer.flush();
+        }
     }
 
     private Stream<Record> records(final Mapper mapper) {
         return createPartitions(mapper)
-                .stream() // note: can be parallelized at some point if needed but NOT parallelStream() please
+                .stream() // note: see readAllInParallel, NOT parallelStream() please
                 .flatMap(m -> {
                     final Input input = m.create();
                     input.start();
@@ -270,4 +382,16 @@ public final class Kitap implements Runnable {
             return Record.class.cast(next);
         }
     }
+
+    @AllArgsConstructor
+    private static final class Message {
+
+        private final int partition;
+
+        private final Schema schema;
+
+        private final String record; // null when the partition is completed
+
+        private final Throwable error;
+    }
 }
@@ -0,0 +1,137 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.singer.kitap;
+
+import java.time.ZonedDateTime;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+
+import javax.json.stream.JsonGenerator;
+
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.record.Schema;
+import org.talend.sdk.component.singer.java.Singer;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Streaming flavor of {@link RecordJsonMapper}: writes the record fields directly in a generator
+ * instead of building a {@link javax.json.JsonObject} first. Null values are skipped as in the mapper.
+ */
+@RequiredArgsConstructor
+public class RecordJsonWriter implements BiConsumer<Record, JsonGenerator> {
+
+    private final Singer singer;
+
+    @Override
+    public void accept(final Record record, final JsonGenerator generator) {
+        record.getSchema().getAllEntries().forEach(entry -> writeEntry(record, entry, generator));
+    }
+
+    private void writeEntry(final Record record, final Schema.Entry entry, final JsonGenerator generator) {
+        final String name = entry.getName();
+        switch (entry.getType()) {
+        case INT:
+            record.getOptionalInt(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case LONG:
+            record.getOptionalLong(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case FLOAT:
+            record.getOptionalFloat(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case DOUBLE:
+            record.getOptionalDouble(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case BOOLEAN:
+            record.getOptionalBoolean(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case STRING:
+            record.getOptionalString(name).ifPresent(v -> generator.write(name, v));
+            break;
+        case DATETIME:
+            record.getOptionalDateTime(name).ifPresent(v -> generator.write(name, singer.formatDate(v)));
+            break;
+        case BYTES:
+            record
+                    .getOptionalBytes(name)
+                    .ifPresent(v -> generator.write(name, Base64.getEncoder().encodeToString(v)));
+            break;
+        case RECORD:
+            record.getOptionalRecord(name).ifPresent(v -> {
+                generator.writeStartObject(name);
+                accept(v, generator);
+                generator.writeEnd();
+            });
+            break;
+        case ARRAY:
+            final Schema elementSchema = entry.getElementSchema();
+            final Class<?> itemType =
+                    elementSchema.getType() == Schema.Type.DATETIME ? ZonedDateTime.class : Object.class;
+            record.getOptionalArray(itemType, name).ifPresent(v -> {
+                generator.writeStartArray(name);
+                writeItems(entry, elementSchema, v, generator);
+                generator.writeEnd();
+            });
+            break;
+        default:
+            throw new IllegalStateException("Unsupported entry type: " + entry);
+        }
+    }
+
+    private void writeItems(final Schema.Entry entry, final Schema elementSchema, final Collection<?> items,
+            final JsonGenerator generator) {
+        for (final Object item : items) {
+            if (item == null) {
+                generator.writeNull();
+                continue;
+            }
+            switch (elementSchema.getType()) {
+            case INT:
+                generator.write(Number.class.cast(item).intValue());
+                break;
+            case LONG:
+                generator.write(Number.class.cast(item).longValue());
+                break;
+            case FLOAT:
+            case DOUBLE:
+                generator.write(Number.class.cast(item).doubleValue());
+                break;
+            case BOOLEAN:
+                generator.write(Boolean.class.cast(item));
+                break;
+            case STRING:
+                generator.write(String.valueOf(item));
+                break;
+            case DATETIME:
+                generator.write(singer.formatDate(ZonedDateTime.class.cast(item)));
+                break;
+            case BYTES:
+                generator.write(Base64.getEncoder().encodeToString(byte[].class.cast(item)));
+                break;
+            case RECORD:
+                generator.writeStartObject();
+                accept(Record.class.cast(item), generator);
+                generator.writeEnd();
+                break;
+            // array of array is not yet supported!
+            default:
+                throw new IllegalStateException("Unsupported entry type: " + entry);
+            }
+        }
+    }
+}
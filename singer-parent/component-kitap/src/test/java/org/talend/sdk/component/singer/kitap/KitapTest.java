@@ -17,6 +17,7 @@ package org.talend.sdk.component.singer.kitap;
 
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertLinesMatch;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_CLASS;
@@ -34,6 +35,7 @@ import java.nio.file.StandardOpenOption;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
@@ -52,6 +54,8 @@ class KitapTest {
 
     private static Path config;
 
+    private static Path parallelConfig;
+
     private static IO testIO;
 
     private static ByteArrayOutputStream stdout;
@@ -71,6 +75,13 @@ class KitapTest {
                                 .getBytes(StandardCharsets.UTF_8),
                         StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
 
+        parallelConfig = tempDir.resolve("parallel-config.json");
+        Files
+                .write(parallelConfig,
+                        "{\"parallelism\":2,\"component\":{\"family\":\"kitaptest\",\"name\":\"kitappartitionedsource\",\"version\":1,\"configuration\":{\"configuration.partitions\":4,\"configuration.recordCount\":3}}}"
+                                .getBytes(StandardCharsets.UTF_8),
+                        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
         testIO = new IO();
         stdout = new ByteArrayOutputStream();
         final PrintStream stdoutPs = new PrintStream(stdout);
@@ -148,4 +159,32 @@ class KitapTest {
                     actuals, actuals::toString);
         }
     }
+
+    @Test
+    void readAllInParallel() throws IOException {
+        final Kitap kitap = new Kitap(new SingerArgs("--config", parallelConfig.toAbsolutePath().toString()),
+                new Singer(new IO(), () -> CONSTANT_DATE));
+        kitap.run();
+        flushIO.run();
+
+        try (final BufferedReader reader = new BufferedReader(new StringReader(stdout.toString("UTF-8")))) {
+            final List<String> actuals = reader.lines().collect(toList());
+            assertEquals(
+                    "{\"type\":\"SCHEMA\",\"stream\":\"default\",\"schema\":{\"type\":[\"null\",\"object\"],\"additionalProperties\":false,\"properties\":{\"record_number\":{\"type\":[\"integer\"]}}},\"key_properties\":[],\"bookmark_properties\":[]}",
+                    actuals.get(0), actuals::toString);
+            // partitions are read concurrently so records of the different partitions are interleaved
+            assertEquals(IntStream
+                    .rangeClosed(1, 12)
+                    .mapToObj(i -> "{\"type\":\"RECORD\",\"stream\":\"default\",\"time_extracted\":\"2019-08-23T15:11:00.000Z\",\"record\":{\"record_number\":"
+                            + i + "}}")
+                    .collect(toSet()),
+                    actuals.stream().filter(it -> it.startsWith("{\"type\":\"RECORD\"")).collect(toSet()),
+                    actuals::toString);
+            assertEquals(12, actuals.stream().filter(it -> it.startsWith("{\"type\":\"RECORD\"")).count());
+            assertEquals(4, actuals.stream().filter(it -> it.startsWith("{\"type\":\"STATE\"")).count());
+            assertEquals("{\"type\":\"STATE\",\"value\":{\"partitions\":4,\"completed\":[0,1,2,3]}}",
+                    actuals.get(actuals.size() - 1), actuals::toString);
+            assertEquals(17, actuals.size(), actuals::toString);
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.singer.kitap.component;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.talend.sdk.component.api.component.Version;
+import org.talend.sdk.component.api.configuration.Option;
+import org.talend.sdk.component.api.input.Assessor;
+import org.talend.sdk.component.api.input.Emitter;
+import org.talend.sdk.component.api.input.PartitionMapper;
+import org.talend.sdk.component.api.input.PartitionSize;
+import org.talend.sdk.component.api.input.Producer;
+import org.talend.sdk.component.api.input.Split;
+import org.talend.sdk.component.api.record.Record;
+import org.talend.sdk.component.api.service.record.RecordBuilderFactory;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Version
+@PartitionMapper(family = "kitaptest", name = "kitappartitionedsource")
+public class KitapPartitionedSource implements Serializable {
+
+    private final RecordBuilderFactory factory;
+
+    private final Configuration configuration;
+
+    private int partition;
+
+    @Assessor
+    public long estimateSize() {
+        return configuration.partitions;
+    }
+
+    @Split
+    public List<KitapPartitionedSource> split(@PartitionSize final long bundles) {
+        return IntStream.range(0, configuration.partitions).mapToObj(index -> {
+            final KitapPartitionedSource source = new KitapPartitionedSource(factory, configuration);
+            source.partition = index;
+            return source;
+        }).collect(toList());
+    }
+
+    @Emitter
+    public PartitionInput createInput() {
+        return new PartitionInput(factory, configuration.recordCount * partition, configuration.recordCount);
+    }
+
+    @RequiredArgsConstructor
+    public static class PartitionInput implements Serializable {
+
+        private final RecordBuilderFactory factory;
+
+        private final int offset;
+
+        private final int recordCount;
+
+        private int current;
+
+        @Producer
+        public Record next() {
+            if (current >= recordCount) {
+                return null;
+            }
+            current++;
+            return factory.newRecordBuilder().withInt("record_number", offset + current).build();
+        }
+    }
+
+    public static class Configuration {
+
+        @Option
+        private int partitions = 1;
+
+        @Option
+        private int recordCount = 1;
+    }
+}
@@ -15,18 +15,28 @@
  */
 package org.talend.sdk.component.singer.java;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.util.Collections.emptyMap;
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedWriter;
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.io.Writer;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import javax.json.Json;
 import javax.json.JsonArray;
 import javax.json.JsonBuilderFactory;
 import javax.json.JsonObject;
+import javax.json.stream.JsonGenerator;
+import javax.json.stream.JsonGeneratorFactory;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,6 +49,17 @@ public class Singer {
 
     private final JsonBuilderFactory builderFactory = Json.createBuilderFactory(emptyMap());
 
+    private final JsonGeneratorFactory generatorFactory = Json.createGeneratorFactory(emptyMap());
+
+    private final String lineSeparator = System.lineSeparator();
+
+    // every message goes through this UTF-8 writer to keep the ordering and a single encoding,
+    // only the records written with a generator are left buffered until the next message or flush()
+    private Writer stdoutWriter;
+
+    // a record is serialized there first so a failing callback does not leave a partial line in stdoutWriter
+    private final StringWriter recordMessage = new StringWriter();
+
     private final DateTimeFormatter rfc339 =
             DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss.SSS'Z'").withZone(ZoneId.of("UTC"));
 
@@ -52,7 +73,7 @@ public class Singer {
 
     public synchronized void writeState(final JsonObject state) {
         final JsonObject json = builderFactory.createObjectBuilder().add("type", "STATE").add("value", state).build();
-        runIo.getStdout().println(json);
+        writeLine(json.toString());
     }
 
     public synchronized void writeSchema(final String stream, final JsonObject schema, final JsonArray keys,
@@ -65,7 +86,7 @@ public class Singer {
                 .add("key_properties", keys)
                 .add("bookmark_properties", bookmarks)
                 .build();
-        runIo.getStdout().println(json);
+        writeLine(json.toString());
     }
 
     public synchronized void writeRecord(final String stream, final JsonObject record) {
@@ -76,14 +97,126 @@ public class Singer {
                 .add("time_extracted", formatDate(dateTimeSupplier.get()))
                 .add("record", record)
                 .build();
-        runIo.getStdout().println(json);
+        writeLine(json.toString());
+    }
+
+    /**
+     * Streams a RECORD message to the buffered stdout, the record payload is written by the callback
+     * inside the {@code record} object so no intermediate {@link JsonObject} is needed.
+     * Don't forget to call {@link #flush()} once the last record is written.
+     *
+     * @param stream the stream name.
+     * @param record the callback writing the record fields.
+     */
+    public synchronized void writeRecord(final String stream, final Consumer<JsonGenerator> record) {
+        final StringBuffer message = recordMessage.getBuffer();
+        message.setLength(0);
+        writeRecord(recordMessage, stream, record);
+        try {
+            final Writer writer = getStdoutWriter();
+            writer.append(message);
+            writer.write(lineSeparator);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Same as {@link #writeRecord(String, Consumer)} but returns the message instead of writing it.
+     * It is thread safe and enables to serialize records concurrently
+     * and write them later with {@link #writeRecordMessage(String)}.
+     *
+     * @param stream the stream name.
+     * @param record the callback writing the record fields.
+     * @return the serialized RECORD message.
+     */
+    public String formatRecord(final String stream, final Consumer<JsonGenerator> record) {
+        final StringWriter writer = new StringWriter();
+        writeRecord(writer, stream, record);
+        return writer.toString();
+    }
+
+    /**
+     * Writes to the buffered stdout a message created with {@link #formatRecord(String, Consumer)}.
+     *
+     * @param message the serialized RECORD message.
+     */
+    public synchronized void writeRecordMessage(final String message) {
+        try {
+            final Writer writer = getStdoutWriter();
+            writer.write(message);
+            writer.write(lineSeparator);
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public synchronized void flush() {
+        if (stdoutWriter == null) {
+            return;
+        }
+        try {
+            stdoutWriter.flush();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
     }
 
     public synchronized void stdout(final String message) {
-        runIo.getStdout().println(message);
+        writeLine(message);
     }
 
     public synchronized void stderr(final String message) {
         runIo.getStderr().println(message);
     }
+
+    private void writeRecord(final Writer writer, final String stream, final Consumer<JsonGenerator> record) {
+        try (final JsonGenerator generator = generatorFactory.createGenerator(new UnclosableWriter(writer))) {
+            generator
+                    .writeStartObject()
+                    .write("type", "RECORD")
+                    .write("stream", requireNonNull(stream, "stream can't be null"))
+                    .write("time_extracted", formatDate(dateTimeSupplier.get()))
+                    .writeStartObject("record");
+            record.accept(generator);
+            generator.writeEnd().writeEnd();
+        }
+    }
+
+    // written after the pending records and flushed immediately, a STATE must follow its records
+    private void writeLine(final String message) {
+        try {
+            final Writer writer = getStdoutWriter();
+            writer.write(message);
+            writer.write(lineSeparator);
+            writer.flush();
+        } catch (final IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Writer getStdoutWriter() {
+        if (stdoutWriter == null) {
+            stdoutWriter = new BufferedWriter(new OutputStreamWriter(runIo.getStdout(), UTF_8), 1 << 16);
+        }
+        return stdoutWriter;
+    }
+
+    // the generator lifecycle is per record, the underlying buffer is only flushed explicitly
+    private static class UnclosableWriter extends FilterWriter {
+
+        private UnclosableWriter(final Writer delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public void flush() {
+            // no-op
+        }
+
+        @Override
+        public void close() {
+            // no-op
+        }
+    }
 }
@@ -16,6 +16,7 @@
 package org.talend.sdk.component.singer.java;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.io.ByteArrayOutputStream;
@@ -24,6 +25,7 @@ import java.io.PrintStream;
 import java.io.UnsupportedEncodingException;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.function.Consumer;
 
 import javax.json.Json;
@@ -38,6 +40,36 @@ class SingerTest {
                 "{\"type\":\"RECORD\",\"stream\":\"test_stream\",\"time_extracted\":\"2019-08-23T11:26:00.000Z\",\"record\":{\"id\":1,\"name\":\"Test\"}}");
     }
 
+    @Test
+    void writeStreamedRecord() throws UnsupportedEncodingException {
+        write(s -> {
+            s.writeRecord("test_stream", generator -> generator.write("id", 1).write("name", "Test"));
+            s.flush();
+        }, "{\"type\":\"RECORD\",\"stream\":\"test_stream\",\"time_extracted\":\"2019-08-23T11:26:00.000Z\",\"record\":{\"id\":1,\"name\":\"Test\"}}");
+    }
+
+    @Test
+    void writeStreamedRecordFailure() throws UnsupportedEncodingException {
+        write(s -> {
+            assertThrows(IllegalArgumentException.class, () -> s.writeRecord("test_stream", generator -> {
+                generator.write("id", 1).write("payload", String.join("", Collections.nCopies(1 << 17, "x")));
+                throw new IllegalArgumentException("failed record");
+            }));
+            s.writeRecord("test_stream", generator -> generator.write("id", 2));
+            s.flush();
+        }, "{\"type\":\"RECORD\",\"stream\":\"test_stream\",\"time_extracted\":\"2019-08-23T11:26:00.000Z\",\"record\":{\"id\":2}}");
+    }
+
+    @Test
+    void formatRecord() throws UnsupportedEncodingException {
+        write(s -> {
+            final String message = s.formatRecord("test_stream", generator -> generator.write("id", 1));
+            s.writeRecordMessage(message);
+            s.writeState(Json.createObjectBuilder().add("offset", 1).build()); // flushes the records
+        }, "{\"type\":\"RECORD\",\"stream\":\"test_stream\",\"time_extracted\":\"2019-08-23T11:26:00.000Z\",\"record\":{\"id\":1}}"
+                + System.lineSeparator() + "{\"type\":\"STATE\",\"value\":{\"offset\":1}}");
+    }
+
     @Test
     void writeShema() throws UnsupportedEncodingException {
         write(s -> s
@@ -52,10 +84,30 @@ class SingerTest {
                 "{\"type\":\"STATE\",\"value\":{\"offset\":1}}");
     }
 
+    @Test
+    void utf8Messages() throws UnsupportedEncodingException {
+        // the stdout encoding must not leak into the messages, all of them are UTF-8
+        write(s -> {
+            s.writeSchema("test_stream", Json.createObjectBuilder().add("name", "\u00e9t\u00e9").build(),
+                    Json.createArrayBuilder().build(), Json.createArrayBuilder().build());
+            s.writeRecord("test_stream", generator -> generator.write("price", "10\u20ac"));
+            s.writeState(Json.createObjectBuilder().add("cursor", "\u00e0\u20ac").build());
+        }, "{\"type\":\"SCHEMA\",\"stream\":\"test_stream\",\"schema\":{\"name\":\"\u00e9t\u00e9\"},"
+                + "\"key_properties\":[],\"bookmark_properties\":[]}" + System.lineSeparator()
+                + "{\"type\":\"RECORD\",\"stream\":\"test_stream\",\"time_extracted\":\"2019-08-23T11:26:00.000Z\","
+                + "\"record\":{\"price\":\"10\u20ac\"}}" + System.lineSeparator()
+                + "{\"type\":\"STATE\",\"value\":{\"cursor\":\"\u00e0\u20ac\"}}", "ISO-8859-1");
+    }
+
     private void write(final Consumer<Singer> singerConsumer, final String expected)
             throws UnsupportedEncodingException {
+        write(singerConsumer, expected, "UTF-8");
+    }
+
+    private void write(final Consumer<Singer> singerConsumer, final String expected, final String stdoutEncoding)
+            throws UnsupportedEncodingException {
         final ByteArrayOutputStream stdout = new ByteArrayOutputStream();
-        final PrintStream stdoutPs = new PrintStream(stdout);
+        final PrintStream stdoutPs = new PrintStream(stdout, false, stdoutEncoding);
         final Singer singer = new Singer(new IO(System.in, stdoutPs, faillingPrintStream()),
                 () -> ZonedDateTime.of(2019, 8, 23, 11, 26, 0, 0, ZoneId.of("UTC")));
         singerConsumer.accept(singer);
@@ -0,0 +1,282 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.slf4j;
+
+import static java.util.Locale.ROOT;
+
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import lombok.AllArgsConstructor;
+
+/**
+ * Asynchronous output of {@link StdLogger}: logging threads only format their message (and stack trace) and
+ * publish it in a bounded ring buffer, a single writer thread drains it and writes the messages by batches
+ * to the standard streams. It avoids to serialize the logging threads on the {@link PrintStream} lock.
+ *
+ * It is activated with the system property {@code org.talend.sdk.component.slf4j.StdLogger.async=true}
+ * and tuned with the following ones (prefixed with {@code org.talend.sdk.component.slf4j.StdLogger.async.}):
+ * <ul>
+ * <li>{@code bufferSize}: max number of pending messages (rounded to a power of 2), default to 8192,</li>
+ * <li>{@code overflow}: what to do when the buffer is full, {@code block} (default) waits for the writer,
+ * {@code drop} drops the message and {@code sample} only keeps - blocking - one message out of {@code sampleRate}.
+ * Warnings and errors are never dropped,</li>
+ * <li>{@code sampleRate}: the sampling rate of the {@code sample} overflow policy, default to 10,</li>
+ * <li>{@code batchSize}: the number of characters buffered by the writer before they are written,
+ * default to 65536,</li>
+ * <li>{@code flushInterval}: max duration in milliseconds pending characters are kept when the writer is idle,
+ * default to 100.</li>
+ * </ul>
+ */
+class AsyncWriter {
+
+    private static final String PREFIX = StdLogger.class.getName() + ".async";
+
+    private static final String LINE_SEPARATOR = System.lineSeparator();
+
+    private static final int BLOCKED_YIELDS = 16;
+
+    private static final long BLOCKED_PAUSE = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private static final long IDLE_PAUSE = TimeUnit.SECONDS.toNanos(1);
+
+    private final RingBuffer<Event> buffer;
+
+    private final Overflow overflow;
+
+    private final int sampleRate;
+
+    private final int batchSize;
+
+    private final long flushInterval;
+
+    private final AtomicLong overflows = new AtomicLong();
+
+    private final AtomicLong dropped = new AtomicLong();
+
+    // logging threads between their running check and their publication, close() waits for them
+    private final AtomicInteger producers = new AtomicInteger();
+
+    private final Thread thread;
+
+    private volatile boolean running = true;
+
+    private volatile boolean sleeping;
+
+    // writer thread state
+    private final StringBuilder batch = new StringBuilder(8192);
+
+    private PrintStream target;
+
+    private long lastWrite;
+
+    AsyncWriter(final int bufferSize, final Overflow overflow, final int sampleRate, final int batchSize,
+            final long flushInterval) {
+        this.buffer = new RingBuffer<>(Math.max(2, bufferSize));
+        this.overflow = overflow;
+        this.sampleRate = Math.max(1, sampleRate);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushInterval = TimeUnit.MILLISECONDS.toNanos(Math.max(0, flushInterval));
+        this.thread = new Thread(this::run, "talend-component-kit-stdlogger");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    static AsyncWriter fromSystemProperties() {
+        if (!Boolean.getBoolean(PREFIX)) {
+            return null;
+        }
+        final AsyncWriter writer = new AsyncWriter(Integer.getInteger(PREFIX + ".bufferSize", 8192),
+                Overflow.valueOf(System.getProperty(PREFIX + ".overflow", "block").trim().toUpperCase(ROOT)),
+                Integer.getInteger(PREFIX + ".sampleRate", 10), Integer.getInteger(PREFIX + ".batchSize", 65536),
+                Long.getLong(PREFIX + ".flushInterval", 100));
+        Runtime.getRuntime().addShutdownHook(new Thread(writer::close, "talend-component-kit-stdlogger-shutdown"));
+        return writer;
+    }
+
+    /**
+     * @return false if the writer is closed and the caller must write the message itself.
+     */
+    boolean append(final PrintStream out, final String level, final String message, final Throwable throwable) {
+        producers.incrementAndGet(); // before the check, close() can't miss a producer which saw running
+        try {
+            return publish(out, level, message, throwable);
+        } finally {
+            producers.decrementAndGet();
+        }
+    }
+
+    private boolean publish(final PrintStream out, final String level, final String message,
+            final Throwable throwable) {
+        if (!running) {
+            return false;
+        }
+        final Event event = new Event(out, format(level, message, throwable));
+        if (!buffer.offer(event)) {
+            if (isDroppable(level)) {
+                switch (overflow) {
+                case DROP:
+                    dropped.incrementAndGet();
+                    return true;
+                case SAMPLE:
+                    if (overflows.incrementAndGet() % sampleRate != 0) {
+                        dropped.incrementAndGet();
+                        return true;
+                    }
+                    break;
+                default: // block
+                }
+            }
+            int attempts = 0;
+            do {
+                if (!running) {
+                    return false;
+                }
+                LockSupport.unpark(thread);
+                if (attempts++ < BLOCKED_YIELDS) { // let the writer run before sleeping
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(this, BLOCKED_PAUSE);
+                }
+            } while (!buffer.offer(event));
+        }
+        if (sleeping) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    /**
+     * Stops the writer thread, pending messages are written before this method returns.
+     */
+    void close() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (producers.get() > 0 && System.nanoTime() < deadline) { // blocked ones give up since not running
+            LockSupport.unpark(thread);
+            Thread.yield();
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(Math.max(1, TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime())));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!thread.isAlive()) { // messages published while the writer was exiting
+            drain();
+            write();
+        }
+    }
+
+    private void run() {
+        lastWrite = System.nanoTime();
+        while (running) {
+            drain();
+            final long pause;
+            if (batch.length() > 0) {
+                final long elapsed = System.nanoTime() - lastWrite;
+                if (elapsed >= flushInterval) {
+                    write();
+                    pause = IDLE_PAUSE;
+                } else {
+                    pause = flushInterval - elapsed;
+                }
+            } else {
+                pause = IDLE_PAUSE;
+            }
+            sleeping = true;
+            if (running && buffer.isEmpty()) {
+                LockSupport.parkNanos(this, pause);
+            }
+            sleeping = false;
+        }
+        drain();
+        write();
+    }
+
+    private void drain() {
+        Event event;
+        while ((event = buffer.poll()) != null) {
+            if (event.out != target) {
+                write();
+                target = event.out;
+            }
+            batch.append(event.text);
+            if (batch.length() >= batchSize) {
+                write();
+            }
+        }
+        if (dropped.get() > 0) {
+            final long count = dropped.getAndSet(0);
+            if (target != System.err) {
+                write();
+                target = System.err;
+            }
+            batch
+                    .append("[WARN] ")
+                    .append(count)
+                    .append(" log messages dropped by the asynchronous logger")
+                    .append(LINE_SEPARATOR);
+        }
+    }
+
+    private void write() {
+        if (batch.length() > 0 && target != null) {
+            target.print(batch);
+            target.flush();
+            batch.setLength(0);
+        }
+        lastWrite = System.nanoTime();
+    }
+
+    // done by the logging thread, the throwable can be mutated once the log call returned
+    private static String format(final String level, final String message, final Throwable throwable) {
+        final String line = '[' + level + "] " + message + LINE_SEPARATOR;
+        if (throwable == null) {
+            return line;
+        }
+        final StringWriter text = new StringWriter();
+        text.write(line);
+        throwable.printStackTrace(new PrintWriter(text));
+        return text.toString();
+    }
+
+    private static boolean isDroppable(final String level) {
+        return !"WARN".equals(level) && !"ERROR".equals(level);
+    }
+
+    enum Overflow {
+        BLOCK,
+        DROP,
+        SAMPLE
+    }
+
+    @AllArgsConstructor
+    private static class Event {
+
+        private final PrintStream out;
+
+        private final String text;
+    }
+}
@@ -39,8 +39,11 @@ public class StdLogger extends MarkerIgnoringBase {
 
     private final boolean error;
 
-    StdLogger(final String name) {
+    private final AsyncWriter writer;
+
+    StdLogger(final String name, final AsyncWriter writer) {
         this.name = name;
+        this.writer = writer;
 
         final String level = System.getProperty(getClass().getName() + ".level", "info");
         switch (level.toLowerCase(ROOT)) {
@@ -295,6 +298,9 @@ public class StdLogger extends MarkerIgnoringBase {
     }
 
     private void log(final String level, final String message, final Throwable throwable, final PrintStream out) {
+        if (writer != null && writer.append(out, level, message, throwable)) {
+            return;
+        }
         final StringBuilder builder = new StringBuilder(message.length() + level.length() + 3)
                 .append('[')
                 .append(level)
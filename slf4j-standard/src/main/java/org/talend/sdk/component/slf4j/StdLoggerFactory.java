@@ -20,8 +20,10 @@ import org.slf4j.Logger;
 
 public class StdLoggerFactory implements ILoggerFactory {
 
+    private final AsyncWriter writer = AsyncWriter.fromSystemProperties();
+
     @Override
     public Logger getLogger(final String name) {
-        return new StdLogger(name);
+        return new StdLogger(name, writer);
     }
 }
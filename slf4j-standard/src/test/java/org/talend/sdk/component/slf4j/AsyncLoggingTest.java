@@ -0,0 +1,203 @@
+/**
+ * Copyright (C) 2006-2022 Talend Inc. - www.talend.com
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.talend.sdk.component.slf4j;
+
+import static java.lang.System.lineSeparator;
+import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AsyncLoggingTest {
+
+    private PrintStream out;
+
+    private PrintStream err;
+
+    private ByteArrayOutputStream stdout;
+
+    private ByteArrayOutputStream stderr;
+
+    @BeforeEach
+    void redirect() {
+        out = System.out;
+        err = System.err;
+        stdout = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(stdout));
+        stderr = new ByteArrayOutputStream();
+        System.setErr(new PrintStream(stderr));
+    }
+
+    @AfterEach
+    void reset() {
+        System.setOut(out);
+        System.setErr(err);
+    }
+
+    @Test
+    void ringBuffer() {
+        final RingBuffer<String> buffer = new RingBuffer<>(3);
+        assertEquals(4, buffer.capacity());
+        assertTrue(buffer.isEmpty());
+        for (int round = 0; round < 3; round++) {
+            IntStream.range(0, 4).forEach(i -> assertTrue(buffer.offer("v" + i)));
+            assertFalse(buffer.offer("full"));
+            assertEquals("v0,v1,v2,v3",
+                    Stream.generate(buffer::poll).limit(4).collect(joining(",")));
+            assertNull(buffer.poll());
+            assertTrue(buffer.isEmpty());
+        }
+    }
+
+    @Test
+    void blockingWritesAllMessagesInOrder() throws InterruptedException {
+        final AsyncWriter writer = new AsyncWriter(4, AsyncWriter.Overflow.BLOCK, 1, 128, 10);
+        final StdLogger logger = new StdLogger("test", writer);
+        final ExecutorService pool = Executors.newFixedThreadPool(4);
+        IntStream.range(0, 4).forEach(thread -> pool.submit(() -> {
+            for (int i = 0; i < 500; i++) {
+                logger.info(thread + "-" + i);
+            }
+        }));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+        logger.error("done");
+        writer.close();
+
+        final String[] lines = new String(stdout.toByteArray()).split(lineSeparator());
+        assertEquals(2000, lines.length);
+        IntStream.range(0, 4).forEach(thread -> {
+            final String prefix = "[INFO] " + thread + "-";
+            assertEquals(IntStream.range(0, 500).mapToObj(i -> prefix + i).collect(joining(",")),
+                    Stream.of(lines).filter(it -> it.startsWith(prefix)).collect(joining(",")));
+        });
+        assertEquals("[ERROR] done" + lineSeparator(), new String(stderr.toByteArray()));
+    }
+
+    @Test
+    void dropNeverLosesErrors() throws InterruptedException {
+        // stdout blocks until released so the writer stalls and the buffer stays full
+        final CountDownLatch writing = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        System.setOut(new PrintStream(new FilterOutputStream(stdout) {
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) throws IOException {
+                writing.countDown();
+                try {
+                    release.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                out.write(b, off, len);
+            }
+        }));
+        final AsyncWriter writer = new AsyncWriter(2, AsyncWriter.Overflow.DROP, 1, 65536, 0);
+        final StdLogger logger = new StdLogger("test", writer);
+        logger.info("info");
+        assertTrue(writing.await(1, TimeUnit.MINUTES));
+        for (int i = 0; i < 1000; i++) {
+            logger.info("info");
+        }
+        release.countDown();
+        for (int i = 0; i < 1000; i++) {
+            logger.error("error {}", i);
+        }
+        writer.close();
+
+        final String[] errors = Stream
+                .of(new String(stderr.toByteArray()).split(lineSeparator()))
+                .filter(it -> it.startsWith("[ERROR]"))
+                .toArray(String[]::new);
+        assertEquals(1000, errors.length);
+        assertEquals("[ERROR] error 999", errors[999]);
+        final long infos = Arrays
+                .stream(new String(stdout.toByteArray()).split(lineSeparator()))
+                .filter("[INFO] info"::equals)
+                .count();
+        assertTrue(infos > 0 && infos <= 3, () -> Long.toString(infos)); // the written one and the buffer capacity
+        final Matcher dropped = Pattern
+                .compile("\\[WARN] (\\d+) log messages dropped by the asynchronous logger")
+                .matcher(new String(stderr.toByteArray()));
+        long reported = 0;
+        while (dropped.find()) {
+            reported += Long.parseLong(dropped.group(1));
+        }
+        assertEquals(1001 - infos, reported);
+    }
+
+    @Test
+    void stackTraceIsFormattedWhenLogging() {
+        final AsyncWriter writer = new AsyncWriter(2, AsyncWriter.Overflow.BLOCK, 1, 65536, 0);
+        final IllegalStateException error = new IllegalStateException("original");
+        new StdLogger("test", writer).error("failed", error);
+        error.initCause(new IllegalArgumentException("added later")); // the writer must not see it
+        writer.close();
+        final String output = new String(stderr.toByteArray());
+        assertTrue(output.startsWith("[ERROR] failed" + lineSeparator()), output);
+        assertTrue(output.contains("IllegalStateException: original"), output);
+        assertFalse(output.contains("added later"), output);
+    }
+
+    @Test
+    void closeWhileLoggingLosesNothing() throws InterruptedException {
+        for (int round = 0; round < 20; round++) {
+            stdout.reset();
+            final AsyncWriter writer = new AsyncWriter(64, AsyncWriter.Overflow.BLOCK, 1, 128, 0);
+            final StdLogger logger = new StdLogger("test", writer);
+            final CountDownLatch started = new CountDownLatch(4);
+            final ExecutorService pool = Executors.newFixedThreadPool(4);
+            IntStream.range(0, 4).forEach(thread -> pool.submit(() -> {
+                started.countDown();
+                for (int i = 0; i < 1000; i++) {
+                    logger.info(thread + "-" + i); // either published or written synchronously once closed
+                }
+            }));
+            assertTrue(started.await(1, TimeUnit.MINUTES));
+            writer.close();
+            pool.shutdown();
+            assertTrue(pool.awaitTermination(1, TimeUnit.MINUTES));
+            assertEquals(4000, new String(stdout.toByteArray()).split(lineSeparator()).length);
+        }
+    }
+
+    @Test
+    void fallbackToSynchronousWhenClosed() {
+        final AsyncWriter writer = new AsyncWriter(2, AsyncWriter.Overflow.BLOCK, 1, 65536, 1000);
+        writer.close();
+        new StdLogger("test", writer).info("test");
+        assertEquals("[INFO] test" + lineSeparator(), new String(stdout.toByteArray()));
+    }
+}